@@ -11,14 +11,44 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_NAVIGATION_SIZE_ENV = "MESH_CACHE_NAVIGATION_SIZE";
+
+	public static final String MESH_CACHE_LINK_SIZE_ENV = "MESH_CACHE_LINK_SIZE";
+
+	public static final String MESH_CACHE_TOKEN_SIZE_ENV = "MESH_CACHE_TOKEN_SIZE";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_NAVIGATION_CACHE_SIZE = 20_000;
+
+	private static final long DEFAULT_LINK_CACHE_SIZE = 50_000;
+
+	private static final long DEFAULT_TOKEN_CACHE_SIZE = 10_000;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the navigation cache. The cache stores the children structure of nodes which is used to build navigations. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_NAVIGATION_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_NAVIGATION_SIZE_ENV, description = "Override the navigation cache size.")
+	private long navigationCacheSize = DEFAULT_NAVIGATION_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the link cache. The cache stores rendered mesh links which are used when resolving links in contents. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_LINK_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_LINK_SIZE_ENV, description = "Override the link cache size.")
+	private long linkCacheSize = DEFAULT_LINK_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the token cache. The cache stores verified authentication tokens so that the signature does not need to be verified for each request. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_TOKEN_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_TOKEN_SIZE_ENV, description = "Override the token cache size.")
+	private long tokenCacheSize = DEFAULT_TOKEN_CACHE_SIZE;
+
 	public CacheConfig() {
 
 	}
@@ -32,6 +62,33 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getNavigationCacheSize() {
+		return navigationCacheSize;
+	}
+
+	public CacheConfig setNavigationCacheSize(long navigationCacheSize) {
+		this.navigationCacheSize = navigationCacheSize;
+		return this;
+	}
+
+	public long getLinkCacheSize() {
+		return linkCacheSize;
+	}
+
+	public CacheConfig setLinkCacheSize(long linkCacheSize) {
+		this.linkCacheSize = linkCacheSize;
+		return this;
+	}
+
+	public long getTokenCacheSize() {
+		return tokenCacheSize;
+	}
+
+	public CacheConfig setTokenCacheSize(long tokenCacheSize) {
+		this.tokenCacheSize = tokenCacheSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
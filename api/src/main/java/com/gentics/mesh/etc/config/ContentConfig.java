@@ -1,5 +1,8 @@
 package com.gentics.mesh.etc.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.gentics.mesh.doc.GenerateDocumentation;
@@ -11,14 +14,78 @@ public class ContentConfig implements Option {
 
 	public static final String MESH_CONTENT_AUTO_PURGE_ENV = "MESH_CONTENT_AUTO_PURGE";
 
+	public static final String MESH_CONTENT_BULK_BATCH_SIZE_ENV = "MESH_CONTENT_BULK_BATCH_SIZE";
+
+	public static final String MESH_CONTENT_BULK_PARALLELISM_ENV = "MESH_CONTENT_BULK_PARALLELISM";
+
+	public static final String MESH_CONTENT_VERSION_RETENTION_INTERVAL_ENV = "MESH_CONTENT_VERSION_RETENTION_INTERVAL";
+
+	public static final String MESH_CONTENT_VERSION_RETENTION_RATE_LIMIT_ENV = "MESH_CONTENT_VERSION_RETENTION_RATE_LIMIT";
+
+	public static final String MESH_CONTENT_INDEXED_FIELDS_ENV = "MESH_CONTENT_INDEXED_FIELDS";
+
+	public static final String MESH_CONTENT_CHANGE_FEED_DIRECTORY_ENV = "MESH_CONTENT_CHANGE_FEED_DIRECTORY";
+
+	public static final String MESH_CONTENT_CHANGE_FEED_MAX_CHANGES_ENV = "MESH_CONTENT_CHANGE_FEED_MAX_CHANGES";
+
 	private static final boolean DEFAULT_AUTO_PURGE = true;
 
+	public static final int DEFAULT_BULK_BATCH_SIZE = 500;
+
+	public static final int DEFAULT_BULK_PARALLELISM = 2;
+
+	public static final long DEFAULT_VERSION_RETENTION_INTERVAL = 3600;
+
+	public static final int DEFAULT_VERSION_RETENTION_RATE_LIMIT = 100;
+
+	public static final long DEFAULT_CHANGE_FEED_MAX_CHANGES = 1_000_000;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Flag which controls the global setting for the auto purge mechanism. The setting can be overriden by the schema 'autoPurge' flag. Default: "
 		+ DEFAULT_AUTO_PURGE)
 	@EnvironmentVariable(name = MESH_CONTENT_AUTO_PURGE_ENV, description = "Override the content versioning flag")
 	private boolean autoPurge = DEFAULT_AUTO_PURGE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of nodes which will be processed within a single transaction by the bulk publish, unpublish and delete jobs. Default: "
+		+ DEFAULT_BULK_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_CONTENT_BULK_BATCH_SIZE_ENV, description = "Override the bulk job batch size.")
+	private int bulkBatchSize = DEFAULT_BULK_BATCH_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of batches which the bulk publish, unpublish and delete jobs will process in parallel. Default: "
+		+ DEFAULT_BULK_PARALLELISM)
+	@EnvironmentVariable(name = MESH_CONTENT_BULK_PARALLELISM_ENV, description = "Override the bulk job parallelism.")
+	private int bulkParallelism = DEFAULT_BULK_PARALLELISM;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Interval in seconds in which the version retention policies of the projects will be enforced. Setting this to 0 disables the version retention worker. Default: "
+		+ DEFAULT_VERSION_RETENTION_INTERVAL)
+	@EnvironmentVariable(name = MESH_CONTENT_VERSION_RETENTION_INTERVAL_ENV, description = "Override the version retention interval.")
+	private long versionRetentionInterval = DEFAULT_VERSION_RETENTION_INTERVAL;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of nodes per second which will be processed by the version retention worker. Setting this to 0 disables the limit. Default: "
+		+ DEFAULT_VERSION_RETENTION_RATE_LIMIT)
+	@EnvironmentVariable(name = MESH_CONTENT_VERSION_RETENTION_RATE_LIMIT_ENV, description = "Override the version retention rate limit.")
+	private int versionRetentionRateLimit = DEFAULT_VERSION_RETENTION_RATE_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Names of the string fields for which ordered graph indices will be created. GraphQL node filters which compare these fields for equality and restrict the nodes to the schema of the field will use the index instead of loading all nodes of the project. Values of indexed fields must not be larger than 8192 bytes.")
+	@EnvironmentVariable(name = MESH_CONTENT_INDEXED_FIELDS_ENV, description = "Override the indexed string fields.")
+	private List<String> indexedFields = new ArrayList<>();
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Directory in which the node change feed logs of the project branches will be stored (e.g. data/changes). The change feed is disabled if no directory has been set. The change feed can't be enabled in a cluster. Default: null")
+	@EnvironmentVariable(name = MESH_CONTENT_CHANGE_FEED_DIRECTORY_ENV, description = "Override the change feed directory.")
+	private String changeFeedDirectory;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of changes which will be kept in the change feed log of a branch. The oldest changes will be removed once the limit has been exceeded. Setting this to 0 disables the limit. Default: "
+		+ DEFAULT_CHANGE_FEED_MAX_CHANGES)
+	@EnvironmentVariable(name = MESH_CONTENT_CHANGE_FEED_MAX_CHANGES_ENV, description = "Override the maximum amount of changes per change feed log.")
+	private long changeFeedMaxChanges = DEFAULT_CHANGE_FEED_MAX_CHANGES;
+
 	public ContentConfig() {
 
 	}
@@ -32,7 +99,89 @@ public class ContentConfig implements Option {
 		return this;
 	}
 
+	public int getBulkBatchSize() {
+		return bulkBatchSize;
+	}
+
+	public ContentConfig setBulkBatchSize(int bulkBatchSize) {
+		this.bulkBatchSize = bulkBatchSize;
+		return this;
+	}
+
+	public int getBulkParallelism() {
+		return bulkParallelism;
+	}
+
+	public ContentConfig setBulkParallelism(int bulkParallelism) {
+		this.bulkParallelism = bulkParallelism;
+		return this;
+	}
+
+	public long getVersionRetentionInterval() {
+		return versionRetentionInterval;
+	}
+
+	public ContentConfig setVersionRetentionInterval(long versionRetentionInterval) {
+		this.versionRetentionInterval = versionRetentionInterval;
+		return this;
+	}
+
+	public int getVersionRetentionRateLimit() {
+		return versionRetentionRateLimit;
+	}
+
+	public ContentConfig setVersionRetentionRateLimit(int versionRetentionRateLimit) {
+		this.versionRetentionRateLimit = versionRetentionRateLimit;
+		return this;
+	}
+
+	public List<String> getIndexedFields() {
+		return indexedFields;
+	}
+
+	public ContentConfig setIndexedFields(List<String> indexedFields) {
+		this.indexedFields = indexedFields;
+		return this;
+	}
+
+	public String getChangeFeedDirectory() {
+		return changeFeedDirectory;
+	}
+
+	public ContentConfig setChangeFeedDirectory(String changeFeedDirectory) {
+		this.changeFeedDirectory = changeFeedDirectory;
+		return this;
+	}
+
+	public long getChangeFeedMaxChanges() {
+		return changeFeedMaxChanges;
+	}
+
+	public ContentConfig setChangeFeedMaxChanges(long changeFeedMaxChanges) {
+		this.changeFeedMaxChanges = changeFeedMaxChanges;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
+		if (bulkBatchSize < 1) {
+			throw new IllegalArgumentException("The bulk batch size must be greater than zero.");
+		}
+		if (bulkParallelism < 1) {
+			throw new IllegalArgumentException("The bulk parallelism must be greater than zero.");
+		}
+		if (versionRetentionInterval < 0) {
+			throw new IllegalArgumentException("The version retention interval must not be negative.");
+		}
+		if (versionRetentionRateLimit < 0) {
+			throw new IllegalArgumentException("The version retention rate limit must not be negative.");
+		}
+		if (changeFeedMaxChanges < 0) {
+			throw new IllegalArgumentException("The maximum amount of change feed changes must not be negative.");
+		}
+		// Each instance only records the changes which were made on the instance itself
+		if (changeFeedDirectory != null && options.getClusterOptions() != null && options.getClusterOptions().isEnabled()) {
+			throw new IllegalArgumentException("The node change feed can't be used in a cluster. Remove the change feed directory or disable clustering.");
+		}
 	}
 }
@@ -25,6 +25,9 @@ public class GraphStorageOptions implements Option {
 	public static final int DEFAULT_TX_RETRY_DELAY = 10;
 	public static final int DEFAULT_TX_RETRY_LIMIT = 10;
 	public static final long DEFAULT_TX_COMMIT_TIMEOUT = 0;
+	public static final boolean DEFAULT_ONLINE_BACKUP = false;
+	public static final boolean DEFAULT_INCREMENTAL_BACKUP = false;
+	public static final long DEFAULT_BACKUP_RATE_LIMIT = 0;
 
 	public static final String MESH_GRAPH_DB_DIRECTORY_ENV = "MESH_GRAPH_DB_DIRECTORY";
 	public static final String MESH_GRAPH_BACKUP_DIRECTORY_ENV = "MESH_GRAPH_BACKUP_DIRECTORY";
@@ -35,6 +38,9 @@ public class GraphStorageOptions implements Option {
 	public static final String MESH_GRAPH_TX_RETRY_DELAY_ENV = "MESH_GRAPH_TX_RETRY_DELAY";
 	public static final String MESH_GRAPH_TX_RETRY_LIMIT_ENV = "MESH_GRAPH_TX_RETRY_LIMIT";
 	public static final String MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV = "MESH_GRAPH_TX_COMMIT_TIMEOUT";
+	public static final String MESH_GRAPH_ONLINE_BACKUP_ENV = "MESH_GRAPH_ONLINE_BACKUP";
+	public static final String MESH_GRAPH_INCREMENTAL_BACKUP_ENV = "MESH_GRAPH_INCREMENTAL_BACKUP";
+	public static final String MESH_GRAPH_BACKUP_RATE_LIMIT_ENV = "MESH_GRAPH_BACKUP_RATE_LIMIT";
 
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Path to the graph database data directory.")
@@ -84,6 +90,24 @@ public class GraphStorageOptions implements Option {
 		+ DEFAULT_TX_COMMIT_TIMEOUT)
 	private long txCommitTimeout = DEFAULT_TX_COMMIT_TIMEOUT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which controls whether backups should be created without switching the server into the BACKUP status. Online backups don't block transactions. Default: "
+		+ DEFAULT_ONLINE_BACKUP)
+	@EnvironmentVariable(name = MESH_GRAPH_ONLINE_BACKUP_ENV, description = "Override the graph database online backup flag.")
+	private boolean onlineBackup = DEFAULT_ONLINE_BACKUP;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which controls whether online backups should be incremental. The first backup will contain the full database. Subsequent backups only contain the changes since the previous backup. Default: "
+		+ DEFAULT_INCREMENTAL_BACKUP)
+	@EnvironmentVariable(name = MESH_GRAPH_INCREMENTAL_BACKUP_ENV, description = "Override the graph database incremental backup flag.")
+	private boolean incrementalBackup = DEFAULT_INCREMENTAL_BACKUP;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of bytes per second which will be written when creating a full online backup. Backups which block transactions and incremental backups are not limited. A value of 0 disables the limit. Default: "
+		+ DEFAULT_BACKUP_RATE_LIMIT)
+	@EnvironmentVariable(name = MESH_GRAPH_BACKUP_RATE_LIMIT_ENV, description = "Override the graph database backup rate limit.")
+	private long backupRateLimit = DEFAULT_BACKUP_RATE_LIMIT;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Additional set of graph database parameters.")
 	private Map<String, String> parameters = new HashMap<>();
@@ -191,7 +215,37 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public boolean isOnlineBackup() {
+		return onlineBackup;
+	}
+
+	public GraphStorageOptions setOnlineBackup(boolean onlineBackup) {
+		this.onlineBackup = onlineBackup;
+		return this;
+	}
+
+	public boolean isIncrementalBackup() {
+		return incrementalBackup;
+	}
+
+	public GraphStorageOptions setIncrementalBackup(boolean incrementalBackup) {
+		this.incrementalBackup = incrementalBackup;
+		return this;
+	}
+
+	public long getBackupRateLimit() {
+		return backupRateLimit;
+	}
+
+	public GraphStorageOptions setBackupRateLimit(long backupRateLimit) {
+		this.backupRateLimit = backupRateLimit;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
+		if (getBackupRateLimit() < 0) {
+			throw new IllegalArgumentException("The backup rate limit must not be negative.");
+		}
 		if (getStartServer() && getDirectory() == null) {
 			throw new NullPointerException(
 				"You have not specified a data directory and enabled the graph server. It is not possible to run Gentics Mesh in memory mode and start the graph server.");
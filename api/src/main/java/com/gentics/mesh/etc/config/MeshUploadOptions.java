@@ -17,12 +17,18 @@ public class MeshUploadOptions implements Option {
 	public static final String DEFAULT_TEMP_DIR = "data" + File.separator + "tmp" + File.separator + "file-uploads";;
 	public static final int DEFAULT_DOCUMENT_PARSER_LIMIT = 40_000;
 	public static final boolean DEFAULT_UPLOAD_PARSER_FLAG = true;
+	public static final int DEFAULT_GC_BATCH_SIZE = 100;
+	public static final long DEFAULT_GC_BATCH_DELAY = 100;
+	public static final long DEFAULT_TEMP_UPLOAD_MAX_AGE = 24 * 60 * 60 * 1000; // One day
 
 	public static final String MESH_BINARY_DIR_ENV = "MESH_BINARY_DIR";
 	public static final String MESH_BINARY_UPLOAD_TEMP_DIR_ENV = "MESH_BINARY_UPLOAD_TEMP_DIR";
 	public static final String MESH_BINARY_UPLOAD_LIMIT_ENV = "MESH_BINARY_UPLOAD_LIMIT";
 	public static final String MESH_BINARY_DOCUMENT_PARSER_LIMIT_ENV = "MESH_BINARY_DOCUMENT_PARSER_LIMIT";
 	public static final String MESH_BINARY_DOCUMENT_PARSER_ENV = "MESH_BINARY_DOCUMENT_PARSER";
+	public static final String MESH_BINARY_GC_BATCH_SIZE_ENV = "MESH_BINARY_GC_BATCH_SIZE";
+	public static final String MESH_BINARY_GC_BATCH_DELAY_ENV = "MESH_BINARY_GC_BATCH_DELAY";
+	public static final String MESH_BINARY_TEMP_UPLOAD_MAX_AGE_ENV = "MESH_BINARY_TEMP_UPLOAD_MAX_AGE";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The upload size limit in bytes. Default: " + DEFAULT_FILEUPLOAD_MB_LIMIT)
@@ -50,6 +56,24 @@ public class MeshUploadOptions implements Option {
 	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_ENV, description = "Override the document parser enabled flag.")
 	private boolean parser = DEFAULT_UPLOAD_PARSER_FLAG;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of binaries which will be checked and deleted if unreferenced per transaction by the binary garbage collection. Default: "
+		+ DEFAULT_GC_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_BINARY_GC_BATCH_SIZE_ENV, description = "Override the configured binary garbage collection batch size.")
+	private int gcBatchSize = DEFAULT_GC_BATCH_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Delay in milliseconds between two batches of the binary garbage collection. This can be used to throttle the I/O load. Default: "
+		+ DEFAULT_GC_BATCH_DELAY)
+	@EnvironmentVariable(name = MESH_BINARY_GC_BATCH_DELAY_ENV, description = "Override the configured binary garbage collection batch delay.")
+	private long gcBatchDelay = DEFAULT_GC_BATCH_DELAY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Age in milliseconds after which temporary uploads are considered stale and will be removed by the binary garbage collection. Default: "
+		+ DEFAULT_TEMP_UPLOAD_MAX_AGE)
+	@EnvironmentVariable(name = MESH_BINARY_TEMP_UPLOAD_MAX_AGE_ENV, description = "Override the configured max age of temporary uploads.")
+	private long tempUploadMaxAge = DEFAULT_TEMP_UPLOAD_MAX_AGE;
+
 	/**
 	 * Return the upload limit in bytes.
 	 * 
@@ -153,4 +177,64 @@ public class MeshUploadOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the amount of binaries which will be deleted per transaction by the binary garbage collection.
+	 * 
+	 * @return
+	 */
+	public int getGcBatchSize() {
+		return gcBatchSize;
+	}
+
+	/**
+	 * Set the binary garbage collection batch size.
+	 * 
+	 * @param gcBatchSize
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setGcBatchSize(int gcBatchSize) {
+		this.gcBatchSize = gcBatchSize;
+		return this;
+	}
+
+	/**
+	 * Return the delay in milliseconds between two batches of the binary garbage collection.
+	 * 
+	 * @return
+	 */
+	public long getGcBatchDelay() {
+		return gcBatchDelay;
+	}
+
+	/**
+	 * Set the delay in milliseconds between two batches of the binary garbage collection.
+	 * 
+	 * @param gcBatchDelay
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setGcBatchDelay(long gcBatchDelay) {
+		this.gcBatchDelay = gcBatchDelay;
+		return this;
+	}
+
+	/**
+	 * Return the age in milliseconds after which temporary uploads are considered stale.
+	 * 
+	 * @return
+	 */
+	public long getTempUploadMaxAge() {
+		return tempUploadMaxAge;
+	}
+
+	/**
+	 * Set the age in milliseconds after which temporary uploads are considered stale.
+	 * 
+	 * @param tempUploadMaxAge
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setTempUploadMaxAge(long tempUploadMaxAge) {
+		this.tempUploadMaxAge = tempUploadMaxAge;
+		return this;
+	}
+
 }
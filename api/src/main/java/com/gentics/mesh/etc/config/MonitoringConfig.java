@@ -15,6 +15,8 @@ public class MonitoringConfig implements Option {
 	public static final String MESH_MONITORING_HTTP_PORT_ENV = "MESH_MONITORING_HTTP_PORT";
 	public static final String MESH_MONITORING_HTTP_HOST_ENV = "MESH_MONITORING_HTTP_HOST";
 	public static final String MESH_MONITORING_ENABLED_ENV = "MESH_MONITORING_ENABLED";
+	public static final String MESH_MONITORING_SERVER_TIMING_HEADER_ENV = "MESH_MONITORING_SERVER_TIMING_HEADER";
+	public static final String MESH_MONITORING_SLOW_REQUEST_THRESHOLD_ENV = "MESH_MONITORING_SLOW_REQUEST_THRESHOLD";
 
 	public static final boolean DEFAULT_MONITORING_ENABLED = true;
 
@@ -24,6 +26,10 @@ public class MonitoringConfig implements Option {
 
 	public static final boolean DEFAULT_JVM_METRICS_ENABLED = true;
 
+	public static final boolean DEFAULT_SERVER_TIMING_HEADER = false;
+
+	public static final long DEFAULT_SLOW_REQUEST_THRESHOLD = 0;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Enable or disable the monitoring system. Default is: " + DEFAULT_MONITORING_ENABLED)
 	@EnvironmentVariable(name = MESH_MONITORING_ENABLED_ENV, description = "Override the configured monitoring enabled flag.")
@@ -44,6 +50,18 @@ public class MonitoringConfig implements Option {
 	@EnvironmentVariable(name = "MESH_MONITORING_JVM_METRICS_ENABLED", description = "Override the configured JVM metrics enabled flag.")
 	private boolean jvmMetricsEnabled = DEFAULT_JVM_METRICS_ENABLED;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Add the Server-Timing header to the REST API responses. The header contains the time which was spent in the phases of the request handling. Default is: "
+		+ DEFAULT_SERVER_TIMING_HEADER)
+	@EnvironmentVariable(name = MESH_MONITORING_SERVER_TIMING_HEADER_ENV, description = "Override the configured Server-Timing header flag.")
+	private boolean serverTimingHeader = DEFAULT_SERVER_TIMING_HEADER;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Requests which take longer than the threshold in milliseconds will be logged together with the timings of the request phases and the amount of graph elements which were read. A value of 0 disables the slow request log. Default is: "
+		+ DEFAULT_SLOW_REQUEST_THRESHOLD)
+	@EnvironmentVariable(name = MESH_MONITORING_SLOW_REQUEST_THRESHOLD_ENV, description = "Override the configured slow request threshold.")
+	private long slowRequestThreshold = DEFAULT_SLOW_REQUEST_THRESHOLD;
+
 	public MonitoringConfig() {
 	}
 
@@ -83,8 +101,29 @@ public class MonitoringConfig implements Option {
 		return this;
 	}
 
+	public boolean isServerTimingHeader() {
+		return serverTimingHeader;
+	}
+
+	public MonitoringConfig setServerTimingHeader(boolean serverTimingHeader) {
+		this.serverTimingHeader = serverTimingHeader;
+		return this;
+	}
+
+	public long getSlowRequestThreshold() {
+		return slowRequestThreshold;
+	}
+
+	public MonitoringConfig setSlowRequestThreshold(long slowRequestThreshold) {
+		this.slowRequestThreshold = slowRequestThreshold;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
+		if (slowRequestThreshold < 0) {
+			throw new IllegalArgumentException("The slow request threshold must not be negative.");
+		}
 	}
 
 }
@@ -32,6 +32,9 @@ public class ElasticSearchOptions implements Option {
 	public static final int DEFAULT_RETRY_LIMIT = 3;
 	public static final boolean DEFAULT_WAIT_FOR_IDLE = true;
 	public static final boolean DEFAULT_INCLUDE_BINARY_FIELDS = true;
+	public static final int DEFAULT_HYDRATION_PARALLELISM = 1;
+	public static final String DEFAULT_SEARCH_TYPE = "dfs_query_then_fetch";
+	public static final int DEFAULT_INDEX_CREATION_PARALLELISM = 8;
 	public static final MappingMode DEFAULT_MAPPING_MODE = MappingMode.DYNAMIC;
 	public static final ComplianceMode DEFAULT_COMPLIANCE_MODE = ComplianceMode.ES_6;
 
@@ -63,6 +66,9 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_COMPLIANCE_MODE_ENV = "MESH_ELASTICSEARCH_COMPLIANCE_MODE";
 	public static final String MESH_ELASTICSEARCH_HOSTNAME_VERIFICATION_ENV = "MESH_ELASTICSEARCH_HOSTNAME_VERIFICATION";
 	public static final String MESH_ELASTICSEARCH_INCLUDE_BINARY_FIELDS_ENV = "MESH_ELASTICSEARCH_INCLUDE_BINARY_FIELDS";
+	public static final String MESH_ELASTICSEARCH_HYDRATION_PARALLELISM_ENV = "MESH_ELASTICSEARCH_HYDRATION_PARALLELISM";
+	public static final String MESH_ELASTICSEARCH_SEARCH_TYPE_ENV = "MESH_ELASTICSEARCH_SEARCH_TYPE";
+	public static final String MESH_ELASTICSEARCH_INDEX_CREATION_PARALLELISM_ENV = "MESH_ELASTICSEARCH_INDEX_CREATION_PARALLELISM";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Elasticsearch connection url to be used. Set this setting to null will disable the Elasticsearch support.")
@@ -182,6 +188,24 @@ public class ElasticSearchOptions implements Option {
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_COMPLIANCE_MODE_ENV, description = "Override the search compliance mode.")
 	private ComplianceMode complianceMode = DEFAULT_COMPLIANCE_MODE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The amount of threads which are used to load and transform the elements of a search result page. The page is split into one chunk per thread and each chunk is processed within a single transaction. Default: "
+		+ DEFAULT_HYDRATION_PARALLELISM)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_HYDRATION_PARALLELISM_ENV, description = "Override the search hydration parallelism.")
+	private int hydrationParallelism = DEFAULT_HYDRATION_PARALLELISM;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The search type which is used for search requests. The type query_then_fetch avoids the additional round trip to all shards which is needed to compute distributed term frequencies. Possible values: query_then_fetch, dfs_query_then_fetch. Default: "
+		+ DEFAULT_SEARCH_TYPE)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SEARCH_TYPE_ENV, description = "Override the search type.")
+	private String searchType = DEFAULT_SEARCH_TYPE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The amount of indices which are created concurrently when the search indices get initialized. Default: "
+		+ DEFAULT_INDEX_CREATION_PARALLELISM)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_INDEX_CREATION_PARALLELISM_ENV, description = "Override the index creation parallelism.")
+	private int indexCreationParallelism = DEFAULT_INDEX_CREATION_PARALLELISM;
+
 	public ElasticSearchOptions() {
 
 	}
@@ -417,7 +441,40 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public int getHydrationParallelism() {
+		return hydrationParallelism;
+	}
+
+	public ElasticSearchOptions setHydrationParallelism(int hydrationParallelism) {
+		this.hydrationParallelism = hydrationParallelism;
+		return this;
+	}
+
+	public String getSearchType() {
+		return searchType;
+	}
+
+	public ElasticSearchOptions setSearchType(String searchType) {
+		this.searchType = searchType;
+		return this;
+	}
+
+	public int getIndexCreationParallelism() {
+		return indexCreationParallelism;
+	}
+
+	public ElasticSearchOptions setIndexCreationParallelism(int indexCreationParallelism) {
+		this.indexCreationParallelism = indexCreationParallelism;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
+		if (searchType != null && !"query_then_fetch".equals(searchType) && !"dfs_query_then_fetch".equals(searchType)) {
+			throw new IllegalStateException("The search type {" + searchType + "} is not supported.");
+		}
+		if (indexCreationParallelism < 1) {
+			throw new IllegalStateException("The index creation parallelism must be at least 1.");
+		}
 
 	}
 
@@ -0,0 +1,86 @@
+package com.gentics.mesh.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gentics.mesh.test.context.MeshTestContext;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.context.TestGraphHelper;
+import com.gentics.mesh.test.context.event.EventAsserter;
+
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.logging.SLF4JLogDelegateFactory;
+
+/**
+ * Abstract class for benchmarks which need a running mesh instance. The instance is set up once per trial using the {@link MeshTestContext} of the
+ * tests. The {@link MeshTestSetting} annotation of the benchmark class controls the setup. An in-memory database is used by default so that no
+ * disk I/O influences the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public abstract class AbstractMeshBenchmark implements TestGraphHelper {
+
+	static {
+		// Use slf4j instead of JUL
+		System.setProperty(LoggerFactory.LOGGER_DELEGATE_FACTORY_CLASS_NAME, SLF4JLogDelegateFactory.class.getName());
+	}
+
+	private final MeshTestContext testContext = new MeshTestContext();
+
+	private final EventAsserter eventAsserter = new EventAsserter(testContext);
+
+	private MeshTestSetting settings;
+
+	@Setup(Level.Trial)
+	public void setupMesh() throws Exception {
+		// JMH instantiates generated subclasses of the benchmark class
+		for (Class<?> clazz = getClass(); clazz != null && settings == null; clazz = clazz.getSuperclass()) {
+			settings = clazz.getAnnotation(MeshTestSetting.class);
+		}
+		if (settings == null) {
+			throw new IllegalStateException("The benchmark {" + getClass().getName() + "} is not annotated with @MeshTestSetting");
+		}
+		testContext.setupOnce(settings);
+		testContext.setup(settings);
+		setup();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownMesh() throws Exception {
+		testContext.tearDown(settings);
+		testContext.tearDownOnce(settings);
+	}
+
+	/**
+	 * Prepare the benchmark data. The method is invoked once the mesh instance and the test data have been set up.
+	 *
+	 * @throws Exception
+	 */
+	protected abstract void setup() throws Exception;
+
+	@Override
+	public MeshTestContext getTestContext() {
+		return testContext;
+	}
+
+	@Override
+	public EventAsserter eventAsserter() {
+		return eventAsserter;
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.gentics.mesh.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.search.verticle.bulk.BulkOperator;
+
+import io.reactivex.Flowable;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Benchmark for the throughput of the {@link BulkOperator} which groups the search requests into bulk requests. No requests are sent to
+ * Elasticsearch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class BulkOperatorBenchmark {
+
+	private static final int REQUEST_COUNT = 10_000;
+
+	@Param({ "100", "1000" })
+	public int requestLimit;
+
+	private Vertx vertx;
+
+	private SearchRequest[] requests;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		vertx = Vertx.vertx();
+		requests = new SearchRequest[REQUEST_COUNT];
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			String id = "doc-" + i;
+			// Add some deletions so that the operator has to handle mixed requests
+			if (i % 10 == 0) {
+				requests[i] = new DeleteDocumentRequest("node", "mesh-node", id, ComplianceMode.ES_7);
+			} else {
+				JsonObject doc = new JsonObject()
+					.put("uuid", id)
+					.put("displayField", "Content " + i)
+					.put("fields", new JsonObject().put("teaser", "Teaser of content " + i).put("content", "Some content " + i));
+				requests[i] = new CreateDocumentRequest("node", "mesh-node", id, doc, ComplianceMode.ES_7);
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		vertx.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(REQUEST_COUNT)
+	public long bulk() {
+		BulkOperator operator = new BulkOperator(vertx, Duration.ofSeconds(10), requestLimit, Long.MAX_VALUE);
+		return Flowable.fromArray(requests)
+			.lift(operator)
+			.count()
+			.blockingGet();
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+
+import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.event.impl.EventQueueBatchImpl;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.UUIDUtil;
+
+/**
+ * Benchmark for {@link EventQueueBatchImpl#dispatch()}. The events are published to the event bus of the mesh instance so that the registered
+ * event handlers are included in the measurement.
+ */
+@MeshTestSetting(startServer = false)
+public class EventQueueBatchBenchmark extends AbstractMeshBenchmark {
+
+	private static final int BATCH_SIZE = 100;
+
+	private MeshElementEventModelImpl[] events;
+
+	@Override
+	protected void setup() {
+		events = new MeshElementEventModelImpl[BATCH_SIZE];
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			MeshElementEventModelImpl event = new MeshElementEventModelImpl();
+			event.setEvent(USER_UPDATED);
+			event.setUuid(UUIDUtil.randomUUID());
+			event.setName("user_" + i);
+			event.setOrigin(mesh().options().getNodeName());
+			events[i] = event;
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void dispatch() {
+		EventQueueBatch batch = new EventQueueBatchImpl(vertx());
+		for (MeshElementEventModelImpl event : events) {
+			batch.add(event);
+		}
+		batch.dispatch();
+	}
+
+}
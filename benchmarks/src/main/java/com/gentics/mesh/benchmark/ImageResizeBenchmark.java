@@ -0,0 +1,97 @@
+package com.gentics.mesh.benchmark;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.image.ImgscalrImageManipulator;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.image.ResizeMode;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+
+import io.vertx.core.Vertx;
+
+/**
+ * Benchmark for the image resizing of the {@link ImgscalrImageManipulator}. The source image is generated in memory. Reading and encoding of the
+ * image data is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ImageResizeBenchmark {
+
+	@Param({ "100", "500", "1200" })
+	public int width;
+
+	@Param({ "FORCE", "SMART" })
+	public ResizeMode mode;
+
+	private Vertx vertx;
+
+	private BenchmarkImageManipulator manipulator;
+
+	private BufferedImage image;
+
+	private ImageManipulationParameters parameters;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		vertx = Vertx.vertx();
+		manipulator = new BenchmarkImageManipulator(vertx, new MeshOptions());
+		image = new BufferedImage(2048, 1536, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setPaint(new GradientPaint(0, 0, Color.BLUE, 2048, 1536, Color.ORANGE));
+		graphics.fillRect(0, 0, 2048, 1536);
+		graphics.dispose();
+		parameters = new ImageManipulationParametersImpl()
+			.setWidth(width)
+			.setHeight(width / 2)
+			.setResizeMode(mode);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		vertx.close();
+	}
+
+	@Benchmark
+	public BufferedImage resize() {
+		return manipulator.resize(image, parameters);
+	}
+
+	/**
+	 * Manipulator which exposes the in-memory image operations.
+	 */
+	private static class BenchmarkImageManipulator extends ImgscalrImageManipulator {
+
+		BenchmarkImageManipulator(Vertx vertx, MeshOptions options) {
+			super(vertx, options);
+		}
+
+		BufferedImage resize(BufferedImage image, ImageManipulationParameters parameters) {
+			return cropAndResize(image, parameters);
+		}
+
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.link.LinkTokenizer;
+import com.gentics.mesh.core.link.WebRootLinkReplacer;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+/**
+ * Benchmark for the link resolving via {@link WebRootLinkReplacer#replace(InternalActionContext, String, ContainerType, String, LinkType, String, List)}.
+ * The content contains the given amount of links to the nodes of the test data.
+ */
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class LinkReplacerBenchmark extends AbstractMeshBenchmark {
+
+	@Param({ "1", "10", "100" })
+	public int linkCount;
+
+	private WebRootLinkReplacer replacer;
+
+	private InternalActionContext ac;
+
+	private String branchUuid;
+
+	private String content;
+
+	private int[] tokens;
+
+	@Override
+	protected void setup() {
+		replacer = mesh().webRootLinkReplacer();
+		branchUuid = initialBranchUuid();
+		tx(() -> {
+			ac = mockActionContext();
+			List<String> uuids = new ArrayList<>();
+			data().getContents().values().forEach(node -> uuids.add(node.getUuid()));
+			StringBuilder builder = new StringBuilder();
+			for (int i = 0; i < linkCount; i++) {
+				String uuid = uuids.get(i % uuids.size());
+				builder.append("<p>Paragraph ").append(i).append(" <a href=\"{{mesh.link(\"").append(uuid).append("\", \"en\")}}\">link</a></p>\n");
+			}
+			content = builder.toString();
+		});
+		tokens = LinkTokenizer.tokenize(content);
+	}
+
+	/**
+	 * Resolve the links of the content. The content needs to be tokenized first.
+	 *
+	 * @return
+	 */
+	@Benchmark
+	public String replace() {
+		try (Tx tx = tx()) {
+			return replacer.replace(ac, branchUuid, ContainerType.DRAFT, content, LinkType.SHORT, PROJECT_NAME, null);
+		}
+	}
+
+	/**
+	 * Resolve the links of the content using the stored link tokens.
+	 *
+	 * @return
+	 */
+	@Benchmark
+	public String replaceTokenized() {
+		try (Tx tx = tx()) {
+			return replacer.replace(ac, branchUuid, ContainerType.DRAFT, content, tokens, LinkType.SHORT, PROJECT_NAME, null);
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.router.ProjectsRouter;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Benchmark for the {@link JsonUtil} (de)serialization of a {@link NodeResponse}. The response is created once from a content node of the test
+ * data.
+ */
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class NodeResponseJsonBenchmark extends AbstractMeshBenchmark {
+
+	private NodeResponse response;
+
+	private String json;
+
+	@Override
+	protected void setup() {
+		response = tx(() -> {
+			InternalActionContext ac = mockActionContext("lang=en&version=draft");
+			ac.data().put(ProjectsRouter.PROJECT_CONTEXT_KEY, PROJECT_NAME);
+			return content().transformToRestSync(ac, 0);
+		});
+		json = JsonUtil.toJson(response);
+	}
+
+	@Benchmark
+	public String toJson() {
+		return JsonUtil.toJson(response);
+	}
+
+	@Benchmark
+	public JsonObject toJsonObject() {
+		return JsonUtil.toJsonObject(response);
+	}
+
+	@Benchmark
+	public NodeResponse readValue() {
+		return JsonUtil.readValue(json, NodeResponse.class);
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.test.TestSize.FULL;
+
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+/**
+ * Benchmark for the permission checks via {@link User#hasPermissionForId(Object, com.gentics.mesh.core.data.relationship.GraphPermission)}. Each
+ * invocation checks the read permission of the user on all nodes of the test data.
+ */
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class PermissionBenchmark extends AbstractMeshBenchmark {
+
+	private Object[] nodeIds;
+
+	@Override
+	protected void setup() {
+		nodeIds = tx(() -> Stream.concat(data().getFolders().values().stream(), data().getContents().values().stream())
+			.map(node -> node.id())
+			.toArray());
+	}
+
+	/**
+	 * Check the permissions with a warm permission cache.
+	 *
+	 * @param blackhole
+	 */
+	@Benchmark
+	public void hasPermissionCached(Blackhole blackhole) {
+		try (Tx tx = tx()) {
+			User user = user();
+			for (Object id : nodeIds) {
+				blackhole.consume(user.hasPermissionForId(id, READ_PERM));
+			}
+		}
+	}
+
+	/**
+	 * Check the permissions with a cold permission cache. The permissions need to be loaded from the graph.
+	 *
+	 * @param blackhole
+	 */
+	@Benchmark
+	public void hasPermissionUncached(Blackhole blackhole) {
+		try (Tx tx = tx()) {
+			User user = user();
+			mesh().permissionCache().clear(false);
+			for (Object id : nodeIds) {
+				blackhole.consume(user.hasPermissionForId(id, READ_PERM));
+			}
+		}
+	}
+
+}
@@ -6,6 +6,8 @@ import javax.inject.Singleton;
 import com.gentics.mesh.auth.handler.MeshAnonymousAuthHandler;
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.RequestTimings;
+import com.gentics.mesh.metric.RequestTimings.Phase;
 
 import io.vertx.ext.web.Route;
 
@@ -35,6 +37,11 @@ public class MeshAuthChain {
 	 * @param route
 	 */
 	public void secure(Route route) {
+		route.handler(rc -> {
+			RequestTimings.of(rc).begin(Phase.AUTH);
+			rc.next();
+		});
+
 		// First try to authenticate the key using JWT
 		route.handler(rc -> {
 			jwtAuthHandler.handle(rc, true);
@@ -47,6 +54,11 @@ public class MeshAuthChain {
 		route.handler(rc -> {
 			anonHandler.handle(rc);
 		});
+
+		route.handler(rc -> {
+			RequestTimings.of(rc).end(Phase.AUTH);
+			rc.next();
+		});
 	}
 
 }
@@ -13,6 +13,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.mesh.auth.AuthenticationResult;
+import com.gentics.mesh.cache.AuthTokenCache;
+import com.gentics.mesh.cache.AuthTokenEntry;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshAuthUser;
@@ -60,12 +62,16 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 
 	private final MeshOptions meshOptions;
 
+	private final AuthTokenCache tokenCache;
+
 	@Inject
-	public MeshJWTAuthProvider(Vertx vertx, MeshOptions meshOptions, BCryptPasswordEncoder passwordEncoder, Database database, BootstrapInitializer boot) {
+	public MeshJWTAuthProvider(Vertx vertx, MeshOptions meshOptions, BCryptPasswordEncoder passwordEncoder, Database database, BootstrapInitializer boot,
+		AuthTokenCache tokenCache) {
 		this.meshOptions = meshOptions;
 		this.passwordEncoder = passwordEncoder;
 		this.db = database;
 		this.boot = boot;
+		this.tokenCache = tokenCache;
 
 		// Use the mesh JWT options in order to setup the JWTAuth provider
 		AuthenticationOptions options = meshOptions.getAuthenticationOptions();
@@ -83,6 +89,17 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 	}
 
 	public void authenticateJWT(JsonObject authInfo, Handler<AsyncResult<AuthenticationResult>> resultHandler) {
+		// Tokens which have already been verified don't need to be decoded again. The complete token is used as the key since the signature alone
+		// would also match tokens with a modified payload. The cached user is used directly so that no transaction is needed.
+		String token = authInfo.getString("jwt");
+		AuthTokenEntry entry = token == null ? null : tokenCache.getEntry(token);
+		if (entry != null) {
+			AuthenticationResult result = new AuthenticationResult(entry.getUser());
+			result.setUsingAPIKey(entry.isUsingAPIKey());
+			resultHandler.handle(Future.succeededFuture(result));
+			return;
+		}
+
 		// Decode and validate the JWT. A JWTUser will be returned which contains the decoded token.
 		// We will use this information to load the Mesh User from the graph.
 		jwtProvider.authenticate(authInfo, rh -> {
@@ -96,7 +113,7 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 			} else {
 				JsonObject decodedJwt = rh.result().principal();
 				try {
-					User user = loadUserByJWT(decodedJwt);
+					User user = loadUserByJWT(token, decodedJwt);
 					AuthenticationResult result = new AuthenticationResult(user);
 
 					// Check whether an api key was used to authenticate the user.
@@ -254,14 +271,16 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 	}
 
 	/**
-	 * Gets the corresponding {@link MeshAuthUser} by the Vert.x User.
+	 * Gets the corresponding {@link MeshAuthUser} by the Vert.x User. The verified token will be added to the token cache.
 	 *
+	 * @param token
+	 *            Encoded JWT
 	 * @param jwt
 	 *            Decoded JWT
 	 * @return Mesh user
 	 * @throws Exception
 	 */
-	private User loadUserByJWT(JsonObject jwt) throws Exception {
+	private User loadUserByJWT(String token, JsonObject jwt) throws Exception {
 		return db.tx(tx -> {
 			String userUuid = jwt.getString(USERID_FIELD_NAME);
 			MeshAuthUser user = boot.userRoot().findMeshAuthUserByUuid(userUuid);
@@ -293,10 +312,30 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 				}
 			}
 
+			if (token != null) {
+				cacheToken(token, jwt, user);
+			}
 			return user;
 		});
 	}
 
+	/**
+	 * Store the verified token in the token cache.
+	 * 
+	 * @param token
+	 *            Encoded token
+	 * @param jwt
+	 *            Decoded token
+	 * @param user
+	 *            User which was loaded for the token
+	 */
+	private void cacheToken(String token, JsonObject jwt, MeshAuthUser user) {
+		Long exp = jwt.getLong("exp");
+		long expiresAt = exp == null ? Long.MAX_VALUE : exp * 1000;
+		boolean usingAPIKey = jwt.containsKey(API_KEY_TOKEN_CODE_FIELD_NAME);
+		tokenCache.store(token, new AuthTokenEntry(jwt.getString(USERID_FIELD_NAME), user, expiresAt, usingAPIKey));
+	}
+
 	/**
 	 * Handle the login action and set a token cookie if the credentials are valid.
 	 *
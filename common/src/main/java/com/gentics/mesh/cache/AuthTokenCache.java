@@ -0,0 +1,34 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Cache for verified JWTs. The key is the complete encoded token. Entries will be ignored once the token has expired and the entries of a user will be
+ * removed when the user gets updated or deleted.
+ */
+public interface AuthTokenCache extends MeshCache<String, AuthTokenEntry> {
+
+	/**
+	 * Store the verified token in the cache.
+	 * 
+	 * @param token
+	 *            Encoded token
+	 * @param entry
+	 */
+	void store(String token, AuthTokenEntry entry);
+
+	/**
+	 * Return the cached entry for the token.
+	 * 
+	 * @param token
+	 *            Encoded token
+	 * @return Found entry or null if the token has not yet been verified or has expired
+	 */
+	AuthTokenEntry getEntry(String token);
+
+	/**
+	 * Remove the entries of the tokens which were issued for the user.
+	 * 
+	 * @param userUuid
+	 */
+	void invalidateUser(String userUuid);
+
+}
@@ -0,0 +1,70 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.core.data.MeshAuthUser;
+
+/**
+ * Information of a JWT which has already been verified. The entry is used to skip the signature verification and the user lookup for tokens which are
+ * presented again. The user frame only references the element id and can thus be reused by later transactions.
+ */
+public class AuthTokenEntry {
+
+	private final String userUuid;
+
+	private final MeshAuthUser user;
+
+	private final long expiresAt;
+
+	private final boolean usingAPIKey;
+
+	/**
+	 * Create a new entry.
+	 * 
+	 * @param userUuid
+	 *            Uuid of the user which was loaded for the token
+	 * @param user
+	 *            User which was loaded for the token
+	 * @param expiresAt
+	 *            Expiry timestamp of the token in milliseconds or {@link Long#MAX_VALUE} if the token does not expire
+	 * @param usingAPIKey
+	 *            Flag which indicates whether the token is an API key
+	 */
+	public AuthTokenEntry(String userUuid, MeshAuthUser user, long expiresAt, boolean usingAPIKey) {
+		this.userUuid = userUuid;
+		this.user = user;
+		this.expiresAt = expiresAt;
+		this.usingAPIKey = usingAPIKey;
+	}
+
+	public String getUserUuid() {
+		return userUuid;
+	}
+
+	/**
+	 * Return the user which was loaded for the token.
+	 * 
+	 * @return
+	 */
+	public MeshAuthUser getUser() {
+		return user;
+	}
+
+	public long getExpiresAt() {
+		return expiresAt;
+	}
+
+	public boolean isUsingAPIKey() {
+		return usingAPIKey;
+	}
+
+	/**
+	 * Check whether the token has expired.
+	 * 
+	 * @param now
+	 *            Current timestamp in milliseconds
+	 * @return
+	 */
+	public boolean isExpired(long now) {
+		return now >= expiresAt;
+	}
+
+}
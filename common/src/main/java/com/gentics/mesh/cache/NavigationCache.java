@@ -0,0 +1,54 @@
+package com.gentics.mesh.cache;
+
+import java.util.List;
+
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+
+/**
+ * Cache for the permission independent children structure and node responses of nodes which are used to build navigations. Entries are bound to the
+ * etag version of the node and will thus not be used anymore once the children of the node change.
+ */
+public interface NavigationCache extends MeshCache<String, List<NavigationChildEntry>> {
+
+	/**
+	 * Store the children structure of the node in the cache.
+	 * 
+	 * @param node
+	 *            Parent node
+	 * @param branchUuid
+	 *            Branch for which the structure is valid
+	 * @param children
+	 *            Children of the node
+	 */
+	void store(Node node, String branchUuid, List<NavigationChildEntry> children);
+
+	/**
+	 * Return the cached children structure of the node.
+	 * 
+	 * @param node
+	 *            Parent node
+	 * @param branchUuid
+	 * @return Children of the node, if the structure could be found in the cache. Otherwise null
+	 */
+	List<NavigationChildEntry> getChildren(Node node, String branchUuid);
+
+	/**
+	 * Store the permission independent node response of a navigation element.
+	 * 
+	 * @param key
+	 *            Key which identifies the node, its content and all request parameters which affect the response
+	 * @param response
+	 *            Response which must not be modified afterwards
+	 */
+	void storeNodeResponse(String key, NodeResponse response);
+
+	/**
+	 * Return the cached node response of a navigation element.
+	 * 
+	 * @param key
+	 * @return Cached response which must not be modified or null if the response is not cached
+	 */
+	NodeResponse getNodeResponse(String key);
+
+}
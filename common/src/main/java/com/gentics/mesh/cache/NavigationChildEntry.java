@@ -0,0 +1,60 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Permission independent navigation information of a single child node. The permissions of the child will be checked via the element id when the
+ * navigation is built for a user.
+ */
+public class NavigationChildEntry {
+
+	private final Object id;
+
+	private final boolean container;
+
+	private final String schemaName;
+
+	private final String schemaUuid;
+
+	public NavigationChildEntry(Object id, boolean container, String schemaName, String schemaUuid) {
+		this.id = id;
+		this.container = container;
+		this.schemaName = schemaName;
+		this.schemaUuid = schemaUuid;
+	}
+
+	/**
+	 * Return the element id of the child node.
+	 * 
+	 * @return
+	 */
+	public Object getId() {
+		return id;
+	}
+
+	/**
+	 * Check whether the schema of the child node is a container schema.
+	 * 
+	 * @return
+	 */
+	public boolean isContainer() {
+		return container;
+	}
+
+	/**
+	 * Return the name of the schema of the child node.
+	 * 
+	 * @return
+	 */
+	public String getSchemaName() {
+		return schemaName;
+	}
+
+	/**
+	 * Return the uuid of the schema of the child node.
+	 * 
+	 * @return
+	 */
+	public String getSchemaUuid() {
+		return schemaUuid;
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.gentics.mesh.cache;
+
+import java.util.Set;
+
+/**
+ * Rendered mesh link. Besides the link the entry references the branch and the nodes which form the webroot path of the link, so that the entry can be
+ * invalidated when one of those nodes gets changed in the branch.
+ */
+public class ResolvedLink {
+
+	private final String link;
+
+	private final String branchUuid;
+
+	private final Set<String> pathNodeUuids;
+
+	/**
+	 * Create a new entry.
+	 *
+	 * @param link
+	 *            Rendered link
+	 * @param branchUuid
+	 *            Uuid of the branch which was used to render the link
+	 * @param pathNodeUuids
+	 *            Uuids of the target node and its parent nodes in the branch
+	 */
+	public ResolvedLink(String link, String branchUuid, Set<String> pathNodeUuids) {
+		this.link = link;
+		this.branchUuid = branchUuid;
+		this.pathNodeUuids = pathNodeUuids;
+	}
+
+	public String getLink() {
+		return link;
+	}
+
+	public String getBranchUuid() {
+		return branchUuid;
+	}
+
+	public Set<String> getPathNodeUuids() {
+		return pathNodeUuids;
+	}
+
+	/**
+	 * Check whether the link depends on the given node in the given branch.
+	 *
+	 * @param nodeUuid
+	 *            Uuid of the node
+	 * @param branchUuid
+	 *            Uuid of the branch or null to match any branch
+	 * @return
+	 */
+	public boolean dependsOn(String nodeUuid, String branchUuid) {
+		if (branchUuid != null && !branchUuid.equals(this.branchUuid)) {
+			return false;
+		}
+		return pathNodeUuids.contains(nodeUuid);
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Cache for resolved mesh links. The key contains the target node uuid, branch, languages and link type and the value is the rendered url.
+ */
+public interface ResolvedLinkCache extends MeshCache<String, ResolvedLink> {
+
+	/**
+	 * Store the rendered link in the cache.
+	 *
+	 * @param key
+	 *            Cache key which identifies the link
+	 * @param link
+	 *            Rendered link
+	 */
+	void store(String key, ResolvedLink link);
+
+	/**
+	 * Remove the links which depend on the given node from the cache.
+	 *
+	 * @param nodeUuid
+	 *            Uuid of the node
+	 * @param branchUuid
+	 *            Uuid of the branch in which the node was changed or null to remove the links of all branches
+	 */
+	void invalidateNode(String nodeUuid, String branchUuid);
+
+}
@@ -6,6 +6,7 @@ import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import com.gentics.mesh.cache.EventAwareCache;
@@ -49,7 +50,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 	private final Counter hitCounter;
 
 	public EventAwareCacheImpl(String name, long maxSize, Duration expireAfter, Vertx vertx, MeshOptions options, MetricsService metricsService, Predicate<Message<JsonObject>> filter,
-							   BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext,
+							   BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext, BiConsumer<K, V> onRemoval,
 							   MeshEvent... events) {
 		this.vertx = vertx;
 		this.options = options;
@@ -57,7 +58,12 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		if (expireAfter != null) {
 			cacheBuilder = cacheBuilder.expireAfterWrite(expireAfter.getSeconds(), TimeUnit.SECONDS);
 		}
-		this.cache = cacheBuilder.build();
+		if (onRemoval != null) {
+			// Run the listener in the calling thread so that it has been invoked once the modifying call returns
+			this.cache = cacheBuilder.executor(Runnable::run).<K, V>removalListener((key, value, cause) -> onRemoval.accept(key, value)).build();
+		} else {
+			this.cache = cacheBuilder.build();
+		}
 		this.filter = filter;
 		this.onNext = onNext;
 		registerEventHandlers(events);
@@ -128,6 +134,18 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		cache.invalidate(key);
 	}
 
+	@Override
+	public void invalidateIf(BiPredicate<K, V> predicate) {
+		if (log.isTraceEnabled()) {
+			log.trace("Invalidating matching entries");
+		}
+		cache.asMap().forEach((key, value) -> {
+			if (predicate.test(key, value)) {
+				invalidate(key);
+			}
+		});
+	}
+
 	@Override
 	public void put(K key, V value) {
 		if (disabled) {
@@ -182,6 +200,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		private long maxSize = 1000;
 		private Predicate<Message<JsonObject>> filter = null;
 		private BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext = null;
+		private BiConsumer<K, V> onRemoval = null;
 		private MeshEvent[] events = null;
 		private Vertx vertx;
 		private Duration expireAfter;
@@ -193,7 +212,8 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			Objects.requireNonNull(events, "No events for the cache have been set");
 			Objects.requireNonNull(vertx, "No Vert.x instance has been set");
 			Objects.requireNonNull(name, "No name has been set");
-			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, vertx, options, metricsService, filter, onNext, events);
+			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, vertx, options, metricsService, filter, onNext, onRemoval,
+				events);
 			if (disabled) {
 				c.disable();
 			}
@@ -232,6 +252,18 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			return this;
 		}
 
+		/**
+		 * Action which will be invoked for every entry which was removed from the cache. This includes replaced, invalidated and
+		 * evicted entries.
+		 * 
+		 * @param onRemoval
+		 * @return Fluent API
+		 */
+		public Builder<K, V> onRemoval(BiConsumer<K, V> onRemoval) {
+			this.onRemoval = onRemoval;
+			return this;
+		}
+
 		/**
 		 * Disable the created cache.
 		 * 
@@ -307,6 +339,14 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		}
 	}
 
+	/**
+	 * Consume the individual event messages of the given addresses. The {@link com.gentics.mesh.event.MeshEventEnvelope} can't be used by the caches,
+	 * since it only contains the events of the local instance and the caches also need to be invalidated for the changes of other cluster instances.
+	 * 
+	 * @param eventBus
+	 * @param addresses
+	 * @return
+	 */
 	public static Observable<Message<JsonObject>> rxEventBus(EventBus eventBus, MeshEvent... addresses) {
 		return Observable.fromArray(addresses)
 			.flatMap(meshEvent -> Observable.using(
@@ -9,6 +9,8 @@ import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.metric.RequestTimings;
+import com.gentics.mesh.metric.RequestTimings.Phase;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
@@ -30,7 +32,7 @@ public abstract class AbstractInternalActionContext extends AbstractActionContex
 
 	@Override
 	public void send(RestModel restModel, HttpResponseStatus status) {
-		send(restModel.toJson(), status);
+		send(RequestTimings.of(this).time(Phase.SERIALIZE, restModel::toJson), status);
 	}
 
 	@Override
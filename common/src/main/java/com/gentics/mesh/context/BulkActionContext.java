@@ -16,6 +16,14 @@ public interface BulkActionContext {
 	 */
 	long inc();
 
+	/**
+	 * Set the amount of elements after which {@link #process()} will commit the transaction and dispatch the batch.
+	 * 
+	 * @param batchSize
+	 * @return Fluent API
+	 */
+	BulkActionContext setBatchSize(int batchSize);
+
 	/**
 	 * Process the deletion by processing the batch and committing the transaction.
 	 */
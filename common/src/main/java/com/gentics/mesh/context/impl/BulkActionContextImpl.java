@@ -33,6 +33,7 @@ public class BulkActionContextImpl implements BulkActionContext {
 	private List<Completable> asyncActions = new ArrayList<>();
 	private EventQueueBatch batch;
 	private Database db;
+	private int batchSize = DEFAULT_BATCH_SIZE;
 
 	@Inject
 	public BulkActionContextImpl(Provider<EventQueueBatch> provider, Database db) {
@@ -45,6 +46,12 @@ public class BulkActionContextImpl implements BulkActionContext {
 		return elementCounter.incrementAndGet();
 	}
 
+	@Override
+	public BulkActionContext setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
 	@Override
 	public void process() {
 		process(false);
@@ -52,12 +59,15 @@ public class BulkActionContextImpl implements BulkActionContext {
 
 	@Override
 	public void process(boolean force) {
-		if (elementCounter.incrementAndGet() >= DEFAULT_BATCH_SIZE || force) {
+		if (elementCounter.incrementAndGet() >= batchSize || force) {
 			log.info("Processing transaction batch {" + batchCounter.get() + "}. I counted {" + elementCounter.get() + "} elements.");
 			// Check before commit to ensure we are 100% safe
 			db.blockingTopologyLockCheck();
 			Tx.getActive().getGraph().commit();
-			Completable.merge(asyncActions).subscribe(() -> {
+			// The actions must only be invoked once
+			List<Completable> actions = asyncActions;
+			asyncActions = new ArrayList<>();
+			Completable.merge(actions).subscribe(() -> {
 				log.trace("Async action processed");
 			});
 			batch().dispatch();
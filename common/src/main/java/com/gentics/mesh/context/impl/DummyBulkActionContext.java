@@ -13,6 +13,11 @@ public class DummyBulkActionContext implements BulkActionContext {
 		return 0;
 	}
 
+	@Override
+	public BulkActionContext setBatchSize(int batchSize) {
+		return this;
+	}
+
 	@Override
 	public void process() {
 	}
@@ -11,4 +11,11 @@ import io.vertx.ext.auth.User;
  */
 public interface MeshAuthUser extends User, com.gentics.mesh.core.data.User, ClusterSerializable {
 
+	/**
+	 * Return the uuid of the user if it has already been loaded. No transaction is needed to access the cached uuid.
+	 * 
+	 * @return Cached uuid or null
+	 */
+	String getCachedUuid();
+
 }
@@ -22,6 +22,7 @@ import com.gentics.mesh.core.rest.event.project.ProjectMicroschemaEventModel;
 import com.gentics.mesh.core.rest.event.project.ProjectSchemaEventModel;
 import com.gentics.mesh.core.rest.project.ProjectReference;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
+import com.gentics.mesh.core.rest.project.VersionRetentionPolicy;
 import com.gentics.mesh.event.Assignment;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 
@@ -87,6 +88,21 @@ public interface Project extends MeshCoreVertex<ProjectResponse, Project>, Refer
 	 */
 	void setBaseNode(Node baseNode);
 
+	/**
+	 * Return the version retention policy of the project.
+	 * 
+	 * @return Policy or null if no policy has been set
+	 */
+	VersionRetentionPolicy getVersionRetentionPolicy();
+
+	/**
+	 * Set the version retention policy of the project.
+	 * 
+	 * @param policy
+	 *            Policy or null to remove the policy
+	 */
+	void setVersionRetentionPolicy(VersionRetentionPolicy policy);
+
 	/**
 	 * Return the tagFamilyRoot for the project. This method will create a new tag family root when no one could be found.
 	 * 
@@ -37,6 +37,8 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 
 	String WARNING_PROPERTY_KEY = "warnings";
 
+	String CANCEL_REQUESTED_PROPERTY_KEY = "cancelRequested";
+
 	/**
 	 * The max length before detail error messages will be truncated
 	 */
@@ -185,6 +187,27 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 	 */
 	boolean hasFailed();
 
+	/**
+	 * Check whether the job supports cancellation.
+	 * 
+	 * @return
+	 */
+	default boolean isCancellable() {
+		return false;
+	}
+
+	/**
+	 * Request the cancellation of the job. A running job will stop once it checks the flag.
+	 */
+	void requestCancel();
+
+	/**
+	 * Check whether the cancellation of the job has been requested.
+	 * 
+	 * @return
+	 */
+	boolean isCancelRequested();
+
 	/**
 	 * Return the start date of the job.
 	 * 
@@ -5,9 +5,11 @@ import java.time.ZonedDateTime;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.rest.job.JobType;
 
 import io.reactivex.Completable;
 
@@ -76,6 +78,38 @@ public interface JobRoot extends RootVertex<Job> {
 	 */
 	Job enqueueVersionPurge(User user, Project project);
 
+	/**
+	 * Enqueue a consistency check job.
+	 * 
+	 * @param user
+	 * @param attemptRepair
+	 *            Whether the found inconsistencies should be repaired
+	 * @return
+	 */
+	Job enqueueConsistencyCheck(User user, boolean attemptRepair);
+
+	/**
+	 * Enqueue a job which publishes, takes offline or deletes the node and all its children within the branch.
+	 * 
+	 * @param user
+	 *            User which will be used to process the nodes
+	 * @param type
+	 *            One of {@link JobType#nodepublish}, {@link JobType#nodeunpublish} or {@link JobType#nodedelete}
+	 * @param node
+	 *            Root node of the subtree
+	 * @param branch
+	 * @return
+	 */
+	Job enqueueNodeBulkOperation(User user, JobType type, Node node, Branch branch);
+
+	/**
+	 * Enqueue a binary garbage collection job.
+	 * 
+	 * @param user
+	 * @return
+	 */
+	Job enqueueBinaryGarbageCollection(User user);
+
 	/**
 	 * Process all remaining jobs.
 	 */
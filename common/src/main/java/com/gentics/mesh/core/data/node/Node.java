@@ -315,6 +315,20 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	void setParentNode(String branchUuid, Node parentNode);
 
+	/**
+	 * Return the etag version of the node. The version is incremented whenever a change occurs which alters the response of the node but not the content
+	 * of the requested container (e.g. children, tags, publish state, languages).
+	 *
+	 * @return
+	 */
+	long getETagVersion();
+
+	/**
+	 * Increment the etag version of the node. This will invalidate the etag of the node and the etags of all its descendants. The increment is written
+	 * once when the transaction gets committed, no matter how often the version was bumped within the transaction.
+	 */
+	void bumpETagVersion();
+
 	/**
 	 * Create a child node in this node in the latest branch of the project.
 	 *
@@ -0,0 +1,199 @@
+package com.gentics.mesh.core.data.node;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes the graph index which is used to load the candidate nodes of a project. The scan only narrows down the set of nodes. Permissions and the
+ * remaining filters still need to be applied to the found nodes.
+ */
+public final class NodeIndexScan {
+
+	/**
+	 * Type of the scan.
+	 */
+	public enum Type {
+
+		/**
+		 * Load all nodes of the project.
+		 */
+		PROJECT,
+
+		/**
+		 * Load the nodes with the given uuids.
+		 */
+		UUID,
+
+		/**
+		 * Load the nodes of the given schema.
+		 */
+		SCHEMA,
+
+		/**
+		 * Iterate over the ordered uuid index.
+		 */
+		UUID_ORDER,
+
+		/**
+		 * Iterate over the ordered creation timestamp index within the given range.
+		 */
+		CREATED,
+
+		/**
+		 * Iterate over the ordered edit timestamp index of the contents within the given range.
+		 */
+		EDITED,
+
+		/**
+		 * Load the nodes which have a content with one of the given values in the indexed string field.
+		 */
+		STRING_FIELD
+	}
+
+	private final Type type;
+
+	private final List<String> values;
+
+	private final String key;
+
+	private final Long from;
+
+	private final Long to;
+
+	private final boolean descending;
+
+	private NodeIndexScan(Type type, String key, List<String> values, Long from, Long to, boolean descending) {
+		this.type = type;
+		this.key = key;
+		this.values = values;
+		this.from = from;
+		this.to = to;
+		this.descending = descending;
+	}
+
+	/**
+	 * Create a scan which loads all nodes of the project.
+	 *
+	 * @return
+	 */
+	public static NodeIndexScan project() {
+		return new NodeIndexScan(Type.PROJECT, null, Collections.emptyList(), null, null, false);
+	}
+
+	/**
+	 * Create a scan which loads the nodes with the given uuids.
+	 *
+	 * @param uuids
+	 * @return
+	 */
+	public static NodeIndexScan uuids(List<String> uuids) {
+		return new NodeIndexScan(Type.UUID, null, uuids, null, null, false);
+	}
+
+	/**
+	 * Create a scan which loads the nodes of the schema.
+	 *
+	 * @param schemaUuid
+	 * @return
+	 */
+	public static NodeIndexScan schema(String schemaUuid) {
+		return new NodeIndexScan(Type.SCHEMA, schemaUuid, Collections.emptyList(), null, null, false);
+	}
+
+	/**
+	 * Create a scan which returns all nodes ordered by their uuid.
+	 *
+	 * @param descending
+	 * @return
+	 */
+	public static NodeIndexScan uuidOrder(boolean descending) {
+		return new NodeIndexScan(Type.UUID_ORDER, null, Collections.emptyList(), null, null, descending);
+	}
+
+	/**
+	 * Create a scan which returns the nodes that were created within the given range ordered by their creation timestamp.
+	 *
+	 * @param from
+	 *            Inclusive lower bound or null
+	 * @param to
+	 *            Inclusive upper bound or null
+	 * @param descending
+	 * @return
+	 */
+	public static NodeIndexScan created(Long from, Long to, boolean descending) {
+		return new NodeIndexScan(Type.CREATED, null, Collections.emptyList(), from, to, descending);
+	}
+
+	/**
+	 * Create a scan which returns the nodes that have a content which was edited within the given range.
+	 *
+	 * @param from
+	 *            Inclusive lower bound or null
+	 * @param to
+	 *            Inclusive upper bound or null
+	 * @return
+	 */
+	public static NodeIndexScan edited(Long from, Long to) {
+		return new NodeIndexScan(Type.EDITED, null, Collections.emptyList(), from, to, false);
+	}
+
+	/**
+	 * Create a scan which returns the nodes that have a content with one of the given values in the string field.
+	 *
+	 * @param fieldKey
+	 * @param values
+	 * @return
+	 */
+	public static NodeIndexScan stringField(String fieldKey, List<String> values) {
+		return new NodeIndexScan(Type.STRING_FIELD, fieldKey, values, null, null, false);
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Return the schema uuid or field key of the scan.
+	 *
+	 * @return
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	public List<String> getValues() {
+		return values;
+	}
+
+	public Long getFrom() {
+		return from;
+	}
+
+	public Long getTo() {
+		return to;
+	}
+
+	public boolean isDescending() {
+		return descending;
+	}
+
+	@Override
+	public String toString() {
+		switch (type) {
+		case UUID:
+			return "uuid" + values;
+		case SCHEMA:
+			return "schema[" + key + "]";
+		case UUID_ORDER:
+			return "uuid order " + (descending ? "desc" : "asc");
+		case CREATED:
+			return "created[" + from + ".." + to + "] " + (descending ? "desc" : "asc");
+		case EDITED:
+			return "edited[" + from + ".." + to + "]";
+		case STRING_FIELD:
+			return "field " + key + values;
+		default:
+			return "project";
+		}
+	}
+}
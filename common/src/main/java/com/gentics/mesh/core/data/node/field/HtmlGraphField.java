@@ -24,4 +24,11 @@ public interface HtmlGraphField extends ListableGraphField, BasicGraphField<Html
 	 */
 	String getHTML();
 
+	/**
+	 * Return the offsets of the mesh link tokens within the value. The offsets are determined when the value gets set.
+	 * 
+	 * @return Offsets of the link tokens or null if the value contains no links, belongs to a list item or the offsets have not yet been determined
+	 */
+	int[] getLinkTokens();
+
 }
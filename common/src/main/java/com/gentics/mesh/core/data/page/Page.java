@@ -21,7 +21,7 @@ public interface Page<T> extends Iterable<T> {
 	/**
 	 * Return the total amount of pages which the resources that provided this page could return.
 	 * 
-	 * @return
+	 * @return Page count or -1 if the count was not determined
 	 */
 	long getPageCount();
 
@@ -35,10 +35,19 @@ public interface Page<T> extends Iterable<T> {
 	/**
 	 * Return the total item count which the resource that provided this page could return.
 	 * 
-	 * @return
+	 * @return Total count or -1 if the count was not determined
 	 */
 	long getTotalElements();
 
+	/**
+	 * Return the cursor which can be used to load the next page.
+	 * 
+	 * @return Cursor or null if there is no next page or the page does not support cursors
+	 */
+	default String getNextCursor() {
+		return null;
+	}
+
 	/**
 	 * Return the number of elements which are currently contained within the page.
 	 * 
@@ -60,6 +69,7 @@ public interface Page<T> extends Iterable<T> {
 		info.setPageCount(getPageCount());
 		info.setPerPage(getPerPage());
 		info.setTotalCount(getTotalElements());
+		info.setNextCursor(getNextCursor());
 	}
 
 	/**
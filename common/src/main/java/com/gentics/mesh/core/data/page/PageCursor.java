@@ -0,0 +1,134 @@
+package com.gentics.mesh.core.data.page;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.graphdb.model.MeshElement;
+
+/**
+ * Utility for cursor based paging. A cursor is an opaque token which references the last element of a page via its graph element id. Pages of root vertices
+ * use the id to seek within the ordered edge index (see {@link com.gentics.madl.index.IndexHandler#edgeSeek(String, Object, Object)}). Pages of node
+ * children resolve the id to the uuid of the child and seek within the ordered index on the branch parents and uuid of the nodes. Other pages are
+ * loaded by skipping the elements up to and including the referenced element. Skipping only compares the ids of the elements and thus avoids permission
+ * checks and framing of the skipped elements.
+ */
+public final class PageCursor {
+
+	private PageCursor() {
+	}
+
+	/**
+	 * Create the cursor for the given element.
+	 * 
+	 * @param element
+	 * @return Cursor or null if the element does not support cursors
+	 */
+	public static String of(Object element) {
+		Object id = idOf(element);
+		return id == null ? null : encode(id);
+	}
+
+	/**
+	 * Return the graph element id of the given element.
+	 * 
+	 * @param element
+	 * @return Id or null if the element is not a graph element
+	 */
+	public static Object idOf(Object element) {
+		if (element instanceof MeshElement) {
+			return ((MeshElement) element).getElement().getId();
+		}
+		if (element instanceof NodeContent) {
+			return idOf(((NodeContent) element).getNode());
+		}
+		return null;
+	}
+
+	/**
+	 * Encode the given element id into a cursor.
+	 * 
+	 * @param id
+	 * @return
+	 */
+	public static String encode(Object id) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(UTF_8));
+	}
+
+	/**
+	 * Decode the element id from the given cursor.
+	 * 
+	 * @param cursor
+	 * @return
+	 */
+	public static String decode(String cursor) {
+		try {
+			return new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw error(BAD_REQUEST, "error_paging_cursor_invalid", cursor);
+		}
+	}
+
+	/**
+	 * Skip all elements of the stream up to and including the element which is referenced by the cursor. Consuming the returned stream fails with a
+	 * {@link GenericRestException} if the referenced element is not part of the stream (e.g. because it was deleted), since the position of the page
+	 * can't be determined in that case.
+	 * 
+	 * @param stream
+	 * @param cursor
+	 *            Cursor to be applied. The stream will be returned as-is if the cursor is null.
+	 * @param idFunction
+	 *            Function which returns the graph element id of an element
+	 * @return
+	 */
+	public static <T> Stream<T> skip(Stream<T> stream, String cursor, Function<? super T, Object> idFunction) {
+		if (cursor == null) {
+			return stream;
+		}
+		String id = decode(cursor);
+		Iterator<T> it = stream.iterator();
+		Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+
+			private boolean found = false;
+
+			@Override
+			public boolean tryAdvance(Consumer<? super T> action) {
+				while (!found) {
+					if (!it.hasNext()) {
+						throw error(BAD_REQUEST, "error_paging_cursor_invalid", cursor);
+					}
+					found = id.equals(String.valueOf(idFunction.apply(it.next())));
+				}
+				if (!it.hasNext()) {
+					return false;
+				}
+				action.accept(it.next());
+				return true;
+			}
+		};
+		return StreamSupport.stream(spliterator, false).onClose(stream::close);
+	}
+
+	/**
+	 * Skip all elements of the stream up to and including the element which is referenced by the cursor.
+	 * 
+	 * @param stream
+	 * @param cursor
+	 * @return
+	 */
+	public static <T> Stream<T> skip(Stream<T> stream, String cursor) {
+		return skip(stream, cursor, PageCursor::idOf);
+	}
+
+}
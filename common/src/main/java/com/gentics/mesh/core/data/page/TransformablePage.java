@@ -63,6 +63,7 @@ public interface TransformablePage<T extends TransformableElement<? extends Rest
 	 * <li>Number of total elements (all pages)</li>
 	 * <li>All etags for all found elements</li>
 	 * <li>Number of the current page</li>
+	 * <li>Cursor of the next page</li>
 	 * </ul>
 	 * 
 	 * @param ac
@@ -73,6 +74,7 @@ public interface TransformablePage<T extends TransformableElement<? extends Rest
 		builder.append(getTotalElements());
 		builder.append(getNumber());
 		builder.append(getPerPage());
+		builder.append(getNextCursor());
 		for (T element : this) {
 			builder.append("-");
 			builder.append(element.getETag(ac));
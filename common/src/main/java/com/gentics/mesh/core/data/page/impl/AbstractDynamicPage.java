@@ -9,6 +9,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.page.PageCursor;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.parameter.PagingParameters;
 
@@ -20,6 +21,16 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected Long lowerBound;
 
+	/**
+	 * Cursor of the element after which the page starts.
+	 */
+	protected String after;
+
+	/**
+	 * Flag which indicates whether the total element count should be determined.
+	 */
+	protected boolean totalCount;
+
 	/**
 	 * The unfiltered raw search count which was returned by the search provider.
 	 */
@@ -46,10 +57,17 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		}
 		this.pageNumber = pagingInfo.getPage();
 		this.perPage = pagingInfo.getPerPage();
+		this.after = pagingInfo.getAfter();
+		if (after != null) {
+			// Validate the cursor before any elements are loaded
+			PageCursor.decode(after);
+		}
+		// The elements before the cursor are skipped without being counted
+		this.totalCount = pagingInfo.isTotalCount() && after == null;
 
 		if (perPage == null) {
 			this.lowerBound = null;
-		} else if (perPage == 0) {
+		} else if (perPage == 0 || after != null) {
 			this.lowerBound = 0L;
 		} else {
 			this.lowerBound = (pageNumber - 1) * perPage;
@@ -64,6 +82,9 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getPageCount() {
+		if (!totalCount) {
+			return -1;
+		}
 		if (totalPages == null) {
 			// The totalPages of the list response must be zero if the perPage parameter is also zero.
 			totalPages = 0L;
@@ -83,6 +104,9 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getTotalElements() {
+		if (!totalCount) {
+			return -1;
+		}
 		// Iterate over all elements to determine the total count
 		while (visibleItems.hasNext()) {
 			visibleItems.next();
@@ -108,4 +132,12 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		return hasNextPage.get();
 	}
 
+	@Override
+	public String getNextCursor() {
+		if (!hasNextPage() || elementsOfPage.isEmpty()) {
+			return null;
+		}
+		return PageCursor.of(elementsOfPage.get(elementsOfPage.size() - 1));
+	}
+
 }
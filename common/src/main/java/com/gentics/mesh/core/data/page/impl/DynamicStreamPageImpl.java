@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.data.page.impl;
 
+import com.gentics.mesh.core.data.page.PageCursor;
 import com.gentics.mesh.parameter.PagingParameters;
 
 import java.util.concurrent.atomic.AtomicLong;
@@ -10,11 +11,12 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 
 	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo) {
 		super(pagingInfo);
-		init(stream);
+		init(PageCursor.skip(stream, after));
 	}
 
 	/**
-	 * Creates a new page with a filter applied to the stream
+	 * Creates a new page with a filter applied to the stream. The elements before the cursor of the paging parameters will be skipped before the filter
+	 * is applied.
 	 *
 	 * @param stream
 	 *            a stream of elements to be paged
@@ -24,7 +26,26 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 	 *            the filter to be applied to the stream
 	 */
 	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter) {
+		this(stream, pagingInfo, filter, true);
+	}
+
+	/**
+	 * Creates a new page with a filter applied to the stream.
+	 *
+	 * @param stream
+	 *            a stream of elements to be paged
+	 * @param pagingInfo
+	 *            paging info the user requested
+	 * @param filter
+	 *            the filter to be applied to the stream
+	 * @param skipToCursor
+	 *            whether the elements up to the cursor need to be skipped. This is not needed for streams which already start after the cursor.
+	 */
+	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter, boolean skipToCursor) {
 		super(pagingInfo);
+		if (skipToCursor) {
+			stream = PageCursor.skip(stream, after);
+		}
 		init(stream.filter(filter));
 	}
 
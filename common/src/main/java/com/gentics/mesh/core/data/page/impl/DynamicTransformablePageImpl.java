@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.page.impl;
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.TransformableElement;
 import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.page.PageCursor;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
@@ -21,11 +22,14 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 /**
  * This page implementation will handle paging internally and on-demand. The internal paging will only iterate over as many items as the needed operation
  * requires. Loading the first page will thus only iterate over the elements of the first page. Loading the total count on the other hand requires the
- * implementation to iterate over all edges.
+ * implementation to iterate over all edges. Pages of root vertices are loaded via the ordered out/in edge index, so pages which are loaded via a cursor
+ * seek directly to the position after the cursor. Other pages skip the elements before the cursor without checking permissions or framing them.
  *
  * @param <T>
  */
@@ -79,7 +83,26 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 	public DynamicTransformablePageImpl(User requestUser, RootVertex<? extends T> root, PagingParameters pagingInfo, GraphPermission perm,
 		Predicate<T> extraFilter, boolean frameExplicitly) {
 		this(requestUser, pagingInfo, extraFilter, frameExplicitly);
-		init(root.getPersistanceClass(), "e." + root.getRootLabel().toLowerCase() + "_out", root.id(), Direction.IN, root.getGraph(), perm);
+		Stream<Vertex> stream = seek(root);
+		if (stream != null) {
+			applyPagingAndPermChecks(stream, root.getPersistanceClass(), perm, false);
+		} else {
+			init(root.getPersistanceClass(), "e." + root.getRootLabel().toLowerCase() + "_out", root.id(), Direction.IN, root.getGraph(), perm);
+		}
+	}
+
+	/**
+	 * Load the elements of the root vertex via the ordered out/in edge index. The iteration starts after the element of the cursor.
+	 *
+	 * @param root
+	 * @return Stream of the elements or null if the root edges have no out/in index
+	 */
+	private Stream<Vertex> seek(RootVertex<? extends T> root) {
+		try {
+			return root.db().index().edgeSeek(root.getRootLabel(), root.id(), after == null ? null : PageCursor.decode(after));
+		} catch (IllegalArgumentException e) {
+			throw error(BAD_REQUEST, "error_paging_cursor_invalid", after);
+		}
 	}
 
 	/**
@@ -135,7 +158,7 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		Stream<Vertex> stream = StreamSupport.stream(traversal.spliterator(), false).map(item -> {
 			return item.getElement();
 		});
-		applyPagingAndPermChecks(stream, clazz, perm);
+		applyPagingAndPermChecks(stream, clazz, perm, true);
 	}
 
 	/**
@@ -144,11 +167,18 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 	 * @param stream
 	 * @param clazz
 	 * @param perm
+	 * @param skipToCursor
+	 *            Whether the elements up to the cursor need to be skipped. This is not needed for streams which already start after the cursor.
 	 */
-	private void applyPagingAndPermChecks(Stream<Vertex> stream, Class<? extends T> clazz, GraphPermission perm) {
+	private void applyPagingAndPermChecks(Stream<Vertex> stream, Class<? extends T> clazz, GraphPermission perm, boolean skipToCursor) {
 		AtomicLong pageCounter = new AtomicLong();
 		FramedGraph graph = Tx.getActive().getGraph();
 
+		// Skip the elements before the cursor without checking permissions
+		if (skipToCursor) {
+			stream = PageCursor.skip(stream, after, Vertex::getId);
+		}
+
 		// Only handle elements which are visible to the user
 		if (perm != null) {
 			stream = stream.filter(item -> requestUser.hasPermissionForId(item.getId(), perm));
@@ -226,7 +256,7 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 			.map(itemEdge -> {
 				return itemEdge.getVertex(vertexDirection);
 			});
-		applyPagingAndPermChecks(stream, clazz, perm);
+		applyPagingAndPermChecks(stream, clazz, perm, true);
 
 	}
 
@@ -16,4 +16,8 @@ public class DynamicTransformableStreamPageImpl<T extends TransformableElement<?
 	public DynamicTransformableStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter) {
 		super(stream, pagingInfo, filter);
 	}
+
+	public DynamicTransformableStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter, boolean skipToCursor) {
+		super(stream, pagingInfo, filter, skipToCursor);
+	}
 }
@@ -121,6 +121,12 @@ public class GraphRelationships {
 	 */
 	public static final String BRANCH_PARENTS_KEY_PROPERTY = "branchParents";
 
+	/**
+	 * The value of this property is a counter which is incremented whenever a change affects the response of the node without changing its content
+	 * (e.g. children, tags, publish state or parent nodes).
+	 */
+	public static final String ETAG_VERSION_KEY_PROPERTY = "etagVersion";
+
 	// Jobs
 	public static final String HAS_JOB = "HAS_JOB";
 	public static final String HAS_TO_VERSION = "HAS_TO_VERSION";
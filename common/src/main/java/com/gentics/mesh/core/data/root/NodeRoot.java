@@ -1,8 +1,13 @@
 package com.gentics.mesh.core.data.root;
 
+import java.util.stream.Stream;
+
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeIndexScan;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 
 /**
@@ -42,4 +47,15 @@ public interface NodeRoot extends RootVertex<Node> {
 	 */
 	Node create(User user, SchemaContainerVersion container, Project project, String uuid);
 
+	/**
+	 * Return a stream of the nodes of the project which are matched by the index scan and which are visible to the user of the action context.
+	 * 
+	 * @param ac
+	 * @param perm
+	 * @param scan
+	 *            Index scan which is used to locate the candidate nodes. The nodes will be returned in the order of the scan
+	 * @return
+	 */
+	Stream<? extends Node> findAllStream(InternalActionContext ac, GraphPermission perm, NodeIndexScan scan);
+
 }
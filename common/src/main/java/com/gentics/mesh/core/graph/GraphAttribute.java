@@ -6,4 +6,9 @@ public class GraphAttribute {
 	 * Graph attribute which can be used to load the mesh component object from the graph.
 	 */
 	public static final String MESH_COMPONENT = "meshComponent";
+
+	/**
+	 * Graph attribute which holds the uuids of the nodes whose etag version will be incremented once the transaction gets committed.
+	 */
+	public static final String PENDING_ETAG_BUMPS = "pendingETagBumps";
 }
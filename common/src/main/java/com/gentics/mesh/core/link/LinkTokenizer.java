@@ -0,0 +1,121 @@
+package com.gentics.mesh.core.link;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Utility which locates the mesh link placeholders (e.g. <code>{{mesh.link("uuid", "en")}}</code>) within a text. The located token offsets are stored
+ * next to string and html field values when the value gets written. This way the content does not need to be scanned again when links get resolved.
+ */
+public final class LinkTokenizer {
+
+	public static final String START_TAG = "{{mesh.link(";
+
+	public static final String END_TAG = ")}}";
+
+	private static final int[] NO_TOKENS = new int[0];
+
+	private LinkTokenizer() {
+	}
+
+	/**
+	 * Locate all link tokens within the content.
+	 *
+	 * @param content
+	 * @return Array of offset pairs. Each pair contains the start offset of the start tag and the end offset (exclusive) of the end tag
+	 */
+	public static int[] tokenize(String content) {
+		if (StringUtils.isEmpty(content)) {
+			return NO_TOKENS;
+		}
+		int[] tokens = NO_TOKENS;
+		int count = 0;
+		int lastPos = 0;
+		int length = content.length();
+		while (lastPos < length) {
+			int pos = content.indexOf(START_TAG, lastPos);
+			if (pos == -1) {
+				break;
+			}
+			int endPos = content.indexOf(END_TAG, pos);
+			if (endPos == -1) {
+				break;
+			}
+			if (count + 2 > tokens.length) {
+				tokens = Arrays.copyOf(tokens, Math.max(8, tokens.length * 2));
+			}
+			tokens[count++] = pos;
+			tokens[count++] = endPos + END_TAG.length();
+			lastPos = endPos + END_TAG.length();
+		}
+		return count == tokens.length ? tokens : Arrays.copyOf(tokens, count);
+	}
+
+	/**
+	 * Encode the tokens so that they can be stored in a property.
+	 *
+	 * @param tokens
+	 * @return
+	 */
+	public static String encode(int[] tokens) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < tokens.length; i++) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			builder.append(tokens[i]);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Decode the tokens which were encoded via {@link #encode(int[])}.
+	 *
+	 * @param encoded
+	 * @return Decoded tokens or null if no encoded tokens were given
+	 */
+	public static int[] decode(String encoded) {
+		if (encoded == null) {
+			return null;
+		}
+		if (encoded.isEmpty()) {
+			return NO_TOKENS;
+		}
+		String[] parts = StringUtils.split(encoded, ',');
+		int[] tokens = new int[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			tokens[i] = Integer.parseInt(parts[i]);
+		}
+		return tokens;
+	}
+
+	/**
+	 * Parse the arguments of the link token at the given offsets. Quotes will be removed from the argument values.
+	 *
+	 * @param content
+	 * @param start
+	 *            Start offset of the start tag
+	 * @param end
+	 *            End offset (exclusive) of the end tag
+	 * @return
+	 */
+	public static String[] parseArguments(String content, int start, int end) {
+		StringBuilder link = new StringBuilder(end - start);
+		int argsEnd = end - END_TAG.length();
+		for (int i = start + START_TAG.length(); i < argsEnd; i++) {
+			char c = content.charAt(i);
+			// Strip away the quotes. We only care about the argument values. Double quotes may be escaped.
+			if (c == '\\' && i + 1 < argsEnd && content.charAt(i + 1) == '"') {
+				i++;
+				continue;
+			}
+			if (c == '"' || c == '\'') {
+				continue;
+			}
+			link.append(c);
+		}
+		return link.toString().split(",");
+	}
+
+}
@@ -6,7 +6,9 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -14,6 +16,8 @@ import javax.inject.Singleton;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.gentics.mesh.cache.ResolvedLink;
+import com.gentics.mesh.cache.ResolvedLinkCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -22,6 +26,8 @@ import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.handler.VersionHandler;
+import com.gentics.mesh.metric.RequestTimings;
+import com.gentics.mesh.metric.RequestTimings.Phase;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.VersioningParameters;
 
@@ -34,19 +40,19 @@ import io.vertx.core.logging.LoggerFactory;
 @Singleton
 public class WebRootLinkReplacer {
 
-	private static final String START_TAG = "{{mesh.link(";
-	private static final String END_TAG = ")}}";
-
 	private static final Logger log = LoggerFactory.getLogger(WebRootLinkReplacer.class);
 
 	private final BootstrapInitializer boot;
 
 	private final MeshOptions options;
 
+	private final ResolvedLinkCache linkCache;
+
 	@Inject
-	public WebRootLinkReplacer(BootstrapInitializer boot, MeshOptions options) {
+	public WebRootLinkReplacer(BootstrapInitializer boot, MeshOptions options, ResolvedLinkCache linkCache) {
 		this.boot = boot;
 		this.options = options;
+		this.linkCache = linkCache;
 	}
 
 	/**
@@ -72,64 +78,73 @@ public class WebRootLinkReplacer {
 		if (isEmpty(content) || type == LinkType.OFF || type == null) {
 			return content;
 		}
+		return replace(ac, branch, edgeType, content, LinkTokenizer.tokenize(content), type, projectName, languageTags);
+	}
+
+	/**
+	 * Replace the links in the content using the given link tokens. The tokens are usually determined via {@link LinkTokenizer#tokenize(String)} when
+	 * the content gets stored.
+	 * 
+	 * @param ac
+	 * @param branch
+	 *            branch Uuid or name
+	 * @param edgeType
+	 *            edge type
+	 * @param content
+	 *            content containing links to replace
+	 * @param tokens
+	 *            offsets of the links within the content. The content will be tokenized if no tokens are given
+	 * @param type
+	 *            replacing type
+	 * @param projectName
+	 *            project name (used for 404 links)
+	 * @param languageTags
+	 *            optional language tags
+	 * @return content with links (probably) replaced
+	 */
+	public String replace(InternalActionContext ac, String branch, ContainerType edgeType, String content, int[] tokens, LinkType type,
+		String projectName, List<String> languageTags) {
+		if (isEmpty(content) || type == LinkType.OFF || type == null) {
+			return content;
+		}
+		if (tokens == null) {
+			tokens = LinkTokenizer.tokenize(content);
+		}
+		// No links found - Nothing to replace
+		if (tokens.length == 0) {
+			return content;
+		}
 
-		List<String> segments = new ArrayList<>();
-		int pos = 0;
+		long start = System.nanoTime();
+		StringBuilder renderedContent = new StringBuilder(content.length());
 		int lastPos = 0;
-		int length = content.length();
-
-		// 1. Tokenize the content
-		while (lastPos < length) {
-			pos = content.indexOf(START_TAG, lastPos);
-			if (pos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
-				break;
-			}
-			int endPos = content.indexOf(END_TAG, pos);
-			if (endPos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
-				break;
-			}
+		for (int i = 0; i + 1 < tokens.length; i += 2) {
+			int pos = tokens[i];
+			int endPos = tokens[i + 1];
 
 			// add intermediate string segment
-			if (lastPos < pos) {
-				segments.add(content.substring(lastPos, pos));
-			}
+			renderedContent.append(content, lastPos, pos);
 
-			// 2. Parse the link and invoke resolving
-			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
-			String[] linkArguments = link.split(",");
+			// Parse the link and invoke resolving
+			String[] linkArguments = LinkTokenizer.parseArguments(content, pos, endPos);
 			if (linkArguments.length == 3) {
 				// Branch in link argument always comes first
 				branch = linkArguments[2].trim();
 			}
 			if (linkArguments.length >= 2) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
+				renderedContent.append(resolve(ac, branch, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
 			} else if (languageTags != null) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName,
+				renderedContent.append(resolve(ac, branch, edgeType, linkArguments[0], type, projectName,
 					languageTags.toArray(new String[languageTags.size()])));
 			} else {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName));
+				renderedContent.append(resolve(ac, branch, edgeType, linkArguments[0], type, projectName));
 			}
-
-			lastPos = endPos + END_TAG.length();
+			lastPos = endPos;
 		}
 
-		// 3.: Buildup the new content
-		StringBuilder renderedContent = new StringBuilder(length);
-		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
-
+		// add last string segment
+		renderedContent.append(content, lastPos, content.length());
+		RequestTimings.of(ac).add(Phase.LINKS, System.nanoTime() - start);
 		return renderedContent.toString();
 	}
 
@@ -181,6 +196,11 @@ public class WebRootLinkReplacer {
 		String... languageTags) {
 		// Get rid of additional whitespaces
 		uuid = uuid.trim();
+		String cacheKey = createCacheKey(ac, branch, edgeType, uuid, type, forceAbsolute, languageTags);
+		ResolvedLink cachedLink = linkCache.get(cacheKey);
+		if (cachedLink != null) {
+			return cachedLink.getLink();
+		}
 		Node node = boot.meshRoot().findNodeByUuid(uuid);
 
 		// check for null
@@ -199,7 +219,61 @@ public class WebRootLinkReplacer {
 				throw error(BAD_REQUEST, "Cannot render link with type " + type);
 			}
 		}
-		return resolve(ac, branch, edgeType, node, type, forceAbsolute, languageTags);
+		String link = resolve(ac, branch, edgeType, node, type, forceAbsolute, languageTags);
+		if (!linkCache.isDisabled()) {
+			String branchUuid = node.getProject().findBranchOrLatest(branch).getUuid();
+			linkCache.store(cacheKey, new ResolvedLink(link, branchUuid, getPathNodeUuids(node, branchUuid)));
+		}
+		return link;
+	}
+
+	/**
+	 * Return the uuids of the given node and its parent nodes. Those are the nodes which form the webroot path of the node in the branch.
+	 *
+	 * @param node
+	 * @param branchUuid
+	 * @return
+	 */
+	private Set<String> getPathNodeUuids(Node node, String branchUuid) {
+		Set<String> uuids = new HashSet<>();
+		Node current = node;
+		while (current != null && uuids.add(current.getUuid())) {
+			current = current.getParentNode(branchUuid);
+		}
+		return uuids;
+	}
+
+	/**
+	 * Create the key for the link cache. The key needs to contain all information which affects the rendered link.
+	 * 
+	 * @param ac
+	 * @param branch
+	 * @param edgeType
+	 * @param uuid
+	 * @param type
+	 * @param forceAbsolute
+	 * @param languageTags
+	 * @return
+	 */
+	private String createCacheKey(InternalActionContext ac, String branch, ContainerType edgeType, String uuid, LinkType type, boolean forceAbsolute,
+		String... languageTags) {
+		StringBuilder key = new StringBuilder();
+		key.append(uuid).append("-").append(branch).append("-").append(edgeType).append("-").append(type).append("-").append(forceAbsolute);
+		key.append("-").append(Arrays.toString(languageTags));
+		switch (type) {
+		case SHORT:
+			// Short links are relative when the target is located in the current branch
+			if (ac.getProject() != null) {
+				key.append("-").append(ac.getBranch().getUuid());
+			}
+			break;
+		case FULL:
+			key.append("-").append(ac.getApiVersion());
+			break;
+		default:
+			break;
+		}
+		return key.toString();
 	}
 
 	/**
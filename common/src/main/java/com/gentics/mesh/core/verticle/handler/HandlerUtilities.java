@@ -4,6 +4,8 @@ import static com.gentics.mesh.core.data.relationship.GraphPermission.DELETE_PER
 import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.core.rest.event.EventCauseAction.DELETE;
+import static com.gentics.mesh.metric.RequestTimings.Phase.TRANSFORM;
+import static com.gentics.mesh.metric.RequestTimings.Phase.TX;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
@@ -35,6 +37,7 @@ import com.gentics.mesh.core.rest.error.NotModifiedException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.RequestTimings;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.util.ResultInfo;
 import com.gentics.mesh.util.Tuple;
@@ -153,13 +156,13 @@ public class HandlerUtilities {
 					eventAction(batch -> {
 						return updateElement.update(ac, batch);
 					});
-					return updateElement.transformToRestSync(ac, 0);
+					return RequestTimings.of(ac).time(TRANSFORM, () -> updateElement.transformToRestSync(ac, 0));
 				} else {
 					T createdElement = eventAction(batch -> {
 						created.set(true);
 						return root.create(ac, batch, uuid);
 					});
-					RM model = createdElement.transformToRestSync(ac, 0);
+					RM model = RequestTimings.of(ac).time(TRANSFORM, () -> createdElement.transformToRestSync(ac, 0));
 					String path = createdElement.getAPIPath(ac);
 					ResultInfo info = new ResultInfo(model);
 					info.setProperty("path", path);
@@ -197,7 +200,7 @@ public class HandlerUtilities {
 					throw new NotModifiedException();
 				}
 			}
-			return element.transformToRestSync(ac, 0);
+			return RequestTimings.of(ac).time(TRANSFORM, () -> element.transformToRestSync(ac, 0));
 		}, model -> ac.send(model, OK));
 	}
 
@@ -224,13 +227,13 @@ public class HandlerUtilities {
 					throw new NotModifiedException();
 				}
 			}
-			return page.transformToRestSync(ac, 0);
+			return RequestTimings.of(ac).time(TRANSFORM, () -> page.transformToRestSync(ac, 0));
 		}, m -> ac.send(m, OK));
 	}
 
 	public <RM> void syncTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
 		try {
-			RM model = database.tx(handler);
+			RM model = RequestTimings.of(ac).time(TX, () -> database.tx(handler));
 			action.accept(model);
 		} catch (Throwable t) {
 			ac.fail(t);
@@ -246,7 +249,10 @@ public class HandlerUtilities {
 	 */
 	public <RM extends RestModel> void syncTx(InternalActionContext ac, TxAction0 handler, Runnable action) {
 		try {
-			database.tx(handler);
+			RequestTimings.of(ac).time(TX, () -> {
+				database.tx(handler);
+				return null;
+			});
 			action.run();
 		} catch (Throwable t) {
 			ac.fail(t);
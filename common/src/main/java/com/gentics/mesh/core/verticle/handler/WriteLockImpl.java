@@ -9,6 +9,8 @@ import javax.inject.Singleton;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.metric.RequestTimings;
+import com.gentics.mesh.metric.RequestTimings.Phase;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.ILock;
 import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_TIMEOUT_COUNT;
@@ -60,6 +62,7 @@ public class WriteLockImpl implements WriteLock {
 			boolean syncWrites = options.getStorageOptions().isSynchronizeWrites();
 			if (syncWrites) {
 				Timer.Sample timer = Timer.start();
+				long start = System.nanoTime();
 				long timeout = options.getStorageOptions().getSynchronizeWritesTimeout();
 				if (isClustered) {
 					try {
@@ -80,6 +83,7 @@ public class WriteLockImpl implements WriteLock {
 						throw new RuntimeException(e);
 					} finally {
 						timer.stop(writeLockTimer);
+						RequestTimings.of(ac).add(Phase.LOCK, System.nanoTime() - start);
 					}
 				} else {
 					try {
@@ -92,6 +96,7 @@ public class WriteLockImpl implements WriteLock {
 						throw new RuntimeException(e);
 					} finally {
 						timer.stop(writeLockTimer);
+						RequestTimings.of(ac).add(Phase.LOCK, System.nanoTime() - start);
 					}
 				}
 			}
@@ -0,0 +1,57 @@
+package com.gentics.mesh.event;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.event.codec.MeshEventEnvelopeCodec;
+
+/**
+ * An envelope carries all events of a dispatched {@link EventQueueBatch} within a single eventbus message. Local consumers which register to
+ * {@link #ADDRESS} can process the event models directly without decoding the individual event messages.
+ * 
+ * The envelope is only delivered to consumers of the instance which dispatched the batch. The individual event messages are therefore still published.
+ * They are the public event contract for the websocket bridge and plugins, and they are the only way in which the other instances of a cluster learn
+ * about the changes. The event aware caches need to consume the individual messages for this reason, since they have to be invalidated for the changes
+ * of all instances. Consumers which only process the changes of their own instance (Elasticsearch, node change feed) consume the envelope and ignore
+ * the individual messages which carry the {@link #BATCHED_HEADER}.
+ * 
+ * @see MeshEventEnvelopeCodec
+ */
+public class MeshEventEnvelope {
+
+	/**
+	 * Address to which the envelopes will be published.
+	 */
+	public static final String ADDRESS = "mesh.internal.event.envelope";
+
+	/**
+	 * Header which is set on the individual event messages of a batch that was also published as an envelope.
+	 */
+	public static final String BATCHED_HEADER = "mesh-batched";
+
+	private final List<MeshEventModel> events;
+
+	public MeshEventEnvelope(List<MeshEventModel> events) {
+		this.events = Collections.unmodifiableList(events);
+	}
+
+	/**
+	 * Return the events of the envelope in the order in which they were dispatched.
+	 * 
+	 * @return
+	 */
+	public List<MeshEventModel> getEvents() {
+		return events;
+	}
+
+	/**
+	 * Return the amount of events in the envelope.
+	 * 
+	 * @return
+	 */
+	public int size() {
+		return events.size();
+	}
+
+}
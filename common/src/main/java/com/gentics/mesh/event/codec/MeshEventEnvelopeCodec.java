@@ -0,0 +1,76 @@
+package com.gentics.mesh.event.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.event.MeshEventEnvelope;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Codec for {@link MeshEventEnvelope} messages. Local delivery passes the envelope instance through without copying or serializing the contained
+ * event models. The models will only be converted to JSON if the envelope needs to be sent over the wire.
+ */
+public class MeshEventEnvelopeCodec implements MessageCodec<MeshEventEnvelope, MeshEventEnvelope> {
+
+	public static final String NAME = "mesh-event-envelope";
+
+	private static final String ADDRESS_KEY = "address";
+
+	private static final String BODY_KEY = "body";
+
+	@Override
+	public void encodeToWire(Buffer buffer, MeshEventEnvelope envelope) {
+		JsonArray events = new JsonArray();
+		for (MeshEventModel model : envelope.getEvents()) {
+			events.add(new JsonObject()
+				.put(ADDRESS_KEY, model.getEvent().getAddress())
+				.put(BODY_KEY, JsonUtil.toJsonObject(model)));
+		}
+		Buffer encoded = events.toBuffer();
+		buffer.appendInt(encoded.length());
+		buffer.appendBuffer(encoded);
+	}
+
+	@Override
+	public MeshEventEnvelope decodeFromWire(int pos, Buffer buffer) {
+		int length = buffer.getInt(pos);
+		pos += 4;
+		JsonArray events = new JsonArray(buffer.getBuffer(pos, pos + length));
+		List<MeshEventModel> models = new ArrayList<>(events.size());
+		for (int i = 0; i < events.size(); i++) {
+			JsonObject entry = events.getJsonObject(i);
+			String address = entry.getString(ADDRESS_KEY);
+			MeshEvent event = MeshEvent.fromAddress(address)
+				.orElseThrow(() -> new RuntimeException(String.format("No event found for address %s", address)));
+			MeshEventModel model = JsonUtil.getMapper().convertValue(entry.getJsonObject(BODY_KEY).getMap(), event.bodyModel);
+			// The event is not part of the JSON body and needs to be restored
+			model.setEvent(event);
+			models.add(model);
+		}
+		return new MeshEventEnvelope(models);
+	}
+
+	@Override
+	public MeshEventEnvelope transform(MeshEventEnvelope envelope) {
+		// The event list of the envelope is read-only and can thus be passed to local consumers as is
+		return envelope;
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public byte systemCodecID() {
+		return -1;
+	}
+
+}
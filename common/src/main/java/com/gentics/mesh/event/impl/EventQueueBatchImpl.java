@@ -12,9 +12,11 @@ import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.event.EventCauseInfoImpl;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
 import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.event.MeshEventEnvelope;
 import com.gentics.mesh.json.JsonUtil;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -67,20 +69,27 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 
 	@Override
 	public void dispatch() {
+		if (getEntries().isEmpty()) {
+			return;
+		}
 		EventBus eventbus = vertx.eventBus();
-		// TODO buffer event dispatching?
-		getEntries().forEach(entry -> {
+		DeliveryOptions options = new DeliveryOptions().addHeader(MeshEventEnvelope.BATCHED_HEADER, "true");
+		List<MeshEventModel> entries = new ArrayList<>(getEntries());
+		for (MeshEventModel entry : entries) {
 			entry.setCause(getCause());
 			MeshEvent event = entry.getEvent();
 			if (log.isDebugEnabled()) {
 				log.debug("Created event sent {}", event);
 			}
-			String json = JsonUtil.toJson(entry);
+			JsonObject json = JsonUtil.toJsonObject(entry);
 			if (log.isTraceEnabled()) {
-				log.trace("Dispatching event '{}' with payload:\n{}", event, json);
+				log.trace("Dispatching event '{}' with payload:\n{}", event, json.encodePrettily());
 			}
-			eventbus.publish(event.getAddress(), new JsonObject(json));
-		});
+			// The individual messages are needed by the cluster, the caches, the websocket bridge and plugins (see MeshEventEnvelope)
+			eventbus.publish(event.getAddress(), json, options);
+		}
+		// Local consumers can handle the whole batch at once via the envelope
+		eventbus.publish(MeshEventEnvelope.ADDRESS, new MeshEventEnvelope(entries));
 		getEntries().clear();
 	}
 
@@ -11,6 +11,7 @@ import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
 import com.gentics.mesh.core.rest.project.ProjectListResponse;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
 import com.gentics.mesh.core.rest.project.ProjectUpdateRequest;
+import com.gentics.mesh.core.rest.project.VersionRetentionPolicy;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 
 public class ProjectExamples extends AbstractExamples {
@@ -64,4 +65,10 @@ public class ProjectExamples extends AbstractExamples {
 		return projectCreate;
 	}
 
+	public VersionRetentionPolicy getVersionRetentionPolicy() {
+		return new VersionRetentionPolicy()
+			.setKeepVersions(10)
+			.setMaxAge("P30D");
+	}
+
 }
@@ -270,6 +270,18 @@ public interface Database extends TxFactory {
 	 */
 	String backupGraph(String backupDirectory) throws IOException;
 
+	/**
+	 * Create a database backup without blocking transactions. The backup will be consistent with the point in time at which the backup was started.
+	 * 
+	 * @param backupDirectory
+	 * @param incremental
+	 *            Whether only the changes since the previous incremental backup should be written. The first incremental backup contains the full
+	 *            database.
+	 * @return The path of the created backup file.
+	 * @throws IOException
+	 */
+	String onlineBackupGraph(String backupDirectory, boolean incremental) throws IOException;
+
 	/**
 	 * Restore a previously created database backup.
 	 * 
@@ -322,6 +334,31 @@ public interface Database extends TxFactory {
 	 */
 	<T extends MeshVertex> Iterator<? extends T> getVerticesForType(Class<T> classOfVertex);
 
+	/**
+	 * Return the names of the storage partitions (e.g. clusters) which contain the vertices of the given type. The partitions can be scanned
+	 * independently from each other via {@link #getVertexBatch(Class, String, Object, int)}.
+	 * 
+	 * @param classOfVertex
+	 * @return
+	 */
+	List<String> getVertexPartitions(Class<?> classOfVertex);
+
+	/**
+	 * Load the next batch of vertices from the given storage partition. The vertices are ordered by their id. This way a partition can be scanned
+	 * using multiple transactions.
+	 * 
+	 * @param classOfVertex
+	 *            Type which is used to frame the vertices
+	 * @param partition
+	 *            Name of the partition
+	 * @param afterId
+	 *            Id of the last vertex of the previous batch or null to start at the beginning of the partition
+	 * @param limit
+	 *            Maximum amount of vertices to load
+	 * @return
+	 */
+	<T extends MeshVertex> List<? extends T> getVertexBatch(Class<T> classOfVertex, String partition, Object afterId, int limit);
+
 	/**
 	 * Get the underlying raw transaction.
 	 * 
@@ -0,0 +1,164 @@
+package com.gentics.mesh.handler;
+
+import static com.gentics.mesh.metric.SimpleMetric.HTTP_REQUEST_DURATION;
+import static com.gentics.mesh.metric.SimpleMetric.HTTP_REQUEST_GRAPH_READS;
+import static com.gentics.mesh.metric.SimpleMetric.HTTP_REQUEST_PHASE_DURATION;
+import static com.gentics.mesh.metric.SimpleMetric.HTTP_RESPONSE_SIZE;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.MonitoringConfig;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.metric.RequestTimings;
+import com.gentics.mesh.metric.RequestTimings.Phase;
+import com.syncleus.ferma.GraphAccessStats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.auth.User;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Puts the {@link RequestTimings} in the routing context with the key {@link RequestTimings#CONTEXT_KEY}. The request duration, the durations of
+ * the request phases, the amount of graph elements which were read and the response size will be recorded per route template once the response has
+ * been written. The <code>Server-Timing</code> header will be added to the response if enabled. Requests which exceed the configured threshold will be
+ * logged via the slow request logger.
+ */
+@Singleton
+public class RequestTimingHandler implements Handler<RoutingContext> {
+
+	private static final Logger slowRequestLog = LoggerFactory.getLogger(RequestTimingHandler.class.getName() + ".slow");
+
+	public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+	/**
+	 * Route which is used for requests which were not handled by an endpoint (e.g. not found requests).
+	 */
+	public static final String UNKNOWN_ROUTE = "other";
+
+	private final MetricsService metrics;
+
+	private final boolean metricsEnabled;
+
+	private final boolean serverTimingHeader;
+
+	private final long slowRequestThreshold;
+
+	@Inject
+	public RequestTimingHandler(MeshOptions options, MetricsService metrics) {
+		MonitoringConfig monitoringOptions = options.getMonitoringOptions();
+		this.metrics = metrics;
+		this.metricsEnabled = metrics.isEnabled();
+		this.serverTimingHeader = monitoringOptions != null && monitoringOptions.isServerTimingHeader();
+		this.slowRequestThreshold = monitoringOptions == null ? 0 : TimeUnit.MILLISECONDS.toNanos(monitoringOptions.getSlowRequestThreshold());
+	}
+
+	@Override
+	public void handle(RoutingContext rc) {
+		if (!metricsEnabled && !serverTimingHeader && slowRequestThreshold <= 0) {
+			rc.next();
+			return;
+		}
+		RequestTimings timings = new RequestTimings();
+		rc.put(RequestTimings.CONTEXT_KEY, timings);
+		if (serverTimingHeader) {
+			rc.addHeadersEndHandler(v -> rc.response().putHeader(SERVER_TIMING_HEADER, timings.toServerTiming()));
+		}
+		if (metricsEnabled || slowRequestThreshold > 0) {
+			// The user is captured before the body has been written since the user of the request may no longer be available afterwards
+			String[] userUuid = new String[1];
+			if (slowRequestThreshold > 0) {
+				rc.addHeadersEndHandler(v -> userUuid[0] = getUserUuid(rc));
+			}
+			rc.addBodyEndHandler(v -> {
+				if (metricsEnabled) {
+					record(rc, timings);
+				}
+				if (slowRequestThreshold > 0 && timings.getElapsed() >= slowRequestThreshold) {
+					slowRequestLog.warn(slowRequestMessage(rc, timings, userUuid[0]));
+				}
+			});
+		}
+		rc.next();
+	}
+
+	private void record(RoutingContext rc, RequestTimings timings) {
+		MeterRegistry registry = metrics.getMetricRegistry();
+		HttpServerResponse response = rc.response();
+		String route = timings.getRoute() == null ? UNKNOWN_ROUTE : timings.getRoute();
+
+		Timer.builder(HTTP_REQUEST_DURATION.key())
+			.description(HTTP_REQUEST_DURATION.description())
+			.tags("method", rc.request().rawMethod(), "route", route, "status", String.valueOf(response.getStatusCode()))
+			.publishPercentileHistogram()
+			.register(registry)
+			.record(timings.getElapsed(), TimeUnit.NANOSECONDS);
+
+		for (Phase phase : Phase.values()) {
+			long nanos = timings.get(phase);
+			if (nanos > 0) {
+				Timer.builder(HTTP_REQUEST_PHASE_DURATION.key())
+					.description(HTTP_REQUEST_PHASE_DURATION.description())
+					.tags("route", route, "phase", phase.key())
+					.register(registry)
+					.record(nanos, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		DistributionSummary.builder(HTTP_RESPONSE_SIZE.key())
+			.description(HTTP_RESPONSE_SIZE.description())
+			.baseUnit("bytes")
+			.tags("route", route)
+			.register(registry)
+			.record(response.bytesWritten());
+
+		DistributionSummary.builder(HTTP_REQUEST_GRAPH_READS.key())
+			.description(HTTP_REQUEST_GRAPH_READS.description())
+			.tags("route", route)
+			.publishPercentileHistogram()
+			.register(registry)
+			.record(timings.getGraphStats().getReads());
+	}
+
+	/**
+	 * Create the message for a request which exceeded the slow request threshold.
+	 * 
+	 * @param rc
+	 * @param timings
+	 * @param userUuid
+	 *            Uuid of the user which was captured before the response body was written
+	 * @return
+	 */
+	String slowRequestMessage(RoutingContext rc, RequestTimings timings, String userUuid) {
+		GraphAccessStats graphStats = timings.getGraphStats();
+		return "Slow request {" + rc.request().rawMethod() + " " + rc.request().uri() + "} on route {"
+			+ (timings.getRoute() == null ? UNKNOWN_ROUTE : timings.getRoute()) + "} by user {" + (userUuid == null ? "anonymous" : userUuid)
+			+ "} with status {" + rc.response().getStatusCode() + "} - timings {" + timings.toServerTiming() + "} - graph {" + graphStats + "}";
+	}
+
+	/**
+	 * Return the uuid of the authenticated user. The cached uuid of the user is used so that no transaction is needed.
+	 * 
+	 * @param rc
+	 * @return Uuid, "unknown" if the uuid has not been loaded or null if the request was not authenticated
+	 */
+	private static String getUserUuid(RoutingContext rc) {
+		User user = rc.user();
+		if (user instanceof MeshAuthUser) {
+			String uuid = ((MeshAuthUser) user).getCachedUuid();
+			return uuid == null ? "unknown" : uuid;
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,237 @@
+package com.gentics.mesh.metric;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.syncleus.ferma.GraphAccessStats;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Lightweight timer which tracks the time which a single request spends in the different phases of the request handling. The timings are stored in
+ * the routing context data and will be recorded as metrics and optionally added as <code>Server-Timing</code> header once the request has been
+ * handled.
+ *
+ * Phases may be nested (e.g. the transform phase is part of the tx phase) and may be entered multiple times. The durations of a phase are summed
+ * up.
+ */
+public class RequestTimings {
+
+	public static final String CONTEXT_KEY = "mesh.requestTimings";
+
+	/**
+	 * Timings which are used when the request is not tracked (e.g. for internal action contexts). All recorded durations will be ignored.
+	 */
+	private static final RequestTimings NONE = new RequestTimings(false);
+
+	/**
+	 * Tracked phases of a request.
+	 */
+	public enum Phase {
+
+		AUTH("auth", "Authentication"),
+
+		LOCK("lock", "Write lock wait"),
+
+		TX("tx", "Transactions"),
+
+		TRANSFORM("transform", "Transformation to the REST model"),
+
+		LINKS("links", "Link resolution"),
+
+		SERIALIZE("serialize", "JSON serialization");
+
+		private final String key;
+
+		private final String description;
+
+		private Phase(String key, String description) {
+			this.key = key;
+			this.description = description;
+		}
+
+		public String key() {
+			return key;
+		}
+
+		public String description() {
+			return description;
+		}
+	}
+
+	private final boolean enabled;
+
+	private final long start = System.nanoTime();
+
+	private final AtomicLongArray durations = new AtomicLongArray(Phase.values().length);
+
+	private final AtomicLongArray starts = new AtomicLongArray(Phase.values().length);
+
+	private final GraphAccessStats graphStats;
+
+	private volatile String route;
+
+	public RequestTimings() {
+		this(true);
+	}
+
+	private RequestTimings(boolean enabled) {
+		this.enabled = enabled;
+		this.graphStats = enabled ? new GraphAccessStats() : null;
+	}
+
+	/**
+	 * Return the timings of the request which belongs to the given routing context.
+	 *
+	 * @param rc
+	 * @return Timings of the request or a no-op instance if the request is not tracked
+	 */
+	public static RequestTimings of(RoutingContext rc) {
+		return of(rc.data());
+	}
+
+	/**
+	 * Return the timings of the request which belongs to the given action context.
+	 *
+	 * @param ac
+	 * @return Timings of the request or a no-op instance if the request is not tracked
+	 */
+	public static RequestTimings of(ActionContext ac) {
+		return ac == null ? NONE : of(ac.data());
+	}
+
+	private static RequestTimings of(Map<String, Object> data) {
+		Object timings = data == null ? null : data.get(CONTEXT_KEY);
+		return timings instanceof RequestTimings ? (RequestTimings) timings : NONE;
+	}
+
+	/**
+	 * Add the duration to the given phase.
+	 *
+	 * @param phase
+	 * @param nanos
+	 */
+	public void add(Phase phase, long nanos) {
+		if (enabled) {
+			durations.addAndGet(phase.ordinal(), nanos);
+		}
+	}
+
+	/**
+	 * Mark the start of the phase. The phase is completed via {@link #end(Phase)}. This is useful for phases which span multiple handlers.
+	 *
+	 * @param phase
+	 */
+	public void begin(Phase phase) {
+		if (enabled) {
+			starts.set(phase.ordinal(), System.nanoTime());
+		}
+	}
+
+	/**
+	 * Mark the end of the phase which was started via {@link #begin(Phase)}.
+	 *
+	 * @param phase
+	 */
+	public void end(Phase phase) {
+		if (enabled) {
+			long phaseStart = starts.getAndSet(phase.ordinal(), 0);
+			if (phaseStart != 0) {
+				add(phase, System.nanoTime() - phaseStart);
+			}
+		}
+	}
+
+	/**
+	 * Invoke the supplier and add the duration to the given phase.
+	 *
+	 * @param phase
+	 * @param supplier
+	 * @return Result of the supplier
+	 */
+	public <T> T time(Phase phase, Supplier<T> supplier) {
+		if (!enabled) {
+			return supplier.get();
+		}
+		long phaseStart = System.nanoTime();
+		try {
+			return supplier.get();
+		} finally {
+			add(phase, System.nanoTime() - phaseStart);
+		}
+	}
+
+	/**
+	 * Return the summed up duration of the phase.
+	 *
+	 * @param phase
+	 * @return Duration in nanoseconds
+	 */
+	public long get(Phase phase) {
+		return durations.get(phase.ordinal());
+	}
+
+	/**
+	 * Return the time which has elapsed since the request has been received.
+	 *
+	 * @return Duration in nanoseconds
+	 */
+	public long getElapsed() {
+		return System.nanoTime() - start;
+	}
+
+	/**
+	 * Return the counters of the graph operations which were executed while handling the request.
+	 *
+	 * @return Stats or null if the request is not tracked
+	 */
+	public GraphAccessStats getGraphStats() {
+		return graphStats;
+	}
+
+	/**
+	 * Return the route template of the endpoint which handled the request.
+	 *
+	 * @return Route template or null if the request was not handled by an endpoint
+	 */
+	public String getRoute() {
+		return route;
+	}
+
+	public RequestTimings setRoute(String route) {
+		if (enabled) {
+			this.route = route;
+		}
+		return this;
+	}
+
+	/**
+	 * Create the value of the <code>Server-Timing</code> header. Only phases which have been entered are included.
+	 *
+	 * @return
+	 */
+	public String toServerTiming() {
+		StringBuilder builder = new StringBuilder();
+		for (Phase phase : Phase.values()) {
+			long nanos = get(phase);
+			if (nanos > 0) {
+				appendTiming(builder, phase.key(), phase.description(), nanos);
+			}
+		}
+		appendTiming(builder, "total", "Total", getElapsed());
+		return builder.toString();
+	}
+
+	private static void appendTiming(StringBuilder builder, String key, String description, long nanos) {
+		if (builder.length() > 0) {
+			builder.append(", ");
+		}
+		double millis = nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+		builder.append(key).append(";desc=\"").append(description).append("\";dur=").append(String.format(Locale.ROOT, "%.3f", millis));
+	}
+
+}
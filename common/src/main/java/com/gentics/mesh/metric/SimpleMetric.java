@@ -27,7 +27,23 @@ public enum SimpleMetric implements Metric {
 
     TOPOLOGY_LOCK_WAITING_TIME("topology_lock_waiting_time", "Tracks the time which is spent waiting on the write lock."),
 
-    TOPOLOGY_LOCK_TIMEOUT_COUNT("topology_lock_timeout", "Amount of timeouts of acquiring the write lock.");
+    TOPOLOGY_LOCK_TIMEOUT_COUNT("topology_lock_timeout", "Amount of timeouts of acquiring the write lock."),
+
+	HTTP_REQUEST_DURATION("http_request_duration", "Timer which tracks the request durations per route template."),
+
+	HTTP_REQUEST_PHASE_DURATION("http_request_phase_duration", "Timer which tracks the time spent in the phases of the request handling per route template."),
+
+	HTTP_RESPONSE_SIZE("http_response_size", "Size of the written response bodies in bytes per route template."),
+
+	HTTP_REQUEST_GRAPH_READS("http_request_graph_reads", "Amount of vertices and edges which were read by a request per route template."),
+
+	GRAPH_BACKUP_DURATION("graph_backup_duration", "Timer which tracks the duration of graph database backups."),
+
+	GRAPH_BACKUP_SIZE("graph_backup_size", "Size of the written graph database backup files in bytes."),
+
+	VERSION_PURGE_RECLAIMED("version_purge_reclaimed", "Amount of content versions which were purged."),
+
+	VERSION_PURGE_DURATION("version_purge_duration", "Timer which tracks the duration of version purge runs per project.");
 
     private String key;
 
@@ -4,6 +4,8 @@ import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+import com.gentics.mesh.parameter.impl.NodeBulkParametersImpl;
+import com.gentics.mesh.parameter.impl.NodeChangesParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.ProjectPurgeParametersImpl;
@@ -55,6 +57,14 @@ public interface ParameterProviderContext extends ActionContext {
 		return new DeleteParametersImpl(this);
 	}
 
+	default NodeBulkParameters getNodeBulkParameters() {
+		return new NodeBulkParametersImpl(this);
+	}
+
+	default NodeChangesParameters getNodeChangesParameters() {
+		return new NodeChangesParametersImpl(this);
+	}
+
 	default SchemaUpdateParameters getSchemaUpdateParameters() {
 		return new SchemaUpdateParametersImpl(this);
 	}
@@ -0,0 +1,69 @@
+package com.gentics.mesh.parameter.impl;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.NodeBulkParameters;
+
+public class NodeBulkParametersImpl extends AbstractParameters implements NodeBulkParameters {
+
+	public NodeBulkParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public NodeBulkParametersImpl() {
+	}
+
+	@Override
+	public void validate() {
+		String batchSize = getParameter(BATCH_SIZE_PARAMETER_KEY);
+		if (batchSize != null) {
+			try {
+				if (Integer.parseInt(batchSize) < 1) {
+					throw error(BAD_REQUEST, "node_bulk_error_invalid_batch_size", batchSize);
+				}
+			} catch (NumberFormatException e) {
+				throw error(BAD_REQUEST, "node_bulk_error_invalid_batch_size", batchSize);
+			}
+		}
+	}
+
+	@Override
+	public String getName() {
+		return "Node bulk parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// batchSize
+		QueryParameter batchSizeParameter = new QueryParameter();
+		batchSizeParameter.setDescription("Amount of items which will be committed within a single transaction. Defaults to the configured bulk batch size.");
+		batchSizeParameter.setExample("500");
+		batchSizeParameter.setRequired(false);
+		batchSizeParameter.setType(ParamType.INTEGER);
+		parameters.put(BATCH_SIZE_PARAMETER_KEY, batchSizeParameter);
+
+		// deferReferences
+		QueryParameter deferParameter = new QueryParameter();
+		deferParameter.setDefaultValue("false");
+		deferParameter.setDescription(
+			"Specify whether items which reference nodes that do not yet exist (parent node, node fields and node list fields) should be deferred until all other items have been processed.");
+		deferParameter.setExample("true");
+		deferParameter.setRequired(false);
+		deferParameter.setType(ParamType.BOOLEAN);
+		parameters.put(DEFER_REFERENCES_PARAMETER_KEY, deferParameter);
+
+		return parameters;
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.gentics.mesh.parameter.impl;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.NodeChangesParameters;
+
+public class NodeChangesParametersImpl extends AbstractParameters implements NodeChangesParameters {
+
+	public NodeChangesParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public NodeChangesParametersImpl() {
+	}
+
+	@Override
+	public void validate() {
+		String since = getParameter(SINCE_PARAMETER_KEY);
+		if (since != null) {
+			try {
+				if (Long.parseLong(since) < 0) {
+					throw error(BAD_REQUEST, "node_changes_error_invalid_since", since);
+				}
+			} catch (NumberFormatException e) {
+				throw error(BAD_REQUEST, "node_changes_error_invalid_since", since);
+			}
+		}
+		String limit = getParameter(LIMIT_PARAMETER_KEY);
+		if (limit != null) {
+			try {
+				if (Long.parseLong(limit) < 1) {
+					throw error(BAD_REQUEST, "node_changes_error_invalid_limit", limit);
+				}
+			} catch (NumberFormatException e) {
+				throw error(BAD_REQUEST, "node_changes_error_invalid_limit", limit);
+			}
+		}
+	}
+
+	@Override
+	public String getName() {
+		return "Node change feed parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// since
+		QueryParameter sinceParameter = new QueryParameter();
+		sinceParameter.setDefaultValue("0");
+		sinceParameter.setDescription("Sequence number of the last change which was already processed. Only changes with a higher sequence number will be returned.");
+		sinceParameter.setExample("4711");
+		sinceParameter.setRequired(false);
+		sinceParameter.setType(ParamType.INTEGER);
+		parameters.put(SINCE_PARAMETER_KEY, sinceParameter);
+
+		// limit
+		QueryParameter limitParameter = new QueryParameter();
+		limitParameter.setDefaultValue(String.valueOf(DEFAULT_LIMIT));
+		limitParameter.setDescription("Maximum amount of changes which will be returned.");
+		limitParameter.setExample("1000");
+		limitParameter.setRequired(false);
+		limitParameter.setType(ParamType.INTEGER);
+		parameters.put(LIMIT_PARAMETER_KEY, limitParameter);
+
+		return parameters;
+	}
+
+}
@@ -98,6 +98,25 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		perPageParameter.setRequired(false);
 		perPageParameter.setType(ParamType.NUMBER);
 		parameters.put(PER_PAGE_PARAMETER_KEY, perPageParameter);
+
+		// after
+		QueryParameter afterParameter = new QueryParameter();
+		afterParameter.setDescription(
+			"Cursor of the element after which the page should start. The cursor for the next page is returned via the nextCursor property of the paging meta info. The page parameter will be ignored when a cursor is set.");
+		afterParameter.setExample("IzE1OjMxNQ");
+		afterParameter.setRequired(false);
+		afterParameter.setType(ParamType.STRING);
+		parameters.put(AFTER_PARAMETER_KEY, afterParameter);
+
+		// totalCount
+		QueryParameter totalCountParameter = new QueryParameter();
+		totalCountParameter.setDefaultValue("true");
+		totalCountParameter.setDescription(
+			"Specify whether the total element count and page count should be determined. Disabling the count avoids loading all elements. The counts will be set to -1 in this case. The counts will also not be determined when a cursor is used.");
+		totalCountParameter.setExample("false");
+		totalCountParameter.setRequired(false);
+		totalCountParameter.setType(ParamType.BOOLEAN);
+		parameters.put(TOTAL_COUNT_PARAMETER_KEY, totalCountParameter);
 		return parameters;
 	}
 
@@ -6,7 +6,7 @@ import com.gentics.mesh.parameter.SearchParameters;
 import org.raml.model.ParamType;
 import org.raml.model.parameter.QueryParameter;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 public class SearchParametersImpl extends AbstractParameters implements SearchParameters {
@@ -36,7 +36,25 @@ public class SearchParametersImpl extends AbstractParameters implements SearchPa
 		waitParameter.setRequired(false);
 		waitParameter.setType(ParamType.BOOLEAN);
 
-		return Collections.singletonMap(WAIT_PARAMETER_KEY, waitParameter);
+		QueryParameter sourceOnlyParameter = new QueryParameter();
+		sourceOnlyParameter.setDescription(
+			"Specify whether the stored search index documents should be returned directly. The found elements will not be loaded from the graph in this case. Default: false");
+		sourceOnlyParameter.setExample("true");
+		sourceOnlyParameter.setRequired(false);
+		sourceOnlyParameter.setType(ParamType.BOOLEAN);
+
+		QueryParameter cursorParameter = new QueryParameter();
+		cursorParameter.setDescription(
+			"Specify whether cursor based paging should be used. The paging info will contain the cursor for the next page which can be passed via the after parameter. Default: false");
+		cursorParameter.setExample("true");
+		cursorParameter.setRequired(false);
+		cursorParameter.setType(ParamType.BOOLEAN);
+
+		Map<String, QueryParameter> parameters = new HashMap<>();
+		parameters.put(WAIT_PARAMETER_KEY, waitParameter);
+		parameters.put(SOURCE_ONLY_PARAMETER_KEY, sourceOnlyParameter);
+		parameters.put(CURSOR_PARAMETER_KEY, cursorParameter);
+		return parameters;
 	}
 
 }
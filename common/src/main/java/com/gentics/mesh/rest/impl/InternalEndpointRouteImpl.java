@@ -33,9 +33,11 @@ import com.gentics.mesh.core.endpoint.admin.LocalConfigApi;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.metric.RequestTimings;
 import com.gentics.mesh.parameter.ParameterProvider;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.google.common.collect.ImmutableSet;
+import com.syncleus.ferma.GraphAccessStats;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Handler;
@@ -96,6 +98,10 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 
 	private Boolean mutating;
 
+	private final String templatePrefix;
+
+	private String template;
+
 	/**
 	 * Create a new endpoint wrapper using the provided router to create the wrapped route instance.
 	 *
@@ -103,8 +109,22 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 	 * @param localConfigApi
 	 */
 	public InternalEndpointRouteImpl(Router router, LocalConfigApi localConfigApi) {
+		this(router, localConfigApi, "");
+	}
+
+	/**
+	 * Create a new endpoint wrapper using the provided router to create the wrapped route instance.
+	 *
+	 * @param router
+	 * @param localConfigApi
+	 * @param templatePrefix
+	 *            Prefix of the route template which is used to tag the request metrics (e.g. <code>/:project/nodes</code>)
+	 */
+	public InternalEndpointRouteImpl(Router router, LocalConfigApi localConfigApi, String templatePrefix) {
 		this.route = router.route();
+		this.templatePrefix = templatePrefix;
 		route.handler(rc -> {
+			RequestTimings.of(rc).setRoute(getTemplate());
 			if (!isMutating()) {
 				rc.next();
 			} else {
@@ -213,16 +233,33 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 
 	@Override
 	public InternalEndpointRoute blockingHandler(Handler<RoutingContext> requestHandler) {
-		route.blockingHandler(requestHandler);
+		route.blockingHandler(countGraphAccess(requestHandler));
 		return this;
 	}
 
 	@Override
 	public InternalEndpointRoute blockingHandler(Handler<RoutingContext> requestHandler, boolean ordered) {
-		route.blockingHandler(requestHandler, ordered);
+		route.blockingHandler(countGraphAccess(requestHandler), ordered);
 		return this;
 	}
 
+	/**
+	 * Wrap the handler so that the graph operations which are executed by the handler are counted in the {@link GraphAccessStats} of the request.
+	 *
+	 * @param requestHandler
+	 * @return
+	 */
+	private Handler<RoutingContext> countGraphAccess(Handler<RoutingContext> requestHandler) {
+		return rc -> {
+			GraphAccessStats previous = GraphAccessStats.bind(RequestTimings.of(rc).getGraphStats());
+			try {
+				requestHandler.handle(rc);
+			} finally {
+				GraphAccessStats.bind(previous);
+			}
+		};
+	}
+
 	@Override
 	public InternalEndpointRoute failureHandler(Handler<RoutingContext> failureHandler) {
 		route.failureHandler(failureHandler);
@@ -258,6 +295,22 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 		return route.getPath();
 	}
 
+	/**
+	 * Return the route template which identifies the endpoint regardless of the actual path parameters.
+	 *
+	 * @return
+	 */
+	private String getTemplate() {
+		if (template == null) {
+			String path = route.getPath();
+			if (path == null) {
+				path = ramlPath != null ? ramlPath : pathRegex;
+			}
+			template = templatePrefix + (path == null ? "" : path);
+		}
+		return template;
+	}
+
 	@Override
 	public String getRamlPath() {
 		if (ramlPath == null) {
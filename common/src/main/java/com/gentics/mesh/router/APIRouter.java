@@ -1,7 +1,10 @@
 package com.gentics.mesh.router;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import com.gentics.mesh.etc.config.ClusterOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -9,15 +12,23 @@ import com.gentics.mesh.etc.config.cluster.CoordinatorMode;
 import com.gentics.mesh.handler.VersionHandler;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.CookieHandler;
 
 public class APIRouter {
 
 	private static final Logger log = LoggerFactory.getLogger(APIRouter.class);
 
+	/**
+	 * Path of the node bulk endpoint relative to the api mount point.
+	 */
+	private static final Pattern BULK_PATH = Pattern.compile("^/[^/]+/nodes/bulk/?$");
+
 	private final ProjectsRouter projectsRouter;
 	private final PluginRouter pluginRouter;
 
@@ -68,6 +79,10 @@ public class APIRouter {
 			// handler will never pass through to the subsequent route handlers.
 			if ("websocket".equalsIgnoreCase(rh.request().getHeader("Upgrade"))) {
 				rh.next();
+			} else if (isStreamedBody(rh)) {
+				// Streamed bodies are read by the endpoint itself. The request is paused until the endpoint is ready to consume the body.
+				rh.request().pause();
+				rh.next();
 			} else {
 				storage.bodyHandler.handle(rh);
 			}
@@ -77,6 +92,29 @@ public class APIRouter {
 
 	}
 
+	/**
+	 * Check whether the body of the request will be streamed by the endpoint. This is only the case for NDJSON requests to the node bulk endpoint.
+	 * All other requests will be handled by the body handler.
+	 * 
+	 * @param rc
+	 * @return
+	 */
+	private static boolean isStreamedBody(RoutingContext rc) {
+		if (rc.request().method() != HttpMethod.POST) {
+			return false;
+		}
+		String contentType = rc.request().getHeader(HttpHeaders.CONTENT_TYPE);
+		if (contentType == null || !contentType.toLowerCase().startsWith(APPLICATION_NDJSON)) {
+			return false;
+		}
+		String path = rc.normalisedPath();
+		String mountPoint = rc.mountPoint();
+		if (mountPoint != null && path.startsWith(mountPoint)) {
+			path = path.substring(mountPoint.length());
+		}
+		return BULK_PATH.matcher(path).matches();
+	}
+
 	/**
 	 * Returns the plugin router which can be used to create routers for plugins.
 	 * 
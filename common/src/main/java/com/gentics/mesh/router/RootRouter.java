@@ -33,6 +33,7 @@ public class RootRouter {
 		this.vertx = vertx;
 		this.router = Router.router(vertx);
 		// Root handlersA
+		router.route().handler(storage.requestTimingHandler);
 		router.route().handler(LoggerHandler.create(LoggerFormat.SHORT));
 		// TODO add a dedicated error for api router that informs about
 		// APPLICATION_JSON requirements. This may not be true for other
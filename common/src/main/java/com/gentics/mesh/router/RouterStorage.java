@@ -14,6 +14,7 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.distributed.RequestDelegator;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.handler.RequestTimingHandler;
 import com.gentics.mesh.handler.VersionHandler;
 
 import dagger.Lazy;
@@ -63,6 +64,8 @@ public class RouterStorage {
 
 	public final VersionHandler versionHandler;
 
+	public final RequestTimingHandler requestTimingHandler;
+
 	private MeshAuthChain authChain;
 
 	private final RouterStorageRegistry routerStorageRegistry;
@@ -72,7 +75,7 @@ public class RouterStorage {
 	@Inject
 	public RouterStorage(Vertx vertx, MeshOptions options, MeshAuthChain authChain, CorsHandler corsHandler, BodyHandlerImpl bodyHandler,
 		Lazy<BootstrapInitializer> boot,
-		Lazy<Database> db, VersionHandler versionHandler,
+		Lazy<Database> db, VersionHandler versionHandler, RequestTimingHandler requestTimingHandler,
 		RouterStorageRegistry routerStorageRegistry,
 		RequestDelegator delegator) {
 		this.vertx = vertx;
@@ -83,6 +86,7 @@ public class RouterStorage {
 		this.bodyHandler = bodyHandler;
 		this.authChain = authChain;
 		this.versionHandler = versionHandler;
+		this.requestTimingHandler = requestTimingHandler;
 		this.routerStorageRegistry = routerStorageRegistry;
 		this.delegator = delegator;
 
@@ -1,5 +1,7 @@
 package com.gentics.mesh.router.route;
 
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -107,11 +109,20 @@ public abstract class AbstractInternalEndpoint implements InternalEndpoint {
 
 	@Override
 	public InternalEndpointRoute createRoute() {
-		InternalEndpointRoute endpoint = new InternalEndpointRouteImpl(getRouter(), localConfigApi);
+		InternalEndpointRoute endpoint = new InternalEndpointRouteImpl(getRouter(), localConfigApi, getRouteTemplatePrefix());
 		endpointRoutes.add(endpoint);
 		return endpoint;
 	}
 
+	/**
+	 * Return the prefix of the route templates which are used to tag the request metrics of the endpoint routes.
+	 * 
+	 * @return Prefix
+	 */
+	protected String getRouteTemplatePrefix() {
+		return isEmpty(basePath) ? "" : "/" + basePath;
+	}
+
 	/**
 	 * Return a list of all endpoints that have been registered within this endpoint.
 	 * 
@@ -24,4 +24,9 @@ public abstract class AbstractProjectEndpoint extends AbstractInternalEndpoint {
 		localRouter = rs.root().apiRouter().projectsRouter().projectRouter().getOrCreate(basePath);
 	}
 
+	@Override
+	protected String getRouteTemplatePrefix() {
+		return "/:project" + super.getRouteTemplatePrefix();
+	}
+
 }
@@ -13,6 +13,7 @@ import io.vertx.core.json.JsonObject;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -70,6 +71,11 @@ public class DevNullSearchProvider implements SearchProvider {
 		return Single.just(Collections.emptySet());
 	}
 
+	@Override
+	public Single<Map<String, String>> loadIndexMappingHashes() {
+		return Single.just(Collections.emptyMap());
+	}
+
 	@Override
 	public Single<JsonObject> getDocument(String index, String uuid) {
 		return Single.just(new JsonObject());
@@ -3,13 +3,17 @@ package com.gentics.mesh.search;
 import com.gentics.mesh.core.data.search.bulk.BulkEntry;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
 import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.google.common.hash.Hashing;
+
 import io.reactivex.Completable;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonObject;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -38,6 +42,13 @@ public interface SearchProvider {
 	 */
 	Single<Set<String>> listIndices();
 
+	/**
+	 * Load the mapping hashes of all existing indices. The hash is stored along with the index when it gets created via {@link #createIndex(IndexInfo)}.
+	 * 
+	 * @return Map of index names and mapping hashes. The hash is null for indices which were created without a hash.
+	 */
+	Single<Map<String, String>> loadIndexMappingHashes();
+
 	/**
 	 * Create a search index with index information.
 	 * 
@@ -229,6 +240,16 @@ public interface SearchProvider {
 		return json;
 	}
 
+	/**
+	 * Compute the hash of the settings and mappings which would be used to create the index for the given index information.
+	 * 
+	 * @param info
+	 * @return
+	 */
+	default String createMappingHash(IndexInfo info) {
+		return Hashing.sha256().hashString(createIndexSettings(info).encode(), StandardCharsets.UTF_8).toString();
+	}
+
 	/**
 	 * Validate the syntax of the provided information by creating a template.
 	 * 
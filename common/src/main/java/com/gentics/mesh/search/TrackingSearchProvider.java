@@ -71,6 +71,11 @@ public class TrackingSearchProvider implements SearchProvider {
 		return Single.just(Collections.emptySet());
 	}
 
+	@Override
+	public Single<Map<String, String>> loadIndexMappingHashes() {
+		return Single.just(Collections.emptyMap());
+	}
+
 	@Override
 	public Completable createIndex(IndexInfo info) {
 		JsonObject json = new JsonObject();
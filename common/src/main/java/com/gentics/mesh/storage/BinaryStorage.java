@@ -2,12 +2,14 @@ package com.gentics.mesh.storage;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.util.UUIDUtil;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
+import io.reactivex.Single;
 import io.vertx.core.buffer.Buffer;
 
 /**
@@ -74,6 +76,35 @@ public interface BinaryStorage {
 	 */
 	Flowable<Buffer> read(String uuid);
 
+	/**
+	 * Read the given byte range of the binary data which is identified by the given binary uuid. Storage implementations which support ranged reads
+	 * natively should override this method. The default implementation will read the whole binary and skip the data outside of the range.
+	 *
+	 * @param uuid
+	 * @param offset
+	 *            Offset of the first byte to be read
+	 * @param length
+	 *            Amount of bytes to be read
+	 * @return
+	 */
+	default Flowable<Buffer> read(String uuid, long offset, long length) {
+		return Flowable.defer(() -> {
+			long end = offset + length;
+			AtomicLong position = new AtomicLong();
+			return read(uuid)
+				.takeWhile(buffer -> position.get() < end)
+				.concatMap(buffer -> {
+					long start = position.getAndAdd(buffer.length());
+					long from = Math.max(offset - start, 0);
+					long to = Math.min(end - start, buffer.length());
+					if (from >= to) {
+						return Flowable.empty();
+					}
+					return Flowable.just(buffer.getBuffer((int) from, (int) to));
+				});
+		});
+	}
+
 	/**
 	 * Opens a blocking {@link InputStream} to the binary file. This should only be used for some other blocking APIs (i.e. ImageIO)
 	 *
@@ -118,4 +149,14 @@ public interface BinaryStorage {
 	 */
 	Completable purgeTemporaryUpload(String temporaryId);
 
+	/**
+	 * Delete all temporary uploads which are older than the given age. Temporary uploads are usually removed once the upload has been processed but
+	 * aborted uploads may leave stale data behind.
+	 * 
+	 * @param maxAge
+	 *            Max age in milliseconds
+	 * @return Single which emits the amount of reclaimed bytes
+	 */
+	Single<Long> purgeStaleTemporaryUploads(long maxAge);
+
 }
@@ -0,0 +1,73 @@
+package com.gentics.mesh.util;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream which limits the amount of bytes per second which will be written to the wrapped stream. The writing thread will be paused once the
+ * limit has been exceeded. The stream also counts the written bytes.
+ */
+public class RateLimitedOutputStream extends FilterOutputStream {
+
+	private final long bytesPerSecond;
+
+	private final long start = System.nanoTime();
+
+	private long written = 0;
+
+	/**
+	 * Create a new stream.
+	 *
+	 * @param out
+	 *            Wrapped stream
+	 * @param bytesPerSecond
+	 *            Limit. A value of 0 or less disables the limit
+	 */
+	public RateLimitedOutputStream(OutputStream out, long bytesPerSecond) {
+		super(out);
+		this.bytesPerSecond = bytesPerSecond;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		out.write(b);
+		written++;
+		throttle();
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		out.write(b, off, len);
+		written += len;
+		throttle();
+	}
+
+	/**
+	 * Return the amount of bytes which were written to the stream.
+	 *
+	 * @return
+	 */
+	public long getWritten() {
+		return written;
+	}
+
+	private void throttle() throws IOException {
+		if (bytesPerSecond <= 0) {
+			return;
+		}
+		long expectedMillis = written * 1000 / bytesPerSecond;
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		long delay = expectedMillis - elapsedMillis;
+		if (delay > 0) {
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Writing was interrupted while being throttled");
+			}
+		}
+	}
+
+}
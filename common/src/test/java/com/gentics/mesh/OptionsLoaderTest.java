@@ -152,6 +152,16 @@ public class OptionsLoaderTest {
 		options.validate();
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void testChangeFeedInCluster() {
+		MeshOptions options = new MeshOptions();
+		options.setNodeName("someNode");
+		options.getAuthenticationOptions().setKeystorePassword("ABC");
+		options.getClusterOptions().setEnabled(true).setClusterName("someName");
+		options.getContentOptions().setChangeFeedDirectory("data/changes");
+		options.validate();
+	}
+
 	@Test
 	public void testInvalidOptions5() {
 		MeshOptions options = new MeshOptions();
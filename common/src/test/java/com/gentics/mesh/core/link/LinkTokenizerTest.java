@@ -0,0 +1,44 @@
+package com.gentics.mesh.core.link;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class LinkTokenizerTest {
+
+	@Test
+	public void testTokenize() {
+		String content = "a {{mesh.link('uuid1')}} b {{mesh.link(\"uuid2\", \"en\")}}";
+		int[] tokens = LinkTokenizer.tokenize(content);
+		assertEquals(4, tokens.length);
+		assertEquals("{{mesh.link('uuid1')}}", content.substring(tokens[0], tokens[1]));
+		assertEquals("{{mesh.link(\"uuid2\", \"en\")}}", content.substring(tokens[2], tokens[3]));
+	}
+
+	@Test
+	public void testTokenizeWithoutLinks() {
+		assertEquals(0, LinkTokenizer.tokenize(null).length);
+		assertEquals(0, LinkTokenizer.tokenize("").length);
+		assertEquals(0, LinkTokenizer.tokenize("no links here").length);
+		assertEquals("Unterminated links should be ignored", 0, LinkTokenizer.tokenize("{{mesh.link('uuid')}").length);
+	}
+
+	@Test
+	public void testEncodeDecode() {
+		int[] tokens = new int[] { 2, 24, 27, 55 };
+		assertArrayEquals(tokens, LinkTokenizer.decode(LinkTokenizer.encode(tokens)));
+		assertEquals(0, LinkTokenizer.decode(LinkTokenizer.encode(new int[0])).length);
+		assertNull(LinkTokenizer.decode(null));
+	}
+
+	@Test
+	public void testParseArguments() {
+		String content = "{{mesh.link(\\\"uuid\\\", 'en', \"dummy\")}}";
+		int[] tokens = LinkTokenizer.tokenize(content);
+		String[] args = LinkTokenizer.parseArguments(content, tokens[0], tokens[1]);
+		assertArrayEquals(new String[] { "uuid", " en", " dummy" }, args);
+	}
+
+}
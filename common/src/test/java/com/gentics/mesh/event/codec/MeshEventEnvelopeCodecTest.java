@@ -0,0 +1,52 @@
+package com.gentics.mesh.event.codec;
+
+import static com.gentics.mesh.core.rest.MeshEvent.USER_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshElementEventModel;
+import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
+import com.gentics.mesh.event.MeshEventEnvelope;
+
+import io.vertx.core.buffer.Buffer;
+
+public class MeshEventEnvelopeCodecTest {
+
+	private final MeshEventEnvelopeCodec codec = new MeshEventEnvelopeCodec();
+
+	@Test
+	public void testWireRoundtrip() {
+		MeshEventEnvelope envelope = new MeshEventEnvelope(Arrays.asList(event(USER_CREATED, "a"), event(USER_UPDATED, "b")));
+		Buffer buffer = Buffer.buffer().appendString("prefix");
+		codec.encodeToWire(buffer, envelope);
+
+		MeshEventEnvelope decoded = codec.decodeFromWire(6, buffer);
+		assertEquals(2, decoded.size());
+		MeshElementEventModel first = (MeshElementEventModel) decoded.getEvents().get(0);
+		assertEquals(USER_CREATED, first.getEvent());
+		assertEquals("a", first.getUuid());
+		assertEquals("name_a", first.getName());
+		assertEquals(USER_UPDATED, decoded.getEvents().get(1).getEvent());
+	}
+
+	@Test
+	public void testLocalTransform() {
+		MeshEventEnvelope envelope = new MeshEventEnvelope(Arrays.asList(event(USER_CREATED, "a")));
+		assertSame("Local delivery should not copy the envelope", envelope, codec.transform(envelope));
+	}
+
+	private MeshElementEventModel event(MeshEvent event, String uuid) {
+		MeshElementEventModelImpl model = new MeshElementEventModelImpl();
+		model.setEvent(event);
+		model.setUuid(uuid);
+		model.setName("name_" + uuid);
+		return model;
+	}
+
+}
@@ -0,0 +1,152 @@
+package com.gentics.mesh.handler;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.metric.RequestTimings;
+import com.gentics.mesh.metric.RequestTimings.Phase;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+public class RequestTimingHandlerTest {
+
+	@Test
+	public void testServerTimingHeader() {
+		MeshOptions options = new MeshOptions();
+		options.getMonitoringOptions().setServerTimingHeader(true);
+		RequestTimingHandler handler = new RequestTimingHandler(options, metrics());
+
+		RoutingContext rc = mockContext();
+		handler.handle(rc);
+		RequestTimings timings = timings(rc);
+		timings.add(Phase.TX, TimeUnit.MILLISECONDS.toNanos(3));
+		headersEndHandler(rc).handle(null);
+
+		ArgumentCaptor<String> header = ArgumentCaptor.forClass(String.class);
+		verify(rc.response()).putHeader(Mockito.eq(RequestTimingHandler.SERVER_TIMING_HEADER), header.capture());
+		assertTrue(header.getValue(), header.getValue().matches("tx;desc=\"Transactions\";dur=3\\.000, total;desc=\"Total\";dur=\\d+\\.\\d{3}"));
+		verify(rc, never()).addBodyEndHandler(Mockito.any());
+		verify(rc).next();
+	}
+
+	@Test
+	public void testDisabled() {
+		RequestTimingHandler handler = new RequestTimingHandler(new MeshOptions(), metrics());
+
+		RoutingContext rc = mockContext();
+		handler.handle(rc);
+		verify(rc).next();
+		verify(rc, never()).put(Mockito.anyString(), Mockito.any());
+		verify(rc, never()).addHeadersEndHandler(Mockito.any());
+		verify(rc, never()).addBodyEndHandler(Mockito.any());
+		verify(rc.response(), never()).putHeader(Mockito.anyString(), Mockito.anyString());
+	}
+
+	@Test
+	public void testSlowRequestUsesCachedUserUuid() throws InterruptedException {
+		MeshOptions options = new MeshOptions();
+		options.getMonitoringOptions().setSlowRequestThreshold(1);
+		RequestTimingHandler handler = new RequestTimingHandler(options, metrics());
+
+		RoutingContext rc = mockContext();
+		MeshAuthUser user = mock(MeshAuthUser.class);
+		when(user.getCachedUuid()).thenReturn("userUuid");
+		when(rc.user()).thenReturn(user);
+		handler.handle(rc);
+		RequestTimings timings = timings(rc);
+
+		// The user is captured once the headers have been written
+		headersEndHandler(rc).handle(null);
+		verify(user).getCachedUuid();
+		verify(user, never()).getUuid();
+
+		Thread.sleep(5);
+		bodyEndHandler(rc).handle(null);
+		verify(rc, atLeastOnce()).request();
+
+		String message = handler.slowRequestMessage(rc, timings, "userUuid");
+		assertTrue(message, message.startsWith("Slow request {GET /api/v2/demo/nodes} on route {" + RequestTimingHandler.UNKNOWN_ROUTE + "}"));
+		assertTrue(message, message.contains("by user {userUuid} with status {200}"));
+		assertTrue(message, message.contains("total;desc=\"Total\";dur="));
+	}
+
+	@Test
+	public void testFastRequestIsNotLogged() {
+		MeshOptions options = new MeshOptions();
+		options.getMonitoringOptions().setSlowRequestThreshold(60_000);
+		RequestTimingHandler handler = new RequestTimingHandler(options, metrics());
+
+		RoutingContext rc = mockContext();
+		handler.handle(rc);
+		headersEndHandler(rc).handle(null);
+		bodyEndHandler(rc).handle(null);
+		verify(rc, never()).request();
+	}
+
+	@Test
+	public void testSlowRequestOfAnonymousUser() {
+		MeshOptions options = new MeshOptions();
+		options.getMonitoringOptions().setSlowRequestThreshold(1);
+		RequestTimingHandler handler = new RequestTimingHandler(options, metrics());
+
+		RoutingContext rc = mockContext();
+		handler.handle(rc);
+		String message = handler.slowRequestMessage(rc, timings(rc), null);
+		assertTrue(message, message.contains("by user {anonymous}"));
+	}
+
+	private MetricsService metrics() {
+		MetricsService metrics = mock(MetricsService.class);
+		when(metrics.isEnabled()).thenReturn(false);
+		return metrics;
+	}
+
+	private RoutingContext mockContext() {
+		RoutingContext rc = mock(RoutingContext.class);
+		HttpServerRequest request = mock(HttpServerRequest.class);
+		when(request.rawMethod()).thenReturn("GET");
+		when(request.uri()).thenReturn("/api/v2/demo/nodes");
+		HttpServerResponse response = mock(HttpServerResponse.class);
+		when(response.getStatusCode()).thenReturn(200);
+		when(rc.request()).thenReturn(request);
+		when(rc.response()).thenReturn(response);
+		return rc;
+	}
+
+	private RequestTimings timings(RoutingContext rc) {
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(rc).put(Mockito.eq(RequestTimings.CONTEXT_KEY), captor.capture());
+		return (RequestTimings) captor.getValue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Handler<Void> headersEndHandler(RoutingContext rc) {
+		ArgumentCaptor<Handler<Void>> captor = ArgumentCaptor.forClass(Handler.class);
+		verify(rc).addHeadersEndHandler(captor.capture());
+		return captor.getValue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Handler<Void> bodyEndHandler(RoutingContext rc) {
+		ArgumentCaptor<Handler<Void>> captor = ArgumentCaptor.forClass(Handler.class);
+		verify(rc).addBodyEndHandler(captor.capture());
+		return captor.getValue();
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.gentics.mesh.metric;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.gentics.mesh.metric.RequestTimings.Phase;
+
+import io.vertx.ext.web.RoutingContext;
+
+public class RequestTimingsTest {
+
+	private static final String TIMING_PATTERN = "[a-z]+;desc=\"[^\"]+\";dur=\\d+\\.\\d{3}";
+
+	@Test
+	public void testServerTimingFormat() {
+		RequestTimings timings = new RequestTimings();
+		timings.add(Phase.TX, TimeUnit.MILLISECONDS.toNanos(12));
+		timings.add(Phase.SERIALIZE, 1_500_000);
+
+		String header = timings.toServerTiming();
+		assertTrue(header, header.matches(TIMING_PATTERN + "(, " + TIMING_PATTERN + ")*"));
+		assertTrue(header, header.startsWith("tx;desc=\"Transactions\";dur=12.000, serialize;desc=\"JSON serialization\";dur=1.500, "));
+		assertTrue(header, header.contains("total;desc=\"Total\";dur="));
+	}
+
+	@Test
+	public void testServerTimingWithoutPhases() {
+		String header = new RequestTimings().toServerTiming();
+		assertTrue(header, header.matches("total;desc=\"Total\";dur=\\d+\\.\\d{3}"));
+	}
+
+	@Test
+	public void testPhaseAccounting() throws InterruptedException {
+		RequestTimings timings = new RequestTimings();
+
+		// Durations of a phase which is entered multiple times are summed up
+		timings.add(Phase.TX, 100);
+		timings.add(Phase.TX, 200);
+		assertEquals(300, timings.get(Phase.TX));
+
+		// Nested phases are accounted separately
+		String result = timings.time(Phase.TRANSFORM, () -> timings.time(Phase.LINKS, () -> "done"));
+		assertEquals("done", result);
+		assertTrue(timings.get(Phase.TRANSFORM) >= timings.get(Phase.LINKS));
+
+		// Phases which span multiple handlers
+		timings.begin(Phase.AUTH);
+		Thread.sleep(2);
+		timings.end(Phase.AUTH);
+		assertTrue(timings.get(Phase.AUTH) >= TimeUnit.MILLISECONDS.toNanos(2));
+
+		// Ending a phase which was not started has no effect
+		long auth = timings.get(Phase.AUTH);
+		timings.end(Phase.AUTH);
+		assertEquals(auth, timings.get(Phase.AUTH));
+
+		assertEquals(0, timings.get(Phase.LOCK));
+		assertTrue(timings.getElapsed() >= timings.get(Phase.AUTH));
+	}
+
+	@Test
+	public void testUntrackedRequest() {
+		RoutingContext rc = Mockito.mock(RoutingContext.class);
+		Map<String, Object> data = new HashMap<>();
+		Mockito.when(rc.data()).thenReturn(data);
+
+		RequestTimings timings = RequestTimings.of(rc);
+		timings.add(Phase.TX, 100);
+		assertEquals(0, timings.get(Phase.TX));
+		assertEquals("done", timings.time(Phase.TRANSFORM, () -> "done"));
+		assertEquals(0, timings.get(Phase.TRANSFORM));
+		assertNull(timings.setRoute("/nodes").getRoute());
+		assertNull(timings.getGraphStats());
+
+		RequestTimings tracked = new RequestTimings();
+		data.put(RequestTimings.CONTEXT_KEY, tracked);
+		assertTrue(RequestTimings.of(rc) == tracked);
+	}
+
+}
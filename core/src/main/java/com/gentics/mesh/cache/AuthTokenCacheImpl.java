@@ -0,0 +1,86 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for verified JWTs. User updates may change the API key of a user and will thus remove the entries of that user.
+ */
+@Singleton
+public class AuthTokenCacheImpl extends AbstractMeshCache<String, AuthTokenEntry> implements AuthTokenCache {
+
+	private static final Logger log = LoggerFactory.getLogger(AuthTokenCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		USER_UPDATED,
+		USER_DELETED };
+
+	@Inject
+	public AuthTokenCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getTokenCacheSize());
+	}
+
+	private static EventAwareCache<String, AuthTokenEntry> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, AuthTokenEntry>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				String userUuid = event.body() == null ? null : event.body().getString("uuid");
+				if (userUuid == null) {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing token cache due to received event from {" + event.address() + "}");
+					}
+					cache.invalidate();
+				} else {
+					invalidateUser(cache, userUuid);
+				}
+			})
+			.name("token")
+			.maxSize(config.getTokenCacheSize())
+			.build();
+	}
+
+	private static void invalidateUser(EventAwareCache<String, AuthTokenEntry> cache, String userUuid) {
+		if (log.isDebugEnabled()) {
+			log.debug("Removing the tokens of user {" + userUuid + "} from the token cache");
+		}
+		cache.invalidateIf((token, entry) -> userUuid.equals(entry.getUserUuid()));
+	}
+
+	@Override
+	public void invalidateUser(String userUuid) {
+		invalidateUser(cache, userUuid);
+	}
+
+	@Override
+	public void store(String token, AuthTokenEntry entry) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(token, entry);
+	}
+
+	@Override
+	public AuthTokenEntry getEntry(String token) {
+		if (isDisabled()) {
+			return null;
+		}
+		AuthTokenEntry entry = cache.get(token);
+		if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+			cache.invalidate(token);
+			return null;
+		}
+		return entry;
+	}
+
+}
@@ -0,0 +1,141 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for the children structure of nodes. The key contains the etag version of the parent node which is incremented whenever a child gets
+ * created, moved or deleted. Outdated entries will thus no longer be accessed and get evicted over time. Schema updates may change the container flag of
+ * the children and will clear the whole cache.
+ *
+ * The permission independent node responses of the navigation elements are stored in a second cache of the same size. Their keys contain the etag of the
+ * node content. Updates of elements which are referenced by the responses (e.g. the editor or the tags) will clear this cache.
+ */
+@Singleton
+public class NavigationCacheImpl extends AbstractMeshCache<String, List<NavigationChildEntry>> implements NavigationCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NavigationCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		SCHEMA_UPDATED,
+		SCHEMA_MIGRATION_FINISHED };
+
+	private static final MeshEvent RESPONSE_EVENTS[] = {
+		SCHEMA_UPDATED,
+		SCHEMA_MIGRATION_FINISHED,
+		USER_UPDATED,
+		TAG_UPDATED,
+		PROJECT_UPDATED,
+		BRANCH_UPDATED };
+
+	private final EventAwareCache<String, NodeResponse> responseCache;
+
+	@Inject
+	public NavigationCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getNavigationCacheSize());
+		this.responseCache = createResponseCache(factory, options.getCacheConfig());
+		registry.register(responseCache);
+	}
+
+	private static EventAwareCache<String, List<NavigationChildEntry>> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, List<NavigationChildEntry>>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing navigation cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("navigation")
+			.maxSize(config.getNavigationCacheSize())
+			.build();
+	}
+
+	private static EventAwareCache<String, NodeResponse> createResponseCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, NodeResponse>builder()
+			.events(RESPONSE_EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing navigation response cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("navigation-response")
+			.maxSize(config.getNavigationCacheSize())
+			.build();
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		responseCache.invalidate();
+	}
+
+	@Override
+	public long size() {
+		return super.size() + responseCache.size();
+	}
+
+	@Override
+	public List<NavigationChildEntry> getChildren(Node node, String branchUuid) {
+		if (isDisabled()) {
+			return null;
+		}
+		return cache.get(createCacheKey(node, branchUuid));
+	}
+
+	@Override
+	public void store(Node node, String branchUuid, List<NavigationChildEntry> children) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(createCacheKey(node, branchUuid), children);
+	}
+
+	@Override
+	public NodeResponse getNodeResponse(String key) {
+		if (isDisabled()) {
+			return null;
+		}
+		return responseCache.get(key);
+	}
+
+	@Override
+	public void storeNodeResponse(String key, NodeResponse response) {
+		if (isDisabled()) {
+			return;
+		}
+		responseCache.put(key, response);
+	}
+
+	/**
+	 * Create the cache key.
+	 * 
+	 * @param node
+	 * @param branchUuid
+	 * @return
+	 */
+	private String createCacheKey(Node node, String branchUuid) {
+		return branchUuid + "-" + node.getUuid() + "-" + node.getETagVersion();
+	}
+
+}
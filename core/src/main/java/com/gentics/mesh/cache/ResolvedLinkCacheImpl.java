@@ -0,0 +1,162 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_LATEST_BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for rendered mesh links. The rendered link depends on the webroot path of the target node and the settings of the branch and project.
+ * Node events only remove the links whose webroot path contains the node in the branch of the event. Those links are found via a reverse index from
+ * the node uuid to the cache keys, which is updated whenever an entry is stored or removed. The cache will be cleared whenever the branch, project or
+ * schema settings may have changed.
+ */
+@Singleton
+public class ResolvedLinkCacheImpl extends AbstractMeshCache<String, ResolvedLink> implements ResolvedLinkCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ResolvedLinkCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		SCHEMA_MIGRATION_FINISHED,
+		BRANCH_CREATED,
+		BRANCH_UPDATED,
+		BRANCH_MIGRATION_FINISHED,
+		PROJECT_UPDATED,
+		PROJECT_LATEST_BRANCH_UPDATED };
+
+	private static final List<String> NODE_EVENT_ADDRESSES = Arrays.asList(
+		NODE_UPDATED.address,
+		NODE_DELETED.address,
+		NODE_PUBLISHED.address,
+		NODE_UNPUBLISHED.address,
+		NODE_MOVED.address,
+		NODE_CONTENT_CREATED.address,
+		NODE_CONTENT_DELETED.address);
+
+	/**
+	 * Cached links per node uuid of their webroot path. The links are stored by cache key.
+	 */
+	private final Map<String, Map<String, ResolvedLink>> dependentLinks;
+
+	@Inject
+	public ResolvedLinkCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		this(factory, registry, options, new ConcurrentHashMap<>());
+	}
+
+	private ResolvedLinkCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options,
+		Map<String, Map<String, ResolvedLink>> dependentLinks) {
+		super(createCache(factory, options.getCacheConfig(), dependentLinks), registry, options.getCacheConfig().getLinkCacheSize());
+		this.dependentLinks = dependentLinks;
+	}
+
+	private static EventAwareCache<String, ResolvedLink> createCache(EventAwareCacheFactory factory, CacheConfig config,
+		Map<String, Map<String, ResolvedLink>> dependentLinks) {
+		return factory.<String, ResolvedLink>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				JsonObject body = event.body();
+				String nodeUuid = body == null ? null : body.getString("uuid");
+				if (nodeUuid != null && NODE_EVENT_ADDRESSES.contains(event.address())) {
+					invalidateNode(cache, dependentLinks, nodeUuid, body.getString("branchUuid"));
+				} else {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing link cache due to received event from {" + event.address() + "}");
+					}
+					cache.invalidate();
+				}
+			})
+			.onRemoval((key, link) -> removeDependentLink(dependentLinks, key, link))
+			.name("link")
+			.maxSize(config.getLinkCacheSize())
+			.build();
+	}
+
+	private static void invalidateNode(EventAwareCache<String, ResolvedLink> cache, Map<String, Map<String, ResolvedLink>> dependentLinks,
+		String nodeUuid, String branchUuid) {
+		if (log.isDebugEnabled()) {
+			log.debug("Removing the links which depend on node {" + nodeUuid + "} in branch {" + branchUuid + "} from the link cache");
+		}
+		Map<String, ResolvedLink> links = dependentLinks.get(nodeUuid);
+		if (links == null) {
+			return;
+		}
+		links.forEach((key, link) -> {
+			if (link.dependsOn(nodeUuid, branchUuid)) {
+				cache.invalidate(key);
+				removeDependentLink(dependentLinks, key, link);
+			}
+		});
+	}
+
+	/**
+	 * Remove the link from the reverse index. The entry is only removed if the key still references the given link, so that the removal of a replaced
+	 * link does not remove the index entry of the new link.
+	 */
+	private static void removeDependentLink(Map<String, Map<String, ResolvedLink>> dependentLinks, String key, ResolvedLink link) {
+		if (key == null || link == null) {
+			return;
+		}
+		for (String nodeUuid : link.getPathNodeUuids()) {
+			dependentLinks.computeIfPresent(nodeUuid, (uuid, links) -> {
+				links.remove(key, link);
+				return links.isEmpty() ? null : links;
+			});
+		}
+	}
+
+	@Override
+	public void invalidateNode(String nodeUuid, String branchUuid) {
+		invalidateNode(cache, dependentLinks, nodeUuid, branchUuid);
+	}
+
+	@Override
+	public void store(String key, ResolvedLink link) {
+		if (isDisabled()) {
+			return;
+		}
+		for (String nodeUuid : link.getPathNodeUuids()) {
+			dependentLinks.compute(nodeUuid, (uuid, links) -> {
+				Map<String, ResolvedLink> result = links == null ? new ConcurrentHashMap<>() : links;
+				result.put(key, link);
+				return result;
+			});
+		}
+		cache.put(key, link);
+	}
+
+}
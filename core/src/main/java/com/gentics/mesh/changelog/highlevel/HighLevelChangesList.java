@@ -8,6 +8,7 @@ import javax.inject.Singleton;
 
 import com.gentics.mesh.changelog.highlevel.change.ExtractPlainText;
 import com.gentics.mesh.changelog.highlevel.change.FixNodeVersionOrder;
+import com.gentics.mesh.changelog.highlevel.change.PackBasicFieldLists;
 import com.gentics.mesh.changelog.highlevel.change.RestructureWebrootIndex;
 import com.gentics.mesh.changelog.highlevel.change.SetAdminUserFlag;
 import com.gentics.mesh.core.data.changelog.HighLevelChange;
@@ -30,6 +31,9 @@ public class HighLevelChangesList {
 	@Inject
 	public SetAdminUserFlag setAdminUserFlag;
 
+	@Inject
+	public PackBasicFieldLists packBasicFieldLists;
+
 	@Inject
 	public HighLevelChangesList() {
 	}
@@ -39,7 +43,8 @@ public class HighLevelChangesList {
 			restructureWebroot,
 			plainText,
 			fixNodeVersionOrder,
-			setAdminUserFlag
+			setAdminUserFlag,
+			packBasicFieldLists
 		// ADD NEW CHANGES HERE!
 		);
 	}
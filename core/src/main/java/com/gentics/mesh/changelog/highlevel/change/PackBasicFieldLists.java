@@ -0,0 +1,81 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.changelog.highlevel.AbstractHighLevelChange;
+import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.impl.BooleanGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.DateGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.HtmlGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.NumberGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.StringGraphFieldListImpl;
+import com.syncleus.ferma.FramedTransactionalGraph;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Change which converts the basic field lists (string, html, number, date, boolean) to the packed storage format. The lists which have not yet been
+ * converted can still be read. The change thus commits the converted lists in batches and can safely be repeated if it was interrupted.
+ */
+@Singleton
+public class PackBasicFieldLists extends AbstractHighLevelChange {
+
+	private static final Logger log = LoggerFactory.getLogger(PackBasicFieldLists.class);
+
+	private static final int BATCH_SIZE = 1000;
+
+	private static final List<Class<? extends AbstractBasicGraphFieldList<?, ?, ?>>> LIST_CLASSES = Arrays.asList(
+		StringGraphFieldListImpl.class,
+		HtmlGraphFieldListImpl.class,
+		NumberGraphFieldListImpl.class,
+		DateGraphFieldListImpl.class,
+		BooleanGraphFieldListImpl.class);
+
+	@Inject
+	public PackBasicFieldLists() {
+	}
+
+	@Override
+	public String getUuid() {
+		return "4A1B8E0C2D7F4C5A9B8E0C2D7F1C5A93";
+	}
+
+	@Override
+	public String getName() {
+		return "Pack Basic Field Lists";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Converts the string, html, number, date and boolean field lists to the packed storage format.";
+	}
+
+	@Override
+	public void apply() {
+		log.info("Applying change: " + getName());
+		FramedTransactionalGraph graph = Tx.getActive().getGraph();
+		for (Class<? extends AbstractBasicGraphFieldList<?, ?, ?>> clazz : LIST_CLASSES) {
+			long total = 0;
+			long packed = 0;
+			for (AbstractBasicGraphFieldList<?, ?, ?> list : graph.getFramedVertices("@class", clazz.getSimpleName(), clazz)) {
+				if (list.pack()) {
+					packed++;
+					if (packed % BATCH_SIZE == 0) {
+						graph.commit();
+						log.info("Packed {" + packed + "} lists of type {" + clazz.getSimpleName() + "}");
+					}
+				}
+				total++;
+			}
+			graph.commit();
+			log.info("Done packing lists of type {" + clazz.getSimpleName() + "}. Packed: {" + packed + "} of {" + total + "}");
+		}
+	}
+
+}
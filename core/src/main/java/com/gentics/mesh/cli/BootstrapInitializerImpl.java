@@ -19,9 +19,11 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -64,7 +66,6 @@ import com.gentics.mesh.core.data.root.TagRoot;
 import com.gentics.mesh.core.data.root.UserRoot;
 import com.gentics.mesh.core.data.root.impl.MeshRootImpl;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
-import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
 import com.gentics.mesh.core.endpoint.admin.LocalConfigApi;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
@@ -86,6 +87,8 @@ import com.gentics.mesh.etc.config.DebugInfoOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.MonitoringConfig;
+import com.gentics.mesh.event.MeshEventEnvelope;
+import com.gentics.mesh.event.codec.MeshEventEnvelopeCodec;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.plugin.manager.MeshPluginManager;
 import com.gentics.mesh.router.RouterStorageRegistry;
@@ -108,6 +111,7 @@ import ch.qos.logback.core.rolling.RollingFileAppender;
 import ch.qos.logback.core.rolling.SizeBasedTriggeringPolicy;
 import ch.qos.logback.core.util.FileSize;
 import dagger.Lazy;
+import io.reactivex.functions.Action;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.eventbus.EventBus;
@@ -195,6 +199,8 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 
 	private String initialPasswordInfo;
 
+	private final Map<String, Long> startupTimings = new LinkedHashMap<>();
+
 	private final ReindexAction SYNC_INDEX_ACTION = (() -> {
 
 		// Init the classes / indices
@@ -235,6 +241,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		if (isEmptyInstallation) {
 			// Update graph indices and vertex types (This may take some time)
 			DatabaseHelper.init(db);
+			DatabaseHelper.initFieldIndices(db, configuration);
 			// Setup mandatory data (e.g.: mesh root, project root, user root etc., admin user/role/group)
 			initMandatoryData(configuration);
 			initOptionalLanguages(configuration);
@@ -265,11 +272,14 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		boolean startOrientServer = storageOptions != null && storageOptions.getStartServer();
 
 		options = prepareMeshOptions(options);
+		MeshOptions finalOptions = options;
 
 		addDebugInfoLogAppender(options);
 		RequirementsCheck.init(storageOptions);
+		startupTimings.clear();
+		long start = System.currentTimeMillis();
 		try {
-			db.init(mesh.getOptions(), MeshVersion.getBuildInfo().getVersion(), "com.gentics.mesh.core.data");
+			timed("database init", () -> db.init(mesh.getOptions(), MeshVersion.getBuildInfo().getVersion(), "com.gentics.mesh.core.data"));
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -293,27 +303,35 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 				// We need to init the graph db before starting the OrientDB Server. Otherwise the database will not get picked up by the orientdb server which
 				// handles the clustering.
 				db.setupConnectionPool();
-				boolean setupData = initLocalData(options, false);
+				boolean setupData = timed("local data init", () -> initLocalData(finalOptions, false));
 				db.closeConnectionPool();
 				db.shutdown();
 
-				db.clusterManager().start();
-				db.clusterManager().registerEventHandlers();
+				timed("cluster start", () -> {
+					db.clusterManager().start();
+					db.clusterManager().registerEventHandlers();
+				});
 				db.setupConnectionPool();
-				searchProvider.init();
-				searchProvider.start();
+				timed("search provider start", () -> {
+					searchProvider.init();
+					searchProvider.start();
+				});
 				if (setupData) {
-					createSearchIndicesAndMappings();
+					timed("search index init", this::createSearchIndicesAndMappings);
 				}
 			} else {
 				// We need to wait for other nodes and receive the graphdb
-				db.clusterManager().start();
-				db.clusterManager().registerEventHandlers();
+				timed("cluster start", () -> {
+					db.clusterManager().start();
+					db.clusterManager().registerEventHandlers();
+				});
 				isInitialSetup = false;
 				db.setupConnectionPool();
-				searchProvider.init();
-				searchProvider.start();
-				initLocalData(options, true);
+				timed("search provider start", () -> {
+					searchProvider.init();
+					searchProvider.start();
+				});
+				timed("local data init", () -> initLocalData(finalOptions, true));
 			}
 
 			boolean active = false;
@@ -328,11 +346,13 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 			coordinatorMasterElector.start();
 		} else {
 			initVertx(options);
-			searchProvider.init();
-			searchProvider.start();
+			timed("search provider start", () -> {
+				searchProvider.init();
+				searchProvider.start();
+			});
 			// No cluster mode - Just setup the connection pool and load or setup the local data
 			db.setupConnectionPool();
-			initLocalData(options, false);
+			timed("local data init", () -> initLocalData(finalOptions, false));
 			if (startOrientServer) {
 				db.closeConnectionPool();
 				db.clusterManager().start();
@@ -341,7 +361,8 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		}
 
 		eventManager.registerHandlers();
-		handleLocalData(forceIndexSync, options, verticleLoader);
+		timed("local data handling", () -> handleLocalData(forceIndexSync, finalOptions, verticleLoader));
+		log.info("Bootstrap completed in {" + (System.currentTimeMillis() - start) + "} ms. Phase timings: " + startupTimings);
 
 		// Load existing plugins
 		pluginManager.start();
@@ -356,6 +377,41 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		}
 	}
 
+	/**
+	 * Run the given startup phase and record its duration.
+	 * 
+	 * @param phase
+	 *            Name of the phase
+	 * @param action
+	 * @throws Exception
+	 */
+	private void timed(String phase, Action action) throws Exception {
+		timed(phase, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Run the given startup phase and record its duration.
+	 * 
+	 * @param phase
+	 *            Name of the phase
+	 * @param callable
+	 * @return Result of the callable
+	 * @throws Exception
+	 */
+	private <T> T timed(String phase, Callable<T> callable) throws Exception {
+		long start = System.currentTimeMillis();
+		try {
+			return callable.call();
+		} finally {
+			long duration = System.currentTimeMillis() - start;
+			startupTimings.merge(phase, duration, Long::sum);
+			log.info("Startup phase {" + phase + "} took {" + duration + "} ms");
+		}
+	}
+
 	/**
 	 * Adds a file appender to the logging system. The log file is later used by the
 	 * {@link com.gentics.mesh.core.endpoint.admin.debuginfo.providers.LogProvider}
@@ -500,6 +556,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		} else {
 			log.warn("Current environment does not support native transports");
 		}
+		vertx.eventBus().registerDefaultCodec(MeshEventEnvelope.class, new MeshEventEnvelopeCodec());
 
 		this.vertx = vertx;
 	}
@@ -704,6 +761,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 
 		// Update graph indices and vertex types (This may take some time)
 		DatabaseHelper.init(db);
+		DatabaseHelper.initFieldIndices(db, options);
 
 		// Now run the high level changelog entries
 		highlevelChangelogSystem.apply(meshRoot);
@@ -723,10 +781,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 
 	@Override
 	public void createSearchIndicesAndMappings() {
-		IndexHandlerRegistry registry = indexHandlerRegistry.get();
-		for (IndexHandler<?> handler : registry.getHandlers()) {
-			handler.init().blockingAwait();
-		}
+		indexHandlerRegistry.get().init().blockingAwait();
 	}
 
 	/**
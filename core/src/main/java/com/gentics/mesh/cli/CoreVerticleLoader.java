@@ -6,7 +6,9 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.core.changes.NodeChangeLogVerticle;
 import com.gentics.mesh.core.verticle.job.JobWorkerVerticle;
+import com.gentics.mesh.core.verticle.job.VersionRetentionVerticle;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
 import com.gentics.mesh.monitor.MonitoringServerVerticle;
@@ -38,6 +40,12 @@ public class CoreVerticleLoader {
 	@Inject
 	public JobWorkerVerticle jobWorkerVerticle;
 
+	@Inject
+	public VersionRetentionVerticle versionRetentionVerticle;
+
+	@Inject
+	public NodeChangeLogVerticle nodeChangeLogVerticle;
+
 	@Inject
 	public Provider<ElasticsearchProcessVerticle> elasticsearchProcessVerticleProvider;
 	private ElasticsearchProcessVerticle elasticsearchProcessVerticle;
@@ -70,6 +78,8 @@ public class CoreVerticleLoader {
 			deployRestVerticle(),
 			deployMonitoringVerticle(),
 			deployJobWorkerVerticle(),
+			deployVersionRetentionVerticle(),
+			deployNodeChangeLogVerticle(),
 			deploySearchVerticle()
 		);
 	}
@@ -98,6 +108,23 @@ public class CoreVerticleLoader {
 			.ignoreElement();
 	}
 
+	private Completable deployVersionRetentionVerticle() {
+		return rxVertx.rxDeployVerticle(versionRetentionVerticle, new DeploymentOptions()
+			.setInstances(1)
+			.setWorker(true))
+			.ignoreElement();
+	}
+
+	private Completable deployNodeChangeLogVerticle() {
+		if (meshOptions.getContentOptions().getChangeFeedDirectory() == null) {
+			return Completable.complete();
+		}
+		return rxVertx.rxDeployVerticle(nodeChangeLogVerticle, new DeploymentOptions()
+			.setInstances(1)
+			.setWorker(true))
+			.ignoreElement();
+	}
+
 	private Completable deploySearchVerticle() {
 		// Only deploy search sync verticle if we actually have a configured ES
 		ElasticSearchOptions searchOptions = meshOptions.getSearchOptions();
@@ -16,10 +16,12 @@ import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.graph.GraphAttribute;
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.dagger.MeshComponent;
 import com.gentics.mesh.handler.VersionHandler;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.ParameterProvider;
+import com.gentics.mesh.rest.client.impl.EmptyResponse;
 import com.gentics.mesh.router.route.SecurityLoggingHandler;
 import com.gentics.mesh.util.HttpQueryUtils;
 
@@ -34,12 +36,17 @@ import io.vertx.ext.web.FileUpload;
 /**
  * Implementation of a local action context. The local action context does not rely on a routing context.
  *
+ * Request and response models are passed by reference. The payload object will be returned by {@link #fromJson(Class)} and rest models which match
+ * the response class will be used as the result without being serialized. Handlers which need the raw body or send other types of responses fall
+ * back to JSON.
+ *
  * @param <T>
  *            Type of the response object
  */
 public class LocalActionContextImpl<T> extends AbstractInternalActionContext implements InternalActionContext {
 
 	private RestModel payloadObject;
+	private String body;
 	private MeshAuthUser user;
 	private Map<String, Object> data = new HashMap<>();
 	private MultiMap parameters = MultiMap.caseInsensitiveMultiMap();
@@ -99,7 +106,28 @@ public class LocalActionContextImpl<T> extends AbstractInternalActionContext imp
 
 	@Override
 	public String getBodyAsString() {
-		return payloadObject.toJson();
+		if (body == null && payloadObject != null) {
+			body = payloadObject.toJson();
+		}
+		return body;
+	}
+
+	/**
+	 * Set the raw request body. This is used for requests which don't have a payload model (e.g. search queries).
+	 *
+	 * @param body
+	 */
+	public void setRawBody(String body) {
+		this.body = body;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <R> R fromJson(Class<?> classOfT) throws GenericRestException {
+		if (payloadObject != null && classOfT.isInstance(payloadObject)) {
+			return (R) payloadObject;
+		}
+		return super.fromJson(classOfT);
 	}
 
 	@Override
@@ -136,21 +164,42 @@ public class LocalActionContextImpl<T> extends AbstractInternalActionContext imp
 		this.parameters.add(name, value);
 	}
 
+	@Override
+	public void send(RestModel restModel, HttpResponseStatus status) {
+		if (classOfResponse.isInstance(restModel)) {
+			this.responseStatus = status;
+			promise.complete(classOfResponse.cast(restModel));
+		} else {
+			super.send(restModel, status);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
 	@Override
 	public void send(String body, HttpResponseStatus status, String contentType) {
 		this.responseBody = body;
 		this.responseStatus = status;
+		if (classOfResponse == String.class) {
+			promise.complete((T) body);
+			return;
+		}
 		T model = JsonUtil.readValue(responseBody, classOfResponse);
 		promise.complete(model);
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public void send(HttpResponseStatus status) {
+		this.responseStatus = status;
+		if (classOfResponse == EmptyResponse.class) {
+			promise.complete((T) EmptyResponse.getInstance());
+			return;
+		}
 		promise.complete();
 	}
 
 	/**
-	 * Return the response body string.
+	 * Return the response body string. The body will be null if the response model has been passed by reference.
 	 * 
 	 * @return
 	 */
@@ -206,6 +206,11 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 			}
 
+			@Override
+			public String getCachedUuid() {
+				return null;
+			}
+
 			@Override
 			public String getUuid() {
 				return null;
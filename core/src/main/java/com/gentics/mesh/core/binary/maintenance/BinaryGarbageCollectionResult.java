@@ -0,0 +1,72 @@
+package com.gentics.mesh.core.binary.maintenance;
+
+/**
+ * Statistics of a binary garbage collection run.
+ */
+public class BinaryGarbageCollectionResult {
+
+	private long deletedBinaries;
+
+	private long reclaimedBytes;
+
+	private long reclaimedTempBytes;
+
+	private long duration;
+
+	public long getDeletedBinaries() {
+		return deletedBinaries;
+	}
+
+	public BinaryGarbageCollectionResult setDeletedBinaries(long deletedBinaries) {
+		this.deletedBinaries = deletedBinaries;
+		return this;
+	}
+
+	/**
+	 * Return the amount of bytes which have been reclaimed by deleting unreferenced binaries.
+	 * 
+	 * @return
+	 */
+	public long getReclaimedBytes() {
+		return reclaimedBytes;
+	}
+
+	public BinaryGarbageCollectionResult setReclaimedBytes(long reclaimedBytes) {
+		this.reclaimedBytes = reclaimedBytes;
+		return this;
+	}
+
+	/**
+	 * Return the amount of bytes which have been reclaimed by deleting stale temporary uploads.
+	 * 
+	 * @return
+	 */
+	public long getReclaimedTempBytes() {
+		return reclaimedTempBytes;
+	}
+
+	public BinaryGarbageCollectionResult setReclaimedTempBytes(long reclaimedTempBytes) {
+		this.reclaimedTempBytes = reclaimedTempBytes;
+		return this;
+	}
+
+	/**
+	 * Return the duration of the run in milliseconds.
+	 * 
+	 * @return
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	public BinaryGarbageCollectionResult setDuration(long duration) {
+		this.duration = duration;
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return "deletedBinaries: " + deletedBinaries + ", reclaimedBytes: " + reclaimedBytes + ", reclaimedTempBytes: " + reclaimedTempBytes
+			+ ", duration: " + duration + "ms";
+	}
+}
@@ -0,0 +1,189 @@
+package com.gentics.mesh.core.binary.maintenance;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.binary.impl.BinaryImpl;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.MeshUploadOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.storage.BinaryStorage;
+
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * The binary garbage collector removes {@link Binary} vertices which are no longer referenced by any binary field and deletes the binary data from the
+ * {@link BinaryStorage}. Additionally stale temporary uploads will be removed.
+ *
+ * Binaries are deduplicated via their SHA512 hashsum. A binary is thus only unreferenced once the last field which uses the hashsum has been removed.
+ */
+@Singleton
+public class BinaryGarbageCollector {
+
+	private static final Logger log = LoggerFactory.getLogger(BinaryGarbageCollector.class);
+
+	private final Database db;
+
+	private final BinaryStorage storage;
+
+	private final MeshOptions options;
+
+	@Inject
+	public BinaryGarbageCollector(Database db, BinaryStorage storage, MeshOptions options) {
+		this.db = db;
+		this.storage = storage;
+		this.options = options;
+	}
+
+	/**
+	 * Run the garbage collection. The binaries are scanned in batches. Each batch uses a dedicated transaction in which the unreferenced binaries of the
+	 * batch get deleted. The binary data is removed from the storage once the transaction has been committed. The next batch is scanned after the
+	 * configured delay.
+	 *
+	 * @return Single which emits the statistics of the run
+	 */
+	public Single<BinaryGarbageCollectionResult> collect() {
+		return Single.defer(() -> {
+			long start = System.currentTimeMillis();
+			MeshUploadOptions uploadOptions = options.getUploadOptions();
+			BinaryGarbageCollectionResult result = new BinaryGarbageCollectionResult();
+			return Single.fromCallable(() -> db.tx(() -> db.getVertexPartitions(BinaryImpl.class)))
+				.flattenAsFlowable(partitions -> partitions)
+				.concatMapCompletable(partition -> collectPartition(partition, null, uploadOptions, result))
+				.andThen(storage.purgeStaleTemporaryUploads(uploadOptions.getTempUploadMaxAge()))
+				.map(reclaimed -> reclaimed + purgeStaleUploadFiles(uploadOptions))
+				.map(reclaimedTemp -> {
+					result.setReclaimedTempBytes(reclaimedTemp);
+					result.setDuration(System.currentTimeMillis() - start);
+					log.info("Binary garbage collection finished. " + result);
+					return result;
+				});
+		});
+	}
+
+	/**
+	 * Process the binaries of the partition which follow the given id. The next batch will be processed once the data of the current batch has been
+	 * deleted and the batch delay has passed.
+	 *
+	 * @param partition
+	 *            Name of the partition which contains binaries
+	 * @param afterId
+	 *            Id of the last binary of the previous batch or null to start with the first binary of the partition
+	 * @param uploadOptions
+	 * @param result
+	 * @return
+	 */
+	private Completable collectPartition(String partition, Object afterId, MeshUploadOptions uploadOptions, BinaryGarbageCollectionResult result) {
+		return Completable.defer(() -> {
+			int batchSize = uploadOptions.getGcBatchSize();
+			Batch batch = deleteUnreferenced(partition, afterId, batchSize);
+			Completable next = Completable.complete();
+			if (batch.size == batchSize) {
+				next = Completable.timer(uploadOptions.getGcBatchDelay(), TimeUnit.MILLISECONDS)
+					.andThen(collectPartition(partition, batch.lastId, uploadOptions, result));
+			}
+			return deleteData(batch.deleted, result).andThen(next);
+		});
+	}
+
+	/**
+	 * Load the next batch of binaries from the partition and delete the binaries which are not referenced by any binary field.
+	 *
+	 * @param partition
+	 * @param afterId
+	 * @param batchSize
+	 * @return
+	 */
+	private Batch deleteUnreferenced(String partition, Object afterId, int batchSize) {
+		return db.tx(() -> {
+			Batch batch = new Batch();
+			List<? extends BinaryImpl> binaries = db.getVertexBatch(BinaryImpl.class, partition, afterId, batchSize);
+			for (BinaryImpl binary : binaries) {
+				batch.lastId = binary.getId();
+				if (binary.findFields().hasNext()) {
+					continue;
+				}
+				batch.deleted.put(binary.getUuid(), binary.getSize());
+				binary.getElement().remove();
+			}
+			batch.size = binaries.size();
+			if (log.isDebugEnabled()) {
+				log.debug("Deleting {" + batch.deleted.size() + "} of {" + batch.size + "} binaries of partition {" + partition + "}");
+			}
+			return batch;
+		});
+	}
+
+	/**
+	 * Delete the data of the deleted binaries from the storage.
+	 *
+	 * @param deleted
+	 *            Uuids and sizes of the deleted binaries
+	 * @param result
+	 * @return
+	 */
+	private Completable deleteData(Map<String, Long> deleted, BinaryGarbageCollectionResult result) {
+		List<Completable> deletions = new ArrayList<>();
+		for (Map.Entry<String, Long> entry : deleted.entrySet()) {
+			String uuid = entry.getKey();
+			deletions.add(storage.delete(uuid).doOnComplete(() -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Deleted data of unreferenced binary {" + uuid + "}");
+				}
+			}));
+			result.setDeletedBinaries(result.getDeletedBinaries() + 1);
+			result.setReclaimedBytes(result.getReclaimedBytes() + entry.getValue());
+		}
+		return Completable.concat(deletions);
+	}
+
+	/**
+	 * Delete stale files within the upload temporary directory. These files are usually removed once the upload request has been handled but may remain
+	 * if the server was stopped during an upload.
+	 *
+	 * @param uploadOptions
+	 * @return Amount of reclaimed bytes
+	 */
+	private long purgeStaleUploadFiles(MeshUploadOptions uploadOptions) {
+		File[] files = new File(uploadOptions.getTempDirectory()).listFiles();
+		if (files == null) {
+			return 0;
+		}
+		long threshold = System.currentTimeMillis() - uploadOptions.getTempUploadMaxAge();
+		long reclaimed = 0;
+		for (File file : files) {
+			if (file.isFile() && file.lastModified() < threshold) {
+				long size = file.length();
+				if (file.delete()) {
+					reclaimed += size;
+				}
+			}
+		}
+		return reclaimed;
+	}
+
+	/**
+	 * Outcome of a single batch.
+	 */
+	private static class Batch {
+
+		private Map<String, Long> deleted = new HashMap<>();
+
+		private Object lastId;
+
+		private int size;
+
+	}
+
+}
@@ -0,0 +1,404 @@
+package com.gentics.mesh.core.changes;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.GONE;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.apache.commons.io.FileUtils;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshElementEventModel;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.core.rest.event.MeshProjectElementEventModel;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.core.rest.node.changes.NodeChange;
+import com.gentics.mesh.core.rest.node.changes.NodeChangeAction;
+import com.gentics.mesh.etc.config.ContentConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.util.DateUtils;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Append-only log of the node changes of each project branch. Every branch has its own log file which consists of fixed size records. The sequence
+ * number of a change is the base sequence of the file plus the position of its record within the file. This way the sequence numbers are increasing
+ * monotonically and the changes after a given sequence number can be located without an index.
+ *
+ * The first record of a file is a header which contains the base sequence (8 bytes). A change record contains the timestamp (8 bytes), the action (1
+ * byte) and the node uuid (16 bytes). Appended records are forced to the storage device before the append returns.
+ *
+ * Once a log contains more than {@link ContentConfig#getChangeFeedMaxChanges()} changes the oldest changes are removed by rewriting the file with an
+ * increased base sequence. Consumers which have not yet read the removed changes need to reset their state. The logs of deleted projects and branches
+ * are removed.
+ */
+@Singleton
+public class NodeChangeLog {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeChangeLog.class);
+
+	public static final int RECORD_SIZE = Long.BYTES + 1 + 2 * Long.BYTES;
+
+	/**
+	 * Size of the header which precedes the records. The header has the size of a record to keep the records aligned.
+	 */
+	private static final int HEADER_SIZE = RECORD_SIZE;
+
+	private static final int READ_BUFFER_RECORDS = 1024;
+
+	private static final NodeChangeAction[] ACTIONS = NodeChangeAction.values();
+
+	private final MeshOptions options;
+
+	@Inject
+	public NodeChangeLog(MeshOptions options) {
+		this.options = options;
+	}
+
+	/**
+	 * Check whether the change feed has been enabled.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return options.getContentOptions().getChangeFeedDirectory() != null;
+	}
+
+	/**
+	 * Append the node changes of the events to the logs of the affected branches. Multiple events for the same node and action (e.g. for different
+	 * languages) will only be recorded once. The logs of deleted projects and branches will be removed.
+	 *
+	 * @param events
+	 *            Events of a dispatched batch
+	 */
+	public synchronized void append(List<MeshEventModel> events) {
+		long timestamp = System.currentTimeMillis();
+		Map<Path, Set<Change>> changes = new LinkedHashMap<>();
+		for (MeshEventModel event : events) {
+			if (event.getEvent() == MeshEvent.PROJECT_DELETED && event instanceof MeshElementEventModel) {
+				deleteProject(((MeshElementEventModel) event).getUuid());
+				continue;
+			}
+			if (event.getEvent() == MeshEvent.BRANCH_DELETED && event instanceof MeshProjectElementEventModel) {
+				MeshProjectElementEventModel branchEvent = (MeshProjectElementEventModel) event;
+				if (branchEvent.getProject() != null) {
+					deleteBranch(branchEvent.getProject().getUuid(), branchEvent.getUuid());
+				}
+				continue;
+			}
+			if (!(event instanceof NodeMeshEventModel)) {
+				continue;
+			}
+			NodeMeshEventModel nodeEvent = (NodeMeshEventModel) event;
+			NodeChangeAction action = toAction(nodeEvent.getEvent());
+			if (action == null || nodeEvent.getProject() == null || nodeEvent.getBranchUuid() == null) {
+				continue;
+			}
+			if (!UUIDUtil.isUUID(nodeEvent.getUuid())) {
+				log.warn("Could not record the change of node {" + nodeEvent.getUuid() + "} since the uuid is not valid.");
+				continue;
+			}
+			Path file = logFile(nodeEvent.getProject().getUuid(), nodeEvent.getBranchUuid());
+			changes.computeIfAbsent(file, f -> new LinkedHashSet<>()).add(new Change(action, nodeEvent.getUuid()));
+		}
+
+		for (Map.Entry<Path, Set<Change>> entry : changes.entrySet()) {
+			ByteBuffer buffer = ByteBuffer.allocate(entry.getValue().size() * RECORD_SIZE);
+			for (Change change : entry.getValue()) {
+				UUID uuid = UUID.fromString(UUIDUtil.toFullUuid(change.uuid));
+				buffer.putLong(timestamp);
+				buffer.put((byte) change.action.ordinal());
+				buffer.putLong(uuid.getMostSignificantBits());
+				buffer.putLong(uuid.getLeastSignificantBits());
+			}
+			buffer.flip();
+			Path file = entry.getKey();
+			try {
+				Files.createDirectories(file.getParent());
+				long records;
+				try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, APPEND)) {
+					// Drop a partially written record of an earlier crash to keep the records aligned
+					long size = channel.size();
+					if (size < HEADER_SIZE) {
+						channel.truncate(0);
+						write(channel, header(0));
+					} else if (size % RECORD_SIZE != 0) {
+						log.warn("Truncating the incomplete last record of the change log {" + file + "}");
+						channel.truncate(size - size % RECORD_SIZE);
+					}
+					write(channel, buffer);
+					channel.force(false);
+					records = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+				}
+				long maxChanges = options.getContentOptions().getChangeFeedMaxChanges();
+				// Allow the log to grow by a tenth of the limit before it gets rewritten, so that the file isn't rewritten on every append
+				if (maxChanges > 0 && records > maxChanges + maxChanges / 10) {
+					removeOldest(file, records - maxChanges);
+				}
+			} catch (IOException e) {
+				log.error("Could not append {" + entry.getValue().size() + "} changes to the change log {" + file + "}", e);
+			}
+		}
+	}
+
+	/**
+	 * Read the changes of the branch which have a sequence number greater than the given one. An error will be thrown if changes after the given sequence
+	 * number have already been removed from the log.
+	 *
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @param since
+	 *            Sequence number of the last change which is already known to the caller
+	 * @param limit
+	 *            Maximum amount of changes to be read
+	 * @param consumer
+	 *            Consumer which will be invoked for each change in the order of the sequence numbers
+	 * @return Amount of read changes
+	 * @throws IOException
+	 */
+	public long read(String projectUuid, String branchUuid, long since, long limit, Consumer<NodeChange> consumer) throws IOException {
+		Path file = logFile(projectUuid, branchUuid);
+		if (!Files.exists(file)) {
+			return 0;
+		}
+		long count = 0;
+		try (FileChannel channel = openForRead(file)) {
+			// Only read complete records. Records which are appended while reading will be returned by the next request.
+			long base = readBase(channel);
+			if (since < base) {
+				throw error(GONE, "node_changes_error_reset_required", String.valueOf(since), String.valueOf(base + 1));
+			}
+			long end = base + Math.max(0, channel.size() - HEADER_SIZE) / RECORD_SIZE;
+			long sequence = since;
+			ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_RECORDS * RECORD_SIZE);
+			while (sequence < end && count < limit) {
+				buffer.clear();
+				long records = Math.min(Math.min(READ_BUFFER_RECORDS, end - sequence), limit - count);
+				buffer.limit((int) records * RECORD_SIZE);
+				long position = HEADER_SIZE + (sequence - base) * RECORD_SIZE;
+				while (buffer.hasRemaining()) {
+					if (channel.read(buffer, position + buffer.position()) < 0) {
+						break;
+					}
+				}
+				buffer.flip();
+				if (buffer.remaining() < RECORD_SIZE) {
+					break;
+				}
+				while (buffer.remaining() >= RECORD_SIZE) {
+					long timestamp = buffer.getLong();
+					int action = buffer.get();
+					UUID uuid = new UUID(buffer.getLong(), buffer.getLong());
+					sequence++;
+					count++;
+					consumer.accept(new NodeChange()
+						.setSequence(sequence)
+						.setAction(ACTIONS[action])
+						.setUuid(UUIDUtil.toShortUuid(uuid.toString()))
+						.setTimestamp(DateUtils.toISO8601(timestamp)));
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Return the sequence number of the latest change of the branch.
+	 *
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @return Sequence number or 0 if no change has been recorded
+	 * @throws IOException
+	 */
+	public long getLatestSequence(String projectUuid, String branchUuid) throws IOException {
+		Path file = logFile(projectUuid, branchUuid);
+		if (!Files.exists(file)) {
+			return 0;
+		}
+		try (FileChannel channel = openForRead(file)) {
+			return readBase(channel) + Math.max(0, channel.size() - HEADER_SIZE) / RECORD_SIZE;
+		}
+	}
+
+	/**
+	 * Return the sequence number of the oldest change which is still contained in the log of the branch. Consumers which have only read the changes
+	 * up to a lower sequence number than the returned one minus one need to reset their state, since changes have been removed in the meantime.
+	 *
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @return Sequence number of the oldest available change, or of the next change if the log is empty
+	 * @throws IOException
+	 */
+	public long getOldestSequence(String projectUuid, String branchUuid) throws IOException {
+		Path file = logFile(projectUuid, branchUuid);
+		if (!Files.exists(file)) {
+			return 1;
+		}
+		try (FileChannel channel = openForRead(file)) {
+			return readBase(channel) + 1;
+		}
+	}
+
+	/**
+	 * Remove the oldest records of the log. The remaining records are copied to a new file with an increased base sequence which then replaces the log.
+	 * Readers which have already opened the log will continue to read the old file.
+	 *
+	 * @param file
+	 * @param removed
+	 *            Amount of records to be removed
+	 * @throws IOException
+	 */
+	private void removeOldest(Path file, long removed) throws IOException {
+		Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+		try (FileChannel source = FileChannel.open(file, READ); FileChannel target = FileChannel.open(tmp, CREATE, WRITE, TRUNCATE_EXISTING)) {
+			long base = readBase(source);
+			write(target, header(base + removed));
+			long position = HEADER_SIZE + removed * RECORD_SIZE;
+			long end = source.size();
+			while (position < end) {
+				position += source.transferTo(position, end - position, target);
+			}
+			target.force(false);
+		}
+		Files.move(tmp, file, ATOMIC_MOVE, REPLACE_EXISTING);
+		log.info("Removed the {" + removed + "} oldest changes from the change log {" + file + "}");
+	}
+
+	/**
+	 * Open the log for reading. The log is opened while holding the lock so that a concurrent rewrite is either fully visible or not at all.
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	private synchronized FileChannel openForRead(Path file) throws IOException {
+		return FileChannel.open(file, READ);
+	}
+
+	private static long readBase(FileChannel channel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, buffer.position()) < 0) {
+				// The header has not been written yet
+				return 0;
+			}
+		}
+		buffer.flip();
+		return buffer.getLong();
+	}
+
+	private static ByteBuffer header(long base) {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putLong(base);
+		header.clear();
+		return header;
+	}
+
+	private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private void deleteBranch(String projectUuid, String branchUuid) {
+		if (projectUuid == null || branchUuid == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(logFile(projectUuid, branchUuid));
+		} catch (IOException e) {
+			log.error("Could not delete the change log of branch {" + branchUuid + "}", e);
+		}
+	}
+
+	private void deleteProject(String projectUuid) {
+		if (projectUuid == null) {
+			return;
+		}
+		File dir = Paths.get(options.getContentOptions().getChangeFeedDirectory(), projectUuid).toFile();
+		try {
+			FileUtils.deleteDirectory(dir);
+		} catch (IOException e) {
+			log.error("Could not delete the change logs of project {" + projectUuid + "}", e);
+		}
+	}
+
+	private Path logFile(String projectUuid, String branchUuid) {
+		return Paths.get(options.getContentOptions().getChangeFeedDirectory(), projectUuid, branchUuid + ".log");
+	}
+
+	private static NodeChangeAction toAction(MeshEvent event) {
+		switch (event) {
+		case NODE_CONTENT_CREATED:
+			return NodeChangeAction.created;
+		case NODE_UPDATED:
+		case NODE_MOVED:
+		case NODE_REFERENCE_UPDATED:
+		case NODE_CONTENT_DELETED:
+			return NodeChangeAction.updated;
+		case NODE_DELETED:
+			return NodeChangeAction.deleted;
+		case NODE_PUBLISHED:
+			return NodeChangeAction.published;
+		case NODE_UNPUBLISHED:
+			return NodeChangeAction.unpublished;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Change of a single node within a batch.
+	 */
+	private static class Change {
+
+		private final NodeChangeAction action;
+
+		private final String uuid;
+
+		Change(NodeChangeAction action, String uuid) {
+			this.action = action;
+			this.uuid = uuid;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Change)) {
+				return false;
+			}
+			Change other = (Change) obj;
+			return action == other.action && uuid.equals(other.uuid);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * action.hashCode() + uuid.hashCode();
+		}
+	}
+
+}
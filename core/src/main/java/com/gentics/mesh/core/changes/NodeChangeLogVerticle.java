@@ -0,0 +1,84 @@
+package com.gentics.mesh.core.changes;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.event.MeshEventEnvelope;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Worker verticle which records the node changes of the dispatched event batches in the {@link NodeChangeLog}. The verticle must only be deployed
+ * once since the records are appended in the order in which the batches are received. Only local events are consumed, which is why the change feed
+ * can't be enabled in a cluster (see {@link com.gentics.mesh.etc.config.ContentConfig#validate(com.gentics.mesh.etc.config.MeshOptions)}).
+ */
+@Singleton
+public class NodeChangeLogVerticle extends AbstractVerticle {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeChangeLogVerticle.class);
+
+	private static final List<MeshEvent> RECORDED_EVENTS = Arrays.asList(NODE_CONTENT_CREATED, NODE_UPDATED, NODE_MOVED, NODE_REFERENCE_UPDATED,
+		NODE_CONTENT_DELETED, NODE_DELETED, NODE_PUBLISHED, NODE_UNPUBLISHED, PROJECT_DELETED, BRANCH_DELETED);
+
+	private final NodeChangeLog changeLog;
+
+	private final List<MessageConsumer<?>> consumers = new ArrayList<>();
+
+	@Inject
+	public NodeChangeLogVerticle(NodeChangeLog changeLog) {
+		this.changeLog = changeLog;
+	}
+
+	@Override
+	public void start() throws Exception {
+		consumers.add(vertx.eventBus().<MeshEventEnvelope>localConsumer(MeshEventEnvelope.ADDRESS, message -> {
+			record(message.body().getEvents());
+		}));
+
+		// Events which were not dispatched via a batch are not contained in an envelope
+		for (MeshEvent event : RECORDED_EVENTS) {
+			consumers.add(vertx.eventBus().<JsonObject>localConsumer(event.getAddress(), message -> {
+				if (!message.headers().contains(MeshEventEnvelope.BATCHED_HEADER)) {
+					record(Collections.singletonList(MeshEventModel.fromMessage(message)));
+				}
+			}));
+		}
+	}
+
+	@Override
+	public void stop() throws Exception {
+		consumers.forEach(MessageConsumer::unregister);
+		consumers.clear();
+	}
+
+	private void record(List<MeshEventModel> events) {
+		try {
+			changeLog.append(events);
+		} catch (Exception e) {
+			log.error("Error while recording the node changes of {" + events.size() + "} events", e);
+		}
+	}
+
+}
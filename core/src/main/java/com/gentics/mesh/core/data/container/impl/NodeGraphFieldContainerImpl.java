@@ -19,6 +19,7 @@ import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.core.rest.error.Errors.nodeConflict;
+import static com.gentics.mesh.madl.field.FieldType.LONG;
 import static com.gentics.mesh.madl.field.FieldType.STRING;
 import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static com.gentics.mesh.madl.type.VertexTypeDefinition.vertexType;
@@ -45,6 +46,7 @@ import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.EditorTrackingVertex;
 import com.gentics.mesh.core.data.GraphFieldContainerEdge;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
@@ -108,6 +110,17 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	public static final String VERSION_PROPERTY_KEY = "version";
 
+	/**
+	 * Postfix of the ordered index on the last edited timestamp of the containers.
+	 */
+	public static final String EDITED_INDEX_POSTFIX = "edited";
+
+	/**
+	 * Maximum size in bytes of the values of indexed string fields. The keys of the ordered graph indices are limited by the database (OrientDB:
+	 * sbtree.maxKeySize, 10240 bytes by default) and the key also contains the record id.
+	 */
+	public static final int MAX_INDEXED_STRING_BYTES = 8192;
+
 	// Cached instance of the parent node.
 	private Node parentNodeRef;
 
@@ -117,6 +130,35 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 		index.createIndex(vertexIndex(NodeGraphFieldContainerImpl.class)
 			.withField(SCHEMA_CONTAINER_VERSION_KEY_PROPERTY, STRING));
+
+		index.createIndex(vertexIndex(NodeGraphFieldContainerImpl.class)
+			.withPostfix(EDITED_INDEX_POSTFIX)
+			.withField(EditorTrackingVertex.LAST_EDIT_TIMESTAMP_PROPERTY_KEY, LONG)
+			.ordered());
+	}
+
+	/**
+	 * Create the ordered index for the values of the string field with the given name. The index is shared by all schemas which contain a string
+	 * field with that name. Values of indexed fields must not exceed {@link #MAX_INDEXED_STRING_BYTES}.
+	 * 
+	 * @param index
+	 * @param fieldKey
+	 */
+	public static void initStringFieldIndex(IndexHandler index, String fieldKey) {
+		index.createIndex(vertexIndex(NodeGraphFieldContainerImpl.class)
+			.withPostfix(stringFieldIndexPostfix(fieldKey))
+			.withField(fieldKey + "-string", STRING)
+			.ordered());
+	}
+
+	/**
+	 * Return the postfix of the index for the string field with the given name.
+	 * 
+	 * @param fieldKey
+	 * @return
+	 */
+	public static String stringFieldIndexPostfix(String fieldKey) {
+		return "field_" + fieldKey + "_string";
 	}
 
 	@Override
@@ -12,9 +12,12 @@ import com.gentics.mesh.core.data.container.impl.MicroschemaContainerVersionImpl
 import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.generic.AbstractGenericFieldContainerVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.job.impl.BinaryGarbageCollectionJobImpl;
+import com.gentics.mesh.core.data.job.impl.ConsistencyCheckJobImpl;
 import com.gentics.mesh.core.data.job.impl.BranchMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.JobRootImpl;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
+import com.gentics.mesh.core.data.job.impl.NodeBulkJobImpl;
 import com.gentics.mesh.core.data.job.impl.NodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.VersionPurgeJobImpl;
 import com.gentics.mesh.core.data.node.field.impl.BinaryGraphFieldImpl;
@@ -52,6 +55,8 @@ import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
 import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
 import com.gentics.mesh.core.data.schema.impl.UpdateMicroschemaChangeImpl;
 import com.gentics.mesh.core.data.schema.impl.UpdateSchemaChangeImpl;
+import com.gentics.mesh.etc.config.ContentConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 
 import io.vertx.core.logging.Logger;
@@ -139,6 +144,9 @@ public final class DatabaseHelper {
 		// Jobs
 		NodeMigrationJobImpl.init(type, index);
 		VersionPurgeJobImpl.init(type, index);
+		BinaryGarbageCollectionJobImpl.init(type, index);
+		ConsistencyCheckJobImpl.init(type, index);
+		NodeBulkJobImpl.init(type, index);
 		MicronodeMigrationJobImpl.init(type, index);
 		BranchMigrationJobImpl.init(type, index);
 
@@ -155,4 +163,18 @@ public final class DatabaseHelper {
 
 	}
 
+	/**
+	 * Initialize the ordered indices for the string fields which were configured via {@link ContentConfig#getIndexedFields()}.
+	 * 
+	 * @param database
+	 * @param options
+	 */
+	public static void initFieldIndices(Database database, MeshOptions options) {
+		IndexHandler index = database.index();
+		for (String fieldKey : options.getContentOptions().getIndexedFields()) {
+			log.info("Creating index for string field {" + fieldKey + "}");
+			NodeGraphFieldContainerImpl.initStringFieldIndex(index, fieldKey);
+		}
+	}
+
 }
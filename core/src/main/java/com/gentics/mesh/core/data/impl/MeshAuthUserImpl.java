@@ -38,6 +38,17 @@ public class MeshAuthUserImpl extends UserImpl implements MeshAuthUser {
 		return uuid;
 	}
 
+	@Override
+	public void setCachedUuid(String uuid) {
+		super.setCachedUuid(uuid);
+		this.uuid = uuid;
+	}
+
+	@Override
+	public String getCachedUuid() {
+		return uuid;
+	}
+
 	/**
 	 * An active transaction is required in order to load the json data.
 	 */
@@ -56,6 +56,7 @@ import com.gentics.mesh.core.rest.event.project.ProjectSchemaEventModel;
 import com.gentics.mesh.core.rest.project.ProjectReference;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
 import com.gentics.mesh.core.rest.project.ProjectUpdateRequest;
+import com.gentics.mesh.core.rest.project.VersionRetentionPolicy;
 import com.gentics.mesh.event.Assignment;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.handler.VersionHandler;
@@ -75,6 +76,10 @@ public class ProjectImpl extends AbstractMeshCoreVertex<ProjectResponse, Project
 
 	private static final Logger log = LoggerFactory.getLogger(ProjectImpl.class);
 
+	private static final String RETENTION_KEEP_VERSIONS_PROPERTY_KEY = "retentionKeepVersions";
+
+	private static final String RETENTION_MAX_AGE_PROPERTY_KEY = "retentionMaxAge";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		// TODO index to name + unique constraint
 		type.createVertexType(ProjectImpl.class, MeshVertexImpl.class);
@@ -163,6 +168,22 @@ public class ProjectImpl extends AbstractMeshCoreVertex<ProjectResponse, Project
 		linkOut(baseNode, HAS_ROOT_NODE);
 	}
 
+	@Override
+	public VersionRetentionPolicy getVersionRetentionPolicy() {
+		Integer keepVersions = property(RETENTION_KEEP_VERSIONS_PROPERTY_KEY);
+		String maxAge = property(RETENTION_MAX_AGE_PROPERTY_KEY);
+		if (keepVersions == null && maxAge == null) {
+			return null;
+		}
+		return new VersionRetentionPolicy().setKeepVersions(keepVersions).setMaxAge(maxAge);
+	}
+
+	@Override
+	public void setVersionRetentionPolicy(VersionRetentionPolicy policy) {
+		property(RETENTION_KEEP_VERSIONS_PROPERTY_KEY, policy == null ? null : policy.getKeepVersions());
+		property(RETENTION_MAX_AGE_PROPERTY_KEY, policy == null ? null : policy.getMaxAge());
+	}
+
 	@Override
 	public ProjectResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
 		GenericParameters generic = ac.getGenericParameters();
@@ -63,7 +63,7 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 		// TODO why was the branch key omitted? TagEdgeImpl.BRANCH_UUID_KEY
 		index.createIndex(edgeIndex(HAS_TAG));
 		index.createIndex(edgeIndex(HAS_TAG));
-		index.createIndex(edgeIndex(HAS_TAG).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_TAG).withInOut().withOut().withOutIn());
 	}
 
 	@Override
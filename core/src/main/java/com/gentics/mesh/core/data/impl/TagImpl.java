@@ -161,6 +161,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 		for (Branch branch : getProject().getBranchRoot().findAll()) {
 			for (Node node : getNodes(branch)) {
 				bac.add(node.onTagged(this, branch, UNASSIGNED));
+				node.bumpETagVersion();
 			}
 		}
 		getElement().remove();
@@ -250,6 +251,12 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 				setEditor(ac.getUser());
 				setLastEditedTimestamp();
 				setName(newTagName);
+				// The tag references within the responses of the tagged nodes will change
+				for (Branch branch : getProject().getBranchRoot().findAll()) {
+					for (Node node : getNodes(branch)) {
+						node.bumpETagVersion();
+					}
+				}
 				batch.add(onUpdated());
 				return true;
 			}
@@ -538,10 +538,26 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// user will be just disabled and removed from all groups.");
 		// }
 		// outE(HAS_USER).removeAll();
+		String uuid = getUuid();
 		bac.add(onDeleted());
 		getElement().remove();
 		bac.process();
 		mesh().permissionCache().clear();
+		mesh().authTokenCache().invalidateUser(uuid);
+	}
+
+	@Override
+	public User setAPITokenId(String code) {
+		User.super.setAPITokenId(code);
+		// Tokens which use the previous API key must be verified again
+		mesh().authTokenCache().invalidateUser(getUuid());
+		return this;
+	}
+
+	@Override
+	public void resetAPIToken() {
+		User.super.resetAPIToken();
+		mesh().authTokenCache().invalidateUser(getUuid());
 	}
 
 	/**
@@ -0,0 +1,78 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+
+import java.util.Map;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.binary.maintenance.BinaryGarbageCollector;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.rest.job.JobResponse;
+
+import io.reactivex.Completable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which removes unreferenced binaries and stale temporary uploads.
+ * 
+ * @see BinaryGarbageCollector
+ */
+public class BinaryGarbageCollectionJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(BinaryGarbageCollectionJobImpl.class);
+
+	private static final String DELETED_BINARIES_PROPERTY = "deletedBinaries";
+
+	private static final String RECLAIMED_BYTES_PROPERTY = "reclaimedBytes";
+
+	private static final String RECLAIMED_TEMP_BYTES_PROPERTY = "reclaimedTempBytes";
+
+	private static final String DURATION_PROPERTY = "duration";
+
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(BinaryGarbageCollectionJobImpl.class, MeshVertexImpl.class);
+	}
+
+	@Override
+	public JobResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
+		JobResponse response = super.transformToRestSync(ac, level, languageTags);
+		Map<String, String> props = response.getProperties();
+		for (String key : new String[] { DELETED_BINARIES_PROPERTY, RECLAIMED_BYTES_PROPERTY, RECLAIMED_TEMP_BYTES_PROPERTY, DURATION_PROPERTY }) {
+			Long value = property(key);
+			if (value != null) {
+				props.put(key, String.valueOf(value));
+			}
+		}
+		return response;
+	}
+
+	@Override
+	protected Completable processTask() {
+		BinaryGarbageCollector collector = mesh().binaryGarbageCollector();
+		return collector.collect()
+			.doOnSuccess(result -> {
+				db().tx(() -> {
+					property(DELETED_BINARIES_PROPERTY, result.getDeletedBinaries());
+					property(RECLAIMED_BYTES_PROPERTY, result.getReclaimedBytes());
+					property(RECLAIMED_TEMP_BYTES_PROPERTY, result.getReclaimedTempBytes());
+					property(DURATION_PROPERTY, result.getDuration());
+					setCompletionCount(result.getDeletedBinaries());
+					setStopTimestamp();
+					setStatus(COMPLETED);
+				});
+				log.info("Binary garbage collection job {" + getUuid() + "} completed.");
+			}).doOnError(error -> {
+				db().tx(() -> {
+					setStopTimestamp();
+					setStatus(FAILED);
+					setError(error);
+				});
+				log.error("Binary garbage collection job {" + getUuid() + "} failed.", error);
+			}).ignoreElement();
+	}
+
+}
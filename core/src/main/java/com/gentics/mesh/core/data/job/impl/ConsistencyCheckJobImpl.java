@@ -0,0 +1,174 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.rest.job.JobStatus.CANCELLED;
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckHandler;
+import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.reactivex.Completable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which runs the consistency check (and optionally the repair) in the background. The elements are scanned in batches and the storage partitions of
+ * a type are scanned in parallel. The progress is persisted periodically and all found inconsistencies are streamed to a findings file (one JSON
+ * document per line) on the node which executes the job.
+ *
+ * @see ConsistencyCheckHandler
+ */
+public class ConsistencyCheckJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(ConsistencyCheckJobImpl.class);
+
+	/**
+	 * Interval in which the progress will be persisted and the cancel flag will be checked.
+	 */
+	private static final long CHECKPOINT_INTERVAL = 2000;
+
+	private static final String ATTEMPT_REPAIR_PROPERTY = "attemptRepair";
+
+	private static final String CHECKED_PROPERTY = "checkedElements";
+
+	private static final String INCONSISTENCIES_PROPERTY = "inconsistencies";
+
+	private static final String REPAIRED_PROPERTY = "repairedElements";
+
+	private static final String THROUGHPUT_PROPERTY = "elementsPerSecond";
+
+	private static final String CURRENT_CHECK_PROPERTY = "currentCheck";
+
+	private static final String FINDINGS_FILE_PROPERTY = "findingsFile";
+
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(ConsistencyCheckJobImpl.class, MeshVertexImpl.class);
+	}
+
+	public boolean isAttemptRepair() {
+		Boolean value = property(ATTEMPT_REPAIR_PROPERTY);
+		return value != null && value;
+	}
+
+	public void setAttemptRepair(boolean attemptRepair) {
+		property(ATTEMPT_REPAIR_PROPERTY, attemptRepair);
+	}
+
+	@Override
+	public boolean isCancellable() {
+		return true;
+	}
+
+	@Override
+	public JobResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
+		JobResponse response = super.transformToRestSync(ac, level, languageTags);
+		Map<String, String> props = response.getProperties();
+		props.put(ATTEMPT_REPAIR_PROPERTY, String.valueOf(isAttemptRepair()));
+		for (String key : new String[] { CHECKED_PROPERTY, INCONSISTENCIES_PROPERTY, REPAIRED_PROPERTY, THROUGHPUT_PROPERTY, CURRENT_CHECK_PROPERTY,
+			FINDINGS_FILE_PROPERTY }) {
+			Object value = property(key);
+			if (value != null) {
+				props.put(key, String.valueOf(value));
+			}
+		}
+		if (isCancelRequested()) {
+			props.put(CANCEL_REQUESTED_PROPERTY_KEY, "true");
+		}
+		return response;
+	}
+
+	@Override
+	protected Completable processTask() {
+		return Completable.fromAction(() -> {
+			ConsistencyCheckHandler handler = mesh().consistencyCheckHandler();
+			boolean attemptRepair = db().tx(() -> isAttemptRepair());
+			String uuid = db().tx(() -> getUuid());
+			File findingsFile = new File(new File(mesh().options().getTempDirectory(), "consistency"), uuid + ".ndjson");
+			findingsFile.getParentFile().mkdirs();
+			int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+			try (BufferedWriter writer = Files.newBufferedWriter(findingsFile.toPath(), StandardCharsets.UTF_8);
+				ConsistencyCheckContext context = new ConsistencyCheckContext(attemptRepair, parallelism)) {
+				context.setFindingHandler(info -> writeFinding(writer, info));
+				context.setCheckpointHandler(() -> checkpoint(context), CHECKPOINT_INTERVAL);
+				db().tx(() -> {
+					property(FINDINGS_FILE_PROPERTY, findingsFile.getAbsolutePath());
+					setStatus(RUNNING);
+				});
+
+				handler.checkConsistency(context);
+
+				writer.flush();
+				db().tx(() -> {
+					updateProgress(context);
+					property(CURRENT_CHECK_PROPERTY, null);
+					setStopTimestamp();
+					setStatus(context.isCancelled() ? CANCELLED : COMPLETED);
+				});
+				log.info("Consistency check job {" + uuid + "} " + (context.isCancelled() ? "was cancelled" : "completed") + ". Checked {"
+					+ context.getCheckedCount() + "} elements and found {" + context.getInconsistencyCount() + "} inconsistencies.");
+			}
+		}).doOnError(error -> {
+			db().tx(() -> {
+				setStopTimestamp();
+				setStatus(FAILED);
+				setError(error);
+			});
+			log.error("Consistency check job {" + getUuid() + "} failed.", error);
+		});
+	}
+
+	/**
+	 * Persist the current progress and check whether the job should be cancelled.
+	 *
+	 * @param context
+	 */
+	private void checkpoint(ConsistencyCheckContext context) {
+		boolean cancel = db().tx(() -> {
+			updateProgress(context);
+			return isCancelRequested();
+		});
+		if (cancel && !context.isCancelled()) {
+			log.info("Cancellation of consistency check job {" + getUuid() + "} was requested.");
+			context.cancel();
+		}
+	}
+
+	private void updateProgress(ConsistencyCheckContext context) {
+		property(CHECKED_PROPERTY, context.getCheckedCount());
+		property(INCONSISTENCIES_PROPERTY, context.getInconsistencyCount());
+		property(REPAIRED_PROPERTY, context.getRepairCount());
+		property(THROUGHPUT_PROPERTY, context.getThroughput());
+		property(CURRENT_CHECK_PROPERTY, context.getCurrentCheck());
+		setCompletionCount(context.getCheckedCount());
+	}
+
+	private static void writeFinding(BufferedWriter writer, InconsistencyInfo info) {
+		String json = JsonUtil.toJsonObject(info).encode();
+		synchronized (writer) {
+			try {
+				writer.write(json);
+				writer.newLine();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+}
@@ -290,6 +290,17 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		return getErrorMessage() != null || getErrorDetail() != null;
 	}
 
+	@Override
+	public void requestCancel() {
+		property(CANCEL_REQUESTED_PROPERTY_KEY, true);
+	}
+
+	@Override
+	public boolean isCancelRequested() {
+		Boolean value = property(CANCEL_REQUESTED_PROPERTY_KEY);
+		return value != null && value;
+	}
+
 	@Override
 	public void markAsFailed(Exception e) {
 		setError(e);
@@ -301,6 +312,7 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		setStopTimestamp(null);
 		setErrorDetail(null);
 		setErrorMessage(null);
+		property(CANCEL_REQUESTED_PROPERTY_KEY, null);
 		setStatus(JobStatus.QUEUED);
 	}
 
@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.job.impl;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_JOB;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.core.rest.job.JobStatus.CANCELLED;
 import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 import static com.gentics.mesh.core.rest.job.JobStatus.QUEUED;
@@ -30,6 +31,7 @@ import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.root.impl.AbstractRootVertex;
@@ -53,7 +55,7 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(JobRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_JOB).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_JOB).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -177,6 +179,47 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return enqueueVersionPurge(user, project, null);
 	}
 
+	@Override
+	public Job enqueueConsistencyCheck(User user, boolean attemptRepair) {
+		ConsistencyCheckJobImpl job = getGraph().addFramedVertex(ConsistencyCheckJobImpl.class);
+		job.setType(JobType.consistency);
+		job.setAttemptRepair(attemptRepair);
+		job.setStatus(QUEUED);
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued consistency check job {" + job.getUuid() + "} with repair {" + attemptRepair + "}");
+		}
+		return job;
+	}
+
+	@Override
+	public Job enqueueNodeBulkOperation(User user, JobType type, Node node, Branch branch) {
+		NodeBulkJobImpl job = getGraph().addFramedVertex(NodeBulkJobImpl.class);
+		// The creator is needed to process the nodes on behalf of the user
+		job.setCreated(user);
+		job.setType(type);
+		job.setBranch(branch);
+		job.setRootNodeUuid(node.getUuid());
+		job.setStatus(QUEUED);
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued bulk node job {" + job.getUuid() + "} of type {" + type + "} for node {" + node.getUuid() + "}");
+		}
+		return job;
+	}
+
+	@Override
+	public Job enqueueBinaryGarbageCollection(User user) {
+		BinaryGarbageCollectionJobImpl job = getGraph().addFramedVertex(BinaryGarbageCollectionJobImpl.class);
+		job.setType(JobType.binarygc);
+		job.setStatus(QUEUED);
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued binary garbage collection job {" + job.getUuid() + "}");
+		}
+		return job;
+	}
+
 	@Override
 	public MeshVertex resolveToElement(Stack<String> stack) {
 		throw error(BAD_REQUEST, "Jobs are not accessible");
@@ -221,9 +264,9 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		Iterable<? extends Job> it = findAll();
 		for (Job job : it) {
 			try {
-				// Don't execute failed or completed jobs again
+				// Don't execute failed, cancelled or completed jobs again
 				JobStatus jobStatus = job.getStatus();
-				if (job.hasFailed() || (jobStatus == COMPLETED || jobStatus == FAILED || jobStatus == UNKNOWN)) {
+				if (job.hasFailed() || (jobStatus == COMPLETED || jobStatus == FAILED || jobStatus == CANCELLED || jobStatus == UNKNOWN)) {
 					continue;
 				}
 				actions.add(job.process());
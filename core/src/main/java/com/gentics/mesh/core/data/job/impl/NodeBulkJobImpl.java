@@ -0,0 +1,378 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.graph.GraphAttribute.PENDING_ETAG_BUMPS;
+import static com.gentics.mesh.core.rest.event.EventCauseAction.DELETE;
+import static com.gentics.mesh.core.rest.job.JobStatus.CANCELLED;
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.tx.Tx;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.ElementType;
+import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.LocalActionContextImpl;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.root.NodeRoot;
+import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobType;
+import com.gentics.mesh.etc.config.ContentConfig;
+import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
+import com.gentics.mesh.parameter.impl.PublishParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+
+import io.reactivex.Completable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which publishes, takes offline or deletes a node and all its children within a branch. The subtree is traversed level by level. Each level is
+ * split into batches of nodes which are processed within a dedicated transaction. Batches of the same level are processed in parallel. The events of a
+ * batch are dispatched once the batch has been committed.
+ *
+ * Publishing starts at the root of the subtree so that the publish consistency is never violated. Taking offline and deleting starts at the leaves.
+ * Each batch is idempotent. A job which failed or was interrupted can thus be reset and will continue with the nodes which were not yet processed.
+ *
+ * Batches of a level only write the nodes they process. Changes to the etag versions of the shared parent nodes are applied once after all batches
+ * of the level are done.
+ */
+public class NodeBulkJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeBulkJobImpl.class);
+
+	/**
+	 * Interval in which the progress will be persisted and the cancel flag will be checked.
+	 */
+	private static final long CHECKPOINT_INTERVAL = 2000;
+
+	private static final String ROOT_NODE_UUID_PROPERTY = "rootNodeUuid";
+
+	private static final String TOTAL_PROPERTY = "totalNodes";
+
+	private static final String PROCESSED_PROPERTY = "processedNodes";
+
+	private static final String THROUGHPUT_PROPERTY = "nodesPerSecond";
+
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(NodeBulkJobImpl.class, MeshVertexImpl.class);
+	}
+
+	public String getRootNodeUuid() {
+		return property(ROOT_NODE_UUID_PROPERTY);
+	}
+
+	public void setRootNodeUuid(String uuid) {
+		property(ROOT_NODE_UUID_PROPERTY, uuid);
+	}
+
+	@Override
+	public boolean isCancellable() {
+		return true;
+	}
+
+	@Override
+	public JobResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
+		JobResponse response = super.transformToRestSync(ac, level, languageTags);
+		Map<String, String> props = response.getProperties();
+		props.put(ROOT_NODE_UUID_PROPERTY, getRootNodeUuid());
+		for (String key : new String[] { TOTAL_PROPERTY, PROCESSED_PROPERTY, THROUGHPUT_PROPERTY }) {
+			Object value = property(key);
+			if (value != null) {
+				props.put(key, String.valueOf(value));
+			}
+		}
+		if (isCancelRequested()) {
+			props.put(CANCEL_REQUESTED_PROPERTY_KEY, "true");
+		}
+		return response;
+	}
+
+	@Override
+	protected Completable processTask() {
+		return Completable.fromAction(() -> {
+			ContentConfig config = mesh().options().getContentOptions();
+			JobType type = db().tx(() -> getType());
+			String rootUuid = db().tx(() -> getRootNodeUuid());
+			Branch branch = db().tx(() -> getBranch());
+			String branchUuid = db().tx(() -> branch.getUuid());
+			InternalActionContext ac = db().tx(() -> createActionContext(branchUuid));
+
+			// Collect the uuids of the subtree. Nodes which have already been processed by a previous run are no longer part of it or will be skipped
+			// quickly.
+			List<List<String>> levels = db().tx(() -> collectLevels(rootUuid, branchUuid));
+			if (type != JobType.nodepublish) {
+				Collections.reverse(levels);
+			}
+			long total = levels.stream().mapToLong(List::size).sum();
+			boolean cancelRequested = db().tx(() -> {
+				property(TOTAL_PROPERTY, total);
+				setStatus(RUNNING);
+				return isCancelRequested();
+			});
+
+			Progress progress = new Progress();
+			progress.cancelled = cancelRequested;
+			int batchSize = config.getBulkBatchSize();
+			ExecutorService executor = createExecutor(config.getBulkParallelism());
+			try {
+				for (List<String> level : levels) {
+					if (progress.cancelled) {
+						break;
+					}
+					List<Future<?>> futures = new ArrayList<>();
+					Set<String> deferredBumps = ConcurrentHashMap.newKeySet();
+					for (int i = 0; i < level.size(); i += batchSize) {
+						List<String> batch = level.subList(i, Math.min(level.size(), i + batchSize));
+						futures.add(executor.submit(() -> {
+							if (!progress.cancelled) {
+								processBatch(ac, type, rootUuid, branch, batch, deferredBumps);
+								progress.processed.addAndGet(batch.size());
+								checkpoint(progress);
+							}
+						}));
+					}
+					try {
+						awaitAll(futures);
+					} finally {
+						applyETagBumps(branch, deferredBumps, batchSize);
+					}
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+
+			db().tx(() -> {
+				updateProgress(progress);
+				setStopTimestamp();
+				setStatus(progress.cancelled ? CANCELLED : COMPLETED);
+			});
+			log.info("Bulk node job {" + getUuid() + "} of type {" + type + "} " + (progress.cancelled ? "was cancelled" : "completed") + ". Processed {"
+				+ progress.processed.get() + "} of {" + total + "} nodes.");
+		}).doOnError(error -> {
+			db().tx(() -> {
+				setStopTimestamp();
+				setStatus(FAILED);
+				setError(error);
+			});
+			log.error("Bulk node job {" + getUuid() + "} failed.", error);
+		});
+	}
+
+	/**
+	 * Create the action context which will be used to process the nodes. The creator of the job will be used as the editor of the published contents.
+	 *
+	 * @param branchUuid
+	 * @return
+	 */
+	private InternalActionContext createActionContext(String branchUuid) {
+		User creator = getCreator();
+		// The recursion is handled by the job itself. Children which were created while the job was running will still be deleted.
+		return new LocalActionContextImpl<>(creator == null ? null : creator.toAuthUser(), RestModel.class,
+			new VersioningParametersImpl().setBranch(branchUuid),
+			new PublishParametersImpl().setRecursive(false),
+			new DeleteParametersImpl().setRecursive(true));
+	}
+
+	/**
+	 * Collect the uuids of the nodes of the subtree within the branch grouped by their depth.
+	 *
+	 * @param rootUuid
+	 * @param branchUuid
+	 * @return List of levels. The first level only contains the root node
+	 */
+	private List<List<String>> collectLevels(String rootUuid, String branchUuid) {
+		List<List<String>> levels = new ArrayList<>();
+		Node root = getBranch().getProject().getNodeRoot().findByUuid(rootUuid);
+		if (root == null) {
+			return levels;
+		}
+		List<Node> current = Collections.singletonList(root);
+		while (!current.isEmpty()) {
+			List<String> uuids = new ArrayList<>(current.size());
+			List<Node> next = new ArrayList<>();
+			for (Node node : current) {
+				uuids.add(node.getUuid());
+				for (Node child : node.getChildren(branchUuid)) {
+					next.add(child);
+				}
+			}
+			levels.add(uuids);
+			current = next;
+		}
+		return levels;
+	}
+
+	/**
+	 * Process the batch of nodes within a single transaction. The events will only be dispatched once the transaction has been committed.
+	 *
+	 * Batches of the same level share their parent nodes. The etag version increments of nodes outside of the batch are thus not written by the batch
+	 * but added to the deferred bumps, which will be applied once all batches of the level are done. Otherwise concurrent batches would update the same
+	 * parent vertex and fail with concurrent modifications.
+	 *
+	 * @param ac
+	 * @param type
+	 * @param rootUuid
+	 * @param branch
+	 * @param uuids
+	 * @param deferredBumps
+	 *            Set which collects the uuids of nodes outside of the batch whose etag version needs to be incremented
+	 */
+	private void processBatch(InternalActionContext ac, JobType type, String rootUuid, Branch branch, List<String> uuids,
+		Set<String> deferredBumps) {
+		Set<String> batchUuids = new HashSet<>(uuids);
+		db().tx(() -> {
+			// The context is created within the transaction so that a retry won't dispatch the events of the failed attempt
+			BulkActionContext bac = mesh().bulkProvider().get();
+			bac.setBatchSize(Integer.MAX_VALUE);
+			if (type == JobType.nodedelete) {
+				bac.setRootCause(ElementType.NODE, rootUuid, DELETE);
+			}
+			NodeRoot nodeRoot = branch.getProject().getNodeRoot();
+			for (String uuid : uuids) {
+				Node node = nodeRoot.findByUuid(uuid);
+				if (node == null) {
+					// The node has already been deleted
+					continue;
+				}
+				switch (type) {
+				case nodepublish:
+					node.publish(ac, bac);
+					break;
+				case nodeunpublish:
+					node.takeOffline(ac, bac, branch, ac.getPublishParameters());
+					break;
+				case nodedelete:
+					node.deleteFromBranch(ac, branch, bac, false);
+					break;
+				default:
+					throw new IllegalStateException("The job type {" + type + "} is not supported by bulk node jobs");
+				}
+			}
+			Set<String> pendingBumps = Tx.get().getGraph().getAttribute(PENDING_ETAG_BUMPS);
+			if (pendingBumps != null) {
+				Iterator<String> it = pendingBumps.iterator();
+				while (it.hasNext()) {
+					String uuid = it.next();
+					if (!batchUuids.contains(uuid)) {
+						deferredBumps.add(uuid);
+						it.remove();
+					}
+				}
+			}
+			bac.process(true);
+		});
+	}
+
+	/**
+	 * Increment the etag version of the given nodes. This is done by a single thread once all batches of a level are done. Nodes which have been
+	 * deleted in the meantime will be skipped.
+	 *
+	 * @param branch
+	 * @param uuids
+	 * @param batchSize
+	 */
+	private void applyETagBumps(Branch branch, Set<String> uuids, int batchSize) {
+		List<String> list = new ArrayList<>(uuids);
+		for (int i = 0; i < list.size(); i += batchSize) {
+			List<String> batch = list.subList(i, Math.min(list.size(), i + batchSize));
+			db().tx(() -> {
+				NodeRoot nodeRoot = branch.getProject().getNodeRoot();
+				for (String uuid : batch) {
+					Node node = nodeRoot.findByUuid(uuid);
+					if (node != null) {
+						node.bumpETagVersion();
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Persist the current progress and check whether the job should be cancelled, if the checkpoint interval has passed.
+	 *
+	 * @param progress
+	 */
+	private void checkpoint(Progress progress) {
+		long now = System.currentTimeMillis();
+		long last = progress.lastCheckpoint.get();
+		if (now - last < CHECKPOINT_INTERVAL || !progress.lastCheckpoint.compareAndSet(last, now)) {
+			return;
+		}
+		boolean cancel = db().tx(() -> {
+			updateProgress(progress);
+			return isCancelRequested();
+		});
+		if (cancel && !progress.cancelled) {
+			log.info("Cancellation of bulk node job {" + getUuid() + "} was requested.");
+			progress.cancelled = true;
+		}
+	}
+
+	private void updateProgress(Progress progress) {
+		long processed = progress.processed.get();
+		long duration = System.currentTimeMillis() - progress.start;
+		property(PROCESSED_PROPERTY, processed);
+		property(THROUGHPUT_PROPERTY, duration == 0 ? 0 : processed * 1000 / duration);
+		setCompletionCount(processed);
+	}
+
+	private static void awaitAll(List<Future<?>> futures) throws Exception {
+		try {
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (ExecutionException e) {
+			for (Future<?> future : futures) {
+				future.cancel(false);
+			}
+			Throwable cause = e.getCause();
+			throw cause instanceof Exception ? (Exception) cause : e;
+		}
+	}
+
+	private static ExecutorService createExecutor(int parallelism) {
+		AtomicInteger counter = new AtomicInteger();
+		return Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+			Thread thread = new Thread(r, "mesh-bulk-job-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Progress of a single run of the job.
+	 */
+	private static class Progress {
+
+		private final long start = System.currentTimeMillis();
+
+		private final AtomicLong processed = new AtomicLong();
+
+		private final AtomicLong lastCheckpoint = new AtomicLong(start);
+
+		private volatile boolean cancelled = false;
+
+	}
+
+}
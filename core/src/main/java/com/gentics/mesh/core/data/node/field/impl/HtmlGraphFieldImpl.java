@@ -11,7 +11,9 @@ import com.gentics.mesh.core.data.node.field.FieldTransformer;
 import com.gentics.mesh.core.data.node.field.FieldUpdater;
 import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.field.HtmlGraphField;
+import com.gentics.mesh.core.data.node.field.list.ListGraphField;
 import com.gentics.mesh.core.graph.GraphAttribute;
+import com.gentics.mesh.core.link.LinkTokenizer;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.node.field.HtmlField;
 import com.gentics.mesh.core.rest.node.field.impl.HtmlFieldImpl;
@@ -36,7 +38,7 @@ public class HtmlGraphFieldImpl extends AbstractBasicField<HtmlField> implements
 					project = parentNode.get().getProject();
 				}
 				field.setHTML(mesh.webRootLinkReplacer().replace(ac, ac.getBranch().getUuid(),
-						ContainerType.forVersion(ac.getVersioningParameters().getVersion()), field.getHTML(),
+						ContainerType.forVersion(ac.getVersioningParameters().getVersion()), field.getHTML(), graphHtmlField.getLinkTokens(),
 						ac.getNodeParameters().getResolveLinks(), project.getName(), languageTags));
 			}
 			return field;
@@ -85,6 +87,13 @@ public class HtmlGraphFieldImpl extends AbstractBasicField<HtmlField> implements
 	@Override
 	public void setHtml(String html) {
 		setFieldProperty("html", html);
+		// List items only store their value
+		if (getParentContainer() instanceof ListGraphField) {
+			return;
+		}
+		// The offsets are only stored for values which contain links. Values without offsets are scanned when the links get resolved.
+		int[] tokens = LinkTokenizer.tokenize(html);
+		setFieldProperty("links", tokens.length == 0 ? null : LinkTokenizer.encode(tokens));
 	}
 
 	@Override
@@ -92,6 +101,11 @@ public class HtmlGraphFieldImpl extends AbstractBasicField<HtmlField> implements
 		return getFieldProperty("html");
 	}
 
+	@Override
+	public int[] getLinkTokens() {
+		return LinkTokenizer.decode(getFieldProperty("links"));
+	}
+
 	@Override
 	public HtmlField transformToRest(ActionContext ac) {
 		HtmlFieldImpl htmlField = new HtmlFieldImpl();
@@ -105,6 +119,7 @@ public class HtmlGraphFieldImpl extends AbstractBasicField<HtmlField> implements
 	public void removeField(BulkActionContext bac, GraphFieldContainer container) {
 		//TODO remove the vertex from the graph if it is no longer be used by other containers 
 		setFieldProperty("html", null);
+		setFieldProperty("links", null);
 		setFieldKey(null);
 	}
 
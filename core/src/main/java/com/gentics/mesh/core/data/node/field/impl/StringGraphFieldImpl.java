@@ -1,8 +1,10 @@
 package com.gentics.mesh.core.data.node.field.impl;
 
+import static com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl.MAX_INDEXED_STRING_BYTES;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -15,7 +17,9 @@ import com.gentics.mesh.core.data.node.field.FieldTransformer;
 import com.gentics.mesh.core.data.node.field.FieldUpdater;
 import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.field.StringGraphField;
+import com.gentics.mesh.core.data.node.field.list.ListGraphField;
 import com.gentics.mesh.core.graph.GraphAttribute;
+import com.gentics.mesh.core.link.LinkTokenizer;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.node.field.StringField;
 import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
@@ -43,7 +47,7 @@ public class StringGraphFieldImpl extends AbstractBasicField<StringField> implem
 					project = parentNode.get().getProject();
 				}
 				field.setString(mesh.webRootLinkReplacer().replace(ac, ac.getBranch().getUuid(),
-						ContainerType.forVersion(ac.getVersioningParameters().getVersion()), field.getString(),
+						ContainerType.forVersion(ac.getVersioningParameters().getVersion()), field.getString(), graphStringField.getLinkTokens(),
 						ac.getNodeParameters().getResolveLinks(), project.getName(), languageTags));
 			}
 			return field;
@@ -83,6 +87,13 @@ public class StringGraphFieldImpl extends AbstractBasicField<StringField> implem
 			}
 		}
 
+		// Values of indexed fields must fit into the index key
+		MeshComponent mesh = container.getGraphAttribute(GraphAttribute.MESH_COMPONENT);
+		if (mesh.options().getContentOptions().getIndexedFields().contains(fieldKey)
+			&& stringField.getString().getBytes(StandardCharsets.UTF_8).length > MAX_INDEXED_STRING_BYTES) {
+			throw error(BAD_REQUEST, "node_error_indexed_string_field_too_long", fieldKey, String.valueOf(MAX_INDEXED_STRING_BYTES));
+		}
+
 		// Handle Update / Create
 		if (graphStringField == null) {
 			graphStringField = container.createString(fieldKey);
@@ -102,6 +113,13 @@ public class StringGraphFieldImpl extends AbstractBasicField<StringField> implem
 	@Override
 	public void setString(String string) {
 		setFieldProperty("string", string);
+		// List items only store their value
+		if (getParentContainer() instanceof ListGraphField) {
+			return;
+		}
+		// The offsets are only stored for values which contain links. Values without offsets are scanned when the links get resolved.
+		int[] tokens = LinkTokenizer.tokenize(string);
+		setFieldProperty("links", tokens.length == 0 ? null : LinkTokenizer.encode(tokens));
 	}
 
 	@Override
@@ -109,6 +127,11 @@ public class StringGraphFieldImpl extends AbstractBasicField<StringField> implem
 		return getFieldProperty("string");
 	}
 
+	@Override
+	public int[] getLinkTokens() {
+		return LinkTokenizer.decode(getFieldProperty("links"));
+	}
+
 	@Override
 	public String getDisplayName() {
 		return getString();
@@ -125,6 +148,7 @@ public class StringGraphFieldImpl extends AbstractBasicField<StringField> implem
 	@Override
 	public void removeField(BulkActionContext bac, GraphFieldContainer container) {
 		setFieldProperty("string", null);
+		setFieldProperty("links", null);
 		setFieldKey(null);
 	}
 
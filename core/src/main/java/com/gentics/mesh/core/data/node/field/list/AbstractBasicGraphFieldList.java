@@ -3,8 +3,10 @@ package com.gentics.mesh.core.data.node.field.list;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIST;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.GraphFieldContainer;
@@ -14,8 +16,12 @@ import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.util.CompareUtils;
 
 /**
- * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored as properties
- * within the vertex that represents the list.
+ * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored in a single
+ * packed list property ({@link #ITEMS_PROPERTY_KEY}) within the vertex that represents the list.
+ *
+ * Older lists store each item in a dedicated <code>item-[index]-[type]</code> property. Those lists can still be read and will be converted to the packed
+ * format once they get modified or when {@link #pack()} is invoked. The item fields access the list values via the regular item property keys. Those keys
+ * are mapped onto the packed list.
  *
  * @param <T>
  *            Field type that represents a list item
@@ -26,6 +32,13 @@ import com.gentics.mesh.util.CompareUtils;
  */
 public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField, RM extends Field, U> extends AbstractGraphFieldList<T, RM, U> {
 
+	/**
+	 * Key of the property which stores the packed list values.
+	 */
+	public static final String ITEMS_PROPERTY_KEY = "items";
+
+	private static final String ITEM_PREFIX = "item-";
+
 	/**
 	 * Create a new field wrapper which is used to handle the field value.
 	 * 
@@ -34,6 +47,13 @@ public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField,
 	 */
 	protected abstract T createField(String key);
 
+	/**
+	 * Return the name of the item field property which stores the value (e.g. <code>string</code> for <code>item-1-string</code>).
+	 * 
+	 * @return
+	 */
+	protected abstract String getItemValueKey();
+
 	protected T convertBasicValue(String itemKey) {
 		String key = itemKey.substring(0, itemKey.lastIndexOf("-"));
 		return createField(key);
@@ -46,40 +66,158 @@ public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField,
 	 * @return
 	 */
 	protected T getField(int index) {
-		return createField("item-" + index);
+		return createField(ITEM_PREFIX + index);
 	}
 
 	protected T createField() {
-		return createField("item-" + (getSize() + 1));
+		return createField(ITEM_PREFIX + (getSize() + 1));
+	}
+
+	/**
+	 * Return the packed list values.
+	 * 
+	 * @return Packed values or null if the list has not yet been packed
+	 */
+	private List<Object> getPackedItems() {
+		return super.getProperty(ITEMS_PROPERTY_KEY);
+	}
+
+	/**
+	 * Check whether the list is stored in the packed format.
+	 * 
+	 * @return
+	 */
+	public boolean isPacked() {
+		return getPackedItems() != null;
+	}
+
+	/**
+	 * Convert the list to the packed format. Lists which have already been packed will not be modified.
+	 * 
+	 * @return true if the list was converted
+	 */
+	public boolean pack() {
+		if (isPacked()) {
+			return false;
+		}
+		List<Object> values = getLegacyValues();
+		removeLegacyItems();
+		super.setProperty(ITEMS_PROPERTY_KEY, values);
+		return true;
+	}
+
+	/**
+	 * Return the ordered values of a list which has not yet been packed.
+	 * 
+	 * @return
+	 */
+	private List<Object> getLegacyValues() {
+		return getLegacyItemKeys()
+			.sorted(Comparator.comparingInt(AbstractBasicGraphFieldList::parseItemIndex))
+			.map(key -> super.getProperty(key))
+			.collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	private void removeLegacyItems() {
+		for (String key : new ArrayList<>(getPropertyKeys())) {
+			if (key.startsWith(ITEM_PREFIX)) {
+				super.setProperty(key, null);
+			}
+		}
+	}
+
+	/**
+	 * Parse the index of the item property key (e.g. <code>2</code> for <code>item-2-string</code>).
+	 * 
+	 * @param key
+	 * @return
+	 */
+	private static int parseItemIndex(String key) {
+		return Integer.parseInt(key.substring(ITEM_PREFIX.length(), key.indexOf('-', ITEM_PREFIX.length())));
+	}
+
+	@Override
+	public <E> E getProperty(String name) {
+		if (name.startsWith(ITEM_PREFIX)) {
+			List<Object> items = getPackedItems();
+			if (items != null) {
+				if (!name.endsWith("-" + getItemValueKey())) {
+					return null;
+				}
+				int index = parseItemIndex(name) - 1;
+				return index < items.size() ? (E) items.get(index) : null;
+			}
+		}
+		return super.getProperty(name);
+	}
+
+	@Override
+	public void setProperty(String name, Object value) {
+		if (!name.startsWith(ITEM_PREFIX)) {
+			super.setProperty(name, value);
+			return;
+		}
+		// Only the item values are stored. Other item properties (e.g. the link offsets of strings) are not needed for list items.
+		if (!name.endsWith("-" + getItemValueKey())) {
+			return;
+		}
+		pack();
+		List<Object> items = getPackedItems();
+		int index = parseItemIndex(name) - 1;
+		if (index < items.size()) {
+			if (value == null) {
+				items.remove(index);
+			} else {
+				items.set(index, value);
+			}
+		} else if (value != null) {
+			items.add(value);
+		}
+		super.setProperty(ITEMS_PROPERTY_KEY, items);
 	}
 
 	@Override
 	public long getSize() {
-		return getProperties("item").size();
+		List<Object> items = getPackedItems();
+		if (items != null) {
+			return items.size();
+		}
+		return getLegacyItemKeys().count();
 	}
 
 	@Override
 	public void removeAll() {
-		for (String key : getProperties("item-").keySet()) {
-			setProperty(key, null);
-		}
+		removeLegacyItems();
+		super.setProperty(ITEMS_PROPERTY_KEY, new ArrayList<>());
 	}
 
 	@Override
 	public List<? extends T> getList() {
-		Map<String, String> map = getProperties("item");
 		List<T> list = new ArrayList<>();
-		// TODO sorting is not very efficient, because the keys are transformed to their order too often
-		map.keySet().stream().sorted((key1, key2) -> {
-			int index1 = Integer.parseInt(key1.substring("item-".length(), key1.lastIndexOf("-")));
-			int index2 = Integer.parseInt(key2.substring("item-".length(), key2.lastIndexOf("-")));
-			return index1 - index2;
-		}).forEachOrdered(itemKey -> {
-			list.add(convertBasicValue(itemKey));
-		});
+		List<Object> items = getPackedItems();
+		if (items != null) {
+			for (int i = 1; i <= items.size(); i++) {
+				list.add(getField(i));
+			}
+		} else {
+			getLegacyItemKeys()
+				.sorted(Comparator.comparingInt(AbstractBasicGraphFieldList::parseItemIndex))
+				.forEachOrdered(itemKey -> list.add(convertBasicValue(itemKey)));
+		}
 		return list;
 	}
 
+	/**
+	 * Return the keys of the item value properties of a list which has not yet been packed.
+	 * 
+	 * @return
+	 */
+	private Stream<String> getLegacyItemKeys() {
+		String suffix = "-" + getItemValueKey();
+		return getPropertyKeys().stream()
+			.filter(key -> key.startsWith(ITEM_PREFIX) && key.endsWith(suffix));
+	}
+
 	@Override
 	public void removeField(BulkActionContext bac, GraphFieldContainer container) {
 		container.unlinkOut(this, HAS_LIST);
@@ -103,6 +103,11 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 		return new BooleanGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected String getItemValueKey() {
+		return "boolean";
+	}
+
 	@Override
 	public Class<? extends BooleanGraphField> getListType() {
 		return BooleanGraphFieldImpl.class;
@@ -98,6 +98,11 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 		return new DateGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected String getItemValueKey() {
+		return "date";
+	}
+
 	@Override
 	public DateGraphField getDate(int index) {
 		return getField(index);
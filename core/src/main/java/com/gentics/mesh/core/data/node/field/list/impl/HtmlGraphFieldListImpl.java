@@ -94,6 +94,11 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 		return new HtmlGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected String getItemValueKey() {
+		return "html";
+	}
+
 	@Override
 	public HtmlGraphField getHTML(int index) {
 		return getField(index);
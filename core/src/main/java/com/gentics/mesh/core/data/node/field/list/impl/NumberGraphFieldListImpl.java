@@ -103,6 +103,11 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 		return new NumberGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected String getItemValueKey() {
+		return "number";
+	}
+
 	@Override
 	public Class<? extends NumberGraphField> getListType() {
 		return NumberGraphFieldImpl.class;
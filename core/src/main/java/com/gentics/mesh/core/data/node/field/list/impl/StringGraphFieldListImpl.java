@@ -101,6 +101,11 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 		return new StringGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected String getItemValueKey() {
+		return "string";
+	}
+
 	@Override
 	public Class<? extends StringGraphField> getListType() {
 		return StringGraphFieldImpl.class;
@@ -6,6 +6,7 @@ import static com.gentics.mesh.core.data.relationship.GraphPermission.CREATE_PER
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.BRANCH_PARENTS_KEY_PROPERTY;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.ETAG_VERSION_KEY_PROPERTY;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD_CONTAINER;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_ITEM;
@@ -14,6 +15,7 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TAG
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.PARENTS_KEY_PROPERTY;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.PROJECT_KEY_PROPERTY;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.SCHEMA_CONTAINER_KEY_PROPERTY;
+import static com.gentics.mesh.core.graph.GraphAttribute.PENDING_ETAG_BUMPS;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_TAGGED;
@@ -25,6 +27,7 @@ import static com.gentics.mesh.core.rest.common.ContainerType.forVersion;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.event.Assignment.ASSIGNED;
 import static com.gentics.mesh.event.Assignment.UNASSIGNED;
+import static com.gentics.mesh.madl.field.FieldType.LONG;
 import static com.gentics.mesh.madl.field.FieldType.STRING;
 import static com.gentics.mesh.madl.field.FieldType.STRING_SET;
 import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
@@ -48,6 +51,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -57,10 +61,13 @@ import org.apache.commons.lang3.NotImplementedException;
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
 import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.cache.NavigationCache;
+import com.gentics.mesh.cache.NavigationChildEntry;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.BranchParentEntry;
+import com.gentics.mesh.core.data.CreatorTrackingVertex;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.GraphFieldContainerEdge;
 import com.gentics.mesh.core.data.Language;
@@ -84,6 +91,7 @@ import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.data.node.field.StringGraphField;
 import com.gentics.mesh.core.data.node.field.impl.NodeGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.nesting.NodeGraphField;
+import com.gentics.mesh.core.data.page.PageCursor;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
@@ -94,6 +102,7 @@ import com.gentics.mesh.core.data.schema.impl.SchemaContainerImpl;
 import com.gentics.mesh.core.link.WebRootLinkReplacer;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.common.FieldTypes;
 import com.gentics.mesh.core.rest.error.NodeVersionConflictException;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
 import com.gentics.mesh.core.rest.event.MeshElementEventModel;
@@ -117,6 +126,7 @@ import com.gentics.mesh.core.rest.node.field.list.impl.NodeFieldListItemImpl;
 import com.gentics.mesh.core.rest.node.version.NodeVersionsResponse;
 import com.gentics.mesh.core.rest.node.version.VersionInfo;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.ListFieldSchema;
 import com.gentics.mesh.core.rest.schema.Schema;
 import com.gentics.mesh.core.rest.tag.TagReference;
 import com.gentics.mesh.core.rest.user.NodeReference;
@@ -130,7 +140,6 @@ import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.DeleteParameters;
 import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.LinkType;
-import com.gentics.mesh.parameter.NavigationParameters;
 import com.gentics.mesh.parameter.NodeParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.PublishParameters;
@@ -147,10 +156,10 @@ import com.gentics.mesh.util.URIUtils;
 import com.gentics.mesh.util.VersionNumber;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.FramedTransactionalGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.tinkerpop.blueprints.Vertex;
 
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -162,6 +171,21 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	/**
+	 * Postfix of the ordered index on the project and uuid of the nodes.
+	 */
+	public static final String PROJECT_UUID_INDEX_POSTFIX = "project_uuid";
+
+	/**
+	 * Postfix of the ordered index on the project and creation timestamp of the nodes.
+	 */
+	public static final String PROJECT_CREATED_INDEX_POSTFIX = "project_created";
+
+	/**
+	 * Postfix of the ordered index on the branch parents and uuid of the nodes.
+	 */
+	public static final String BRANCH_PARENTS_UUID_INDEX_POSTFIX = "branch_parents_uuid";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createType(vertexType(NodeImpl.class, MeshVertexImpl.class)
 			.withField(PARENTS_KEY_PROPERTY, STRING_SET)
@@ -186,6 +210,23 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			.withPostfix("schema")
 			.withField(SCHEMA_CONTAINER_KEY_PROPERTY, STRING));
 
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix("project_schema")
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField(SCHEMA_CONTAINER_KEY_PROPERTY, STRING));
+
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(PROJECT_UUID_INDEX_POSTFIX)
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField("uuid", STRING)
+			.ordered());
+
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(PROJECT_CREATED_INDEX_POSTFIX)
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField(CreatorTrackingVertex.CREATION_TIMESTAMP_PROPERTY_KEY, LONG)
+			.ordered());
+
 		index.createIndex(vertexIndex(NodeImpl.class)
 			.withPostfix("parents")
 			.withField(PARENTS_KEY_PROPERTY, STRING_SET));
@@ -193,6 +234,12 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		index.createIndex(vertexIndex(NodeImpl.class)
 			.withPostfix("branch_parents")
 			.withField(BRANCH_PARENTS_KEY_PROPERTY, STRING_SET));
+
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(BRANCH_PARENTS_UUID_INDEX_POSTFIX)
+			.withField(BRANCH_PARENTS_KEY_PROPERTY, STRING_SET)
+			.withField("uuid", STRING)
+			.ordered());
 	}
 
 	@Override
@@ -472,6 +519,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			initialEdge.setType(INITIAL);
 		}
 
+		bumpETagVersion();
 		return newContainer;
 	}
 
@@ -496,16 +544,19 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		removeTag(tag, branch);
 		TagEdge edge = addFramedEdge(HAS_TAG, tag, TagEdgeImpl.class);
 		edge.setBranchUuid(branch.getUuid());
+		bumpETagVersion();
 	}
 
 	@Override
 	public void removeTag(Tag tag, Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).mark().inV().retain(tag).back().removeAll();
+		bumpETagVersion();
 	}
 
 	@Override
 	public void removeAllTags(Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).removeAll();
+		bumpETagVersion();
 	}
 
 	@Override
@@ -575,6 +626,65 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		removeParent(branchUuid);
 		addToStringSetProperty(PARENTS_KEY_PROPERTY, parentUuid);
 		addToStringSetProperty(BRANCH_PARENTS_KEY_PROPERTY, branchParentEntry(branchUuid, parentUuid).encode());
+		parent.bumpETagVersion();
+		bumpETagVersion();
+	}
+
+	@Override
+	public long getETagVersion() {
+		long version = getStoredETagVersion();
+		Set<String> pending = Tx.get().getGraph().getAttribute(PENDING_ETAG_BUMPS);
+		if (pending != null && pending.contains(getUuid())) {
+			version++;
+		}
+		return version;
+	}
+
+	private long getStoredETagVersion() {
+		Long version = property(ETAG_VERSION_KEY_PROPERTY);
+		return version == null ? 0 : version;
+	}
+
+	@Override
+	public void bumpETagVersion() {
+		// Parents are bumped for every added, moved or removed child. Writing the counter only once per transaction keeps the parent vertex from being
+		// updated over and over again and thus reduces the risk of concurrent modifications.
+		FramedTransactionalGraph graph = Tx.get().getGraph();
+		Set<String> pending = graph.getAttribute(PENDING_ETAG_BUMPS);
+		if (pending == null) {
+			Set<String> uuids = new HashSet<>();
+			graph.setAttribute(PENDING_ETAG_BUMPS, uuids);
+			graph.beforeCommit(PENDING_ETAG_BUMPS, () -> {
+				graph.setAttribute(PENDING_ETAG_BUMPS, null);
+				for (String uuid : uuids) {
+					NodeImpl node = db().index().findByUuid(NodeImpl.class, uuid);
+					if (node != null) {
+						node.property(ETAG_VERSION_KEY_PROPERTY, node.getStoredETagVersion() + 1);
+					}
+				}
+			});
+			// The bumps are discarded together with the changes of the transaction
+			graph.onRollback(PENDING_ETAG_BUMPS, () -> graph.setAttribute(PENDING_ETAG_BUMPS, null));
+			pending = uuids;
+		}
+		pending.add(getUuid());
+	}
+
+	/**
+	 * Increment the etag version of all parent nodes of all branches. This is needed whenever the node gets added or removed since the children info of
+	 * the parent response will change.
+	 */
+	public void bumpParentETagVersions() {
+		Set<String> parents = property(PARENTS_KEY_PROPERTY);
+		if (parents == null) {
+			return;
+		}
+		for (String parentUuid : parents) {
+			NodeImpl parent = db().index().findByUuid(NodeImpl.class, parentUuid);
+			if (parent != null) {
+				parent.bumpETagVersion();
+			}
+		}
 	}
 
 	@Override
@@ -976,16 +1086,27 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			if (!getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
 				throw error(BAD_REQUEST, "navigation_error_no_container");
 			}
-			String etagKey = buildNavigationEtagKey(ac, this, parameters.getMaxDepth(), 0, ac.getBranch(getProject()).getUuid(), forVersion(ac
-				.getVersioningParameters().getVersion()));
+			String branchUuid = ac.getBranch(getProject()).getUuid();
+			GraphPermission perm = forVersion(ac.getVersioningParameters().getVersion()) == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+
+			// The structure is resolved once and used for the etag and the response
+			NavigationResponse response = new NavigationResponse();
+			List<NavigationItem> items = new ArrayList<>();
+			resolveNavigation(ac, this, response, parameters.getMaxDepth(), 0, branchUuid, perm, parameters.isIncludeAll(), items);
+
+			String etagKey = items.stream().map(item -> item.node.getETag(ac)).collect(Collectors.joining());
 			String etag = ETag.hash(etagKey);
 			ac.setEtag(etag, true);
 			if (ac.matches(etag, true)) {
 				return Single.error(new NotModifiedException());
 			} else {
-				NavigationResponse response = new NavigationResponse();
-				return buildNavigationResponse(ac, this, parameters.getMaxDepth(), 0, response, response, ac.getBranch(getProject()).getUuid(),
-					forVersion(ac.getVersioningParameters().getVersion()));
+				for (NavigationItem item : items) {
+					NodeResponse nodeResponse = item.node.transformToNavigationNode(ac, branchUuid);
+					// Set current element data
+					item.element.setUuid(nodeResponse.getUuid());
+					item.element.setNode(nodeResponse);
+				}
+				return Single.just(response);
 			}
 		});
 	}
@@ -1005,106 +1126,223 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	}
 
 	/**
-	 * Generate the etag key for the requested navigation.
+	 * Recursively resolve the structure of the navigation. The children structure of the nodes is loaded via the navigation cache and filtered by the
+	 * permissions of the user.
 	 *
 	 * @param ac
+	 *            Action context
 	 * @param node
-	 *            Current node to start building the navigation
+	 *            Current node that should be handled in combination with the given navigation element
+	 * @param element
+	 *            Navigation element for the node
 	 * @param maxDepth
-	 *            Maximum depth of navigation
+	 *            Maximum depth for the navigation
 	 * @param level
-	 *            Current level of recursion
+	 *            Zero based level of the current navigation element
 	 * @param branchUuid
-	 *            Branch uuid used to extract selected tree structure
-	 * @param type
-	 * @return
+	 *            Branch uuid to be used for loading children of nodes
+	 * @param perm
+	 *            Permission which is needed to include a child
+	 * @param includeAll
+	 *            Whether to include children which are no containers
+	 * @param items
+	 *            List to which the resolved nodes and elements will be added
 	 */
-	private String buildNavigationEtagKey(InternalActionContext ac, Node node, int maxDepth, int level, String branchUuid, ContainerType type) {
-		NavigationParametersImpl parameters = new NavigationParametersImpl(ac);
-		StringBuilder builder = new StringBuilder();
-		builder.append(node.getETag(ac));
-
-		List<? extends Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type).collect(Collectors.toList());
+	private void resolveNavigation(InternalActionContext ac, NodeImpl node, NavigationElement element, int maxDepth, int level, String branchUuid,
+		GraphPermission perm, boolean includeAll, List<NavigationItem> items) {
+		items.add(new NavigationItem(node, element));
 
-		// Abort recursion when we reach the max level or when no more children
-		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
-			return builder.toString();
+		// Abort recursion when we reach the max level
+		if (level == maxDepth) {
+			return;
 		}
-		for (Node child : nodes) {
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level + 1, branchUuid, type));
-			} else if (parameters.isIncludeAll()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level, branchUuid, type));
+		MeshAuthUser user = ac.getUser();
+		for (NavigationChildEntry entry : getNavigationChildren(node, branchUuid)) {
+			// TODO also allow navigations over containers
+			if (!entry.isContainer() && !includeAll) {
+				continue;
 			}
+			if (!user.hasPermissionForId(entry.getId(), perm)) {
+				continue;
+			}
+			// We found at least one child so lets create the array
+			if (element.getChildren() == null) {
+				element.setChildren(new ArrayList<>());
+			}
+			NavigationElement childElement = new NavigationElement();
+			element.getChildren().add(childElement);
+			NodeImpl child = getGraph().getFramedVertexExplicit(NodeImpl.class, entry.getId());
+			resolveNavigation(ac, child, childElement, maxDepth, entry.isContainer() ? level + 1 : level, branchUuid, perm, includeAll, items);
 		}
-		return builder.toString();
 	}
 
 	/**
-	 * Recursively build the navigation response.
+	 * Load the permission independent children structure of the given node. The structure will be taken from the navigation cache if possible.
 	 *
-	 * @param ac
-	 *            Action context
 	 * @param node
-	 *            Current node that should be handled in combination with the given navigation element
-	 * @param maxDepth
-	 *            Maximum depth for the navigation
-	 * @param level
-	 *            Zero based level of the current navigation element
-	 * @param navigation
-	 *            Current navigation response
-	 * @param currentElement
-	 *            Current navigation element for the given level
 	 * @param branchUuid
-	 *            Branch uuid to be used for loading children of nodes
-	 * @param type
-	 *            container type to be used for transformation
 	 * @return
 	 */
-	private Single<NavigationResponse> buildNavigationResponse(InternalActionContext ac, Node node, int maxDepth, int level,
-		NavigationResponse navigation, NavigationElement currentElement, String branchUuid, ContainerType type) {
-		List<? extends Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type).collect(Collectors.toList());
-		List<Single<NavigationResponse>> obsResponses = new ArrayList<>();
-
-		obsResponses.add(node.transformToRest(ac, 0).map(response -> {
-			// Set current element data
-			currentElement.setUuid(response.getUuid());
-			currentElement.setNode(response);
-			return navigation;
-		}));
-
-		// Abort recursion when we reach the max level or when no more children
-		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
-			List<Observable<NavigationResponse>> obsList = obsResponses.stream().map(ele -> ele.toObservable()).collect(Collectors.toList());
-			return Observable.merge(obsList).lastOrError();
-		}
-		NavigationParameters parameters = new NavigationParametersImpl(ac);
-		// Add children
-		for (Node child : nodes) {
+	private List<NavigationChildEntry> getNavigationChildren(Node node, String branchUuid) {
+		NavigationCache cache = mesh().navigationCache();
+		List<NavigationChildEntry> children = cache.getChildren(node, branchUuid);
+		if (children == null) {
 			// TODO assure that the schema version is correct?
-			// TODO also allow navigations over containers
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
-				NavigationElement childElement = new NavigationElement();
-				// We found at least one child so lets create the array
-				if (currentElement.getChildren() == null) {
-					currentElement.setChildren(new ArrayList<>());
-				}
-				currentElement.getChildren().add(childElement);
-				obsResponses.add(buildNavigationResponse(ac, child, maxDepth, level + 1, navigation, childElement, branchUuid, type));
-			} else if (parameters.isIncludeAll()) {
-				// We found at least one child so lets create the array
-				if (currentElement.getChildren() == null) {
-					currentElement.setChildren(new ArrayList<>());
+			children = node.getChildren(branchUuid).stream()
+				.map(child -> {
+					SchemaContainer schema = child.getSchemaContainer();
+					return new NavigationChildEntry(child.id(), schema.getLatestVersion().getSchema().getContainer(), schema.getName(), schema
+						.getUuid());
+				})
+				.collect(Collectors.toList());
+			cache.store(node, branchUuid, children);
+		}
+		return children;
+	}
+
+	/**
+	 * Transform the node of a navigation element. The permission independent parts of the response are taken from the navigation cache. The
+	 * permissions, the children info and the fields which may reference other nodes depend on the user and are set for each request.
+	 *
+	 * @param ac
+	 * @param branchUuid
+	 * @return
+	 */
+	private NodeResponse transformToNavigationNode(InternalActionContext ac, String branchUuid) {
+		FieldsSet fieldsSet = ac.getGenericParameters().getFields();
+		// Role permissions are requested for a specific role. Responses which only contain the uuid are cheap.
+		if (ac.getRolePermissionParameters().getRoleUuid() != null || (fieldsSet.has("uuid") && fieldsSet.size() == 1)) {
+			return transformToRestSync(ac, 0);
+		}
+		NavigationCache cache = mesh().navigationCache();
+		String key = getUuid() + "-" + new TreeSet<>(fieldsSet) + "-" + buildSubETag(ac, false);
+		NodeResponse cached = cache.getNodeResponse(key);
+		if (cached == null) {
+			cached = transformToRestSync(ac, 0);
+			cache.storeNodeResponse(key, cached);
+		}
+
+		NodeResponse response = copyNodeResponse(cached);
+		if (fieldsSet.has("perms")) {
+			response.setPermissions(ac.getUser().getPermissionInfo(this));
+		}
+		if (fieldsSet.has("children")) {
+			Map<String, NodeChildrenInfo> childrenInfo = new HashMap<>();
+			MeshAuthUser user = ac.getUser();
+			for (NavigationChildEntry entry : getNavigationChildren(this, branchUuid)) {
+				if (user.hasPermissionForId(entry.getId(), READ_PERM)) {
+					NodeChildrenInfo info = childrenInfo.get(entry.getSchemaName());
+					if (info == null) {
+						info = new NodeChildrenInfo();
+						info.setSchemaUuid(entry.getSchemaUuid());
+						info.setCount(1);
+						childrenInfo.put(entry.getSchemaName(), info);
+					} else {
+						info.setCount(info.getCount() + 1);
+					}
 				}
-				NavigationElement childElement = new NavigationElement();
-				currentElement.getChildren().add(childElement);
-				obsResponses.add(buildNavigationResponse(ac, child, maxDepth, level, navigation, childElement, branchUuid, type));
+			}
+			response.setChildrenInfo(childrenInfo);
+		}
+		if (cached.getFields() != null) {
+			response.setFields(transformPermissionDependentFields(ac, branchUuid, (FieldMapImpl) cached.getFields()));
+		}
+		return response;
+	}
+
+	/**
+	 * Copy the cached fields and transform the node and micronode fields again, since the referenced nodes are filtered by the permissions of the user.
+	 *
+	 * @param ac
+	 * @param branchUuid
+	 * @param cachedFields
+	 * @return
+	 */
+	private FieldMapImpl transformPermissionDependentFields(InternalActionContext ac, String branchUuid, FieldMapImpl cachedFields) {
+		FieldMapImpl fields = new FieldMapImpl(cachedFields.getNode().deepCopy());
+		List<String> requestedLanguageTags = ac.getNodeParameters().getLanguageList(options());
+		NodeGraphFieldContainer container = findVersion(requestedLanguageTags, branchUuid, ac.getVersioningParameters().getVersion());
+		if (container == null) {
+			return fields;
+		}
+		List<String> containerLanguageTags = new ArrayList<>(requestedLanguageTags);
+		containerLanguageTags.remove(container.getLanguageTag());
+		containerLanguageTags.add(0, container.getLanguageTag());
+		for (FieldSchema fieldSchema : container.getSchemaContainerVersion().getSchema().getFields()) {
+			if (!isPermissionDependent(fieldSchema)) {
+				continue;
+			}
+			Field restField = container.getRestFieldFromGraph(ac, fieldSchema.getName(), fieldSchema, containerLanguageTags, 1);
+			if (restField != null || fieldSchema.isRequired()) {
+				fields.put(fieldSchema.getName(), restField);
+			} else {
+				fields.remove(fieldSchema.getName());
 			}
 		}
-		List<Observable<NavigationResponse>> obsList = obsResponses.stream().map(ele -> ele.toObservable()).collect(Collectors.toList());
-		return Observable.merge(obsList).lastOrError();
+		return fields;
+	}
+
+	/**
+	 * Check whether the field may reference nodes. Referenced nodes are only included if the user is allowed to read them.
+	 *
+	 * @param fieldSchema
+	 * @return
+	 */
+	private static boolean isPermissionDependent(FieldSchema fieldSchema) {
+		String type = fieldSchema.getType();
+		if (fieldSchema instanceof ListFieldSchema) {
+			type = ((ListFieldSchema) fieldSchema).getListType();
+		}
+		return FieldTypes.NODE.toString().equals(type) || FieldTypes.MICRONODE.toString().equals(type);
+	}
+
+	/**
+	 * Create a shallow copy of the cached node response. The copy can be modified without affecting the cached response, as long as the properties are
+	 * replaced and not modified.
+	 *
+	 * @param source
+	 * @return
+	 */
+	private static NodeResponse copyNodeResponse(NodeResponse source) {
+		NodeResponse copy = new NodeResponse();
+		copy.setUuid(source.getUuid());
+		copy.setCreator(source.getCreator());
+		copy.setCreated(source.getCreated());
+		copy.setEditor(source.getEditor());
+		copy.setEdited(source.getEdited());
+		copy.setPermissions(source.getPermissions());
+		copy.setRolePerms(source.getRolePerms());
+		copy.setLanguage(source.getLanguage());
+		copy.setAvailableLanguages(source.getAvailableLanguages());
+		copy.setLanguagePaths(source.getLanguagePaths());
+		copy.setParentNode(source.getParentNode());
+		copy.setTags(source.getTags());
+		copy.setProject(source.getProject());
+		copy.setChildrenInfo(source.getChildrenInfo());
+		copy.setSchema(source.getSchema());
+		copy.setContainer(source.getContainer());
+		copy.setDisplayField(source.getDisplayField());
+		copy.setDisplayName(source.getDisplayName());
+		copy.setFields(source.getFields());
+		copy.setPath(source.getPath());
+		copy.setBreadcrumb(source.getBreadcrumb());
+		copy.setVersion(source.getVersion());
+		return copy;
+	}
+
+	/**
+	 * Resolved node of a navigation in combination with the navigation element which will contain the node response.
+	 */
+	private static class NavigationItem {
+
+		private final NodeImpl node;
+
+		private final NavigationElement element;
+
+		NavigationItem(NodeImpl node, NavigationElement element) {
+			this.node = node;
+			this.element = element;
+		}
 	}
 
 	@Override
@@ -1248,6 +1486,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				content.purge(bac);
 			}
 		});
+		bumpETagVersion();
 
 		assertPublishConsistency(ac, branch);
 
@@ -1323,6 +1562,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Remove the "published" edge
 		getGraphFieldContainerEdge(languageTag, branchUuid, PUBLISHED).remove();
+		bumpETagVersion();
 		assertPublishConsistency(ac, branch);
 
 		bac.process();
@@ -1360,6 +1600,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		edge.setBranchUuid(branchUuid);
 		edge.setType(PUBLISHED);
 		container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_publish");
+		bumpETagVersion();
 	}
 
 	@Override
@@ -1449,6 +1690,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 
 		addReferenceUpdates(bac);
+		bumpParentETagVersions();
 
 		bac.add(onDeleted(getUuid(), getSchemaContainer(), null, null, null));
 		getElement().remove();
@@ -1541,6 +1783,11 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				property(BRANCH_PARENTS_KEY_PROPERTY, newParents);
 
 				String removedParent = BranchParentEntry.fromString(removedParents.iterator().next()).getParentUuid();
+				NodeImpl removedParentNode = db().index().findByUuid(NodeImpl.class, removedParent);
+				if (removedParentNode != null) {
+					removedParentNode.bumpETagVersion();
+				}
+				bumpETagVersion();
 				// If the removed parent is not parent of any other branch, remove it from the common parent set.
 				boolean parentStillExists = newParents.stream().anyMatch(parent -> BranchParentEntry.fromString(parent).getParentUuid().equals(removedParent));
 				if (!parentStillExists) {
@@ -1554,20 +1801,71 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public Stream<? extends Node> getChildren(MeshAuthUser requestUser, String branchUuid, List<String> languageTags, ContainerType type) {
+		return getChildren(branchUuid).stream()
+			.filter(childFilter(requestUser, branchUuid, languageTags, type));
+	}
+
+	/**
+	 * Create the filter for children which are visible to the user and contain one of the given languages.
+	 * 
+	 * @param requestUser
+	 * @param branchUuid
+	 * @param languageTags
+	 * @param type
+	 * @return
+	 */
+	private Predicate<Node> childFilter(MeshAuthUser requestUser, String branchUuid, List<String> languageTags, ContainerType type) {
 		GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
 
 		Predicate<Node> languageFilter = languageTags == null || languageTags.isEmpty()
 			? item -> true
 			: item -> languageTags.stream().anyMatch(languageTag -> item.getGraphFieldContainer(languageTag, branchUuid, type) != null);
 
-		return getChildren(branchUuid).stream()
-			.filter(languageFilter.and(item -> requestUser.hasPermission(item, perm)));
+		return languageFilter.and(item -> requestUser.hasPermission(item, perm));
 	}
 
 	@Override
 	public TransformablePage<? extends Node> getChildren(InternalActionContext ac, List<String> languageTags, String branchUuid, ContainerType type,
 		PagingParameters pagingInfo) {
-		return new DynamicTransformableStreamPageImpl<>(getChildren(ac.getUser(), branchUuid, languageTags, type), pagingInfo);
+		Predicate<Node> filter = childFilter(ac.getUser(), branchUuid, languageTags, type);
+		Stream<NodeImpl> children = seekChildren(branchUuid, pagingInfo.getAfter());
+		if (children != null) {
+			return new DynamicTransformableStreamPageImpl<Node>(children, pagingInfo, filter, false);
+		}
+		// Pass the filter separately so that the page can skip to the cursor before checking permissions
+		return new DynamicTransformableStreamPageImpl<Node>(getChildren(branchUuid).stream(), pagingInfo, filter);
+	}
+
+	/**
+	 * Load the children of the node in the given branch in the order of their uuids by using the ordered branch parents index. The iteration starts after the
+	 * child which is referenced by the cursor, so the preceding children are not loaded.
+	 * 
+	 * @param branchUuid
+	 * @param after
+	 *            Cursor of the child after which the iteration should start or null to start with the first child
+	 * @return Stream of the children or null if the index does not exist
+	 */
+	private Stream<NodeImpl> seekChildren(String branchUuid, String after) {
+		String entry = branchParentEntry(branchUuid, getUuid()).encode();
+		if (after == null) {
+			return db().index().rangeLookup(NodeImpl.class, BRANCH_PARENTS_UUID_INDEX_POSTFIX, new Object[] { entry }, new Object[] { entry }, false);
+		}
+
+		// The index is ordered by uuid, so the cursor needs to be resolved to the uuid of the child
+		Vertex child;
+		try {
+			child = getGraph().getVertex(PageCursor.decode(after));
+		} catch (IllegalArgumentException e) {
+			throw error(BAD_REQUEST, "error_paging_cursor_invalid", after);
+		}
+		Set<String> parents = child == null ? null : child.<Set<String>>getProperty(BRANCH_PARENTS_KEY_PROPERTY);
+		if (parents == null || !parents.contains(entry)) {
+			throw error(BAD_REQUEST, "error_paging_cursor_invalid", after);
+		}
+		String afterUuid = child.getProperty("uuid");
+		Stream<NodeImpl> children = db().index().rangeLookup(NodeImpl.class, BRANCH_PARENTS_UUID_INDEX_POSTFIX, new Object[] { entry, afterUuid },
+			new Object[] { entry }, false);
+		return children == null ? null : children.filter(node -> !afterUuid.equals(node.getUuid()));
 	}
 
 	@Override
@@ -1586,6 +1884,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			}
 		}
 		super.applyPermissions(batch, role, recursive, permissionsToGrant, permissionsToRevoke);
+		// The children info of the parent depends on the permissions of the child
+		bumpParentETagVersions();
 	}
 
 	@Override
@@ -1864,6 +2164,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(NOT_FOUND, "node_no_language_found", languageTag);
 		}
 		container.deleteFromBranch(branch, bac);
+		bumpETagVersion();
 		// No need to delete the published variant because if the container was published the take offline call handled it
 
 		// starting with the old draft, delete all GFC that have no next and are not draft (for other branches)
@@ -1988,15 +2289,28 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 */
 	@Override
 	public String getSubETag(InternalActionContext ac) {
+		return buildSubETag(ac, true);
+	}
+
+	/**
+	 * Build the sub etag of the node.
+	 *
+	 * @param ac
+	 * @param includeRoles
+	 *            Whether the roles of the user should be included. The key without the roles identifies the permission independent parts of the
+	 *            response.
+	 * @return
+	 */
+	private String buildSubETag(InternalActionContext ac, boolean includeRoles) {
 		StringBuilder keyBuilder = new StringBuilder();
 
 		// Parameters
-		Branch branch = ac.getBranch(getProject());
+		Project project = getProject();
+		Branch branch = ac.getBranch(project);
+		NodeParameters nodeParameters = ac.getNodeParameters();
 		VersioningParameters versioiningParameters = ac.getVersioningParameters();
-		ContainerType type = forVersion(versioiningParameters.getVersion());
 
-		Node parentNode = getParentNode(branch.getUuid());
-		NodeGraphFieldContainer container = findVersion(ac.getNodeParameters().getLanguageList(options()), branch.getUuid(), ac.getVersioningParameters()
+		NodeGraphFieldContainer container = findVersion(nodeParameters.getLanguageList(options()), branch.getUuid(), versioiningParameters
 			.getVersion());
 
 		/**
@@ -2005,8 +2319,6 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		keyBuilder.append(branch.getUuid());
 		keyBuilder.append("-");
 
-		// TODO version, language list
-
 		// We can omit further etag keys since this would return a 404 anyhow
 		// since the requested container could not be found.
 		if (container == null) {
@@ -2014,100 +2326,70 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			return keyBuilder.toString();
 		}
 
-		/**
-		 * Parent node
-		 *
-		 * The node can be moved and this would also affect the response. The etag must also be changed when the node is moved.
-		 */
-		if (parentNode != null) {
-			keyBuilder.append("-");
-			keyBuilder.append(parentNode.getUuid());
-		}
+		// version & language list
+		keyBuilder.append(versioiningParameters.getVersion());
+		keyBuilder.append("-");
+		keyBuilder.append(nodeParameters.getLanguageList(options()));
 
 		// fields version
-		if (container != null) {
-			keyBuilder.append("-");
-			keyBuilder.append(container.getETag(ac));
-		}
+		keyBuilder.append("-");
+		keyBuilder.append(container.getETag(ac));
 
 		/**
 		 * Expansion (all)
 		 *
 		 * The expandAll parameter changes the json response and thus must be included in the etag computation.
 		 */
-		if (ac.getNodeParameters().getExpandAll()) {
+		if (nodeParameters.getExpandAll()) {
 			keyBuilder.append("-");
 			keyBuilder.append("expand:true");
 		}
 
 		// expansion (selective)
-		String expandedFields = Arrays.toString(ac.getNodeParameters().getExpandedFieldNames());
+		String expandedFields = Arrays.toString(nodeParameters.getExpandedFieldNames());
 		keyBuilder.append("-");
 		keyBuilder.append("expandFields:");
 		keyBuilder.append(expandedFields);
 
-		// branch specific tags
-		for (Tag tag : getTags(branch)) {
-			// Tags can't be moved across branches thus we don't need to add the
-			// tag family etag
-			keyBuilder.append(tag.getETag(ac));
-		}
-
-		// branch specific children
-		for (Node child : getChildren(branch.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PUBLISHED_PERM)) {
-				keyBuilder.append("-");
-				keyBuilder.append(child.getSchemaContainer().getName());
-			}
-		}
-
-		// Publish state & availableLanguages
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, PUBLISHED)) {
-			keyBuilder.append(c.getLanguageTag() + "published");
-		}
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, DRAFT)) {
-			keyBuilder.append(c.getLanguageTag() + "draft");
+		/**
+		 * Children, tags, publish state & availableLanguages
+		 *
+		 * Instead of inspecting the children, tags and containers we use the etag version of the node which will be incremented whenever any of those
+		 * change. The children info is filtered by the permissions of the user. We thus need to include the roles of the user.
+		 */
+		keyBuilder.append("-");
+		keyBuilder.append(getETagVersion());
+		if (includeRoles) {
+			keyBuilder.append("-");
+			keyBuilder.append(ac.getUser().getRolesHash());
 		}
 
-		// breadcrumb
-		keyBuilder.append("-");
+		/**
+		 * Parent nodes
+		 *
+		 * The breadcrumb, the webroot path and the language paths depend on the parent nodes. The node can be moved and the parent nodes can be updated.
+		 * The uuid and etag version of each parent node thus needs to be included.
+		 */
 		Node current = getParentNode(branch.getUuid());
-		if (current != null) {
-			while (current != null) {
-
-				String key = current.getUuid() + current.getDisplayName(ac);
-				keyBuilder.append(key);
-				if (LinkType.OFF != ac.getNodeParameters().getResolveLinks()) {
-					WebRootLinkReplacer linkReplacer = mesh().webRootLinkReplacer();
-					String url = linkReplacer.resolve(ac, branch.getUuid(), type, current.getUuid(), ac.getNodeParameters().getResolveLinks(),
-						getProject().getName(), container.getLanguageTag());
-					keyBuilder.append(url);
-				}
-				current = current.getParentNode(branch.getUuid());
-
-			}
+		while (current != null) {
+			keyBuilder.append("-");
+			keyBuilder.append(current.getUuid());
+			keyBuilder.append(":");
+			keyBuilder.append(current.getETagVersion());
+			current = current.getParentNode(branch.getUuid());
 		}
 
 		/**
-		 * webroot path & language paths
+		 * Link resolving
 		 *
-		 * The webroot and language paths must be included in the etag computation in order to invalidate the etag once a node language gets updated or once the
-		 * display name of any parent node changes.
+		 * The resolved links depend on the project name and the branch settings (e.g. hostname, ssl, path prefix).
 		 */
-		if (ac.getNodeParameters().getResolveLinks() != LinkType.OFF) {
-
-			WebRootLinkReplacer linkReplacer = mesh().webRootLinkReplacer();
-			String path = linkReplacer.resolve(ac, branch.getUuid(), type, getUuid(), ac.getNodeParameters().getResolveLinks(), getProject()
-				.getName(), container.getLanguageTag());
-			keyBuilder.append(path);
-
-			// languagePaths
-			for (GraphFieldContainer currentFieldContainer : getGraphFieldContainers(branch, forVersion(versioiningParameters.getVersion()))) {
-				String currLanguage = currentFieldContainer.getLanguageTag();
-				keyBuilder.append(currLanguage + "=" + linkReplacer.resolve(ac, branch.getUuid(), type, this, ac.getNodeParameters()
-					.getResolveLinks(), currLanguage));
-			}
-
+		LinkType linkType = nodeParameters.getResolveLinks();
+		if (linkType != LinkType.OFF) {
+			keyBuilder.append("-");
+			keyBuilder.append(linkType.name());
+			keyBuilder.append(project.getName());
+			keyBuilder.append(branch.getLastEditedTimestamp());
 		}
 
 		if (log.isDebugEnabled()) {
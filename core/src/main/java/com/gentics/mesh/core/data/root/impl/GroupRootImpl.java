@@ -34,7 +34,7 @@ public class GroupRootImpl extends AbstractRootVertex<Group> implements GroupRoo
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(GroupRootImpl.class, MeshVertexImpl.class);
 		type.createType(edgeType(HAS_GROUP));
-		index.createIndex(edgeIndex(HAS_GROUP).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_GROUP).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -1,11 +1,15 @@
 package com.gentics.mesh.core.data.root.impl;
 
+import static com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl.EDITED_INDEX_POSTFIX;
+import static com.gentics.mesh.core.data.node.impl.NodeImpl.PROJECT_CREATED_INDEX_POSTFIX;
+import static com.gentics.mesh.core.data.node.impl.NodeImpl.PROJECT_UUID_INDEX_POSTFIX;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.CREATE_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_NODE;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_NODE_ROOT;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.PROJECT_KEY_PROPERTY;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.SCHEMA_CONTAINER_KEY_PROPERTY;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.error.Errors.error;
@@ -16,8 +20,14 @@ import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -35,10 +45,12 @@ import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.impl.ProjectImpl;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeIndexScan;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
@@ -48,12 +60,11 @@ import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
-import com.gentics.mesh.core.rest.schema.SchemaReferenceInfo;
 import com.gentics.mesh.event.EventQueueBatch;
-import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.syncleus.ferma.FramedTransactionalGraph;
+import com.syncleus.ferma.VertexFrame;
 import com.tinkerpop.blueprints.Vertex;
 
 import io.vertx.core.logging.Logger;
@@ -66,9 +77,15 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 
 	private static final Logger log = LoggerFactory.getLogger(NodeRootImpl.class);
 
+	/**
+	 * Maximum amount of contents which will be read from the edit timestamp index for a single scan. The index contains the contents of all
+	 * projects and versions, larger ranges are answered by loading the nodes of the project instead.
+	 */
+	static final int EDITED_SCAN_MAX_CONTAINERS = 10_000;
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(NodeRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_NODE).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_NODE).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -99,10 +116,15 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 
 	@Override
 	public Stream<? extends Node> findAllStream(InternalActionContext ac, GraphPermission perm) {
+		return findAllStream(ac, perm, NodeIndexScan.project());
+	}
+
+	@Override
+	public Stream<? extends Node> findAllStream(InternalActionContext ac, GraphPermission perm, NodeIndexScan scan) {
 		MeshAuthUser user = ac.getUser();
 		String branchUuid = ac.getBranch().getUuid();
 
-		return findAll(ac.getProject().getUuid())
+		return findAll(ac.getProject().getUuid(), scan)
 			.filter(item -> {
 				boolean hasRead = user.hasPermissionForId(item.getId(), READ_PERM);
 				if (hasRead) {
@@ -132,6 +154,118 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 		));
 	}
 
+	/**
+	 * Finds the nodes of a project which are matched by the index scan. All nodes of the project will be returned if the index of the scan does not
+	 * exist.
+	 * 
+	 * @param projectUuid
+	 * @param scan
+	 * @return
+	 */
+	private Stream<Vertex> findAll(String projectUuid, NodeIndexScan scan) {
+		IndexHandler index = db().index();
+		Stream<Vertex> result;
+		switch (scan.getType()) {
+		case UUID:
+			return scan.getValues().stream()
+				.distinct()
+				.flatMap(uuid -> toStream(db().getVertices(
+					NodeImpl.class,
+					new String[] { PROJECT_KEY_PROPERTY, "uuid" },
+					new Object[] { projectUuid, uuid })));
+		case SCHEMA:
+			return toStream(db().getVertices(
+				NodeImpl.class,
+				new String[] { PROJECT_KEY_PROPERTY, SCHEMA_CONTAINER_KEY_PROPERTY },
+				new Object[] { projectUuid, scan.getKey() }));
+		case UUID_ORDER:
+			result = toVertices(index.rangeLookup(NodeImpl.class, PROJECT_UUID_INDEX_POSTFIX, new Object[] { projectUuid },
+				new Object[] { projectUuid }, scan.isDescending()));
+			break;
+		case CREATED:
+			result = toVertices(index.rangeLookup(NodeImpl.class, PROJECT_CREATED_INDEX_POSTFIX, rangeKeys(projectUuid, scan.getFrom()),
+				rangeKeys(projectUuid, scan.getTo()), scan.isDescending()));
+			break;
+		case EDITED:
+			result = findEdited(projectUuid, scan);
+			break;
+		case STRING_FIELD:
+			String postfix = NodeGraphFieldContainerImpl.stringFieldIndexPostfix(scan.getKey());
+			List<Stream<NodeGraphFieldContainerImpl>> lookups = new ArrayList<>();
+			for (String value : scan.getValues()) {
+				Stream<NodeGraphFieldContainerImpl> lookup = index.rangeLookup(NodeGraphFieldContainerImpl.class, postfix, new Object[] { value },
+					new Object[] { value }, false);
+				if (lookup == null) {
+					lookups = null;
+					break;
+				}
+				lookups.add(lookup);
+			}
+			result = lookups == null ? null : nodesOf(projectUuid, lookups.stream().flatMap(Function.identity()));
+			break;
+		default:
+			return findAll(projectUuid);
+		}
+		if (result == null) {
+			log.warn("The index for the node scan {" + scan + "} could not be found. Falling back to loading all nodes of the project.");
+			return findAll(projectUuid);
+		}
+		return result;
+	}
+
+	/**
+	 * Finds the nodes of a project which have a content that was edited within the range of the scan. The nodes of the whole project will be
+	 * returned if the range contains more than {@link #EDITED_SCAN_MAX_CONTAINERS} contents.
+	 * 
+	 * @param projectUuid
+	 * @param scan
+	 * @return Found nodes or null if the index does not exist
+	 */
+	private Stream<Vertex> findEdited(String projectUuid, NodeIndexScan scan) {
+		if (scan.getFrom() == null || scan.getTo() == null) {
+			return findAll(projectUuid);
+		}
+		Stream<NodeGraphFieldContainerImpl> edited = db().index().rangeLookup(NodeGraphFieldContainerImpl.class, EDITED_INDEX_POSTFIX,
+			new Object[] { scan.getFrom() }, new Object[] { scan.getTo() }, false);
+		if (edited == null) {
+			return null;
+		}
+		List<NodeGraphFieldContainerImpl> containers = edited.limit(EDITED_SCAN_MAX_CONTAINERS + 1).collect(Collectors.toList());
+		if (containers.size() > EDITED_SCAN_MAX_CONTAINERS) {
+			if (log.isDebugEnabled()) {
+				log.debug("The range of the node scan {" + scan + "} contains more than {" + EDITED_SCAN_MAX_CONTAINERS
+					+ "} contents. Loading all nodes of the project instead.");
+			}
+			return findAll(projectUuid);
+		}
+		return nodesOf(projectUuid, containers.stream());
+	}
+
+	private Object[] rangeKeys(Object... keys) {
+		return Arrays.stream(keys).filter(Objects::nonNull).toArray();
+	}
+
+	private Stream<Vertex> toVertices(Stream<? extends VertexFrame> frames) {
+		return frames == null ? null : frames.map(VertexFrame::getElement);
+	}
+
+	/**
+	 * Return the nodes of the given project which own the containers. Each node will only be returned once.
+	 * 
+	 * @param projectUuid
+	 * @param containers
+	 * @return
+	 */
+	private Stream<Vertex> nodesOf(String projectUuid, Stream<? extends NodeGraphFieldContainer> containers) {
+		Set<Object> seen = new HashSet<>();
+		return containers
+			.map(NodeGraphFieldContainer::getParentNode)
+			.filter(Objects::nonNull)
+			.map(Node::getElement)
+			.filter(vertex -> projectUuid.equals(vertex.getProperty(PROJECT_KEY_PROPERTY)))
+			.filter(vertex -> seen.add(vertex.getId()));
+	}
+
 	private Stream<? extends Node> findAllStream(InternalActionContext ac, ContainerType type) {
 		MeshAuthUser user = ac.getUser();
 		FramedTransactionalGraph graph = Tx.get().getGraph();
@@ -294,10 +428,8 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 		MeshAuthUser requestUser = ac.getUser();
 		Branch branch = ac.getBranch();
 
-		String body = ac.getBodyAsString();
-
-		// 1. Extract the schema information from the given JSON
-		SchemaReferenceInfo schemaInfo = JsonUtil.readValue(body, SchemaReferenceInfo.class);
+		// 1. Extract the schema information from the request. Local requests already contain the request model.
+		NodeCreateRequest schemaInfo = ac.fromJson(NodeCreateRequest.class);
 		boolean missingSchemaInfo = schemaInfo.getSchema() == null
 				|| (StringUtils.isEmpty(schemaInfo.getSchema().getUuid())
 						&& StringUtils.isEmpty(schemaInfo.getSchema().getName()));
@@ -36,7 +36,7 @@ public class RoleRootImpl extends AbstractRootVertex<Role> implements RoleRoot {
 
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(RoleRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_ROLE).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_ROLE).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -51,7 +51,7 @@ public class SchemaContainerRootImpl extends AbstractRootVertex<SchemaContainer>
 		type.createVertexType(SchemaContainerRootImpl.class, MeshVertexImpl.class);
 		type.createType(edgeType(HAS_SCHEMA_ROOT));
 		type.createType(edgeType(HAS_SCHEMA_CONTAINER_ITEM));
-		index.createIndex(edgeIndex(HAS_SCHEMA_CONTAINER_ITEM).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_SCHEMA_CONTAINER_ITEM).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -35,7 +35,7 @@ public class TagRootImpl extends AbstractRootVertex<Tag> implements TagRoot {
 		type.createVertexType(TagRootImpl.class, MeshVertexImpl.class);
 		//TODO why was the branch key omitted? TagEdgeImpl.BRANCH_UUID_KEY
 		index.createIndex(edgeIndex(HAS_TAG));
-		index.createIndex(edgeIndex(HAS_TAG).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_TAG).withInOut().withOut().withOutIn());
 	}
 
 	private static final Logger log = LoggerFactory.getLogger(TagRootImpl.class);
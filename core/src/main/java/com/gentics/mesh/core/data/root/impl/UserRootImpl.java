@@ -45,7 +45,7 @@ public class UserRootImpl extends AbstractRootVertex<User> implements UserRoot {
 	 */
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(UserRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_USER).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_USER).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -103,7 +103,12 @@ public class UserRootImpl extends AbstractRootVertex<User> implements UserRoot {
 	@Override
 	public MeshAuthUser findMeshAuthUserByUsername(String username) {
 		// TODO use index
-		return out(HAS_USER).has(UserImpl.USERNAME_PROPERTY_KEY, username).nextOrDefaultExplicit(MeshAuthUserImpl.class, null);
+		MeshAuthUser user = out(HAS_USER).has(UserImpl.USERNAME_PROPERTY_KEY, username).nextOrDefaultExplicit(MeshAuthUserImpl.class, null);
+		if (user != null) {
+			// Cache the uuid so that it can be accessed without a transaction
+			user.getUuid();
+		}
+		return user;
 	}
 
 	@Override
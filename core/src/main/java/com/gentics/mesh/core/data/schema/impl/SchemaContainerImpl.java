@@ -1,14 +1,17 @@
 package com.gentics.mesh.core.data.schema.impl;
 
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_SCHEMA_CONTAINER_ITEM;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.PARENTS_KEY_PROPERTY;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.SCHEMA_CONTAINER_KEY_PROPERTY;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.event.Assignment.UNASSIGNED;
 import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import com.gentics.madl.index.IndexHandler;
@@ -77,6 +80,34 @@ public class SchemaContainerImpl extends
 		return new TraversalResult<>(graph.frameExplicit(vertices, NodeImpl.class));
 	}
 
+	@Override
+	public void setName(String name) {
+		boolean renamed = getName() != null && !getName().equals(name);
+		super.setName(name);
+		if (renamed) {
+			// Only the children info of the parents of nodes which use this schema references the schema name. Read the parent uuids from the
+			// vertices of those nodes and bump each parent once instead of loading it again for each of its children.
+			Set<String> parentUuids = new HashSet<>();
+			Iterator<Vertex> vertices = mesh().database().getVertices(
+				NodeImpl.class,
+				new String[]{SCHEMA_CONTAINER_KEY_PROPERTY},
+				new Object[]{getUuid()}
+			);
+			while (vertices.hasNext()) {
+				Set<String> parents = vertices.next().getProperty(PARENTS_KEY_PROPERTY);
+				if (parents != null) {
+					parentUuids.addAll(parents);
+				}
+			}
+			for (String parentUuid : parentUuids) {
+				NodeImpl parent = db().index().findByUuid(NodeImpl.class, parentUuid);
+				if (parent != null) {
+					parent.bumpETagVersion();
+				}
+			}
+		}
+	}
+
 	@Override
 	public void delete(BulkActionContext bac) {
 		// Check whether the schema is currently being referenced by nodes.
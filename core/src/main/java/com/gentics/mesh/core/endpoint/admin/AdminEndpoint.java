@@ -99,6 +99,7 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		// addVerticleHandler();
 		// addServiceHandler();
 		addJobHandler();
+		addBinaryGarbageCollectionHandler();
 		addPluginHandler();
 		addDebugInfoHandler();
 		addRuntimeConfigHandler();
@@ -227,6 +228,29 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		repairEndpoint.blockingHandler(rc -> {
 			consistencyHandler.invokeRepair(wrap(rc));
 		});
+
+		InternalEndpointRoute checkJobEndpoint = createRoute();
+		checkJobEndpoint.path("/consistency/check/job");
+		checkJobEndpoint.method(POST);
+		checkJobEndpoint.description(
+			"Enqueue a job which runs the consistency check in the background. The progress and the location of the findings file will be exposed via the job properties.");
+		checkJobEndpoint.produces(APPLICATION_JSON);
+		checkJobEndpoint.exampleResponse(OK, jobExamples.createJobResponse(), "Enqueued consistency check job.");
+		checkJobEndpoint.blockingHandler(rc -> {
+			jobHandler.handleConsistencyCheckJob(wrap(rc), false);
+		});
+
+		InternalEndpointRoute repairJobEndpoint = createRoute();
+		repairJobEndpoint.path("/consistency/repair/job");
+		repairJobEndpoint.method(POST);
+		repairJobEndpoint.description(
+			"Enqueue a job which runs the consistency check and repair in the background. The progress and the location of the findings file will be exposed via the job properties.");
+		repairJobEndpoint.produces(APPLICATION_JSON);
+		repairJobEndpoint.exampleResponse(OK, jobExamples.createJobResponse(), "Enqueued consistency repair job.");
+		repairJobEndpoint.events(REPAIR_START, REPAIR_FINISHED);
+		repairJobEndpoint.blockingHandler(rc -> {
+			jobHandler.handleConsistencyCheckJob(wrap(rc), true);
+		});
 	}
 
 	private void addExportHandler() {
@@ -277,7 +301,7 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		endpoint.method(POST);
 		endpoint.setMutating(false);
 		endpoint.description(
-			"Invoke a graph database backup and dump the data to the configured backup location. Note that this operation will block all current operation.");
+			"Invoke a graph database backup and dump the data to the configured backup location. Note that this operation will block all current operation unless online backups have been enabled via the storage options.");
 		endpoint.produces(APPLICATION_JSON);
 		endpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Incremental backup was invoked.");
 		endpoint.events(GRAPH_BACKUP_START, GRAPH_BACKUP_FINISHED);
@@ -307,6 +331,20 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 
 	}
 
+	private void addBinaryGarbageCollectionHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/binaries/gc");
+		endpoint.method(POST);
+		endpoint.description(
+			"Enqueue a job which removes binaries that are no longer referenced by any field and deletes stale temporary uploads. The job will report the amount of reclaimed bytes.");
+		endpoint.produces(APPLICATION_JSON);
+		endpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Binary garbage collection job was enqueued.");
+		endpoint.blockingHandler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			jobHandler.handleBinaryGarbageCollection(ac);
+		});
+	}
+
 	private void addJobHandler() {
 
 		InternalEndpointRoute invokeJobWorker = createRoute();
@@ -347,7 +385,7 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		InternalEndpointRoute deleteJob = createRoute();
 		deleteJob.path("/jobs/:jobUuid");
 		deleteJob.method(DELETE);
-		deleteJob.description("Deletes the job. Note that it is only possible to delete failed jobs");
+		deleteJob.description("Deletes the job. Note that it is only possible to delete failed or cancelled jobs");
 		deleteJob.addUriParameter("jobUuid", "Uuid of the job.", JOB_UUID);
 		deleteJob.blockingHandler(rc -> {
 			InternalActionContext ac = wrap(rc);
@@ -366,6 +404,19 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 			jobHandler.handleProcess(ac, uuid);
 		});
 
+		InternalEndpointRoute cancelJob = createRoute();
+		cancelJob.path("/jobs/:jobUuid/cancel");
+		cancelJob.method(POST);
+		cancelJob.description("Cancel the job. Queued jobs will be cancelled directly. Running jobs will stop once the current batch of work has been completed. Only consistency check and bulk node jobs can be cancelled.");
+		cancelJob.addUriParameter("jobUuid", "Uuid of the job.", JOB_UUID);
+		cancelJob.produces(APPLICATION_JSON);
+		cancelJob.exampleResponse(OK, jobExamples.createJobResponse(), "Job information.");
+		cancelJob.blockingHandler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			String uuid = ac.getParameter("jobUuid");
+			jobHandler.handleCancel(ac, uuid);
+		});
+
 		InternalEndpointRoute resetJob = createRoute();
 		resetJob.path("/jobs/:jobUuid/error");
 		resetJob.method(DELETE);
@@ -10,6 +10,8 @@ import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_START;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_YAML_UTF8;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPH_BACKUP_DURATION;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPH_BACKUP_SIZE;
 import static com.gentics.mesh.rest.Messages.message;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
@@ -21,6 +23,8 @@ import static java.util.Comparator.comparing;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -43,13 +47,17 @@ import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.distributed.coordinator.Coordinator;
 import com.gentics.mesh.distributed.coordinator.MasterServer;
+import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.generator.RAMLGenerator;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.router.RouterStorageRegistry;
 import com.gentics.mesh.search.SearchProvider;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import io.reactivex.Completable;
 import io.reactivex.Single;
 import io.vertx.core.Vertx;
@@ -85,10 +93,16 @@ public class AdminHandler extends AbstractHandler {
 
 	private final WriteLock writeLock;
 
+	private final Timer backupDurationTimer;
+
+	private final DistributionSummary backupSizeSummary;
+
+	private final AtomicBoolean backupRunning = new AtomicBoolean(false);
+
 	@Inject
 	public AdminHandler(Vertx vertx, Database db, RouterStorage routerStorage, BootstrapInitializer boot, SearchProvider searchProvider,
 		HandlerUtilities utils,
-		MeshOptions options, RouterStorageRegistry routerStorageRegistry, Coordinator coordinator, WriteLock writeLock) {
+		MeshOptions options, RouterStorageRegistry routerStorageRegistry, Coordinator coordinator, WriteLock writeLock, MetricsService metrics) {
 		this.vertx = vertx;
 		this.db = db;
 		this.routerStorage = routerStorage;
@@ -99,6 +113,8 @@ public class AdminHandler extends AbstractHandler {
 		this.routerStorageRegistry = routerStorageRegistry;
 		this.coordinator = coordinator;
 		this.writeLock = writeLock;
+		this.backupDurationTimer = metrics.timer(GRAPH_BACKUP_DURATION);
+		this.backupSizeSummary = metrics.meter(GRAPH_BACKUP_SIZE);
 	}
 
 	public void handleMeshStatus(InternalActionContext ac) {
@@ -122,20 +138,45 @@ public class AdminHandler extends AbstractHandler {
 		}, model -> ac.send(model, OK));
 	}
 
+	/**
+	 * Create a backup of the graph database. Online backups will not change the server status and thus don't block transactions. Otherwise the server
+	 * will be switched into the {@link MeshStatus#BACKUP} status while the backup is being created.
+	 * 
+	 * @return Path of the created backup file
+	 */
 	public String backup() {
+		if (!backupRunning.compareAndSet(false, true)) {
+			throw error(SERVICE_UNAVAILABLE, "backup_in_progress");
+		}
+		GraphStorageOptions storageOptions = options.getStorageOptions();
+		boolean online = storageOptions.isOnlineBackup();
 		Mesh mesh = boot.mesh();
 		MeshStatus oldStatus = mesh.getStatus();
+		Timer.Sample sample = Timer.start();
 		try {
 			vertx.eventBus().publish(GRAPH_BACKUP_START.address, null);
-			mesh.setStatus(MeshStatus.BACKUP);
-			return db.backupGraph(options.getStorageOptions().getBackupDirectory());
+			String backupFile;
+			if (online) {
+				backupFile = db.onlineBackupGraph(storageOptions.getBackupDirectory(), storageOptions.isIncrementalBackup());
+			} else {
+				mesh.setStatus(MeshStatus.BACKUP);
+				backupFile = db.backupGraph(storageOptions.getBackupDirectory());
+			}
+			long duration = TimeUnit.NANOSECONDS.toMillis(sample.stop(backupDurationTimer));
+			long size = new File(backupFile).length();
+			backupSizeSummary.record(size);
+			log.info("Backup {" + backupFile + "} with {" + size + "} bytes was created in {" + duration + "} ms. Online: {" + online + "}");
+			return backupFile;
 		} catch (GenericRestException e) {
 			throw e;
 		} catch (Throwable e) {
 			log.error("Backup process failed", e);
 			throw error(INTERNAL_SERVER_ERROR, "backup_failed", e);
 		} finally {
-			mesh.setStatus(oldStatus);
+			if (!online) {
+				mesh.setStatus(oldStatus);
+			}
+			backupRunning.set(false);
 			vertx.eventBus().publish(GRAPH_BACKUP_FINISHED.address, null);
 		}
 	}
@@ -1,7 +1,10 @@
 package com.gentics.mesh.core.endpoint.admin;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.core.rest.job.JobStatus.CANCELLED;
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.core.rest.job.JobStatus.QUEUED;
 import static com.gentics.mesh.core.rest.job.JobStatus.UNKNOWN;
 import static com.gentics.mesh.rest.Messages.message;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
@@ -88,7 +91,7 @@ public class JobHandler extends AbstractCrudHandler<Job, JobResponse> {
 				JobRoot root = boot.jobRoot();
 				Job job = root.loadObjectByUuidNoPerm(uuid, true);
 				db.tx(() -> {
-					if (job.hasFailed()) {
+					if (job.hasFailed() || job.getStatus() == CANCELLED) {
 						job.delete();
 					} else {
 						throw error(BAD_REQUEST, "job_error_invalid_state", uuid);
@@ -179,4 +182,70 @@ public class JobHandler extends AbstractCrudHandler<Job, JobResponse> {
 			return message(ac, "job_processing_invoked");
 		}, model -> ac.send(model, OK));
 	}
+
+	/**
+	 * Cancel the given job. Queued jobs will be cancelled directly. Running jobs will stop once they notice the cancellation request.
+	 * 
+	 * @param ac
+	 * @param uuid
+	 */
+	public void handleCancel(InternalActionContext ac, String uuid) {
+		validateParameter(uuid, "uuid");
+		utils.syncTx(ac, (tx) -> {
+			if (!ac.getUser().isAdmin()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+			JobRoot root = boot.jobRoot();
+			Job job = root.loadObjectByUuidNoPerm(uuid, true);
+			db.tx(() -> {
+				if (!job.isCancellable()) {
+					throw error(BAD_REQUEST, "job_cancel_not_supported", uuid);
+				}
+				JobStatus status = job.getStatus();
+				if (status == QUEUED) {
+					job.setStopTimestamp();
+					job.setStatus(CANCELLED);
+				} else if (job.hasFailed() || status == FAILED || status == CANCELLED || status == COMPLETED) {
+					throw error(BAD_REQUEST, "job_cancel_invalid_state", uuid);
+				} else {
+					job.requestCancel();
+				}
+			});
+			log.info("Requested cancellation of job {" + uuid + "}");
+			return job.transformToRestSync(ac, 0);
+		}, model -> ac.send(model, OK));
+	}
+
+	/**
+	 * Enqueue a consistency check job and invoke the job worker.
+	 * 
+	 * @param ac
+	 * @param attemptRepair
+	 */
+	public void handleConsistencyCheckJob(InternalActionContext ac, boolean attemptRepair) {
+		utils.syncTx(ac, (tx) -> {
+			if (!ac.getUser().isAdmin()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+			Job job = boot.jobRoot().enqueueConsistencyCheck(ac.getUser(), attemptRepair);
+			MeshEvent.triggerJobWorker(boot.mesh());
+			return job.transformToRestSync(ac, 0);
+		}, model -> ac.send(model, OK));
+	}
+
+	/**
+	 * Enqueue a binary garbage collection job and invoke the job worker.
+	 * 
+	 * @param ac
+	 */
+	public void handleBinaryGarbageCollection(InternalActionContext ac) {
+		utils.syncTx(ac, (tx) -> {
+			if (!ac.getUser().isAdmin()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+			boot.jobRoot().enqueueBinaryGarbageCollection(ac.getUser());
+			MeshEvent.triggerJobWorker(boot.mesh());
+			return message(ac, "binary_gc_enqueued");
+		}, model -> ac.send(model, OK));
+	}
 }
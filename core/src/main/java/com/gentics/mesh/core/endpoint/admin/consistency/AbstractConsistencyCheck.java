@@ -1,10 +1,15 @@
 package com.gentics.mesh.core.endpoint.admin.consistency;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
 import com.gentics.mesh.graphdb.spi.Database;
 
 import io.vertx.core.logging.Logger;
@@ -13,7 +18,6 @@ import io.vertx.core.logging.LoggerFactory;
 public abstract class AbstractConsistencyCheck implements ConsistencyCheck {
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractConsistencyCheck.class);
-	private static final long BATCH_SIZE = 10000L;
 
 	/**
 	 * Loads the elements of the given type from the graph and processes them using the given action.
@@ -24,21 +28,57 @@ public abstract class AbstractConsistencyCheck implements ConsistencyCheck {
 	 *            Type of elements to be loaded and processed
 	 * @param action
 	 *            Processing action to be invoked
-	 * @param attemptRepair
-	 *            Handle repair
-	 * @param tx
-	 *            Current transaction
+	 * @param context
+	 *            Context which defines how the elements are scanned
 	 */
 	protected <T extends MeshVertex> ConsistencyCheckResult processForType(Database db, Class<T> clazz, BiConsumer<T, ConsistencyCheckResult> action,
-		boolean attemptRepair, Tx tx) {
+		ConsistencyCheckContext context) {
 		log.info("Processing elements of type {" + clazz.getSimpleName() + "}");
+		if (context.getTx() != null) {
+			return processInTx(db, clazz, action, context);
+		}
+		List<String> partitions = db.tx(() -> db.getVertexPartitions(clazz));
+		ConsistencyCheckResult result = new ConsistencyCheckResult();
+		// Repair actions may affect elements of other partitions. Only the check is thus run in parallel.
+		if (context.isAttemptRepair() || context.getParallelism() == 1 || partitions.size() <= 1) {
+			for (String partition : partitions) {
+				result.merge(processPartition(db, clazz, partition, action, context));
+			}
+		} else {
+			List<Future<ConsistencyCheckResult>> futures = new ArrayList<>();
+			for (String partition : partitions) {
+				futures.add(context.getExecutor().submit(() -> processPartition(db, clazz, partition, action, context)));
+			}
+			try {
+				for (Future<ConsistencyCheckResult> future : futures) {
+					result.merge(future.get());
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Processing of type {" + clazz.getSimpleName() + "} was interrupted", e);
+			} catch (ExecutionException e) {
+				throw new RuntimeException("Error while processing type {" + clazz.getSimpleName() + "}", e.getCause());
+			}
+		}
+		log.info("Processed all " + clazz.getSimpleName() + " elements.");
+		return result;
+	}
+
+	/**
+	 * Process all elements within the transaction of the context.
+	 */
+	private <T extends MeshVertex> ConsistencyCheckResult processInTx(Database db, Class<T> clazz, BiConsumer<T, ConsistencyCheckResult> action,
+		ConsistencyCheckContext context) {
+		Tx tx = context.getTx();
+		boolean attemptRepair = context.isAttemptRepair();
+		long batchSize = context.getBatchSize();
 		Iterator<? extends T> it = db.getVerticesForType(clazz);
 		ConsistencyCheckResult result = new ConsistencyCheckResult();
 		long count = 0;
 		while (it.hasNext()) {
 			T element = it.next();
 			action.accept(element, result);
-			if (count != 0 && count % BATCH_SIZE == 0) {
+			if (count != 0 && count % batchSize == 0) {
 				if (attemptRepair) {
 					tx.getGraph().commit();
 				}
@@ -49,8 +89,62 @@ public abstract class AbstractConsistencyCheck implements ConsistencyCheck {
 		if (attemptRepair) {
 			tx.getGraph().commit();
 		}
+		context.onChecked(count);
 		log.info("Processed a total of {" + count + "} " + clazz.getSimpleName() + " elements.");
 		return result;
 	}
 
+	/**
+	 * Process the elements of the partition in batches. Each batch uses a dedicated transaction. The findings of a batch are only passed along once the
+	 * transaction has been committed since the transaction may be retried.
+	 */
+	private <T extends MeshVertex> ConsistencyCheckResult processPartition(Database db, Class<T> clazz, String partition,
+		BiConsumer<T, ConsistencyCheckResult> action, ConsistencyCheckContext context) {
+		ConsistencyCheckResult result = new ConsistencyCheckResult();
+		int batchSize = context.getBatchSize();
+		Object lastId = null;
+		long count = 0;
+		while (!context.isCancelled()) {
+			Object afterId = lastId;
+			Batch batch = db.tx(() -> {
+				Batch current = new Batch();
+				List<? extends T> elements = db.getVertexBatch(clazz, partition, afterId, batchSize);
+				for (T element : elements) {
+					current.lastId = element.getId();
+					action.accept(element, current.result);
+				}
+				current.size = elements.size();
+				return current;
+			});
+			for (InconsistencyInfo info : batch.result.getResults()) {
+				result.addInconsistency(info);
+				context.onInconsistency(info);
+			}
+			count += batch.size;
+			context.onChecked(batch.size);
+			context.checkpoint();
+			if (batch.size < batchSize) {
+				break;
+			}
+			lastId = batch.lastId;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Processed {" + count + "} " + clazz.getSimpleName() + " elements of partition {" + partition + "}");
+		}
+		return result;
+	}
+
+	/**
+	 * Outcome of a single batch.
+	 */
+	private static class Batch {
+
+		private ConsistencyCheckResult result = new ConsistencyCheckResult(Integer.MAX_VALUE);
+
+		private Object lastId;
+
+		private int size;
+
+	}
+
 }
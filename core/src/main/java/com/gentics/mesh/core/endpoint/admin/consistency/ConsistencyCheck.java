@@ -20,7 +20,20 @@ public interface ConsistencyCheck {
 	 * @param attemptRepair
 	 * @return Result of the consistency check
 	 */
-	ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair);
+	default ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+		return invoke(db, ConsistencyCheckContext.inTx(tx, attemptRepair));
+	}
+
+	/**
+	 * Invoke the consistency check using the given context and return the result.
+	 * 
+	 * @param db
+	 *            database
+	 * @param context
+	 *            context which defines how the elements are scanned
+	 * @return Result of the consistency check
+	 */
+	ConsistencyCheckResult invoke(Database db, ConsistencyCheckContext context);
 
 	/**
 	 * Check existence of an incoming edge.
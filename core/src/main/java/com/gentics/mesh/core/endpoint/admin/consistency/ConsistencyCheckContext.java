@@ -0,0 +1,248 @@
+package com.gentics.mesh.core.endpoint.admin.consistency;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
+
+/**
+ * Context of a consistency check run. The context defines how the elements are scanned and tracks the progress of the run.
+ *
+ * A context which was created via {@link #inTx(Tx, boolean)} will scan all elements within the given transaction. Otherwise the storage partitions
+ * of each type will be scanned in batches. Each batch uses a dedicated transaction so that the memory usage is bounded. The partitions will be
+ * scanned in parallel if the parallelism is greater than one.
+ */
+public class ConsistencyCheckContext implements AutoCloseable {
+
+	public static final int DEFAULT_BATCH_SIZE = 10_000;
+
+	private final Tx tx;
+
+	private final boolean attemptRepair;
+
+	private final int parallelism;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private final long start = System.currentTimeMillis();
+
+	private final AtomicLong checkedCount = new AtomicLong();
+
+	private final AtomicLong inconsistencyCount = new AtomicLong();
+
+	private final AtomicLong repairCount = new AtomicLong();
+
+	private final AtomicLong lastCheckpoint = new AtomicLong(start);
+
+	private volatile boolean cancelled = false;
+
+	private volatile String currentCheck;
+
+	private Consumer<InconsistencyInfo> findingHandler;
+
+	private Runnable checkpointHandler;
+
+	private long checkpointInterval;
+
+	private ExecutorService executor;
+
+	/**
+	 * Create a context which scans the storage partitions in batches.
+	 *
+	 * @param attemptRepair
+	 * @param parallelism
+	 *            Amount of partitions which will be scanned in parallel
+	 */
+	public ConsistencyCheckContext(boolean attemptRepair, int parallelism) {
+		this(null, attemptRepair, parallelism);
+	}
+
+	private ConsistencyCheckContext(Tx tx, boolean attemptRepair, int parallelism) {
+		this.tx = tx;
+		this.attemptRepair = attemptRepair;
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/**
+	 * Create a context which processes all elements within the given transaction.
+	 *
+	 * @param tx
+	 * @param attemptRepair
+	 * @return
+	 */
+	public static ConsistencyCheckContext inTx(Tx tx, boolean attemptRepair) {
+		return new ConsistencyCheckContext(tx, attemptRepair, 1);
+	}
+
+	/**
+	 * Return the transaction which is used to process all elements.
+	 *
+	 * @return Transaction or null if the elements are processed in batches
+	 */
+	public Tx getTx() {
+		return tx;
+	}
+
+	public boolean isAttemptRepair() {
+		return attemptRepair;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public ConsistencyCheckContext setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Set the handler which will receive all found inconsistencies. The handler may be invoked by multiple threads.
+	 *
+	 * @param findingHandler
+	 * @return Fluent API
+	 */
+	public ConsistencyCheckContext setFindingHandler(Consumer<InconsistencyInfo> findingHandler) {
+		this.findingHandler = findingHandler;
+		return this;
+	}
+
+	/**
+	 * Set the handler which will be invoked at most once per interval while the elements are processed. The handler can be used to persist the progress
+	 * and to check whether the run has been cancelled.
+	 *
+	 * @param checkpointHandler
+	 * @param interval
+	 *            Interval in milliseconds
+	 * @return Fluent API
+	 */
+	public ConsistencyCheckContext setCheckpointHandler(Runnable checkpointHandler, long interval) {
+		this.checkpointHandler = checkpointHandler;
+		this.checkpointInterval = interval;
+		return this;
+	}
+
+	/**
+	 * Cancel the run. The checks will stop processing elements once the current batch has been completed.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	public String getCurrentCheck() {
+		return currentCheck;
+	}
+
+	public void setCurrentCheck(String currentCheck) {
+		this.currentCheck = currentCheck;
+	}
+
+	/**
+	 * Count the processed elements.
+	 *
+	 * @param count
+	 */
+	public void onChecked(long count) {
+		checkedCount.addAndGet(count);
+	}
+
+	/**
+	 * Handle a found inconsistency.
+	 *
+	 * @param info
+	 */
+	public void onInconsistency(InconsistencyInfo info) {
+		inconsistencyCount.incrementAndGet();
+		if (info.isRepaired()) {
+			repairCount.incrementAndGet();
+		}
+		if (findingHandler != null) {
+			findingHandler.accept(info);
+		}
+	}
+
+	/**
+	 * Invoke the checkpoint handler if the checkpoint interval has passed since the last invocation.
+	 */
+	public void checkpoint() {
+		if (checkpointHandler == null) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		long last = lastCheckpoint.get();
+		if (now - last >= checkpointInterval && lastCheckpoint.compareAndSet(last, now)) {
+			checkpointHandler.run();
+		}
+	}
+
+	public long getCheckedCount() {
+		return checkedCount.get();
+	}
+
+	public long getInconsistencyCount() {
+		return inconsistencyCount.get();
+	}
+
+	public long getRepairCount() {
+		return repairCount.get();
+	}
+
+	/**
+	 * Return the time which has passed since the context was created.
+	 *
+	 * @return Duration in milliseconds
+	 */
+	public long getDuration() {
+		return System.currentTimeMillis() - start;
+	}
+
+	/**
+	 * Return the throughput of the run.
+	 *
+	 * @return Processed elements per second
+	 */
+	public long getThroughput() {
+		long duration = getDuration();
+		return duration == 0 ? 0 : getCheckedCount() * 1000 / duration;
+	}
+
+	/**
+	 * Return the executor which is used to scan the partitions in parallel.
+	 *
+	 * @return
+	 */
+	public synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			AtomicInteger counter = new AtomicInteger();
+			ThreadFactory factory = r -> {
+				Thread thread = new Thread(r, "mesh-consistency-check-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+			executor = Executors.newFixedThreadPool(parallelism, factory);
+		}
+		return executor;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+}
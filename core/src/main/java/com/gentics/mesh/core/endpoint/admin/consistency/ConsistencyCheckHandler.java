@@ -133,4 +133,41 @@ public class ConsistencyCheckHandler extends AbstractHandler {
 		});
 	}
 
+	/**
+	 * Run the consistency check using the given context. The elements will not be processed within a single transaction. This method is thus suitable
+	 * for large databases and is used by the consistency check job.
+	 * 
+	 * @param context
+	 * @return Response which contains the first found inconsistencies and the repair counts
+	 */
+	public ConsistencyCheckResponse checkConsistency(ConsistencyCheckContext context) {
+		boolean attemptRepair = context.isAttemptRepair();
+		log.info("Consistency check has been invoked. Repair: " + attemptRepair + ", Parallelism: " + context.getParallelism());
+		vertx.eventBus().publish(REPAIR_START.address, null);
+		ConsistencyCheckResponse response = new ConsistencyCheckResponse();
+		try {
+			for (ConsistencyCheck check : checks) {
+				if (context.isCancelled()) {
+					log.info("Consistency check was cancelled before invoking {" + check.getName() + "} check.");
+					break;
+				}
+				context.setCurrentCheck(check.getName());
+				log.info("Invoking {" + check.getName() + "} check.");
+				ConsistencyCheckResult result = check.invoke(db, context);
+				log.info("Check {" + check.getName() + "} completed.");
+				if (attemptRepair) {
+					log.info("Check {" + check.getName() + "} repaired {" + result.getRepairCount() + "} elements.");
+				}
+				response.getInconsistencies().addAll(result.getResults());
+				response.getRepairCount().put(check.getName(), result.getRepairCount());
+			}
+		} finally {
+			context.setCurrentCheck(null);
+			vertx.eventBus().publish(REPAIR_FINISHED.address, null);
+		}
+		log.info("Consistency check processed {" + context.getCheckedCount() + "} elements and found {" + context.getInconsistencyCount()
+			+ "} inconsistencies.");
+		return response;
+	}
+
 }
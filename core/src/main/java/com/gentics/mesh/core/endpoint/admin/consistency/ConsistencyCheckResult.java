@@ -11,9 +11,24 @@ public class ConsistencyCheckResult {
 
 	private static final int MAX_RESULTS = 200;
 
+	private final int maxResults;
+
 	private long repairCount = 0;
 
-	private List<InconsistencyInfo> results = new ArrayList<>(MAX_RESULTS);
+	private List<InconsistencyInfo> results = new ArrayList<>();
+
+	public ConsistencyCheckResult() {
+		this(MAX_RESULTS);
+	}
+
+	/**
+	 * Create a new result which keeps the given amount of inconsistencies.
+	 * 
+	 * @param maxResults
+	 */
+	public ConsistencyCheckResult(int maxResults) {
+		this.maxResults = maxResults;
+	}
 
 	public long getRepairCount() {
 		return repairCount;
@@ -32,7 +47,7 @@ public class ConsistencyCheckResult {
 			repairCount++;
 		}
 		// Keep the list of results small
-		if (results.size() < MAX_RESULTS) {
+		if (results.size() < maxResults) {
 			results.add(info);
 		}
 	}
@@ -62,7 +77,12 @@ public class ConsistencyCheckResult {
 	 * @return Fluent API
 	 */
 	public ConsistencyCheckResult merge(ConsistencyCheckResult result) {
-		getResults().addAll(result.getResults());
+		for (InconsistencyInfo info : result.getResults()) {
+			if (results.size() >= maxResults) {
+				break;
+			}
+			results.add(info);
+		}
 		repairCount += result.getRepairCount();
 		return this;
 	}
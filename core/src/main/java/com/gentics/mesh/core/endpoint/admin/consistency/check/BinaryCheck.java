@@ -3,10 +3,10 @@ package com.gentics.mesh.core.endpoint.admin.consistency.check;
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.LOW;
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 
-import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.binary.impl.BinaryImpl;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
 import com.gentics.mesh.core.rest.admin.consistency.RepairAction;
@@ -23,10 +23,11 @@ public class BinaryCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, ConsistencyCheckContext context) {
+		boolean attemptRepair = context.isAttemptRepair();
 		return processForType(db, BinaryImpl.class, (binary, result) -> {
 			checkBinary(binary, result, attemptRepair);
-		}, attemptRepair, tx);
+		}, context);
 	}
 
 	private void checkBinary(Binary binary, ConsistencyCheckResult result, boolean attemptRepair) {
@@ -9,13 +9,13 @@ import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.impl.BranchImpl;
 import com.gentics.mesh.core.data.impl.ProjectImpl;
 import com.gentics.mesh.core.data.root.BranchRoot;
 import com.gentics.mesh.core.data.root.impl.BranchRootImpl;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.gentics.mesh.graphdb.spi.Database;
 
@@ -30,14 +30,14 @@ public class BranchCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, ConsistencyCheckContext context) {
 		ConsistencyCheckResult a = processForType(db, BranchRootImpl.class, (root,result) -> {
 			checkBranchRoot(root, result);
-		}, attemptRepair, tx);
+		}, context);
 
 		ConsistencyCheckResult b = processForType(db, BranchImpl.class, (release, result)-> {
 			checkBranch(release, result);
-		}, attemptRepair, tx);
+		}, context);
 
 		return a.merge(b);
 	}
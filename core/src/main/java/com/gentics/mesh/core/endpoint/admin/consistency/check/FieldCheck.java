@@ -3,7 +3,6 @@ package com.gentics.mesh.core.endpoint.admin.consistency.check;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIST;
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.LOW;
 
-import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.field.list.ListGraphField;
 import com.gentics.mesh.core.data.node.field.list.impl.BooleanGraphFieldListImpl;
@@ -15,6 +14,7 @@ import com.gentics.mesh.core.data.node.field.list.impl.NumberGraphFieldListImpl;
 import com.gentics.mesh.core.data.node.field.list.impl.StringGraphFieldListImpl;
 import com.gentics.mesh.core.data.node.impl.MicronodeImpl;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
 import com.gentics.mesh.core.rest.admin.consistency.RepairAction;
@@ -36,24 +36,24 @@ public class FieldCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, ConsistencyCheckContext context) {
 		ConsistencyCheckResult result = new ConsistencyCheckResult();
-		result.merge(checkListType(db, tx, NumberGraphFieldListImpl.class, "number", attemptRepair));
-		result.merge(checkListType(db, tx, DateGraphFieldListImpl.class, "date", attemptRepair));
-		result.merge(checkListType(db, tx, BooleanGraphFieldListImpl.class, "boolean", attemptRepair));
-		result.merge(checkListType(db, tx, HtmlGraphFieldListImpl.class, "html", attemptRepair));
-		result.merge(checkListType(db, tx, StringGraphFieldListImpl.class, "string", attemptRepair));
-		result.merge(checkListType(db, tx, NodeGraphFieldListImpl.class, "node", attemptRepair));
-		result.merge(checkListType(db, tx, MicronodeGraphFieldListImpl.class, "micronode", attemptRepair));
+		result.merge(checkListType(db, NumberGraphFieldListImpl.class, "number", context));
+		result.merge(checkListType(db, DateGraphFieldListImpl.class, "date", context));
+		result.merge(checkListType(db, BooleanGraphFieldListImpl.class, "boolean", context));
+		result.merge(checkListType(db, HtmlGraphFieldListImpl.class, "html", context));
+		result.merge(checkListType(db, StringGraphFieldListImpl.class, "string", context));
+		result.merge(checkListType(db, NodeGraphFieldListImpl.class, "node", context));
+		result.merge(checkListType(db, MicronodeGraphFieldListImpl.class, "micronode", context));
 		return result;
 	}
 
-	private ConsistencyCheckResult checkListType(Database db, Tx tx, Class<? extends ListGraphField<?, ?, ?>> clazz, String name,
-		boolean attemptRepair) {
+	private ConsistencyCheckResult checkListType(Database db, Class<? extends ListGraphField<?, ?, ?>> clazz, String name,
+		ConsistencyCheckContext context) {
 		log.info("Checking list of type {" + name + "}");
 		return processForType(db, clazz, (list, result) -> {
-			checkList(list, result, name, attemptRepair);
-		}, attemptRepair, tx);
+			checkList(list, result, name, context.isAttemptRepair());
+		}, context);
 	}
 
 	private void checkList(ListGraphField<?, ?, ?> list, ConsistencyCheckResult result, String type, boolean attemptRepair) {
@@ -5,12 +5,12 @@ import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 import static com.gentics.mesh.core.rest.admin.consistency.RepairAction.DELETE;
 
-import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.gentics.mesh.core.endpoint.admin.consistency.repair.NodeDeletionGraphFieldContainerFix;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
@@ -32,10 +32,11 @@ public class GraphFieldContainerCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, ConsistencyCheckContext context) {
+		boolean attemptRepair = context.isAttemptRepair();
 		return processForType(db, NodeGraphFieldContainerImpl.class, (element, result) -> {
 			checkGraphFieldContainer(db, element, result, attemptRepair);
-		}, attemptRepair, tx);
+		}, context);
 	}
 
 	private void checkGraphFieldContainer(Database db, NodeGraphFieldContainer container, ConsistencyCheckResult result, boolean attemptRepair) {
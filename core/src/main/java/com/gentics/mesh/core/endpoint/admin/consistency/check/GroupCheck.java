@@ -5,11 +5,11 @@ import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.impl.GroupImpl;
 import com.gentics.mesh.core.data.root.impl.GroupRootImpl;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.gentics.mesh.graphdb.spi.Database;
 
@@ -24,10 +24,10 @@ public class GroupCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, ConsistencyCheckContext context) {
 		return processForType(db, GroupImpl.class, (group, result) -> {
 			checkGroup(group, result);
-		}, attemptRepair, tx);
+		}, context);
 	}
 
 	private void checkGroup(Group group, ConsistencyCheckResult result) {
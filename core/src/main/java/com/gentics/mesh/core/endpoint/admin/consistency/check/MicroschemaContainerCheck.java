@@ -2,10 +2,10 @@ package com.gentics.mesh.core.endpoint.admin.consistency.check;
 
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 
-import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.container.impl.MicroschemaContainerImpl;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.gentics.mesh.graphdb.spi.Database;
 
@@ -20,10 +20,10 @@ public class MicroschemaContainerCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, ConsistencyCheckContext context) {
 		return processForType(db, MicroschemaContainerImpl.class, (schema, result) -> {
 			checkMicroschemaContainer(schema, result);
-		}, attemptRepair, tx);
+		}, context);
 	}
 
 	private void checkMicroschemaContainer(MicroschemaContainer microschemaContainer, ConsistencyCheckResult result) {
@@ -4,10 +4,10 @@ import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.impl.RoleImpl;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.gentics.mesh.graphdb.spi.Database;
 
@@ -22,10 +22,10 @@ public class RoleCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, ConsistencyCheckContext context) {
 		return processForType(db, RoleImpl.class, (role, result) -> {
 			checkRole(role, result);
-		}, attemptRepair, tx);
+		}, context);
 	}
 	
 	private void checkRole(Role role, ConsistencyCheckResult result) {
@@ -0,0 +1,56 @@
+package com.gentics.mesh.core.endpoint.changes;
+
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.vertx.core.http.HttpMethod.GET;
+
+import javax.inject.Inject;
+
+import com.gentics.mesh.auth.MeshAuthChain;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.parameter.impl.NodeChangesParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.rest.InternalEndpointRoute;
+import com.gentics.mesh.router.route.AbstractProjectEndpoint;
+
+/**
+ * Endpoint which streams the node change feed of a project branch.
+ */
+public class NodeChangesEndpoint extends AbstractProjectEndpoint {
+
+	private NodeChangesHandler handler;
+
+	public NodeChangesEndpoint() {
+		super("changes", null, null);
+	}
+
+	@Inject
+	public NodeChangesEndpoint(MeshAuthChain chain, BootstrapInitializer boot, NodeChangesHandler handler) {
+		super("changes", chain, boot);
+		this.handler = handler;
+	}
+
+	@Override
+	public String getDescription() {
+		return "Provides an endpoint which can be used to incrementally load the changed nodes of a branch";
+	}
+
+	@Override
+	public void registerEndPoints() {
+		secureAll();
+		addChangesHandler();
+	}
+
+	private void addChangesHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/");
+		endpoint.method(GET);
+		endpoint.description(
+			"Stream the created, updated, deleted, published and unpublished nodes of the branch. Each line of the response contains one change. Only changes with a sequence number greater than the since parameter will be returned. The change feed is not available in a cluster. Requests fail with 400 Bad Request if the change feed is disabled.");
+		endpoint.addQueryParameters(NodeChangesParametersImpl.class);
+		endpoint.addQueryParameters(VersioningParametersImpl.class);
+		endpoint.produces(APPLICATION_NDJSON);
+		endpoint.exampleResponse(OK, "Node changes of the branch.");
+		endpoint.blockingHandler(rc -> handler.handleChanges(rc), false);
+	}
+}
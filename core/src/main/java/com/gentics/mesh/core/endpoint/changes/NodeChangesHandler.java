@@ -0,0 +1,177 @@
+package com.gentics.mesh.core.endpoint.changes;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static io.netty.handler.codec.http.HttpResponseStatus.GONE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.core.changes.NodeChangeLog;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.root.NodeRoot;
+import com.gentics.mesh.core.rest.node.changes.NodeChange;
+import com.gentics.mesh.core.rest.node.changes.NodeChangeAction;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.NodeChangesParameters;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler for the node change feed of a project branch. The changes are streamed from the {@link NodeChangeLog} as one JSON object per line.
+ *
+ * The changes are filtered by the permissions of the requesting user. Changes of nodes which the user can't read are omitted. Users with only the
+ * read published permission on a node will only receive the published and unpublished changes of the node. Deleted nodes can no longer be checked, so
+ * their changes are only returned to admin users.
+ */
+@Singleton
+public class NodeChangesHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeChangesHandler.class);
+
+	public static final String LATEST_SEQUENCE_HEADER = "Mesh-Change-Sequence";
+
+	public static final String OLDEST_SEQUENCE_HEADER = "Mesh-Change-Oldest-Sequence";
+
+	private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Amount of changes which will be read from the log and checked for permissions within a single transaction.
+	 */
+	private static final int CHECK_BATCH_SIZE = 1000;
+
+	private final Database db;
+
+	private final NodeChangeLog changeLog;
+
+	@Inject
+	public NodeChangesHandler(Database db, NodeChangeLog changeLog) {
+		this.db = db;
+		this.changeLog = changeLog;
+	}
+
+	/**
+	 * Stream the changes of the branch which were recorded after the sequence number of the since parameter. The response headers contain the latest and
+	 * the oldest available sequence number of the branch. If the changes after the since parameter have already been removed from the log, a
+	 * {@code 410 Gone} error will be returned and the consumer needs to reset its state.
+	 * 
+	 * @param rc
+	 */
+	public void handleChanges(RoutingContext rc) {
+		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+		try {
+			if (!changeLog.isEnabled()) {
+				throw error(BAD_REQUEST, "node_changes_error_disabled");
+			}
+			NodeChangesParameters parameters = ac.getNodeChangesParameters();
+			String[] scope = db.tx(() -> {
+				Project project = ac.getProject();
+				if (!ac.getUser().hasPermission(project, READ_PERM)) {
+					throw error(FORBIDDEN, "error_missing_perm", project.getUuid(), READ_PERM.getRestPerm().getName());
+				}
+				return new String[] { project.getUuid(), ac.getBranch().getUuid() };
+			});
+
+			long since = parameters.getSince();
+			long limit = parameters.getLimit();
+			long oldest = changeLog.getOldestSequence(scope[0], scope[1]);
+			if (since < oldest - 1) {
+				throw error(GONE, "node_changes_error_reset_required", String.valueOf(since), String.valueOf(oldest));
+			}
+
+			HttpServerResponse response = rc.response();
+			response.setChunked(true);
+			response.putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_NDJSON);
+			response.putHeader(LATEST_SEQUENCE_HEADER, String.valueOf(changeLog.getLatestSequence(scope[0], scope[1])));
+			response.putHeader(OLDEST_SEQUENCE_HEADER, String.valueOf(oldest));
+
+			// The limit applies to the returned changes. Changes which are filtered out are skipped until the limit or the end of the log is reached.
+			Buffer buffer = Buffer.buffer();
+			long returned = 0;
+			long sequence = since;
+			while (returned < limit) {
+				List<NodeChange> changes = new ArrayList<>();
+				changeLog.read(scope[0], scope[1], sequence, CHECK_BATCH_SIZE, changes::add);
+				if (changes.isEmpty()) {
+					break;
+				}
+				sequence = changes.get(changes.size() - 1).getSequence();
+				for (NodeChange change : filterReadable(ac, changes)) {
+					if (returned >= limit) {
+						break;
+					}
+					buffer.appendString(JsonUtil.toJsonObject(change).encode()).appendString("\n");
+					returned++;
+					if (buffer.length() >= WRITE_BUFFER_SIZE) {
+						response.write(buffer);
+						buffer = Buffer.buffer();
+					}
+				}
+				if (changes.size() < CHECK_BATCH_SIZE) {
+					break;
+				}
+			}
+			response.end(buffer);
+		} catch (Exception e) {
+			if (rc.response().headWritten()) {
+				log.error("Error while streaming the node changes", e);
+				rc.response().close();
+			} else {
+				ac.fail(e);
+			}
+		}
+	}
+
+	/**
+	 * Return the changes which may be seen by the user of the action context.
+	 *
+	 * @param ac
+	 * @param changes
+	 * @return
+	 */
+	private List<NodeChange> filterReadable(InternalActionContext ac, List<NodeChange> changes) {
+		return db.tx(() -> {
+			User user = ac.getUser();
+			if (user.isAdmin()) {
+				return changes;
+			}
+			NodeRoot nodeRoot = ac.getProject().getNodeRoot();
+			Map<String, Boolean> readable = new HashMap<>();
+			Map<String, Boolean> readablePublished = new HashMap<>();
+			List<NodeChange> result = new ArrayList<>(changes.size());
+			for (NodeChange change : changes) {
+				String uuid = change.getUuid();
+				if (!readable.containsKey(uuid)) {
+					Node node = nodeRoot.findByUuid(uuid);
+					readable.put(uuid, node != null && user.hasPermission(node, READ_PERM));
+					readablePublished.put(uuid, node != null && user.hasPermission(node, READ_PUBLISHED_PERM));
+				}
+				boolean publishAction = change.getAction() == NodeChangeAction.published || change.getAction() == NodeChangeAction.unpublished;
+				if (readable.get(uuid) || (publishAction && readablePublished.get(uuid))) {
+					result.add(change);
+				}
+			}
+			return result;
+		});
+	}
+
+}
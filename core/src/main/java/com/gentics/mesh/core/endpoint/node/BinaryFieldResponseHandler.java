@@ -109,13 +109,8 @@ public class BinaryFieldResponseHandler {
 		if (localPath != null) {
 			rangeRequestHandler.handle(rc, localPath, contentType);
 		} else {
-			String contentLength = String.valueOf(binary.getSize());
-			if (contentType != null) {
-				response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
-			}
 			response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
-			response.putHeader(HttpHeaders.CONTENT_LENGTH, contentLength);
-			binary.getStream().subscribe(response::write, rc::fail, response::end);
+			rangeRequestHandler.handle(rc, binary.getUuid(), binary.getSize(), contentType);
 		}
 
 	}
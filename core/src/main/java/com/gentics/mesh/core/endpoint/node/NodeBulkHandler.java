@@ -0,0 +1,615 @@
+package com.gentics.mesh.core.endpoint.node;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.DELETE_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.PUBLISH_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.i18n.I18NUtil;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.root.NodeRoot;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
+import com.gentics.mesh.core.rest.node.bulk.NodeBulkAction;
+import com.gentics.mesh.core.rest.node.bulk.NodeBulkItemResult;
+import com.gentics.mesh.core.rest.node.bulk.NodeBulkSummary;
+import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.NodeBulkParameters;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.parsetools.RecordParser;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler for the node bulk endpoint. The request body contains one item per line (NDJSON). The lines are parsed while the body is being received and
+ * are processed in batches. Each batch is processed within a single transaction and while holding the write lock only once. A failed item splits the
+ * transaction of its batch. The events of a batch are dispatched once the batch has been committed. The result of each item is streamed back as soon as its batch has been committed. The last line of
+ * the response contains the summary of the request.
+ */
+@Singleton
+public class NodeBulkHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeBulkHandler.class);
+
+	private final Database db;
+
+	private final WriteLock writeLock;
+
+	private final Provider<BulkActionContext> bulkProvider;
+
+	private final MeshOptions options;
+
+	@Inject
+	public NodeBulkHandler(Database db, WriteLock writeLock, Provider<BulkActionContext> bulkProvider, MeshOptions options) {
+		this.db = db;
+		this.writeLock = writeLock;
+		this.bulkProvider = bulkProvider;
+		this.options = options;
+	}
+
+	/**
+	 * Handle the bulk request. The body will be streamed if the request uses the NDJSON content type. Otherwise the already received body will be
+	 * processed.
+	 *
+	 * @param rc
+	 */
+	public void handleBulk(RoutingContext rc) {
+		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+		HttpServerRequest request = rc.request();
+		NodeBulkParameters parameters;
+		try {
+			parameters = ac.getNodeBulkParameters();
+		} catch (Exception e) {
+			request.resume();
+			rc.fail(e);
+			return;
+		}
+		Integer batchSize = parameters.getBatchSize();
+		BulkImport bulkImport = new BulkImport(rc, batchSize == null ? options.getContentOptions().getBulkBatchSize() : batchSize,
+			parameters.isDeferReferences());
+
+		HttpServerResponse response = rc.response();
+		response.setChunked(true);
+		response.putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_NDJSON);
+
+		// The record parser will not emit the last line if it is not terminated
+		RecordParser parser = RecordParser.newDelimited("\n", bulkImport::onLine);
+		if (rc.getBody() != null) {
+			parser.handle(rc.getBody());
+			parser.handle(Buffer.buffer("\n"));
+			bulkImport.onEnd();
+		} else {
+			bulkImport.request = request;
+			request.handler(parser);
+			request.endHandler(v -> {
+				parser.handle(Buffer.buffer("\n"));
+				bulkImport.onEnd();
+			});
+			request.exceptionHandler(bulkImport::onError);
+			request.resume();
+		}
+	}
+
+	/**
+	 * State of a single bulk request. All methods are invoked on the event loop of the request. The batches are processed on worker threads.
+	 */
+	private class BulkImport {
+
+		private final RoutingContext rc;
+
+		private final int batchSize;
+
+		private final boolean deferReferences;
+
+		private final long start = System.currentTimeMillis();
+
+		private final List<Item> pending = new ArrayList<>();
+
+		private final List<Item> deferred = new ArrayList<>();
+
+		/**
+		 * Request which is being streamed or null if the body has already been received.
+		 */
+		private HttpServerRequest request;
+
+		private long lineCount = 0;
+
+		private boolean ended = false;
+
+		private boolean processing = false;
+
+		private boolean finished = false;
+
+		private final NodeBulkSummary summary = new NodeBulkSummary();
+
+		BulkImport(RoutingContext rc, int batchSize, boolean deferReferences) {
+			this.rc = rc;
+			this.batchSize = batchSize;
+			this.deferReferences = deferReferences;
+		}
+
+		void onLine(Buffer line) {
+			lineCount++;
+			String json = line.toString().trim();
+			if (!json.isEmpty()) {
+				pending.add(new Item(lineCount, json));
+			}
+			if (pending.size() >= batchSize) {
+				drain();
+			}
+		}
+
+		void onEnd() {
+			ended = true;
+			drain();
+		}
+
+		void onError(Throwable error) {
+			log.error("Error while reading the bulk request", error);
+			finished = true;
+			rc.response().close();
+		}
+
+		/**
+		 * Process the next batch if no batch is currently being processed. Reading the request will be paused while a batch is being processed.
+		 */
+		void drain() {
+			if (processing || finished) {
+				return;
+			}
+			List<Item> batch;
+			boolean finalPass = false;
+			if (pending.size() >= batchSize || (ended && !pending.isEmpty())) {
+				batch = new ArrayList<>(pending.subList(0, Math.min(batchSize, pending.size())));
+				pending.subList(0, batch.size()).clear();
+			} else if (ended && !deferred.isEmpty()) {
+				batch = new ArrayList<>(deferred);
+				deferred.clear();
+				finalPass = true;
+			} else if (ended) {
+				finish();
+				return;
+			} else {
+				return;
+			}
+
+			processing = true;
+			if (request != null) {
+				request.pause();
+			}
+			boolean resolveAll = finalPass;
+			rc.vertx().<BatchResult>executeBlocking(promise -> {
+				promise.complete(processDeferrable(rc, batch, deferReferences, resolveAll));
+			}, false, rh -> {
+				processing = false;
+				if (rc.response().closed()) {
+					log.warn("Bulk request was aborted since the response was closed");
+					finished = true;
+					return;
+				}
+				if (rh.failed()) {
+					log.error("Error while processing bulk batch", rh.cause());
+					finished = true;
+					rc.response().close();
+					return;
+				}
+				BatchResult result = rh.result();
+				summary.setBatches(summary.getBatches() + 1);
+				deferred.addAll(result.deferred);
+				for (NodeBulkItemResult itemResult : result.results) {
+					write(itemResult);
+				}
+				if (request != null && !ended) {
+					request.resume();
+				}
+				drain();
+			});
+		}
+
+		/**
+		 * Process the batch. Items which reference missing nodes will be deferred unless all items should be resolved. If no deferred item can be
+		 * resolved in the final pass, the remaining items will fail.
+		 */
+		private BatchResult processDeferrable(RoutingContext rc, List<Item> batch, boolean defer, boolean resolveAll) {
+			if (!resolveAll) {
+				return processBatch(rc, batch, defer);
+			}
+			BatchResult total = new BatchResult();
+			List<Item> remaining = batch;
+			while (!remaining.isEmpty()) {
+				BatchResult result = processBatch(rc, remaining, true);
+				total.results.addAll(result.results);
+				if (result.deferred.size() == remaining.size()) {
+					// No progress was made. The remaining references can't be resolved.
+					total.results.addAll(processBatch(rc, result.deferred, false).results);
+					break;
+				}
+				remaining = result.deferred;
+			}
+			return total;
+		}
+
+		private void write(NodeBulkItemResult result) {
+			summary.setProcessed(summary.getProcessed() + 1);
+			if (!result.isSuccess()) {
+				summary.setFailed(summary.getFailed() + 1);
+			}
+			rc.response().write(JsonUtil.toJsonObject(result).encode() + "\n");
+		}
+
+		private void finish() {
+			finished = true;
+			summary.setDuration(System.currentTimeMillis() - start);
+			log.info("Processed bulk request with {" + summary.getProcessed() + "} items in {" + summary.getBatches() + "} batches. {"
+				+ summary.getFailed() + "} items failed.");
+			rc.response().end(JsonUtil.toJsonObject(summary).encode() + "\n");
+		}
+
+	}
+
+	/**
+	 * Process the items within a single transaction. If an item fails, the transaction is rolled back since the item may have left partial changes.
+	 * The items before the failed item are then committed in a transaction of their own and processing continues after the failed item. This way each
+	 * item is processed at most twice, regardless of the amount of failed items.
+	 *
+	 * @param rc
+	 * @param batch
+	 * @param deferReferences
+	 *            Whether items which reference missing nodes should be deferred. Otherwise those items will fail
+	 * @return
+	 */
+	private BatchResult processBatch(RoutingContext rc, List<Item> batch, boolean deferReferences) {
+		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+		BatchResult total = new BatchResult();
+		Set<Long> failed = new HashSet<>();
+		try (WriteLock lock = writeLock.lock(ac)) {
+			int from = 0;
+			int to = batch.size();
+			while (from < batch.size()) {
+				List<Item> segment = batch.subList(from, to);
+				BatchResult result = new BatchResult();
+				int failedAt;
+				try {
+					failedAt = processSegment(rc, ac, segment, deferReferences, failed, result);
+				} catch (Exception e) {
+					log.error("Error while processing bulk batch", e);
+					for (Item item : segment) {
+						if (failed.add(item.index)) {
+							total.results.add(toErrorResult(ac, item, e));
+						}
+					}
+					from = to;
+					to = batch.size();
+					continue;
+				}
+				total.results.addAll(result.results);
+				if (failedAt < 0) {
+					total.deferred.addAll(result.deferred);
+					from = to;
+					to = batch.size();
+				} else if (failedAt == 0) {
+					from++;
+					to = batch.size();
+				} else {
+					// Commit the items before the failed item. The failed item will be skipped afterwards.
+					to = from + failedAt;
+				}
+			}
+		}
+		total.results.sort((a, b) -> Long.compare(a.getIndex(), b.getIndex()));
+		return total;
+	}
+
+	/**
+	 * Process the items of the segment in a single transaction. The events of the segment are dispatched once the transaction has been committed.
+	 *
+	 * @param rc
+	 * @param ac
+	 * @param segment
+	 * @param deferReferences
+	 * @param failed
+	 *            Indices of the items which already failed. Those items will be skipped and a newly failed item will be added.
+	 * @param result
+	 *            Result which will contain the processed and deferred items or only the error of the failed item
+	 * @return Position of the failed item within the segment or -1 if all items have been committed
+	 */
+	private int processSegment(RoutingContext rc, InternalActionContext ac, List<Item> segment, boolean deferReferences, Set<Long> failed,
+		BatchResult result) {
+		int[] failedAt = { -1 };
+		try {
+			db.tx(tx -> {
+				// The transaction may be repeated on conflicts
+				result.results.clear();
+				result.deferred.clear();
+				BulkActionContext context = bulkProvider.get();
+				context.setBatchSize(Integer.MAX_VALUE);
+				for (int i = 0; i < segment.size(); i++) {
+					Item item = segment.get(i);
+					if (failed.contains(item.index)) {
+						continue;
+					}
+					try {
+						NodeBulkItemResult itemResult = processItem(rc, context, item, deferReferences);
+						if (itemResult == null) {
+							result.deferred.add(item);
+						} else {
+							result.results.add(itemResult);
+						}
+					} catch (AbstractRestException | DecodeException | ClassCastException e) {
+						result.results.clear();
+						result.deferred.clear();
+						result.results.add(toErrorResult(ac, item, e));
+						failed.add(item.index);
+						failedAt[0] = i;
+						// Rollback the transaction since the failed item may have left partial changes
+						throw new ItemFailedException();
+					}
+				}
+				// Commit and dispatch the events while the transaction is still active
+				context.process(true);
+			});
+		} catch (ItemFailedException e) {
+			return failedAt[0];
+		}
+		return -1;
+	}
+
+	/**
+	 * Process a single item.
+	 *
+	 * @return Result or null if the item was deferred
+	 */
+	private NodeBulkItemResult processItem(RoutingContext rc, BulkActionContext bac, Item item, boolean deferReferences) {
+		JsonObject json = item.parse();
+		NodeBulkAction action = item.action;
+		JsonObject nodeJson = json.getJsonObject("node");
+		String body = nodeJson == null ? "{}" : nodeJson.encode();
+		InternalActionContext ac = new ItemActionContext(rc, body);
+		Project project = ac.getProject();
+		NodeRoot root = project.getNodeRoot();
+
+		if (nodeJson != null && (action == NodeBulkAction.create || action == NodeBulkAction.update)) {
+			String missing = findMissingReference(root, nodeJson);
+			if (missing != null) {
+				if (deferReferences) {
+					return null;
+				}
+				throw error(NOT_FOUND, "node_bulk_error_reference_not_found", missing);
+			}
+		}
+
+		NodeBulkItemResult result = new NodeBulkItemResult().setIndex(item.index).setAction(action).setUuid(item.uuid);
+		switch (action) {
+		case create:
+			if (nodeJson == null) {
+				throw error(BAD_REQUEST, "node_bulk_error_node_missing", String.valueOf(item.index));
+			}
+			Node created = root.create(ac, bac.batch(), item.uuid);
+			return result.setUuid(created.getUuid()).setStatus(CREATED.code());
+		case update:
+			if (nodeJson == null) {
+				throw error(BAD_REQUEST, "node_bulk_error_node_missing", String.valueOf(item.index));
+			}
+			Node updated = root.loadObjectByUuid(ac, requireUuid(item), UPDATE_PERM);
+			updated.update(ac, bac.batch());
+			return result.setStatus(OK.code());
+		case publish:
+			Node published = root.loadObjectByUuid(ac, requireUuid(item), PUBLISH_PERM);
+			String language = json.getString("language");
+			if (language == null) {
+				published.publish(ac, bac);
+			} else {
+				published.publish(ac, bac, language);
+			}
+			return result.setStatus(OK.code());
+		case delete:
+			Node deleted = root.loadObjectByUuid(ac, requireUuid(item), DELETE_PERM);
+			if (project.getBaseNode().getUuid().equals(deleted.getUuid())) {
+				throw error(METHOD_NOT_ALLOWED, "node_basenode_not_deletable");
+			}
+			deleted.deleteFromBranch(ac, ac.getBranch(), bac, false);
+			return result.setStatus(NO_CONTENT.code());
+		default:
+			throw error(BAD_REQUEST, "node_bulk_error_invalid_action", String.valueOf(action));
+		}
+	}
+
+	private static String requireUuid(Item item) {
+		if (item.uuid == null) {
+			throw error(BAD_REQUEST, "node_bulk_error_uuid_missing", String.valueOf(item.index));
+		}
+		return item.uuid;
+	}
+
+	/**
+	 * Find the first node which is referenced by the parent node, node fields or node list fields of the request but does not exist.
+	 *
+	 * @param root
+	 * @param nodeJson
+	 * @return Uuid of the missing node or null if all referenced nodes exist
+	 */
+	private static String findMissingReference(NodeRoot root, JsonObject nodeJson) {
+		JsonObject parent = nodeJson.getJsonObject("parentNode");
+		if (parent != null && parent.getValue("uuid") instanceof String) {
+			String uuid = parent.getString("uuid");
+			if (root.findByUuid(uuid) == null) {
+				return uuid;
+			}
+		}
+		JsonObject fields = nodeJson.getJsonObject("fields");
+		if (fields == null) {
+			return null;
+		}
+		for (Map.Entry<String, Object> field : fields) {
+			Object value = field.getValue();
+			List<Object> candidates = new ArrayList<>();
+			if (value instanceof JsonArray) {
+				((JsonArray) value).forEach(candidates::add);
+			} else {
+				candidates.add(value);
+			}
+			for (Object candidate : candidates) {
+				String uuid = referencedUuid(candidate);
+				if (uuid != null && root.findByUuid(uuid) == null) {
+					return uuid;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the uuid of the node which is referenced by the field value.
+	 *
+	 * @param value
+	 * @return Uuid or null if the value is no node reference
+	 */
+	private static String referencedUuid(Object value) {
+		if (!(value instanceof JsonObject)) {
+			return null;
+		}
+		JsonObject object = (JsonObject) value;
+		// Micronodes also contain a uuid
+		if (object.containsKey("microschema") || object.containsKey("fields")) {
+			return null;
+		}
+		Object uuid = object.getValue("uuid");
+		return uuid instanceof String ? (String) uuid : null;
+	}
+
+	private static NodeBulkItemResult toErrorResult(InternalActionContext ac, Item item, Throwable error) {
+		NodeBulkItemResult result = new NodeBulkItemResult().setIndex(item.index).setAction(item.action).setUuid(item.uuid);
+		if (error instanceof AbstractRestException) {
+			AbstractRestException restError = (AbstractRestException) error;
+			HttpResponseStatus status = restError.getStatus();
+			String message = restError.getMessage();
+			try {
+				message = I18NUtil.get(ac, restError.getI18nKey(), restError.getI18nParameters());
+			} catch (Exception e) {
+				// Use the untranslated message
+			}
+			return result.setStatus(status.code()).setMessage(message);
+		} else if (error instanceof DecodeException || error instanceof ClassCastException) {
+			return result.setStatus(BAD_REQUEST.code()).setMessage(I18NUtil.get(ac, "error_parse_request_json_error"));
+		} else {
+			return result.setStatus(INTERNAL_SERVER_ERROR.code()).setMessage(I18NUtil.get(ac, "error_internal"));
+		}
+	}
+
+	/**
+	 * Single line of the request.
+	 */
+	private static class Item {
+
+		private final long index;
+
+		private final String json;
+
+		private JsonObject parsed;
+
+		private NodeBulkAction action;
+
+		private String uuid;
+
+		Item(long index, String json) {
+			this.index = index;
+			this.json = json;
+		}
+
+		JsonObject parse() {
+			if (parsed == null) {
+				JsonObject object = new JsonObject(json);
+				Object uuidValue = object.getValue("uuid");
+				uuid = uuidValue instanceof String ? (String) uuidValue : null;
+				String actionName = object.getString("action");
+				if (actionName == null) {
+					throw error(BAD_REQUEST, "node_bulk_error_invalid_action", "null");
+				}
+				try {
+					action = NodeBulkAction.valueOf(actionName);
+				} catch (IllegalArgumentException e) {
+					throw error(BAD_REQUEST, "node_bulk_error_invalid_action", actionName);
+				}
+				parsed = object;
+			}
+			return parsed;
+		}
+	}
+
+	/**
+	 * Results of a processed batch.
+	 */
+	private static class BatchResult {
+
+		private final List<NodeBulkItemResult> results = new ArrayList<>();
+
+		private final List<Item> deferred = new ArrayList<>();
+
+	}
+
+	/**
+	 * Action context for a single item. The request body is replaced by the node request of the item.
+	 */
+	private static class ItemActionContext extends InternalRoutingActionContextImpl {
+
+		private final String body;
+
+		ItemActionContext(RoutingContext rc, String body) {
+			super(rc);
+			this.body = body;
+		}
+
+		@Override
+		public String getBodyAsString() {
+			return body;
+		}
+
+	}
+
+	/**
+	 * Signals that an item failed and the transaction of the batch needs to be rolled back.
+	 */
+	private static class ItemFailedException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		ItemFailedException() {
+			super(null, null, false, false);
+		}
+
+	}
+
+}
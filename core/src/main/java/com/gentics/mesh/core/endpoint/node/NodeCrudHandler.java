@@ -25,14 +25,17 @@ import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.endpoint.handler.AbstractCrudHandler;
+import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
+import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
@@ -365,6 +368,31 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		}
 	}
 
+	/**
+	 * Enqueue a job which publishes, takes offline or deletes the node and all its children in the background.
+	 * 
+	 * @param ac
+	 *            Action context
+	 * @param uuid
+	 *            Uuid of the root node of the subtree
+	 * @param type
+	 *            Type of the bulk job
+	 */
+	public void handleBulkJob(InternalActionContext ac, String uuid, JobType type) {
+		validateParameter(uuid, "uuid");
+
+		utils.syncTx(ac, tx -> {
+			GraphPermission perm = type == JobType.nodedelete ? DELETE_PERM : PUBLISH_PERM;
+			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, perm);
+			if (type == JobType.nodedelete && node.getProject().getBaseNode().getUuid().equals(node.getUuid())) {
+				throw error(METHOD_NOT_ALLOWED, "node_basenode_not_deletable");
+			}
+			Job job = boot.jobRoot().enqueueNodeBulkOperation(ac.getUser(), type, node, ac.getBranch());
+			MeshEvent.triggerJobWorker(boot.mesh());
+			return job.transformToRestSync(ac, 0);
+		}, model -> ac.send(model, OK));
+	}
+
 	/**
 	 * Handle getting the publish status for the requested language of the node.
 	 * 
@@ -3,11 +3,13 @@ package com.gentics.mesh.core.endpoint.node;
 import com.gentics.mesh.auth.MeshAuthChain;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 import com.gentics.mesh.parameter.impl.NavigationParametersImpl;
+import com.gentics.mesh.parameter.impl.NodeBulkParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
@@ -35,6 +37,7 @@ import static com.gentics.mesh.example.ExampleUuids.NODE_DELOREAN_UUID;
 import static com.gentics.mesh.example.ExampleUuids.TAG_RED_UUID;
 import static com.gentics.mesh.example.ExampleUuids.UUID_1;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
 import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
@@ -59,18 +62,21 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 
 	private BinaryDownloadHandler binaryDownloadHandler;
 
+	private NodeBulkHandler bulkHandler;
+
 	public NodeEndpoint() {
 		super("nodes", null, null);
 	}
 
 	@Inject
 	public NodeEndpoint(MeshAuthChain chain, BootstrapInitializer boot, NodeCrudHandler crudHandler, BinaryUploadHandler binaryUploadHandler,
-		BinaryTransformHandler binaryTransformHandler, BinaryDownloadHandler binaryDownloadHandler) {
+		BinaryTransformHandler binaryTransformHandler, BinaryDownloadHandler binaryDownloadHandler, NodeBulkHandler bulkHandler) {
 		super("nodes", chain, boot);
 		this.crudHandler = crudHandler;
 		this.binaryUploadHandler = binaryUploadHandler;
 		this.binaryTransformHandler = binaryTransformHandler;
 		this.binaryDownloadHandler = binaryDownloadHandler;
+		this.bulkHandler = bulkHandler;
 	}
 
 	@Override
@@ -87,6 +93,8 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 
 		addCreateHandler();
 		addReadHandler();
+		// The bulk handler needs to be registered before the update handler since the path would otherwise match the node uuid
+		addBulkHandler();
 		addUpdateHandler();
 		addDeleteHandler();
 
@@ -98,6 +106,7 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 		addLanguageHandlers();
 		addNavigationHandlers();
 		addPublishHandlers();
+		addBulkJobHandlers();
 		addVersioningHandlers();
 	}
 
@@ -432,6 +441,76 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 		});
 	}
 
+	private void addBulkHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/bulk");
+		endpoint.method(POST);
+		endpoint.description("Create, update, publish or delete nodes in bulk. The request body contains one item per line (NDJSON). "
+			+ "The body will be streamed if the request uses the " + APPLICATION_NDJSON + " content type. "
+			+ "The items are processed in batches and each batch is committed within a single transaction. "
+			+ "The result of each item is streamed back as one line per item. The last line contains the summary of the request.");
+		endpoint.produces(APPLICATION_NDJSON);
+		endpoint.addQueryParameters(NodeBulkParametersImpl.class);
+		endpoint.addQueryParameters(VersioningParametersImpl.class);
+		endpoint.addQueryParameters(DeleteParametersImpl.class);
+		endpoint.exampleRequest("{\"action\":\"create\",\"uuid\":\"" + UUID_1
+			+ "\",\"node\":{\"parentNode\":{\"uuid\":\"" + NODE_DELOREAN_UUID
+			+ "\"},\"schema\":{\"name\":\"content\"},\"language\":\"en\",\"fields\":{\"slug\":\"hello\",\"title\":\"Hello\"}}}\n"
+			+ "{\"action\":\"publish\",\"uuid\":\"" + UUID_1 + "\"}\n");
+		endpoint.events(NODE_CREATED, NODE_UPDATED, NODE_PUBLISHED, NODE_DELETED);
+		endpoint.handler(rc -> bulkHandler.handleBulk(rc));
+	}
+
+	private void addBulkJobHandlers() {
+		InternalEndpointRoute publishEndpoint = createRoute();
+		publishEndpoint.description(
+			"Enqueue a job which publishes the node and all its children in the background. The progress will be exposed via the job properties.");
+		publishEndpoint.path("/:nodeUuid/publish/job");
+		publishEndpoint.addUriParameter("nodeUuid", "Uuid of the node", NODE_DELOREAN_UUID);
+		publishEndpoint.method(POST);
+		publishEndpoint.produces(APPLICATION_JSON);
+		publishEndpoint.exampleResponse(OK, jobExamples.createJobResponse(), "Enqueued bulk publish job.");
+		publishEndpoint.exampleResponse(NOT_FOUND, miscExamples.createMessageResponse(), "The node could not be found.");
+		publishEndpoint.events(NODE_PUBLISHED);
+		publishEndpoint.blockingHandler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			String uuid = rc.request().getParam("nodeUuid");
+			crudHandler.handleBulkJob(ac, uuid, JobType.nodepublish);
+		});
+
+		InternalEndpointRoute unpublishEndpoint = createRoute();
+		unpublishEndpoint.description(
+			"Enqueue a job which takes the node and all its children offline in the background. The progress will be exposed via the job properties.");
+		unpublishEndpoint.path("/:nodeUuid/unpublish/job");
+		unpublishEndpoint.addUriParameter("nodeUuid", "Uuid of the node", NODE_DELOREAN_UUID);
+		unpublishEndpoint.method(POST);
+		unpublishEndpoint.produces(APPLICATION_JSON);
+		unpublishEndpoint.exampleResponse(OK, jobExamples.createJobResponse(), "Enqueued bulk unpublish job.");
+		unpublishEndpoint.exampleResponse(NOT_FOUND, miscExamples.createMessageResponse(), "The node could not be found.");
+		unpublishEndpoint.events(NODE_UNPUBLISHED);
+		unpublishEndpoint.blockingHandler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			String uuid = rc.request().getParam("nodeUuid");
+			crudHandler.handleBulkJob(ac, uuid, JobType.nodeunpublish);
+		});
+
+		InternalEndpointRoute deleteEndpoint = createRoute();
+		deleteEndpoint.description(
+			"Enqueue a job which deletes the node and all its children from the branch in the background. The progress will be exposed via the job properties.");
+		deleteEndpoint.path("/:nodeUuid/delete/job");
+		deleteEndpoint.addUriParameter("nodeUuid", "Uuid of the node", NODE_DELOREAN_UUID);
+		deleteEndpoint.method(POST);
+		deleteEndpoint.produces(APPLICATION_JSON);
+		deleteEndpoint.exampleResponse(OK, jobExamples.createJobResponse(), "Enqueued bulk delete job.");
+		deleteEndpoint.exampleResponse(NOT_FOUND, miscExamples.createMessageResponse(), "The node could not be found.");
+		deleteEndpoint.events(NODE_DELETED);
+		deleteEndpoint.blockingHandler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			String uuid = rc.request().getParam("nodeUuid");
+			crudHandler.handleBulkJob(ac, uuid, JobType.nodedelete);
+		});
+	}
+
 	private void addPublishHandlers() {
 
 		InternalEndpointRoute getEndpoint = createRoute();
@@ -2,12 +2,16 @@ package com.gentics.mesh.core.endpoint.project;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.DELETE_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.rest.Messages.message;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Optional;
 
 import javax.inject.Inject;
@@ -20,6 +24,7 @@ import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.endpoint.handler.AbstractCrudHandler;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
+import com.gentics.mesh.core.rest.project.VersionRetentionPolicy;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.graphdb.spi.Database;
@@ -92,4 +97,65 @@ public class ProjectCrudHandler extends AbstractCrudHandler<Project, ProjectResp
 		}
 	}
 
+	/**
+	 * Handle the read request for the version retention policy of the project.
+	 * 
+	 * @param ac
+	 * @param uuid
+	 */
+	public void handleReadVersionRetention(InternalActionContext ac, String uuid) {
+		validateParameter(uuid, "uuid");
+
+		utils.syncTx(ac, (tx) -> {
+			if (!ac.getUser().isAdmin()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+			Project project = getRootVertex(ac).loadObjectByUuid(ac, uuid, READ_PERM);
+			VersionRetentionPolicy policy = project.getVersionRetentionPolicy();
+			return policy == null ? new VersionRetentionPolicy() : policy;
+		}, model -> ac.send(model, OK));
+	}
+
+	/**
+	 * Handle the update request for the version retention policy of the project. The policy will be removed if neither the kept versions nor the max
+	 * age were set.
+	 * 
+	 * @param ac
+	 * @param uuid
+	 */
+	public void handleUpdateVersionRetention(InternalActionContext ac, String uuid) {
+		validateParameter(uuid, "uuid");
+
+		try (WriteLock lock = writeLock.lock(ac)) {
+			utils.syncTx(ac, (tx) -> {
+				if (!ac.getUser().isAdmin()) {
+					throw error(FORBIDDEN, "error_admin_permission_required");
+				}
+				VersionRetentionPolicy policy = ac.fromJson(VersionRetentionPolicy.class);
+				validateVersionRetentionPolicy(policy);
+				Project project = getRootVertex(ac).loadObjectByUuid(ac, uuid, UPDATE_PERM);
+				project.setVersionRetentionPolicy(policy);
+				return policy;
+			}, model -> ac.send(model, OK));
+		}
+	}
+
+	private void validateVersionRetentionPolicy(VersionRetentionPolicy policy) {
+		Integer keepVersions = policy.getKeepVersions();
+		if (keepVersions != null && keepVersions < 1) {
+			throw error(BAD_REQUEST, "project_version_retention_keep_versions_invalid", String.valueOf(keepVersions));
+		}
+		String maxAge = policy.getMaxAge();
+		if (maxAge != null) {
+			try {
+				Duration duration = Duration.parse(maxAge);
+				if (duration.isNegative() || duration.isZero()) {
+					throw error(BAD_REQUEST, "project_version_retention_max_age_invalid", maxAge);
+				}
+			} catch (DateTimeParseException e) {
+				throw error(BAD_REQUEST, "project_version_retention_max_age_invalid", maxAge);
+			}
+		}
+	}
+
 }
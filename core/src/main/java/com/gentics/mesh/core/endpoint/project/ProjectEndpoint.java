@@ -56,6 +56,7 @@ public class ProjectEndpoint extends AbstractInternalEndpoint {
 
 		// Version purge
 		addVersionPurgeHandler();
+		addVersionRetentionHandlers();
 	}
 
 	private void addUpdateHandler() {
@@ -160,4 +161,35 @@ public class ProjectEndpoint extends AbstractInternalEndpoint {
 			crudHandler.handlePurge(ac, uuid);
 		}, false);
 	}
+
+	private void addVersionRetentionHandlers() {
+		InternalEndpointRoute readEndpoint = createRoute();
+		readEndpoint.path("/:projectUuid/maintenance/retention");
+		readEndpoint.addUriParameter("projectUuid", "Uuid of the project.", PROJECT_DEMO_UUID);
+		readEndpoint.method(GET);
+		readEndpoint.description("Load the version retention policy of the project.");
+		readEndpoint.produces(APPLICATION_JSON);
+		readEndpoint.exampleResponse(OK, projectExamples.getVersionRetentionPolicy(), "Version retention policy of the project.");
+		readEndpoint.blockingHandler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			String uuid = ac.getParameter("projectUuid");
+			crudHandler.handleReadVersionRetention(ac, uuid);
+		}, false);
+
+		InternalEndpointRoute updateEndpoint = createRoute();
+		updateEndpoint.path("/:projectUuid/maintenance/retention");
+		updateEndpoint.addUriParameter("projectUuid", "Uuid of the project.", PROJECT_DEMO_UUID);
+		updateEndpoint.method(POST);
+		updateEndpoint.description(
+			"Update the version retention policy of the project. The policy will be enforced periodically in the background. Omit both settings to remove the policy.");
+		updateEndpoint.consumes(APPLICATION_JSON);
+		updateEndpoint.produces(APPLICATION_JSON);
+		updateEndpoint.exampleRequest(projectExamples.getVersionRetentionPolicy());
+		updateEndpoint.exampleResponse(OK, projectExamples.getVersionRetentionPolicy(), "Updated version retention policy.");
+		updateEndpoint.blockingHandler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			String uuid = ac.getParameter("projectUuid");
+			crudHandler.handleUpdateVersionRetention(ac, uuid);
+		});
+	}
 }
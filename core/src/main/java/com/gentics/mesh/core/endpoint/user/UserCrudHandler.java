@@ -148,7 +148,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 				User user = boot.userRoot().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
 				// 2. Generate the API key for the user
-				UserAPITokenResponse apiKeyRespose = db.tx(() -> {
+				UserAPITokenResponse apiKeyRespose = utils.eventAction(batch -> {
 					String tokenId = TokenUtil.randomToken();
 					String apiToken = authProvider.generateAPIToken(user, tokenId, null);
 					UserAPITokenResponse response = new UserAPITokenResponse();
@@ -158,6 +158,9 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 					user.setAPITokenId(tokenId);
 					user.setAPITokenIssueTimestamp();
 					response.setToken(apiToken);
+
+					// The update event will invalidate the previous API key in the token cache
+					batch.add(user.onUpdated());
 					return response;
 				});
 				return apiKeyRespose;
@@ -180,8 +183,9 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 				User user = boot.userRoot().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
 				// 2. Generate the API key for the user
-				GenericMessageResponse message = db.tx(() -> {
+				GenericMessageResponse message = utils.eventAction(batch -> {
 					user.resetAPIToken();
+					batch.add(user.onUpdated());
 					return message(ac, "api_key_invalidated");
 				});
 				return message;
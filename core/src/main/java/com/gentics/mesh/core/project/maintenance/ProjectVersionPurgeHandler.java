@@ -1,23 +1,36 @@
 package com.gentics.mesh.core.project.maintenance;
 
+import static com.gentics.mesh.metric.SimpleMetric.VERSION_PURGE_DURATION;
+import static com.gentics.mesh.metric.SimpleMetric.VERSION_PURGE_RECLAIMED;
+
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
-import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.DateUtils;
-import com.google.common.collect.Lists;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.reactivex.Completable;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -27,22 +40,33 @@ public class ProjectVersionPurgeHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(ProjectVersionPurgeHandler.class);
 
+	/**
+	 * Amount of nodes which will be processed within a single transaction.
+	 */
+	private static final int NODE_BATCH_SIZE = 100;
+
 	private final Database db;
 
 	private final Provider<BulkActionContext> bulkProvider;
 
 	private final MeshOptions meshOptions;
 
+	private final Counter reclaimedCounter;
+
+	private final Timer durationTimer;
+
 	@Inject
-	public ProjectVersionPurgeHandler(Database db, Provider<BulkActionContext> bulkProvider, MeshOptions meshOptions) {
+	public ProjectVersionPurgeHandler(Database db, Provider<BulkActionContext> bulkProvider, MeshOptions meshOptions, MetricsService metrics) {
 		this.db = db;
 		this.bulkProvider = bulkProvider;
-        this.meshOptions = meshOptions;
-    }
+		this.meshOptions = meshOptions;
+		this.reclaimedCounter = metrics.counter(VERSION_PURGE_RECLAIMED);
+		this.durationTimer = metrics.timer(VERSION_PURGE_DURATION);
+	}
 
 	/**
 	 * Purge the versions of all nodes in the project.
-	 * 
+	 *
 	 * @param project
 	 * @param maxAge
 	 *            Limit the purge operation to versions which exceed the max age.
@@ -50,79 +74,134 @@ public class ProjectVersionPurgeHandler {
 	 */
 	public Completable purgeVersions(Project project, ZonedDateTime maxAge) {
 		return Completable.fromAction(() -> {
-			db.tx(tx -> {
-				for (Node node : project.findNodes()) {
-					purgeNode(tx, node, maxAge);
-				}
-				return null;
-			});
+			purgeVersions(project, maxAge, 0, 0);
 		});
 	}
 
-	private void purgeNode(Tx tx, Node node, ZonedDateTime maxAge) {
-		Iterable<? extends NodeGraphFieldContainer> initials = node.getGraphFieldContainers(ContainerType.INITIAL);
-		for (NodeGraphFieldContainer initial : initials) {
-			Long counter = 0L;
-			purgeVersion(tx, counter, bulkProvider.get(), initial, initial, false, maxAge);
+	/**
+	 * Purge the versions of all nodes in the project. The nodes are processed in batches. Each batch uses a dedicated transaction which will
+	 * additionally be committed once {@link MeshOptions#getVersionPurgeMaxBatchSize()} versions have been purged.
+	 *
+	 * @param project
+	 * @param before
+	 *            Only purge versions which were edited before the given date. May be null
+	 * @param keepVersions
+	 *            Amount of the latest versions of each content which will be kept. Use 0 to not keep additional versions
+	 * @param rateLimit
+	 *            Maximum amount of nodes which will be processed per second. Use 0 to disable the limit
+	 * @return Result of the purge operation
+	 * @throws InterruptedException
+	 */
+	public VersionPurgeResult purgeVersions(Project project, ZonedDateTime before, int keepVersions, int rateLimit) throws InterruptedException {
+		long start = System.currentTimeMillis();
+		String projectName = db.tx(() -> project.getName());
+		List<String> nodeUuids = db.tx(() -> project.findNodes().stream().map(Node::getUuid).collect(Collectors.toList()));
+
+		long reclaimed = 0;
+		for (int i = 0; i < nodeUuids.size(); i += NODE_BATCH_SIZE) {
+			List<String> batch = nodeUuids.subList(i, Math.min(nodeUuids.size(), i + NODE_BATCH_SIZE));
+			long batchReclaimed = db.tx(() -> {
+				NodeRoot nodeRoot = project.getNodeRoot();
+				BulkActionContext bac = bulkProvider.get();
+				long count = 0;
+				long uncommitted = 0;
+				for (String uuid : batch) {
+					Node node = nodeRoot.findByUuid(uuid);
+					if (node == null) {
+						continue;
+					}
+					long purged = purgeNode(bac, node, before, keepVersions);
+					count += purged;
+					uncommitted += purged;
+					if (uncommitted >= meshOptions.getVersionPurgeMaxBatchSize()) {
+						log.info("Committing batch - Elements handled {" + uncommitted + "}");
+						bac.process(true);
+						uncommitted = 0;
+					}
+				}
+				bac.process(true);
+				return count;
+			});
+			reclaimed += batchReclaimed;
+			reclaimedCounter.increment(batchReclaimed);
+			throttle(start, i + batch.size(), rateLimit);
 		}
+
+		long duration = System.currentTimeMillis() - start;
+		durationTimer.record(duration, TimeUnit.MILLISECONDS);
+		VersionPurgeResult result = new VersionPurgeResult(nodeUuids.size(), reclaimed, duration);
+		log.info("Purged versions of project {" + projectName + "}. " + result);
+		return result;
 	}
 
 	/**
-	 * Invoke the purge action on the given container.
-	 * 
-	 * @param tx
-	 * @param txCounter
+	 * Purge the versions of the node. The version chains are iterated starting from the initial containers.
+	 *
 	 * @param bac
-	 *            Action context for the removal operation
-	 * @param lastRemaining
-	 *            Previous version which remained
-	 * @param version
-	 *            Current version to be checked for removal
-	 * @param previousRemoved
-	 *            Flag which indicated whether the previous version has been removed
-	 * @param maxAge
+	 * @param node
+	 * @param before
+	 * @param keepVersions
+	 * @return Amount of purged versions
 	 */
-	private void purgeVersion(Tx tx, Long txCounter, BulkActionContext bac, NodeGraphFieldContainer lastRemaining, NodeGraphFieldContainer version,
-		boolean previousRemoved, ZonedDateTime maxAge) {
-
-		// We need to load some information first since we may remove the version in this step
-		List<? extends NodeGraphFieldContainer> nextVersions = Lists.newArrayList(version.getNextVersions());
-		boolean isNewerThanMaxAge = maxAge != null && !isOlderThanMaxAge(version, maxAge);
-		boolean isInTimeFrame = maxAge == null || isOlderThanMaxAge(version, maxAge);
-
-		if (isInTimeFrame && version.isPurgeable()) {
-			log.info("Purging container " + version.getUuid() + "@" + version.getVersion());
-			// Delete this version - This will also take care of removing the version references
-			version.delete(bac, false);
-			previousRemoved = true;
-			txCounter++;
-		} else {
-			// We found a version which is not removable. So link it to the last remaining.
-			if (previousRemoved) {
-				log.info("Linking {" + lastRemaining.getUuid() + "@" + lastRemaining.getVersion() + " to " + version.getUuid() + "@"
-					+ version.getVersion());
-				// We only need to link to the previous version if it has been removed in an earlier step
-				lastRemaining.setNextVersion(version);
-				txCounter++;
+	private long purgeNode(BulkActionContext bac, Node node, ZonedDateTime before, int keepVersions) {
+		long purged = 0;
+		Set<String> visited = new HashSet<>();
+		for (NodeGraphFieldContainer initial : node.getGraphFieldContainers(ContainerType.INITIAL)) {
+			// The chain forks once branches were created. A later initial container may thus be part of an already handled chain.
+			List<NodeGraphFieldContainer> versions = new ArrayList<>();
+			Deque<NodeGraphFieldContainer> queue = new ArrayDeque<>();
+			queue.add(initial);
+			while (!queue.isEmpty()) {
+				NodeGraphFieldContainer version = queue.poll();
+				if (!visited.add(version.getUuid())) {
+					continue;
+				}
+				versions.add(version);
+				for (NodeGraphFieldContainer next : version.getNextVersions()) {
+					queue.add(next);
+				}
 			}
-			if (txCounter % meshOptions.getVersionPurgeMaxBatchSize() == 0 && txCounter != 0) {
-				log.info("Committing batch - Elements handled {" + txCounter + "}");
-				tx.getGraph().commit();
+
+			Set<String> kept = versions.stream()
+				.sorted(Comparator.comparing(NodeGraphFieldContainer::getLastEditedTimestamp, Comparator.nullsFirst(Comparator.reverseOrder())))
+				.limit(keepVersions)
+				.map(NodeGraphFieldContainer::getUuid)
+				.collect(Collectors.toSet());
+
+			// The versions are purged in chain order. Purging a version links its previous version to its next versions.
+			for (NodeGraphFieldContainer version : versions) {
+				if (kept.contains(version.getUuid()) || !version.isPurgeable()) {
+					continue;
+				}
+				if (before != null && !isOlderThanMaxAge(version, before)) {
+					continue;
+				}
+				if (log.isDebugEnabled()) {
+					log.debug("Purging container " + version.getUuid() + "@" + version.getVersion());
+				}
+				version.purge(bac);
+				purged++;
 			}
-			// Update the reference since this version is now the last remaining because it was not removed
-			lastRemaining = version;
-			previousRemoved = false;
 		}
+		return purged;
+	}
 
-		// Check if a maxage is set and whether the version is newer than the maxage
-		if (isNewerThanMaxAge) {
-			// We can stop traversing the tree at this point.
+	/**
+	 * Pause the current thread if the processed nodes exceed the rate limit.
+	 *
+	 * @param start
+	 * @param processed
+	 * @param rateLimit
+	 * @throws InterruptedException
+	 */
+	private void throttle(long start, long processed, int rateLimit) throws InterruptedException {
+		if (rateLimit <= 0) {
 			return;
-		} else {
-			// Continue with next versions
-			for (NodeGraphFieldContainer next : nextVersions) {
-				purgeVersion(tx, txCounter, bac, lastRemaining, next, previousRemoved, maxAge);
-			}
+		}
+		long expectedMillis = processed * 1000 / rateLimit;
+		long delay = expectedMillis - (System.currentTimeMillis() - start);
+		if (delay > 0) {
+			Thread.sleep(delay);
 		}
 	}
 
@@ -131,8 +210,10 @@ public class ProjectVersionPurgeHandler {
 		ZonedDateTime editDate = DateUtils.toZonedDateTime(editTs);
 		ZonedDateTime maxDate = maxAge;
 		if (editDate.isAfter(maxDate)) {
-			log.info("Version {" + version.getUuid() + "}@{" + version.getVersion() + "} is not purgable since it was edited {" + editDate
-				+ "} which is newer than {" + maxDate + "}");
+			if (log.isDebugEnabled()) {
+				log.debug("Version {" + version.getUuid() + "}@{" + version.getVersion() + "} is not purgable since it was edited {" + editDate
+					+ "} which is newer than {" + maxDate + "}");
+			}
 			return false;
 		}
 		return true;
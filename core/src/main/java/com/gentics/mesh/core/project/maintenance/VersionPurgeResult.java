@@ -0,0 +1,62 @@
+package com.gentics.mesh.core.project.maintenance;
+
+/**
+ * Result of a version purge run for a single project.
+ */
+public class VersionPurgeResult {
+
+	private final long nodeCount;
+
+	private final long purgedCount;
+
+	private final long duration;
+
+	public VersionPurgeResult(long nodeCount, long purgedCount, long duration) {
+		this.nodeCount = nodeCount;
+		this.purgedCount = purgedCount;
+		this.duration = duration;
+	}
+
+	/**
+	 * Return the amount of nodes which were processed.
+	 *
+	 * @return
+	 */
+	public long getNodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * Return the amount of versions which were purged.
+	 *
+	 * @return
+	 */
+	public long getPurgedCount() {
+		return purgedCount;
+	}
+
+	/**
+	 * Return the duration of the run.
+	 *
+	 * @return Duration in milliseconds
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Return the throughput of the run.
+	 *
+	 * @return Processed nodes per second
+	 */
+	public long getThroughput() {
+		return duration == 0 ? nodeCount : nodeCount * 1000 / duration;
+	}
+
+	@Override
+	public String toString() {
+		return "Processed {" + nodeCount + "} nodes and purged {" + purgedCount + "} versions in {" + duration + "} ms ({" + getThroughput()
+			+ "} nodes/s)";
+	}
+
+}
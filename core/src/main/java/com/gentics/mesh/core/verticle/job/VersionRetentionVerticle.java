@@ -0,0 +1,125 @@
+package com.gentics.mesh.core.verticle.job;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.project.maintenance.ProjectVersionPurgeHandler;
+import com.gentics.mesh.core.rest.project.VersionRetentionPolicy;
+import com.gentics.mesh.etc.config.ContentConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.verticle.AbstractJobVerticle;
+
+import dagger.Lazy;
+import io.reactivex.Completable;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Verticle which periodically enforces the version retention policies of all projects. The projects are processed one after another and the nodes of a
+ * project are processed in small batches which are throttled to the configured rate limit. The run can also be triggered via the job address.
+ */
+@Singleton
+public class VersionRetentionVerticle extends AbstractJobVerticle {
+
+	private static final Logger log = LoggerFactory.getLogger(VersionRetentionVerticle.class);
+
+	private static final String VERSION_RETENTION_LOCK_NAME = "mesh.internal.versionretentionlock";
+
+	public static final String VERSION_RETENTION_ADDRESS = "mesh.internal.versionretention.";
+
+	private final Database db;
+
+	private final Lazy<BootstrapInitializer> boot;
+
+	private final ProjectVersionPurgeHandler purgeHandler;
+
+	private final MeshOptions options;
+
+	private Long timerId;
+
+	@Inject
+	public VersionRetentionVerticle(Database db, Lazy<BootstrapInitializer> boot, ProjectVersionPurgeHandler purgeHandler, MeshOptions options) {
+		this.db = db;
+		this.boot = boot;
+		this.purgeHandler = purgeHandler;
+		this.options = options;
+	}
+
+	@Override
+	public void start() throws Exception {
+		super.start();
+		long interval = options.getContentOptions().getVersionRetentionInterval();
+		if (interval > 0) {
+			timerId = vertx.setPeriodic(interval * 1000, id -> invokeJobAction(null));
+		}
+	}
+
+	@Override
+	public void stop() throws Exception {
+		if (timerId != null) {
+			vertx.cancelTimer(timerId);
+			timerId = null;
+		}
+		super.stop();
+	}
+
+	@Override
+	public String getJobAdress() {
+		return VERSION_RETENTION_ADDRESS + options.getNodeName();
+	}
+
+	@Override
+	public String getLockName() {
+		return VERSION_RETENTION_LOCK_NAME;
+	}
+
+	@Override
+	public Completable executeJob(Message<Object> message) {
+		return Completable.fromAction(() -> {
+			ContentConfig config = options.getContentOptions();
+			List<Project> projects = db.tx(() -> {
+				List<Project> list = new ArrayList<>();
+				for (Project project : boot.get().projectRoot().findAll()) {
+					if (project.getVersionRetentionPolicy() != null) {
+						list.add(project);
+					}
+				}
+				return list;
+			});
+
+			for (Project project : projects) {
+				if (stopped) {
+					break;
+				}
+				// The policy may have been changed or removed in the meantime
+				VersionRetentionPolicy policy = db.tx(() -> project.getVersionRetentionPolicy());
+				if (policy == null) {
+					continue;
+				}
+				ZonedDateTime before = null;
+				if (policy.getMaxAge() != null) {
+					before = ZonedDateTime.now().minus(Duration.parse(policy.getMaxAge()));
+				}
+				int keepVersions = policy.getKeepVersions() == null ? 0 : policy.getKeepVersions();
+				try {
+					purgeHandler.purgeVersions(project, before, keepVersions, config.getVersionRetentionRateLimit());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw e;
+				} catch (Exception e) {
+					log.error("Error while enforcing the version retention policy of project {" + project.getUuid() + "}", e);
+				}
+			}
+		});
+	}
+
+}
@@ -9,16 +9,21 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.AuthTokenCache;
+import com.gentics.mesh.cache.NavigationCache;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
+import com.gentics.mesh.cache.ResolvedLinkCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.core.binary.maintenance.BinaryGarbageCollector;
 import com.gentics.mesh.core.data.binary.Binaries;
 import com.gentics.mesh.core.data.generic.PermissionProperties;
 import com.gentics.mesh.core.data.generic.UserProperties;
 import com.gentics.mesh.core.data.schema.handler.SchemaComparator;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckHandler;
 import com.gentics.mesh.core.endpoint.migration.branch.BranchMigrationHandler;
 import com.gentics.mesh.core.endpoint.migration.micronode.MicronodeMigrationHandler;
 import com.gentics.mesh.core.endpoint.migration.node.NodeMigrationHandler;
@@ -106,6 +111,10 @@ public interface MeshComponent {
 
 	ProjectVersionPurgeHandler projectVersionPurgeHandler();
 
+	BinaryGarbageCollector binaryGarbageCollector();
+
+	ConsistencyCheckHandler consistencyCheckHandler();
+
 	MeshLocalClientImpl meshLocalClientImpl();
 
 	WebRootLinkReplacer webRootLinkReplacer();
@@ -148,6 +157,12 @@ public interface MeshComponent {
 
 	PermissionCache permissionCache();
 
+	NavigationCache navigationCache();
+
+	ResolvedLinkCache resolvedLinkCache();
+
+	AuthTokenCache authTokenCache();
+
 	Vertx vertx();
 
 	Provider<EventQueueBatch> batchProvider();
@@ -2,14 +2,20 @@ package com.gentics.mesh.dagger.module;
 
 import com.gentics.mesh.auth.MeshOAuthService;
 import com.gentics.mesh.auth.oauth2.MeshOAuth2ServiceImpl;
+import com.gentics.mesh.cache.AuthTokenCache;
+import com.gentics.mesh.cache.AuthTokenCacheImpl;
 import com.gentics.mesh.cache.CacheRegistry;
 import com.gentics.mesh.cache.CacheRegistryImpl;
+import com.gentics.mesh.cache.NavigationCache;
+import com.gentics.mesh.cache.NavigationCacheImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectBranchNameCacheImpl;
 import com.gentics.mesh.cache.ProjectNameCache;
 import com.gentics.mesh.cache.ProjectNameCacheImpl;
+import com.gentics.mesh.cache.ResolvedLinkCache;
+import com.gentics.mesh.cache.ResolvedLinkCacheImpl;
 import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.cache.WebrootPathCacheImpl;
 import com.gentics.mesh.cli.BootstrapInitializer;
@@ -84,6 +90,15 @@ public abstract class BindModule {
 	@Binds
 	abstract PermissionCache bindPermissionCache(PermissionCacheImpl e);
 
+	@Binds
+	abstract NavigationCache bindNavigationCache(NavigationCacheImpl e);
+
+	@Binds
+	abstract ResolvedLinkCache bindResolvedLinkCache(ResolvedLinkCacheImpl e);
+
+	@Binds
+	abstract AuthTokenCache bindAuthTokenCache(AuthTokenCacheImpl e);
+
 	@Binds
 	abstract ProjectNameCache bindProjectNameCache(ProjectNameCacheImpl e);
 
@@ -29,6 +29,7 @@ import com.gentics.mesh.core.endpoint.admin.HealthEndpoint;
 import com.gentics.mesh.core.endpoint.admin.RestInfoEndpoint;
 import com.gentics.mesh.core.endpoint.auth.AuthenticationEndpoint;
 import com.gentics.mesh.core.endpoint.branch.BranchEndpoint;
+import com.gentics.mesh.core.endpoint.changes.NodeChangesEndpoint;
 import com.gentics.mesh.core.endpoint.eventbus.EventbusEndpoint;
 import com.gentics.mesh.core.endpoint.group.GroupEndpoint;
 import com.gentics.mesh.core.endpoint.microschema.MicroschemaEndpoint;
@@ -299,6 +300,10 @@ public class RAMLGenerator extends AbstractGenerator {
 		initEndpoint(navEndpoint);
 		addEndpoints(projectBasePath, resources, navEndpoint);
 
+		NodeChangesEndpoint changesEndpoint = Mockito.spy(new NodeChangesEndpoint());
+		initEndpoint(changesEndpoint);
+		addEndpoints(projectBasePath, resources, changesEndpoint);
+
 		WebRootEndpoint webEndpoint = Mockito.spy(new WebRootEndpoint());
 		initEndpoint(webEndpoint);
 		addEndpoints(projectBasePath, resources, webEndpoint);
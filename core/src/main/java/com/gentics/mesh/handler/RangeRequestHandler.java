@@ -37,4 +37,16 @@ public interface RangeRequestHandler {
 	 */
 	void handle(RoutingContext rc, String localPath, String contentType);
 
+	/**
+	 * Process the request for binary data which is not available in the local filesystem. Range requests will be answered using ranged reads of the binary
+	 * storage.
+	 * 
+	 * @param rc
+	 * @param binaryUuid
+	 * @param size
+	 *            Size of the binary data
+	 * @param contentType
+	 */
+	void handle(RoutingContext rc, String binaryUuid, long size, String contentType);
+
 }
@@ -15,11 +15,14 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.handler.RangeRequestHandler;
+import com.gentics.mesh.storage.BinaryStorage;
 
+import io.reactivex.Flowable;
 import io.reactivex.Single;
-import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
@@ -42,10 +45,12 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 
 	private int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
 	private final Vertx rxVertx;
+	private final BinaryStorage storage;
 
 	@Inject
-	public RangeRequestHandlerImpl(Vertx rxVertx) {
+	public RangeRequestHandlerImpl(Vertx rxVertx, BinaryStorage storage) {
 		this.rxVertx = rxVertx;
+		this.storage = storage;
 	}
 
 	@Override
@@ -64,18 +69,81 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 		}, context::fail);
 	}
 
+	@Override
+	public void handle(RoutingContext context, String binaryUuid, long size, String contentType) {
+		HttpServerResponse response = context.response();
+		ByteRange range = parseRange(context, size);
+		if (range == null) {
+			return;
+		}
+		response.putHeader("Content-Length", Long.toString(range.length()));
+		if (context.request().method() == HttpMethod.HEAD) {
+			response.end();
+			return;
+		}
+		setContentType(response, contentType);
+		Flowable<Buffer> stream;
+		if (range.partial) {
+			response.putHeader("Content-Range", "bytes " + range.start + "-" + range.end + "/" + size);
+			response.setStatusCode(PARTIAL_CONTENT.code());
+			stream = storage.read(binaryUuid, range.start, range.length());
+		} else {
+			stream = storage.read(binaryUuid);
+		}
+		stream.subscribe(response::write, context::fail, response::end);
+	}
+
 	private void sendFile(RoutingContext context, String file, String contentType, FileProps fileProps) {
 		HttpServerRequest request = context.request();
+		ByteRange range = parseRange(context, fileProps.size());
+		if (range == null) {
+			return;
+		}
+
+		if (request.getHeader("Range") != null) {
+			// send the content length even for HEAD requests
+			request.response().headers().set("Content-Length", Long.toString(range.length()));
+		}
+
+		if (request.method() == HttpMethod.HEAD) {
+			request.response().end();
+			return;
+		}
+
+		setContentType(request.response(), contentType);
+		if (range.partial) {
+			// must return content range
+			request.response().headers().set("Content-Range", "bytes " + range.start + "-" + range.end + "/" + fileProps.size());
+			// return a partial response
+			request.response().setStatusCode(PARTIAL_CONTENT.code());
+			request.response().sendFile(file, range.start, range.length());
+		} else {
+			// Return the full file
+			request.response().sendFile(file, res2 -> {
+				if (res2.failed()) {
+					context.fail(res2.cause());
+				}
+			});
+		}
 
+	}
+
+	/**
+	 * Parse the range header of the request. The request will be failed if the range can't be satisfied.
+	 * 
+	 * @param context
+	 * @param size
+	 *            Size of the requested data
+	 * @return Parsed range or null if the request has been failed
+	 */
+	private ByteRange parseRange(RoutingContext context, long size) {
+		HttpServerRequest request = context.request();
 		Long offset = null;
-		Long end = null;
-		MultiMap headers = null;
+		// end byte is length - 1
+		long end = size - 1;
 
 		// check if the client is making a range request
 		String range = request.getHeader("Range");
-		// end byte is length - 1
-		end = fileProps.size() - 1;
-
 		if (range != null) {
 			Matcher m = RANGE.matcher(range);
 			if (m.matches()) {
@@ -84,7 +152,7 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 					// offset cannot be empty
 					offset = Long.parseLong(part);
 					// offset must fall inside the limits of the file
-					if (offset < 0 || offset >= fileProps.size()) {
+					if (offset < 0 || offset >= size) {
 						throw new IndexOutOfBoundsException();
 					}
 					// length can be empty
@@ -98,50 +166,29 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 						}
 					}
 				} catch (NumberFormatException | IndexOutOfBoundsException e) {
-					context.response().putHeader("Content-Range", "bytes */" + fileProps.size());
+					context.response().putHeader("Content-Range", "bytes */" + size);
 					context.fail(REQUESTED_RANGE_NOT_SATISFIABLE.code());
-					return;
+					return null;
 				}
 			}
 
 			// notify client we support range requests
-			headers = request.response().headers();
-			headers.set("Accept-Ranges", "bytes");
-			// send the content length even for HEAD requests
-			headers.set("Content-Length", Long.toString(end + 1 - (offset == null ? 0 : offset)));
+			request.response().headers().set("Accept-Ranges", "bytes");
 		}
-
-		if (request.method() == HttpMethod.HEAD) {
-			request.response().end();
-			return;
+		if (offset == null) {
+			return new ByteRange(false, 0, end);
 		}
+		return new ByteRange(true, offset, end);
+	}
 
+	private void setContentType(HttpServerResponse response, String contentType) {
 		if (contentType != null) {
 			if (contentType.startsWith("text")) {
-				request.response().putHeader("Content-Type", contentType + ";charset=" + defaultContentEncoding);
+				response.putHeader("Content-Type", contentType + ";charset=" + defaultContentEncoding);
 			} else {
-				request.response().putHeader("Content-Type", contentType);
+				response.putHeader("Content-Type", contentType);
 			}
 		}
-		if (offset != null) {
-			// must return content range
-			headers.set("Content-Range", "bytes " + offset + "-" + end + "/" + fileProps.size());
-			// return a partial response
-			request.response().setStatusCode(PARTIAL_CONTENT.code());
-
-			final Long finalOffset = offset;
-			final Long finalLength = end + 1 - offset;
-
-			request.response().sendFile(file, finalOffset, finalLength);
-		} else {
-			// Return the full file
-			request.response().sendFile(file, res2 -> {
-				if (res2.failed()) {
-					context.fail(res2.cause());
-				}
-			});
-		}
-
 	}
 
 	private Single<FileProps> getFileProps(String file) {
@@ -161,4 +208,23 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 		return propsCache;
 	}
 
+	/**
+	 * Inclusive byte range of a request.
+	 */
+	private static class ByteRange {
+		private final boolean partial;
+		private final long start;
+		private final long end;
+
+		ByteRange(boolean partial, long start, long end) {
+			this.partial = partial;
+			this.start = start;
+			this.end = end;
+		}
+
+		long length() {
+			return end + 1 - start;
+		}
+	}
+
 }
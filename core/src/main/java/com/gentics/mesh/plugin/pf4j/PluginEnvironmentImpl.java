@@ -4,14 +4,17 @@ import java.util.Objects;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import javax.inject.Provider;
 
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.plugin.env.PluginEnvironment;
 import com.gentics.mesh.RestAPIVersion;
+import com.gentics.mesh.rest.MeshLocalClientImpl;
 import com.gentics.mesh.rest.client.MeshRestClient;
 import com.gentics.mesh.rest.client.MeshRestClientConfig;
 
@@ -33,19 +36,22 @@ public class PluginEnvironmentImpl implements PluginEnvironment {
 
 	private final OkHttpClient pluginOkHttpClient;
 
+	private final Provider<MeshLocalClientImpl> localClientProvider;
+
 	private static final String WILDCARD_IP = "0.0.0.0";
 
 	private static final String LOOPBACK_IP = "127.0.0.1";
 
 	@Inject
 	public PluginEnvironmentImpl(Lazy<BootstrapInitializer> boot, Database db, Lazy<MeshJWTAuthProvider> authProvider, Lazy<Vertx> vertx,
-		MeshOptions options, @Named("pluginClient") OkHttpClient pluginOkHttpClient) {
+		MeshOptions options, @Named("pluginClient") OkHttpClient pluginOkHttpClient, Provider<MeshLocalClientImpl> localClientProvider) {
 		this.boot = boot;
 		this.db = db;
 		this.authProvider = authProvider;
 		this.vertx = vertx;
 		this.options = options;
 		this.pluginOkHttpClient = pluginOkHttpClient;
+		this.localClientProvider = localClientProvider;
 	}
 
 	@Override
@@ -100,6 +106,25 @@ public class PluginEnvironmentImpl implements PluginEnvironment {
 		return client;
 	}
 
+	@Override
+	public MeshRestClient createLocalAdminClient() {
+		MeshAuthUser admin = db.tx(() -> boot.get().userRoot().findMeshAuthUserByUsername("admin"));
+		if (admin == null) {
+			throw new IllegalStateException("The admin user could not be found");
+		}
+		return createLocalClient(admin);
+	}
+
+	@Override
+	public MeshRestClient createLocalClient(io.vertx.ext.auth.User user) {
+		if (!(user instanceof MeshAuthUser)) {
+			throw new IllegalArgumentException("The local client can only be created for authenticated Gentics Mesh users but got {" + user + "}");
+		}
+		MeshLocalClientImpl client = localClientProvider.get();
+		client.setUser((MeshAuthUser) user);
+		return client;
+	}
+
 	@Override
 	public MeshOptions options() {
 		return options;
@@ -1,21 +1,31 @@
 package com.gentics.mesh.rest;
 
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import javax.inject.Inject;
-import javax.inject.Singleton;
 
 import org.apache.commons.io.IOUtils;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.gentics.mesh.MeshStatus;
+import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.impl.LocalActionContextImpl;
 import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.endpoint.admin.AdminHandler;
+import com.gentics.mesh.core.endpoint.admin.JobHandler;
+import com.gentics.mesh.core.endpoint.admin.LocalConfigHandler;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckHandler;
 import com.gentics.mesh.core.endpoint.admin.plugin.PluginHandler;
 import com.gentics.mesh.core.endpoint.auth.AuthenticationRestHandler;
 import com.gentics.mesh.core.endpoint.branch.BranchCrudHandler;
@@ -47,6 +57,7 @@ import com.gentics.mesh.core.rest.branch.BranchUpdateRequest;
 import com.gentics.mesh.core.rest.branch.info.BranchInfoMicroschemaList;
 import com.gentics.mesh.core.rest.branch.info.BranchInfoSchemaList;
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.common.ListResponse;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
@@ -56,6 +67,7 @@ import com.gentics.mesh.core.rest.group.GroupResponse;
 import com.gentics.mesh.core.rest.group.GroupUpdateRequest;
 import com.gentics.mesh.core.rest.job.JobListResponse;
 import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaCreateRequest;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
@@ -75,6 +87,7 @@ import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
 import com.gentics.mesh.core.rest.project.ProjectListResponse;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
 import com.gentics.mesh.core.rest.project.ProjectUpdateRequest;
+import com.gentics.mesh.core.rest.project.VersionRetentionPolicy;
 import com.gentics.mesh.core.rest.role.RoleCreateRequest;
 import com.gentics.mesh.core.rest.role.RoleListResponse;
 import com.gentics.mesh.core.rest.role.RolePermissionRequest;
@@ -109,6 +122,8 @@ import com.gentics.mesh.core.rest.user.UserResetTokenResponse;
 import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.core.rest.user.UserUpdateRequest;
 import com.gentics.mesh.core.rest.validation.SchemaValidationResponse;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.ParameterProvider;
@@ -119,10 +134,23 @@ import com.gentics.mesh.rest.client.MeshRestClientConfig;
 import com.gentics.mesh.rest.client.MeshWebrootResponse;
 import com.gentics.mesh.rest.client.MeshWebsocket;
 import com.gentics.mesh.rest.client.impl.EmptyResponse;
+import com.gentics.mesh.search.SearchHandler;
 import com.gentics.mesh.search.index.AdminIndexHandler;
+import com.gentics.mesh.search.index.group.GroupSearchHandler;
+import com.gentics.mesh.search.index.microschema.MicroschemaSearchHandler;
+import com.gentics.mesh.search.index.node.NodeSearchHandler;
+import com.gentics.mesh.search.index.project.ProjectSearchHandler;
+import com.gentics.mesh.search.index.role.RoleSearchHandler;
+import com.gentics.mesh.search.index.schema.SchemaSearchHandler;
+import com.gentics.mesh.search.index.tag.TagSearchHandler;
+import com.gentics.mesh.search.index.tagfamily.TagFamilySearchHandler;
+import com.gentics.mesh.search.index.user.UserSearchHandler;
 import com.gentics.mesh.util.UUIDUtil;
 
+import dagger.Lazy;
+
 import io.reactivex.Single;
+import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
@@ -131,10 +159,14 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.FileUpload;
 
 /**
- * Local client implementation. This client will invoke endpoint handlers instead of sending http rest requests. Please note that is implementation is not very
- * well tested and may lack a lot of endpoint implementations.
+ * Local client implementation. This client will invoke endpoint handlers instead of sending http rest requests. Request and response models are passed
+ * to and from the handlers without being serialized. Only navigation responses are copied, since they contain data of the navigation cache. All
+ * requests are executed using the user which was set for the client.
+ *
+ * Requests which need a routing context or a streamed response (e.g. webroot, binary downloads, GraphQL, bulk and change feed requests) are not
+ * supported and will fail with an {@link UnsupportedOperationException}. The same applies to project language assignments, which are not
+ * implemented by the server.
  */
-@Singleton
 public class MeshLocalClientImpl implements MeshRestClient {
 
 	public MeshAuthUser user;
@@ -190,6 +222,48 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Inject
 	public PluginHandler pluginHandler;
 
+	@Inject
+	public JobHandler jobHandler;
+
+	@Inject
+	public ConsistencyCheckHandler consistencyCheckHandler;
+
+	@Inject
+	public LocalConfigHandler localConfigHandler;
+
+	@Inject
+	public NodeSearchHandler nodeSearchHandler;
+
+	@Inject
+	public UserSearchHandler userSearchHandler;
+
+	@Inject
+	public GroupSearchHandler groupSearchHandler;
+
+	@Inject
+	public RoleSearchHandler roleSearchHandler;
+
+	@Inject
+	public ProjectSearchHandler projectSearchHandler;
+
+	@Inject
+	public TagSearchHandler tagSearchHandler;
+
+	@Inject
+	public TagFamilySearchHandler tagFamilySearchHandler;
+
+	@Inject
+	public SchemaSearchHandler schemaSearchHandler;
+
+	@Inject
+	public MicroschemaSearchHandler microschemaSearchHandler;
+
+	@Inject
+	public Database db;
+
+	@Inject
+	public Lazy<BootstrapInitializer> boot;
+
 	@Inject
 	public Vertx vertx;
 
@@ -271,9 +345,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	public MeshRequest<EmptyResponse> deleteNode(String projectName, String uuid, String languageTag, ParameterProvider... parameters) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class, parameters);
 		ac.setProject(projectName);
-		ac.setQuery("?lang=" + languageTag);
-		// TODO set project
-		nodeCrudHandler.handleDelete(ac, uuid);
+		nodeCrudHandler.handleDeleteLanguage(ac, uuid, languageTag);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
@@ -297,6 +369,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	public MeshRequest<NodeListResponse> findNodesForTag(String projectName, String tagFamilyUuid, String tagUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeListResponse> ac = createContext(NodeListResponse.class, parameters);
 		ac.setProject(projectName);
+		tagCrudHandler.handleTaggedNodesList(ac, tagFamilyUuid, tagUuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
@@ -328,13 +401,27 @@ public class MeshLocalClientImpl implements MeshRestClient {
 
 	@Override
 	public MeshRequest<NodeVersionsResponse> listNodeVersions(String projectName, String nodeUuid, ParameterProvider... parameters) {
-		return null;
+		LocalActionContextImpl<NodeVersionsResponse> ac = createContext(NodeVersionsResponse.class, parameters);
+		ac.setProject(projectName);
+		nodeCrudHandler.handleListVersions(ac, nodeUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	@Override
+	public MeshRequest<MeshBinaryResponse> bulkNodes(String projectName, InputStream ndjson, ParameterProvider... parameters) {
+		return unsupported("streaming bulk requests");
+	}
+
+	@Override
+	public MeshRequest<MeshBinaryResponse> findNodeChanges(String projectName, ParameterProvider... parameters) {
+		return unsupported("streaming change feed requests");
 	}
 
 	@Override
 	public MeshRequest<TagListResponse> findTagsForNode(String projectName, String nodeUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class, parameters);
 		ac.setProject(projectName);
+		nodeCrudHandler.readTags(ac, nodeUuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
@@ -343,6 +430,8 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		ParameterProvider... parameters) {
 		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class, parameters);
 		ac.setProject(projectName);
+		ac.setPayloadObject(request);
+		nodeCrudHandler.handleBulkTagUpdate(ac, nodeUuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
@@ -418,18 +507,21 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
+	/**
+	 * Project language assignments are not implemented by the server either (see {@link com.gentics.mesh.core.endpoint.project.LanguageEndpoint}),
+	 * thus there is no handler which could be invoked.
+	 */
 	@Override
 	public MeshRequest<ProjectResponse> assignLanguageToProject(String projectUuid, String languageUuid) {
-		LocalActionContextImpl<ProjectResponse> ac = createContext(ProjectResponse.class);
-		// TODO add implementation
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return unsupported("project language assignments, since they are not implemented by the server");
 	}
 
+	/**
+	 * See {@link #assignLanguageToProject(String, String)}.
+	 */
 	@Override
 	public MeshRequest<ProjectResponse> unassignLanguageFromProject(String projectUuid, String languageUuid) {
-		LocalActionContextImpl<ProjectResponse> ac = createContext(ProjectResponse.class);
-		// TODO add implementation
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return unsupported("project language assignments, since they are not implemented by the server");
 	}
 
 	@Override
@@ -451,6 +543,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<ProjectResponse> updateProject(String uuid, ProjectUpdateRequest request) {
 		LocalActionContextImpl<ProjectResponse> ac = createContext(ProjectResponse.class);
+		ac.setPayloadObject(request);
 		projectCrudHandler.handleUpdate(ac, uuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
@@ -469,6 +562,21 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
+	@Override
+	public MeshRequest<VersionRetentionPolicy> getProjectVersionRetention(String uuid) {
+		LocalActionContextImpl<VersionRetentionPolicy> ac = createContext(VersionRetentionPolicy.class);
+		projectCrudHandler.handleReadVersionRetention(ac, uuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	@Override
+	public MeshRequest<VersionRetentionPolicy> updateProjectVersionRetention(String uuid, VersionRetentionPolicy policy) {
+		LocalActionContextImpl<VersionRetentionPolicy> ac = createContext(VersionRetentionPolicy.class);
+		ac.setPayloadObject(policy);
+		projectCrudHandler.handleUpdateVersionRetention(ac, uuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
 	@Override
 	public MeshRequest<SchemaResponse> assignSchemaToProject(String projectName, String schemaUuid) {
 		LocalActionContextImpl<SchemaResponse> ac = createContext(SchemaResponse.class);
@@ -480,6 +588,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<EmptyResponse> unassignSchemaFromProject(String projectName, String schemaUuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
+		ac.setProject(projectName);
 		schemaCrudHandler.handleRemoveSchemaFromProject(ac, schemaUuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
@@ -487,6 +596,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<SchemaListResponse> findSchemas(String projectName, ParameterProvider... parameters) {
 		LocalActionContextImpl<SchemaListResponse> ac = createContext(SchemaListResponse.class, parameters);
+		ac.setProject(projectName);
 		schemaCrudHandler.handleReadProjectList(ac);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
@@ -494,6 +604,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<MicroschemaResponse> assignMicroschemaToProject(String projectName, String microschemaUuid) {
 		LocalActionContextImpl<MicroschemaResponse> ac = createContext(MicroschemaResponse.class);
+		ac.setProject(projectName);
 		microschemaCrudHandler.handleAddMicroschemaToProject(ac, microschemaUuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
@@ -501,6 +612,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<EmptyResponse> unassignMicroschemaFromProject(String projectName, String microschemaUuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
+		ac.setProject(projectName);
 		microschemaCrudHandler.handleRemoveMicroschemaFromProject(ac, microschemaUuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
@@ -508,6 +620,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<MicroschemaListResponse> findMicroschemas(String projectName, ParameterProvider... parameters) {
 		LocalActionContextImpl<MicroschemaListResponse> ac = createContext(MicroschemaListResponse.class, parameters);
+		ac.setProject(projectName);
 		microschemaCrudHandler.handleReadMicroschemaList(ac);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
@@ -573,49 +686,36 @@ public class MeshLocalClientImpl implements MeshRestClient {
 
 	@Override
 	public MeshRequest<MeshWebrootResponse> webroot(String projectName, String path, ParameterProvider... parameters) {
-		LocalActionContextImpl<MeshWebrootResponse> ac = createContext(MeshWebrootResponse.class, parameters);
-		ac.setProject(projectName);
-		// webrootHandler.handleGetPath(rc);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return unsupported("webroot requests");
 	}
 
 	@Override
 	public MeshRequest<MeshWebrootResponse> webroot(String projectName, String[] pathSegments, ParameterProvider... parameters) {
-		LocalActionContextImpl<MeshWebrootResponse> ac = createContext(MeshWebrootResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return unsupported("webroot requests");
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> webrootUpdate(String projectName, String path, NodeUpdateRequest nodeUpdateRequest,
 		ParameterProvider... parameters) {
-		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return unsupported("webroot requests");
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> webrootUpdate(String projectName, String[] pathSegments, NodeUpdateRequest nodeUpdateRequest,
 		ParameterProvider... parameters) {
-		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return unsupported("webroot requests");
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> webrootCreate(String projectName, String path, NodeCreateRequest nodeCreateRequest,
 		ParameterProvider... parameters) {
-		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return unsupported("webroot requests");
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> webrootCreate(String projectName, String[] pathSegments, NodeCreateRequest nodeCreateRequest,
 		ParameterProvider... parameters) {
-		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return unsupported("webroot requests");
 	}
 
 	@Override
@@ -682,7 +782,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	public MeshRequest<GenericMessageResponse> applyChangesToSchema(String uuid, SchemaChangesListModel changes) {
 		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
 		ac.setPayloadObject(changes);
-		microschemaCrudHandler.handleApplySchemaChanges(ac, uuid);
+		schemaCrudHandler.handleApplySchemaChanges(ac, uuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
@@ -814,7 +914,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<UserPermissionResponse> readUserPermissions(String uuid, String pathToElement) {
 		LocalActionContextImpl<UserPermissionResponse> ac = createContext(UserPermissionResponse.class);
-		roleCrudHandler.handlePermissionRead(ac, uuid, pathToElement);
+		userCrudHandler.handlePermissionRead(ac, uuid, pathToElement);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
@@ -858,7 +958,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<RoleListResponse> findRolesForGroup(String groupUuid, ParameterProvider... parameter) {
 		LocalActionContextImpl<RoleListResponse> ac = createContext(RoleListResponse.class, parameter);
-
+		groupCrudHandler.handleGroupRolesList(ac, groupUuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
@@ -873,6 +973,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<RolePermissionResponse> readRolePermissions(String roleUuid, String pathToElement) {
 		LocalActionContextImpl<RolePermissionResponse> ac = createContext(RolePermissionResponse.class);
+		roleCrudHandler.handlePermissionRead(ac, roleUuid, pathToElement);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
@@ -886,14 +987,12 @@ public class MeshLocalClientImpl implements MeshRestClient {
 
 	@Override
 	public Single<GenericMessageResponse> login() {
-		return Single.error(new Exception("Not implemented"));
+		return Single.error(new UnsupportedOperationException("The local client uses the user it was created for and does not support logins"));
 	}
 
 	@Override
 	public Single<GenericMessageResponse> logout() {
-		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
-		ac.logout();
-		return null;
+		return Single.error(new UnsupportedOperationException("The local client uses the user it was created for and does not support logouts"));
 	}
 
 	@Override
@@ -905,112 +1004,92 @@ public class MeshLocalClientImpl implements MeshRestClient {
 
 	@Override
 	public MeshRequest<NodeListResponse> searchNodes(String json, ParameterProvider... parameters) {
-		LocalActionContextImpl<NodeListResponse> ac = createContext(NodeListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return search(null, json, uuid -> db.index().findByUuid(NodeImpl.class, uuid), NodeListResponse.class, nodeSearchHandler, true, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchNodesRaw(String json, ParameterProvider... parameters) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(null, json, nodeSearchHandler, parameters);
 	}
 
 	@Override
 	public MeshRequest<UserListResponse> searchUsers(String json, ParameterProvider... parameters) {
-		LocalActionContextImpl<UserListResponse> ac = createContext(UserListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return search(null, json, uuid -> boot.get().meshRoot().getUserRoot().findByUuid(uuid), UserListResponse.class, userSearchHandler, false, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchUsersRaw(String json) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(null, json, userSearchHandler);
 	}
 
 	@Override
 	public MeshRequest<GroupListResponse> searchGroups(String json, ParameterProvider... parameters) {
-		LocalActionContextImpl<GroupListResponse> ac = createContext(GroupListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return search(null, json, uuid -> boot.get().meshRoot().getGroupRoot().findByUuid(uuid), GroupListResponse.class, groupSearchHandler, false, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchGroupsRaw(String json) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(null, json, groupSearchHandler);
 	}
 
 	@Override
 	public MeshRequest<RoleListResponse> searchRoles(String json, ParameterProvider... parameters) {
-		LocalActionContextImpl<RoleListResponse> ac = createContext(RoleListResponse.class, parameters);
-		// TODO add handler
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return search(null, json, uuid -> boot.get().meshRoot().getRoleRoot().findByUuid(uuid), RoleListResponse.class, roleSearchHandler, false, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchRolesRaw(String json) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(null, json, roleSearchHandler);
 	}
 
 	@Override
 	public MeshRequest<ProjectListResponse> searchProjects(String json, ParameterProvider... parameters) {
-		LocalActionContextImpl<ProjectListResponse> ac = createContext(ProjectListResponse.class, parameters);
-		// TODO add handler
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return search(null, json, uuid -> boot.get().meshRoot().getProjectRoot().findByUuid(uuid), ProjectListResponse.class, projectSearchHandler, false, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchProjectsRaw(String json) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(null, json, projectSearchHandler);
 	}
 
 	@Override
 	public MeshRequest<TagListResponse> searchTags(String json, ParameterProvider... parameters) {
-		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return search(null, json, uuid -> boot.get().meshRoot().getTagRoot().findByUuid(uuid), TagListResponse.class, tagSearchHandler, false, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchTagsRaw(String json) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(null, json, tagSearchHandler);
 	}
 
 	@Override
 	public MeshRequest<TagFamilyListResponse> searchTagFamilies(String json, ParameterProvider... parameters) {
-		LocalActionContextImpl<TagFamilyListResponse> ac = createContext(TagFamilyListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return search(null, json, uuid -> boot.get().meshRoot().getTagFamilyRoot().findByUuid(uuid), TagFamilyListResponse.class, tagFamilySearchHandler, false, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchTagFamiliesRaw(String projectName, String json) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(projectName, json, tagFamilySearchHandler);
 	}
 
 	@Override
 	public MeshRequest<SchemaListResponse> searchSchemas(String json, ParameterProvider... parameters) {
-		LocalActionContextImpl<SchemaListResponse> ac = createContext(SchemaListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return search(null, json, uuid -> boot.get().meshRoot().getSchemaContainerRoot().findByUuid(uuid), SchemaListResponse.class, schemaSearchHandler, false, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchSchemasRaw(String json) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(null, json, schemaSearchHandler);
 	}
 
 	@Override
 	public MeshRequest<MicroschemaListResponse> searchMicroschemas(String json, ParameterProvider... parameters) {
-		LocalActionContextImpl<MicroschemaListResponse> ac = createContext(MicroschemaListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return search(null, json, uuid -> boot.get().meshRoot().getMicroschemaContainerRoot().findByUuid(uuid), MicroschemaListResponse.class, microschemaSearchHandler, false, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchMicroschemasRaw(String json) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(null, json, microschemaSearchHandler);
 	}
 
 	@Override
@@ -1058,6 +1137,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<ClusterConfigResponse> updateClusterConfig(ClusterConfigRequest request) {
 		LocalActionContextImpl<ClusterConfigResponse> ac = createContext(ClusterConfigResponse.class);
+		ac.setPayloadObject(request);
 		adminHandler.handleUpdateClusterConfig(ac);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
@@ -1096,12 +1176,15 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<EmptyResponse> deleteMicroschema(String uuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
+		microschemaCrudHandler.handleDelete(ac, uuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> applyChangesToMicroschema(String uuid, SchemaChangesListModel changes) {
 		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		ac.setPayloadObject(changes);
+		microschemaCrudHandler.handleApplySchemaChanges(ac, uuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
@@ -1156,13 +1239,13 @@ public class MeshLocalClientImpl implements MeshRestClient {
 
 				@Override
 				public String contentTransferEncoding() {
-					// TODO Auto-generated method stub
-					return null;
+					// The data is passed as a byte array and is never encoded
+					return "binary";
 				}
 
 				@Override
 				public String charSet() {
-					// TODO Auto-generated method stub
+					// Binary data has no charset
 					return null;
 				}
 			});
@@ -1187,29 +1270,26 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<MeshBinaryResponse> downloadBinaryField(String projectName, String nodeUuid, String languageTag, String fieldKey,
 		ParameterProvider... parameters) {
-		// LocalActionContextImpl<NodeResponse> ac = createContext();
-		// return new MeshLocalRequestImpl<>( ac.getFuture());
-		return null;
+		return unsupported("binary downloads");
 	}
 
 	@Override
 	public MeshRequest<MeshBinaryResponse> downloadBinaryField(String projectName, String nodeUuid, String languageTag, String fieldKey, long from,
 		long to, ParameterProvider... parameters) {
-		return null;
+		return unsupported("binary downloads");
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> transformNodeBinaryField(String projectName, String nodeUuid, String languageTag, String version,
 		String fieldKey, ImageManipulationParameters imageManipulationParameter) {
-		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return unsupported("binary transformations");
 	}
 
 	@Override
 	public MeshRequest<String> resolveLinks(String body, ParameterProvider... parameters) {
 		LocalActionContextImpl<String> ac = createContext(String.class, parameters);
-		// utilityHandler.handleResolveLinks(rc);
+		ac.setRawBody(body);
+		utilityHandler.handleResolveLinks(ac);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
@@ -1217,46 +1297,45 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	public MeshRequest<NavigationResponse> loadNavigation(String projectName, String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<NavigationResponse> ac = createContext(NavigationResponse.class, parameters);
 		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		nodeCrudHandler.handleNavigation(ac, uuid);
+		// The node responses of the navigation share their properties with the navigation cache. The response is copied so that the caller can modify
+		// it without affecting the cache.
+		return new MeshLocalRequestImpl<>(ac.getFuture().map(response -> JsonUtil.readValue(response.toJson(), NavigationResponse.class)));
 	}
 
 	@Override
 	public MeshRequest<NavigationResponse> navroot(String projectName, String path, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("navroot requests");
 	}
 
 	@Override
 	public MeshWebsocket eventbus() {
-		return null;
+		throw new UnsupportedOperationException("The local client does not support the eventbus bridge. Use the Vert.x eventbus instead.");
 	}
 
 	@Override
 	public MeshRestClient setLogin(String username, String password) {
-		// TODO Auto-generated method stub
-		return null;
+		throw new UnsupportedOperationException("The local client uses the user it was created for and does not support logins");
 	}
 
 	@Override
 	public MeshRestClient setLogin(String username, String password, String newPassword) {
-		return null;
+		throw new UnsupportedOperationException("The local client uses the user it was created for and does not support logins");
 	}
 
 	@Override
 	public MeshRestClient setAPIKey(String apiKey) {
-		// TODO Auto-generated method stub
-		return null;
+		throw new UnsupportedOperationException("The local client uses the user it was created for and does not support API keys");
 	}
 
 	@Override
 	public String getAPIKey() {
-		// TODO Auto-generated method stub
 		return null;
 	}
 
 	@Override
 	public void close() {
-		// TODO Auto-generated method stub
+		// Nothing to release. Requests are directly dispatched to the handlers.
 	}
 
 	/**
@@ -1272,21 +1351,86 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return ac;
 	}
 
+	/**
+	 * Invoke the search handler with the given query.
+	 *
+	 * @param projectName
+	 *            Name of the project or null for a global search
+	 * @param json
+	 *            Search query
+	 * @param elementLoader
+	 *            Loader for the elements that were found within the search index
+	 * @param classOfRL
+	 *            Class of the list response
+	 * @param searchHandler
+	 * @param filterByLanguage
+	 *            Whether to append the language filter
+	 * @param parameters
+	 * @return
+	 */
+	private <T extends MeshCoreVertex<TR, T>, TR extends RestModel, RL extends ListResponse<TR>> MeshRequest<RL> search(String projectName,
+		String json, Function<String, T> elementLoader, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, boolean filterByLanguage,
+		ParameterProvider... parameters) {
+		LocalActionContextImpl<RL> ac = createContext(classOfRL, parameters);
+		if (projectName != null) {
+			ac.setProject(projectName);
+		}
+		ac.setRawBody(json);
+		searchHandler.query(ac, elementLoader, classOfRL, filterByLanguage);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	/**
+	 * Invoke the search handler with the given query and return the raw search response.
+	 *
+	 * @param projectName
+	 *            Name of the project or null for a global search
+	 * @param json
+	 *            Search query
+	 * @param searchHandler
+	 * @param parameters
+	 * @return
+	 */
+	private MeshRequest<ObjectNode> searchRaw(String projectName, String json, SearchHandler<?, ?> searchHandler, ParameterProvider... parameters) {
+		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class, parameters);
+		if (projectName != null) {
+			ac.setProject(projectName);
+		}
+		ac.setRawBody(json);
+		searchHandler.rawQuery(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	/**
+	 * Return a failed request for operations which can't be handled without a routing context.
+	 *
+	 * @param operation
+	 *            Description of the operation
+	 * @return
+	 */
+	private <T> MeshRequest<T> unsupported(String operation) {
+		return new MeshLocalRequestImpl<>(Future.failedFuture(new UnsupportedOperationException("The local client does not support " + operation)));
+	}
+
 	public void addProject(String name, Project project) {
 		this.projects.put(name, project);
 	}
 
 	@Override
 	public MeshRequest<PublishStatusResponse> getNodePublishStatus(String projectName, String nodeUuid, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<PublishStatusResponse> ac = createContext(PublishStatusResponse.class, parameters);
+		ac.setProject(projectName);
+		nodeCrudHandler.handleGetPublishStatus(ac, nodeUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<PublishStatusModel> getNodeLanguagePublishStatus(String projectName, String nodeUuid, String languageTag,
 		ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<PublishStatusModel> ac = createContext(PublishStatusModel.class, parameters);
+		ac.setProject(projectName);
+		nodeCrudHandler.handleGetPublishStatus(ac, nodeUuid, languageTag);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
@@ -1323,30 +1467,63 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
+	@Override
+	public MeshRequest<JobResponse> invokeNodePublishJob(String projectName, String nodeUuid, ParameterProvider... parameters) {
+		LocalActionContextImpl<JobResponse> ac = createContext(JobResponse.class, parameters);
+		ac.setProject(projectName);
+		nodeCrudHandler.handleBulkJob(ac, nodeUuid, JobType.nodepublish);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	@Override
+	public MeshRequest<JobResponse> invokeNodeUnpublishJob(String projectName, String nodeUuid, ParameterProvider... parameters) {
+		LocalActionContextImpl<JobResponse> ac = createContext(JobResponse.class, parameters);
+		ac.setProject(projectName);
+		nodeCrudHandler.handleBulkJob(ac, nodeUuid, JobType.nodeunpublish);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	@Override
+	public MeshRequest<JobResponse> invokeNodeDeleteJob(String projectName, String nodeUuid, ParameterProvider... parameters) {
+		LocalActionContextImpl<JobResponse> ac = createContext(JobResponse.class, parameters);
+		ac.setProject(projectName);
+		nodeCrudHandler.handleBulkJob(ac, nodeUuid, JobType.nodedelete);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
 	@Override
 	public MeshRequest<MeshServerInfoModel> getApiInfo() {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<MeshServerInfoModel> ac = createContext(MeshServerInfoModel.class);
+		adminHandler.handleVersions(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<BranchResponse> createBranch(String projectName, BranchCreateRequest branchCreateRequest,
 		ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchResponse> ac = createContext(BranchResponse.class, parameters);
+		ac.setProject(projectName);
+		ac.setPayloadObject(branchCreateRequest);
+		branchCrudHandler.handleCreate(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<BranchResponse> createBranch(String projectName, String uuid, BranchCreateRequest branchCreateRequest,
 		ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchResponse> ac = createContext(BranchResponse.class, parameters);
+		ac.setProject(projectName);
+		ac.setPayloadObject(branchCreateRequest);
+		branchCrudHandler.handleUpdate(ac, uuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<BranchResponse> findBranchByUuid(String projectName, String branchUuid, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchResponse> ac = createContext(BranchResponse.class, parameters);
+		ac.setProject(projectName);
+		branchCrudHandler.handleRead(ac, branchUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
@@ -1359,14 +1536,19 @@ public class MeshLocalClientImpl implements MeshRestClient {
 
 	@Override
 	public MeshRequest<BranchResponse> updateBranch(String projectName, String branchUuid, BranchUpdateRequest request) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchResponse> ac = createContext(BranchResponse.class);
+		ac.setProject(projectName);
+		ac.setPayloadObject(request);
+		branchCrudHandler.handleUpdate(ac, branchUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<BranchInfoSchemaList> getBranchSchemaVersions(String projectName, String branchUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchInfoSchemaList> ac = createContext(BranchInfoSchemaList.class);
+		ac.setProject(projectName);
+		branchCrudHandler.handleGetSchemaVersions(ac, branchUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
@@ -1382,46 +1564,59 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<BranchInfoSchemaList> assignBranchSchemaVersions(String projectName, String branchUuid,
 		SchemaReference... schemaVersionReferences) {
-		// TODO Auto-generated method stub
-		return null;
+		BranchInfoSchemaList info = new BranchInfoSchemaList();
+		info.add(schemaVersionReferences);
+		return assignBranchSchemaVersions(projectName, branchUuid, info);
 	}
 
 	@Override
 	public MeshRequest<BranchInfoMicroschemaList> getBranchMicroschemaVersions(String projectName, String branchUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchInfoMicroschemaList> ac = createContext(BranchInfoMicroschemaList.class);
+		ac.setProject(projectName);
+		branchCrudHandler.handleGetMicroschemaVersions(ac, branchUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<BranchInfoMicroschemaList> assignBranchMicroschemaVersions(String projectName, String branchUuid,
 		BranchInfoMicroschemaList microschemaVersionReferences) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchInfoMicroschemaList> ac = createContext(BranchInfoMicroschemaList.class);
+		ac.setProject(projectName);
+		ac.setPayloadObject(microschemaVersionReferences);
+		branchCrudHandler.handleAssignMicroschemaVersion(ac, branchUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<BranchInfoMicroschemaList> assignBranchMicroschemaVersions(String projectName, String branchUuid,
 		MicroschemaReference... microschemaVersionReferences) {
-		// TODO Auto-generated method stub
-		return null;
+		BranchInfoMicroschemaList list = new BranchInfoMicroschemaList();
+		list.add(microschemaVersionReferences);
+		return assignBranchMicroschemaVersions(projectName, branchUuid, list);
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> migrateBranchSchemas(String projectName, String branchUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		ac.setProject(projectName);
+		branchCrudHandler.handleMigrateRemainingNodes(ac, branchUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> migrateBranchMicroschemas(String projectName, String branchUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		ac.setProject(projectName);
+		branchCrudHandler.handleMigrateRemainingMicronodes(ac, branchUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<BranchResponse> setLatestBranch(String projectName, String branchUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchResponse> ac = createContext(BranchResponse.class);
+		ac.setProject(projectName);
+		branchCrudHandler.handleSetLatest(ac, branchUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
@@ -1444,6 +1639,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	public MeshRequest<TagListResponse> findTagsForBranch(String projectName, String branchUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class, parameters);
 		ac.setProject(projectName);
+		branchCrudHandler.readTags(ac, branchUuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
@@ -1451,102 +1647,112 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	public MeshRequest<TagListResponse> updateTagsForBranch(String projectName, String branchUuid, TagListUpdateRequest request) {
 		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class);
 		ac.setProject(projectName);
+		ac.setPayloadObject(request);
+		branchCrudHandler.handleBulkTagUpdate(ac, branchUuid);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<NodeListResponse> searchNodes(String projectName, String json, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		return search(projectName, json, uuid -> db.index().findByUuid(NodeImpl.class, uuid), NodeListResponse.class, nodeSearchHandler, true, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchNodesRaw(String projectName, String json, ParameterProvider... parameters) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(projectName, json, nodeSearchHandler, parameters);
 	}
 
 	@Override
 	public MeshRequest<TagListResponse> searchTags(String projectName, String json, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		return search(projectName, json, uuid -> boot.get().meshRoot().getTagRoot().findByUuid(uuid), TagListResponse.class, tagSearchHandler, false, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchTagsRaw(String projectName, String json) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(projectName, json, tagSearchHandler);
 	}
 
 	@Override
 	public MeshRequest<TagFamilyListResponse> searchTagFamilies(String projectName, String json, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		return search(projectName, json, uuid -> boot.get().meshRoot().getTagFamilyRoot().findByUuid(uuid), TagFamilyListResponse.class, tagFamilySearchHandler, false, parameters);
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchTagFamiliesRaw(String json) {
-		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return searchRaw(null, json, tagFamilySearchHandler);
 	}
 
 	@Override
 	public MeshRequest<UserResetTokenResponse> getUserResetToken(String userUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<UserResetTokenResponse> ac = createContext(UserResetTokenResponse.class);
+		userCrudHandler.handleFetchToken(ac, userUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<String> getRAML() {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<String> ac = createContext(String.class);
+		adminHandler.handleRAML(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<GraphQLResponse> graphql(String projectName, GraphQLRequest request, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("GraphQL requests");
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeBackup() {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		adminHandler.handleBackup(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	@Override
+	public MeshRequest<GenericMessageResponse> invokeBinaryGarbageCollection() {
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		jobHandler.handleBinaryGarbageCollection(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeExport() {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		adminHandler.handleExport(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeRestore() {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		adminHandler.handleRestore(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeImport() {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		adminHandler.handleImport(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<UserAPITokenResponse> issueAPIToken(String userUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<UserAPITokenResponse> ac = createContext(UserAPITokenResponse.class);
+		userCrudHandler.handleIssueAPIToken(ac, userUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invalidateAPIToken(String userUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		userCrudHandler.handleDeleteAPIToken(ac, userUuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRestClient enableAnonymousAccess() {
-		// TODO Auto-generated method stub
+		// Requests are always executed using the user of the client
 		return this;
 	}
 
@@ -1562,57 +1768,101 @@ public class MeshLocalClientImpl implements MeshRestClient {
 
 	@Override
 	public MeshRequest<ConsistencyCheckResponse> checkConsistency() {
-		return null;
+		LocalActionContextImpl<ConsistencyCheckResponse> ac = createContext(ConsistencyCheckResponse.class);
+		consistencyCheckHandler.invokeCheck(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<ConsistencyCheckResponse> repairConsistency() {
-		return null;
+		LocalActionContextImpl<ConsistencyCheckResponse> ac = createContext(ConsistencyCheckResponse.class);
+		consistencyCheckHandler.invokeRepair(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	@Override
+	public MeshRequest<JobResponse> invokeConsistencyCheckJob() {
+		LocalActionContextImpl<JobResponse> ac = createContext(JobResponse.class);
+		jobHandler.handleConsistencyCheckJob(ac, false);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	@Override
+	public MeshRequest<JobResponse> invokeConsistencyRepairJob() {
+		LocalActionContextImpl<JobResponse> ac = createContext(JobResponse.class);
+		jobHandler.handleConsistencyCheckJob(ac, true);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<JobListResponse> findJobs(PagingParameters... parameters) {
-		return null;
+		LocalActionContextImpl<JobListResponse> ac = createContext(JobListResponse.class, parameters);
+		jobHandler.handleReadList(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<JobResponse> findJobByUuid(String uuid) {
-		return null;
+		LocalActionContextImpl<JobResponse> ac = createContext(JobResponse.class);
+		jobHandler.handleRead(ac, uuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteJob(String uuid) {
-		return null;
+		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
+		jobHandler.handleDelete(ac, uuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> resetJob(String uuid) {
-		return null;
+		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
+		jobHandler.handleResetJob(ac, uuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<JobResponse> processJob(String uuid) {
-		return null;
+		LocalActionContextImpl<JobResponse> ac = createContext(JobResponse.class);
+		jobHandler.handleProcess(ac, uuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	@Override
+	public MeshRequest<JobResponse> cancelJob(String uuid) {
+		LocalActionContextImpl<JobResponse> ac = createContext(JobResponse.class);
+		jobHandler.handleCancel(ac, uuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeJobProcessing() {
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		jobHandler.handleInvokeJobWorker(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<SchemaValidationResponse> validateSchema(Schema schema) {
-		return null;
+		LocalActionContextImpl<SchemaValidationResponse> ac = createContext(SchemaValidationResponse.class);
+		ac.setPayloadObject(schema);
+		utilityHandler.validateSchema(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<SchemaValidationResponse> validateMicroschema(Microschema microschema) {
-		return null;
+		LocalActionContextImpl<SchemaValidationResponse> ac = createContext(SchemaValidationResponse.class);
+		ac.setPayloadObject(microschema);
+		utilityHandler.validateMicroschema(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<PluginResponse> deployPlugin(PluginDeploymentRequest request) {
 		LocalActionContextImpl<PluginResponse> ac = createContext(PluginResponse.class);
+		ac.setPayloadObject(request);
 		pluginHandler.handleDeploy(ac);
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
@@ -1640,134 +1890,146 @@ public class MeshLocalClientImpl implements MeshRestClient {
 
 	@Override
 	public MeshRequest<LocalConfigModel> loadLocalConfig() {
-		return null;
+		LocalActionContextImpl<LocalConfigModel> ac = createContext(LocalConfigModel.class);
+		localConfigHandler.handleGetActiveConfig(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<LocalConfigModel> updateLocalConfig(LocalConfigModel localConfigModel) {
-		return null;
+		LocalActionContextImpl<LocalConfigModel> ac = createContext(LocalConfigModel.class);
+		ac.setPayloadObject(localConfigModel);
+		localConfigHandler.handleSetActiveConfig(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
+	/**
+	 * The local client does not authenticate requests. The handlers are invoked directly using the user which was set for the client.
+	 */
 	@Override
 	public JWTAuthentication getAuthentication() {
-		return null;
+		throw new UnsupportedOperationException("The local client does not use an authentication. Requests are executed using the user of the client.");
 	}
 
+	/**
+	 * The local client does not connect to a server and thus has no connection configuration.
+	 */
 	@Override
 	public MeshRestClientConfig getConfig() {
-		return null;
+		throw new UnsupportedOperationException("The local client does not connect to a server and has no client configuration.");
 	}
 
 	@Override
 	public MeshRequest<JsonObject> delete(String path) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public MeshRequest<JsonObject> get(String path) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public MeshRequest<JsonObject> post(String path) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public MeshRequest<JsonObject> post(String path, JsonObject body) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public <R, T extends RestModel> MeshRequest<R> post(String path, T request, Class<R> requestClass) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public MeshRequest<JsonObject> put(String path) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public MeshRequest<JsonObject> put(String path, JsonObject body) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public <R> MeshRequest<R> delete(String path, Class<R> responseClass) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteEmpty(String path) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public <R> MeshRequest<R> get(String path, Class<R> responseClass) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public <R> MeshRequest<R> post(String path, Class<R> responseClass) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public <R, T extends RestModel> MeshRequest<R> put(String path, T request, Class<R> responseClass) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public <R> MeshRequest<R> put(String path, Class<R> responseClass) {
-		// TODO Auto-generated method stub
-		return null;
+		return unsupported("requests to arbitrary paths");
 	}
 
 	@Override
 	public MeshRequest<MeshBinaryResponse> debugInfo(String... params) {
-		return null;
+		return unsupported("debug info requests");
 	}
 
 	@Override
 	public MeshRequest<CoordinatorMasterResponse> loadCoordinationMaster() {
-		return null;
+		LocalActionContextImpl<CoordinatorMasterResponse> ac = createContext(CoordinatorMasterResponse.class);
+		adminHandler.handleLoadCoordinationMaster(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> setCoordinationMaster() {
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		adminHandler.handleSetCoordinationMaster(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<CoordinatorConfig> loadCoordinationConfig() {
-		return null;
+		LocalActionContextImpl<CoordinatorConfig> ac = createContext(CoordinatorConfig.class);
+		adminHandler.handleLoadCoordinationConfig(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<CoordinatorConfig> updateCoordinationConfig(CoordinatorConfig coordinatorConfig) {
-		return null;
+		LocalActionContextImpl<CoordinatorConfig> ac = createContext(CoordinatorConfig.class);
+		ac.setPayloadObject(coordinatorConfig);
+		adminHandler.handleUpdateCoordinationConfig(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> ready() {
-		return null;
+		MeshStatus status = boot.get().mesh().getStatus();
+		if (status != MeshStatus.READY) {
+			return new MeshLocalRequestImpl<>(Future.failedFuture(error(SERVICE_UNAVAILABLE, "error_internal")));
+		}
+		return new MeshLocalRequestImpl<>(Future.succeededFuture(EmptyResponse.getInstance()));
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> live() {
-		return null;
+		// The instance is alive as long as the local client can be invoked
+		return new MeshLocalRequestImpl<>(Future.succeededFuture(EmptyResponse.getInstance()));
 	}
 }
@@ -17,6 +17,7 @@ import com.gentics.mesh.core.endpoint.admin.HealthEndpoint;
 import com.gentics.mesh.core.endpoint.admin.RestInfoEndpoint;
 import com.gentics.mesh.core.endpoint.auth.AuthenticationEndpoint;
 import com.gentics.mesh.core.endpoint.branch.BranchEndpoint;
+import com.gentics.mesh.core.endpoint.changes.NodeChangesEndpoint;
 import com.gentics.mesh.core.endpoint.eventbus.EventbusEndpoint;
 import com.gentics.mesh.core.endpoint.group.GroupEndpoint;
 import com.gentics.mesh.core.endpoint.microschema.MicroschemaEndpoint;
@@ -126,6 +127,9 @@ public class RestAPIVerticle extends AbstractVerticle {
 	@Inject
 	public Provider<NavRootEndpoint> navrootEndpoint;
 
+	@Inject
+	public Provider<NodeChangesEndpoint> nodeChangesEndpoint;
+
 	@Inject
 	public Provider<AuthenticationEndpoint> authenticationEndpoint;
 
@@ -287,6 +291,7 @@ public class RestAPIVerticle extends AbstractVerticle {
 		endpoints.add(projectRawSearchEndpoint.get());
 		endpoints.add(branchEndpoint.get());
 		endpoints.add(graphqlEndpoint.get());
+		endpoints.add(nodeChangesEndpoint.get());
 
 		// Global verticles
 		endpoints.add(webrootEndpoint.get());
@@ -0,0 +1,96 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.link.WebRootLinkReplacer;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class ResolvedLinkCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testNodeInvalidation() {
+		ResolvedLinkCache cache = meshDagger().resolvedLinkCache();
+		WebRootLinkReplacer replacer = meshDagger().webRootLinkReplacer();
+		String newsOverviewUuid = tx(() -> content("news overview").getUuid());
+		String concordeUuid = tx(() -> content("concorde").getUuid());
+		String newsUuid = tx(() -> folder("news").getUuid());
+
+		try (Tx tx = tx()) {
+			InternalActionContext ac = mockActionContext();
+			String branchUuid = project().getLatestBranch().getUuid();
+			replacer.resolve(ac, branchUuid, ContainerType.DRAFT, newsOverviewUuid, LinkType.MEDIUM, PROJECT_NAME, "en");
+			replacer.resolve(ac, branchUuid, ContainerType.DRAFT, concordeUuid, LinkType.MEDIUM, PROJECT_NAME, "en");
+		}
+		assertEquals("Both links should have been cached.", 2, cache.size());
+
+		// Updating a node only removes the links to the node
+		expect(NODE_UPDATED).one();
+		updateField(concordeUuid, "title", "Concorde updated");
+		awaitEvents();
+		assertEquals("Only the link to the updated node should have been removed.", 1, cache.size());
+
+		// Updating a parent node also removes the links to its children
+		expect(NODE_UPDATED).one();
+		updateField(newsUuid, "name", "News updated");
+		awaitEvents();
+		assertEquals("The link to the child of the updated node should have been removed.", 0, cache.size());
+	}
+
+	@Test
+	public void testInvalidateStoredLinks() {
+		ResolvedLinkCache cache = meshDagger().resolvedLinkCache();
+		cache.clear();
+		cache.store("a", new ResolvedLink("/a", "branchA", new HashSet<>(Arrays.asList("nodeA", "nodeB"))));
+		cache.store("b", new ResolvedLink("/b", "branchA", Collections.singleton("nodeB")));
+		cache.store("c", new ResolvedLink("/c", "branchB", Collections.singleton("nodeB")));
+		assertEquals(3, cache.size());
+
+		cache.invalidateNode("nodeB", "branchA");
+		assertEquals("Only the links of the branch should have been removed.", 1, cache.size());
+		assertEquals("/c", cache.get("c").getLink());
+
+		// Replaced links are removed via the new entry
+		cache.store("c", new ResolvedLink("/c2", "branchB", Collections.singleton("nodeC")));
+		cache.invalidateNode("nodeB", null);
+		assertEquals("/c2", cache.get("c").getLink());
+		cache.invalidateNode("nodeC", null);
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testDependsOn() {
+		ResolvedLink link = new ResolvedLink("/dummy/News", "branchA", Collections.singleton("nodeA"));
+		assertTrue(link.dependsOn("nodeA", "branchA"));
+		assertTrue("Events without a branch affect all branches", link.dependsOn("nodeA", null));
+		assertFalse("Changes in other branches don't affect the link", link.dependsOn("nodeA", "branchB"));
+		assertFalse(link.dependsOn("nodeB", "branchA"));
+	}
+
+	private void updateField(String uuid, String field, String value) {
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.getFields().put(field, FieldUtil.createStringField(value));
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+	}
+
+}
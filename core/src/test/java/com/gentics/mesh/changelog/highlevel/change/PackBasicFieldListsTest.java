@@ -0,0 +1,85 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import static com.gentics.mesh.test.TestSize.PROJECT_AND_NODE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
+import com.gentics.mesh.core.data.node.field.list.NumberGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.impl.NumberGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.StringGraphFieldListImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.tinkerpop.blueprints.Vertex;
+
+@MeshTestSetting(testSize = PROJECT_AND_NODE, startServer = false)
+public class PackBasicFieldListsTest extends AbstractMeshTest {
+
+	@Test
+	public void testChange() {
+		Object containerId = tx(tx -> {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			// Write the lists using the old storage format
+			Vertex strings = container.createStringList("strings").getElement();
+			strings.setProperty("item-2-string", "two");
+			strings.setProperty("item-2-links", "");
+			strings.setProperty("item-10-string", "ten");
+			strings.setProperty("item-1-string", "one");
+			Vertex numbers = container.createNumberList("numbers").getElement();
+			numbers.setProperty("item-1-number", 42);
+			numbers.setProperty("item-2-number", 1.5);
+			return container.id();
+		});
+
+		tx(tx -> {
+			NodeGraphFieldContainer container = tx.getGraph().getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, containerId);
+			StringGraphFieldListImpl strings = (StringGraphFieldListImpl) container.getStringList("strings");
+			assertFalse(strings.isPacked());
+			assertEquals("Lists in the old format should still be readable", Arrays.asList("one", "two", "ten"), strings.getValues());
+			assertEquals(3, strings.getSize());
+		});
+
+		tx(() -> {
+			new PackBasicFieldLists().apply();
+		});
+
+		tx(tx -> {
+			NodeGraphFieldContainer container = tx.getGraph().getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, containerId);
+			StringGraphFieldListImpl strings = (StringGraphFieldListImpl) container.getStringList("strings");
+			assertTrue(strings.isPacked());
+			assertNull("The old item properties should have been removed", strings.getElement().getProperty("item-1-string"));
+			assertEquals(Arrays.asList("one", "two", "ten"), strings.getValues());
+			assertEquals("ten", strings.getString(3).getString());
+
+			NumberGraphFieldListImpl numbers = (NumberGraphFieldListImpl) container.getNumberList("numbers");
+			assertTrue(numbers.isPacked());
+			assertEquals(Arrays.asList(42, 1.5), numbers.getValues());
+		});
+	}
+
+	@Test
+	public void testModifyLegacyList() {
+		tx(tx -> {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			StringGraphFieldList list = container.createStringList("strings");
+			list.getElement().setProperty("item-1-string", "one");
+			list.createString("two");
+			assertTrue("The list should have been packed when it was modified", ((StringGraphFieldListImpl) list).isPacked());
+			assertEquals(Arrays.asList("one", "two"), list.getValues());
+
+			NumberGraphFieldList numbers = container.createNumberList("numbers");
+			numbers.createNumber(1);
+			numbers.createNumber(2L);
+			assertEquals(2, numbers.getSize());
+			assertEquals(Arrays.asList(1, 2L), numbers.getValues());
+		});
+	}
+}
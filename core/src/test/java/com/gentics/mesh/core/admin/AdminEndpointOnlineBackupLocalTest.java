@@ -0,0 +1,86 @@
+package com.gentics.mesh.core.admin;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_START;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
+import static com.gentics.mesh.test.context.MeshOptionChanger.INCREMENTAL_ONLINE_BACKUP;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.gentics.mesh.MeshStatus;
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.node.FieldMap;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.field.StringField;
+import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
+import com.gentics.mesh.etc.config.GraphStorageOptions;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(elasticsearch = NONE, testSize = FULL, startServer = true, inMemoryDB = false, optionChanger = INCREMENTAL_ONLINE_BACKUP)
+public class AdminEndpointOnlineBackupLocalTest extends AbstractMeshTest {
+
+	@Test
+	public void testIncrementalOnlineBackup() {
+		final String backupDir = testContext.getOptions().getStorageOptions().getBackupDirectory();
+		File incrementalDir = new File(backupDir, "incremental");
+		grantAdmin();
+
+		expect(GRAPH_BACKUP_START).one();
+		expect(GRAPH_BACKUP_FINISHED).one();
+		GenericMessageResponse message = call(() -> client().invokeBackup());
+		awaitEvents();
+		assertThat(message).matches("backup_finished");
+		int backupFiles = incrementalDir.list().length;
+
+		// Change the graph and create the second, incremental backup
+		ProjectCreateRequest request = new ProjectCreateRequest();
+		request.setName("incremental");
+		request.setSchemaRef("folder");
+		call(() -> client().createProject(request));
+
+		message = call(() -> client().invokeBackup());
+		assertThat(message).matches("backup_finished");
+		assertEquals("The incremental backup should have been added to the backup directory", backupFiles + 1, incrementalDir.list().length);
+	}
+
+	@Test
+	public void testWritesDuringOnlineBackup() throws Exception {
+		GraphStorageOptions storageOptions = testContext.getOptions().getStorageOptions();
+		storageOptions.setIncrementalBackup(false).setBackupRateLimit(1024 * 1024);
+		try {
+			grantAdmin();
+			Future<GenericMessageResponse> backup = client().invokeBackup().toSingle().toFuture();
+
+			// Write while the rate limited backup is running
+			int writesDuringBackup = 0;
+			int i = 0;
+			while (!backup.isDone()) {
+				NodeCreateRequest request = new NodeCreateRequest();
+				request.setSchemaName("folder");
+				request.setLanguage("en");
+				request.setParentNodeUuid(folderUuid());
+				request.setFields(FieldMap.of("name", StringField.of("online_backup_" + i++)));
+				call(() -> client().createNode(PROJECT_NAME, request));
+				assertEquals(MeshStatus.READY, call(() -> client().meshStatus()).getStatus());
+				if (!backup.isDone()) {
+					writesDuringBackup++;
+				}
+			}
+			assertThat(backup.get()).matches("backup_finished");
+			assertTrue("At least one write should have been completed while the backup was running", writesDuringBackup > 0);
+		} finally {
+			storageOptions.setIncrementalBackup(true).setBackupRateLimit(0);
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.gentics.mesh.core.admin;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.etc.config.MeshUploadOptions;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+
+@MeshTestSetting(elasticsearch = NONE, testSize = FULL, startServer = true)
+public class BinaryGarbageCollectionEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testGarbageCollectionWithoutPerm() {
+		call(() -> client().invokeBinaryGarbageCollection(), FORBIDDEN, "error_admin_permission_required");
+	}
+
+	@Test
+	public void testGarbageCollection() throws IOException {
+		Node node = folder("2015");
+		tx(tx -> {
+			prepareSchema(node, "", "binary");
+			tx.success();
+		});
+		NodeResponse response = call(() -> uploadRandomData(node, "en", "binary", 1000, "application/pdf", "somefile.pdf"));
+		String referencedUuid = response.getFields().getBinaryField("binary").getBinaryUuid();
+		String referencedHash = response.getFields().getBinaryField("binary").getSha512sum();
+
+		// Create a binary which is not referenced by any field
+		String orphanUuid = tx(tx -> {
+			Binary binary = mesh().binaries().create("orphanhash", 4L).runInExistingTx(tx);
+			return binary.getUuid();
+		});
+		mesh().binaryStorage().store(Flowable.just(Buffer.buffer("test")), orphanUuid).blockingAwait();
+		File orphanFile = new File(mesh().localBinaryStorage().getFilePath(orphanUuid));
+		assertTrue(orphanFile.exists());
+
+		grantAdmin();
+		JobListResponse jobs = waitForJob(() -> {
+			call(() -> client().invokeBinaryGarbageCollection());
+		});
+		assertEquals("1", jobs.getData().get(0).getProperties().get("deletedBinaries"));
+
+		tx(tx -> {
+			assertNull("The unreferenced binary should have been removed", mesh().binaries().findByHash("orphanhash").runInExistingTx(tx));
+			assertNotNull("The referenced binary must not be removed", mesh().binaries().findByHash(referencedHash).runInExistingTx(tx));
+		});
+		assertFalse("The data of the unreferenced binary should have been deleted", orphanFile.exists());
+		assertTrue(new File(mesh().localBinaryStorage().getFilePath(referencedUuid)).exists());
+	}
+
+	@Test
+	public void testGarbageCollectionInBatches() {
+		MeshUploadOptions uploadOptions = testContext.getOptions().getUploadOptions();
+		int batchSize = uploadOptions.getGcBatchSize();
+		long batchDelay = uploadOptions.getGcBatchDelay();
+		try {
+			// Each binary is checked in a dedicated batch
+			uploadOptions.setGcBatchSize(1);
+			uploadOptions.setGcBatchDelay(0);
+			for (int i = 0; i < 3; i++) {
+				String hash = "orphanhash" + i;
+				tx(tx -> {
+					mesh().binaries().create(hash, 4L).runInExistingTx(tx);
+					tx.success();
+				});
+			}
+
+			grantAdmin();
+			JobListResponse jobs = waitForJob(() -> {
+				call(() -> client().invokeBinaryGarbageCollection());
+			});
+			assertEquals("3", jobs.getData().get(0).getProperties().get("deletedBinaries"));
+			tx(tx -> {
+				for (int i = 0; i < 3; i++) {
+					assertNull("The unreferenced binary should have been removed", mesh().binaries().findByHash("orphanhash" + i).runInExistingTx(tx));
+				}
+			});
+		} finally {
+			uploadOptions.setGcBatchSize(batchSize);
+			uploadOptions.setGcBatchDelay(batchDelay);
+		}
+	}
+
+}
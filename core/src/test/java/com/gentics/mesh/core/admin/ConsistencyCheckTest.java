@@ -11,6 +11,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Test;
 
 import com.gentics.mesh.core.data.impl.UserImpl;
@@ -18,6 +25,7 @@ import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyRating;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
 import com.gentics.mesh.core.rest.admin.consistency.RepairAction;
+import com.gentics.mesh.core.rest.job.JobListResponse;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
@@ -83,4 +91,29 @@ public class ConsistencyCheckTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testConsistencyCheckJob() throws IOException {
+		grantAdmin();
+		tx(() -> {
+			user().getVertex().removeProperty(UserImpl.USERNAME_PROPERTY_KEY);
+		});
+
+		JobListResponse jobs = waitForJob(() -> {
+			call(() -> client().invokeConsistencyCheckJob());
+		});
+		Map<String, String> props = jobs.getData().get(0).getProperties();
+		assertEquals("1", props.get("inconsistencies"));
+		assertEquals("0", props.get("repairedElements"));
+		assertTrue(Long.parseLong(props.get("checkedElements")) > 0);
+
+		List<String> findings = Files.readAllLines(new File(props.get("findingsFile")).toPath(), StandardCharsets.UTF_8);
+		assertThat(findings).hasSize(1);
+		assertThat(findings.get(0)).contains(userUuid());
+
+		// Now fix the inconsistency. Otherwise the asserter of the test (within @After) would fail.
+		tx(() -> {
+			user().getVertex().setProperty(UserImpl.USERNAME_PROPERTY_KEY, "blub");
+		});
+	}
+
 }
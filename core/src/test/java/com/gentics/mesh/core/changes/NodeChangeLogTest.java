@@ -0,0 +1,140 @@
+package com.gentics.mesh.core.changes;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.GONE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.core.rest.event.branch.BranchMeshEventModel;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.core.rest.node.changes.NodeChange;
+import com.gentics.mesh.core.rest.project.ProjectReference;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.util.UUIDUtil;
+
+public class NodeChangeLogTest {
+
+	private static final String PROJECT_UUID = UUIDUtil.randomUUID();
+
+	private static final String BRANCH_UUID = UUIDUtil.randomUUID();
+
+	private Path directory;
+
+	private MeshOptions options;
+
+	private NodeChangeLog changeLog;
+
+	@Before
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("changes");
+		options = new MeshOptions();
+		options.getContentOptions().setChangeFeedDirectory(directory.toString());
+		changeLog = new NodeChangeLog(options);
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		FileUtils.deleteDirectory(directory.toFile());
+	}
+
+	@Test
+	public void testDisabledByDefault() {
+		assertFalse(new NodeChangeLog(new MeshOptions()).isEnabled());
+	}
+
+	@Test
+	public void testAppendAndRead() throws IOException {
+		List<String> uuids = appendChanges(5);
+		assertEquals(1, changeLog.getOldestSequence(PROJECT_UUID, BRANCH_UUID));
+		assertEquals(5, changeLog.getLatestSequence(PROJECT_UUID, BRANCH_UUID));
+
+		List<NodeChange> changes = read(2);
+		assertEquals(3, changes.size());
+		assertEquals(3, changes.get(0).getSequence());
+		assertEquals(uuids.get(2), changes.get(0).getUuid());
+		assertEquals(5, changes.get(2).getSequence());
+	}
+
+	@Test
+	public void testRemoveOldestChanges() throws IOException {
+		options.getContentOptions().setChangeFeedMaxChanges(10);
+		List<String> uuids = appendChanges(12);
+
+		// The oldest changes were removed once the log exceeded the limit. The sequence numbers of the remaining changes are unchanged.
+		assertEquals(3, changeLog.getOldestSequence(PROJECT_UUID, BRANCH_UUID));
+		assertEquals(12, changeLog.getLatestSequence(PROJECT_UUID, BRANCH_UUID));
+		List<NodeChange> changes = read(2);
+		assertEquals(10, changes.size());
+		assertEquals(3, changes.get(0).getSequence());
+		assertEquals(uuids.get(2), changes.get(0).getUuid());
+
+		// Appending continues with the next sequence number
+		appendChanges(1);
+		assertEquals(13, changeLog.getLatestSequence(PROJECT_UUID, BRANCH_UUID));
+		assertEquals(13, read(12).get(0).getSequence());
+
+		// Consumers which missed removed changes need to reset
+		try {
+			read(1);
+			fail("Reading removed changes should fail");
+		} catch (GenericRestException e) {
+			assertEquals(GONE, e.getStatus());
+		}
+	}
+
+	@Test
+	public void testDeleteBranch() throws IOException {
+		appendChanges(3);
+		File file = directory.resolve(PROJECT_UUID).resolve(BRANCH_UUID + ".log").toFile();
+		assertTrue(file.exists());
+
+		BranchMeshEventModel event = new BranchMeshEventModel();
+		event.setEvent(BRANCH_DELETED);
+		event.setUuid(BRANCH_UUID);
+		event.setProject(new ProjectReference().setUuid(PROJECT_UUID));
+		changeLog.append(Collections.singletonList(event));
+
+		assertFalse(file.exists());
+		assertEquals(0, changeLog.getLatestSequence(PROJECT_UUID, BRANCH_UUID));
+	}
+
+	private List<String> appendChanges(int count) {
+		List<String> uuids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			String uuid = UUIDUtil.randomUUID();
+			NodeMeshEventModel event = new NodeMeshEventModel();
+			event.setEvent(NODE_CONTENT_CREATED);
+			event.setUuid(uuid);
+			event.setProject(new ProjectReference().setUuid(PROJECT_UUID));
+			event.setBranchUuid(BRANCH_UUID);
+			changeLog.append(Collections.<MeshEventModel>singletonList(event));
+			uuids.add(uuid);
+		}
+		return uuids;
+	}
+
+	private List<NodeChange> read(long since) throws IOException {
+		List<NodeChange> changes = new ArrayList<>();
+		changeLog.read(PROJECT_UUID, BRANCH_UUID, since, Long.MAX_VALUE, changes::add);
+		return changes;
+	}
+
+}
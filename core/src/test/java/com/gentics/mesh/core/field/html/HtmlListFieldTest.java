@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -92,6 +93,30 @@ public class HtmlListFieldTest extends AbstractFieldTest<ListFieldSchema> {
 		}
 	}
 
+	@Test
+	public void testLinkRoundTrip() {
+		String link = "<a href=\"{{mesh.link('" + tx(() -> folder("2015").getUuid()) + "')}}\">2015</a>";
+		Object containerId = tx(tx -> {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			HtmlGraphFieldList list = container.createHTMLList("links");
+			list.createHTML("<p>" + link + "</p>");
+			list.createHTML("<p>plain</p>");
+			list.createHTML(link);
+			return container.id();
+		});
+
+		tx(tx -> {
+			NodeGraphFieldContainer container = tx.getGraph().getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, containerId);
+			HtmlGraphFieldList list = container.getHTMLList("links");
+			assertEquals("The link offsets must not be stored as list items", 3, list.getSize());
+			assertEquals(3, list.getList().size());
+			assertEquals("<p>" + link + "</p>", list.getList().get(0).getHTML());
+			assertEquals("<p>plain</p>", list.getList().get(1).getHTML());
+			assertEquals(link, list.getList().get(2).getHTML());
+			assertNull(list.getList().get(0).getLinkTokens());
+		});
+	}
+
 	@Test
 	@Override
 	public void testClone() {
@@ -7,8 +7,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
@@ -89,6 +92,29 @@ public class StringListFieldTest extends AbstractFieldTest<ListFieldSchema> {
 		}
 	}
 
+	@Test
+	public void testLinkRoundTrip() {
+		String link = "{{mesh.link('" + tx(() -> folder("2015").getUuid()) + "')}}";
+		Object containerId = tx(tx -> {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			StringGraphFieldList list = container.createStringList("links");
+			list.createString("first " + link);
+			list.createString("plain");
+			list.createString(link);
+			return container.id();
+		});
+
+		tx(tx -> {
+			NodeGraphFieldContainer container = tx.getGraph().getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, containerId);
+			StringGraphFieldList list = container.getStringList("links");
+			assertEquals("The link offsets must not be stored as list items", 3, list.getSize());
+			assertEquals(Arrays.asList("first " + link, "plain", link), list.getValues());
+			assertEquals(3, list.getList().size());
+			assertEquals(link, list.getString(3).getString());
+			assertNull(list.getString(1).getLinkTokens());
+		});
+	}
+
 	@Test
 	@Override
 	public void testClone() {
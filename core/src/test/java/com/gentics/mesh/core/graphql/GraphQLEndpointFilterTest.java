@@ -3,23 +3,30 @@ package com.gentics.mesh.core.graphql;
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.context.MeshOptionChanger.INDEXED_SLUG_FIELD;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.Test;
 
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.node.field.StringField;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.DateUtils;
 
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
-@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true, optionChanger = INDEXED_SLUG_FIELD)
 public class GraphQLEndpointFilterTest extends AbstractMeshTest {
 
 	@Test
@@ -53,6 +60,121 @@ public class GraphQLEndpointFilterTest extends AbstractMeshTest {
 		assertThat(json).compliesToAssertions("filtering/nodes-de-field-correct-language");
 	}
 
+	@Test
+	public void testSortNodesByUuid() {
+		JsonArray nodes = queryNodes("nodes(perPage: 1000, sortBy: UUID, sortOrder: DESCENDING) { elements { uuid } }");
+		assertThat(nodes.size()).isGreaterThan(1);
+		for (int i = 1; i < nodes.size(); i++) {
+			String previous = nodes.getJsonObject(i - 1).getString("uuid");
+			String current = nodes.getJsonObject(i).getString("uuid");
+			assertThat(previous.compareTo(current)).as("Nodes should be sorted by uuid in descending order").isGreaterThan(0);
+		}
+	}
+
+	@Test
+	public void testFilterNodesByUuidAndSortByCreated() {
+		String first = contentUuid();
+		String second = folderUuid();
+		JsonArray nodes = queryNodes("nodes(filter: {uuid: {oneOf: [\"" + first + "\", \"" + second
+			+ "\"]}}, sortBy: CREATED) { elements { uuid created } }");
+		assertThat(nodes.size()).isEqualTo(2);
+		assertThat(nodes.getJsonObject(0).getString("created").compareTo(nodes.getJsonObject(1).getString("created"))).isLessThanOrEqualTo(0);
+	}
+
+	@Test
+	public void testFilterNodesBySchema() {
+		JsonArray nodes = queryNodes("nodes(perPage: 1000, filter: {schema: {is: \"folder\"}}) { elements { uuid schema { name } } }");
+		Set<String> uuids = uuids(nodes);
+		assertThat(uuids).contains(folderUuid()).doesNotContain(contentUuid());
+		nodes.forEach(node -> assertThat(((JsonObject) node).getJsonObject("schema").getString("name")).isEqualTo("folder"));
+
+		// Residual predicate
+		nodes = queryNodes("nodes(filter: {schema: {is: \"folder\"}, uuid: {regex: \"^" + folderUuid() + "$\"}}) { elements { uuid } }");
+		assertThat(uuids(nodes)).containsExactly(folderUuid());
+		nodes = queryNodes("nodes(filter: {schema: {is: \"folder\"}, uuid: {regex: \"^" + contentUuid() + "$\"}}) { elements { uuid } }");
+		assertThat(nodes.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void testFilterNodesByIndexedField() {
+		String slug = tx(() -> content().getLatestDraftFieldContainer(english()).getString("slug").getString());
+		String concordeUuid = tx(() -> content("concorde").getUuid());
+		String newsUuid = tx(() -> folder("news").getUuid());
+
+		// The field filter accepts all nodes of other schemas
+		JsonArray nodes = queryNodes("nodes(perPage: 1000, filter: {fields: {content: {slug: {equals: \"" + slug + "\"}}}}) { elements { uuid } }");
+		assertThat(uuids(nodes)).contains(contentUuid(), newsUuid).doesNotContain(concordeUuid);
+
+		// The index is only used when the nodes are restricted to the schema of the field filter
+		nodes = queryNodes("nodes(filter: {fields: {content: {slug: {equals: \"" + slug + "\"}}}, schema: {is: \"content\"}}) { elements { uuid } }");
+		assertThat(uuids(nodes)).containsExactly(contentUuid());
+
+		// Field filter of another schema
+		nodes = queryNodes("nodes(perPage: 1000, filter: {fields: {content: {slug: {oneOf: [\"" + slug + "\", \"unknown.html\"]}}}, schema: {is: \"folder\"}}) "
+			+ "{ elements { uuid } }");
+		assertThat(uuids(nodes)).contains(newsUuid).doesNotContain(contentUuid(), concordeUuid);
+
+		// Updated values are found via the index
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put("slug", StringField.of("indexed-slug.html"));
+		call(() -> client().updateNode(PROJECT_NAME, contentUuid(), request));
+		nodes = queryNodes("nodes(filter: {fields: {content: {slug: {equals: \"indexed-slug.html\"}}}, schema: {is: \"content\"}}) { elements { uuid } }");
+		assertThat(uuids(nodes)).containsExactly(contentUuid());
+		nodes = queryNodes("nodes(filter: {fields: {content: {slug: {equals: \"" + slug + "\"}}}, schema: {is: \"content\"}}) { elements { uuid } }");
+		assertThat(nodes.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void testIndexedFieldValueTooLong() {
+		StringBuilder slug = new StringBuilder();
+		while (slug.length() <= NodeGraphFieldContainerImpl.MAX_INDEXED_STRING_BYTES) {
+			slug.append("slug");
+		}
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put("slug", StringField.of(slug.toString()));
+		call(() -> client().updateNode(PROJECT_NAME, contentUuid(), request), BAD_REQUEST, "node_error_indexed_string_field_too_long", "slug",
+			String.valueOf(NodeGraphFieldContainerImpl.MAX_INDEXED_STRING_BYTES));
+	}
+
+	@Test
+	public void testFilterNodesByEditedRange() {
+		long start = System.currentTimeMillis() - 1000;
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put("teaser", StringField.of("edited teaser"));
+		call(() -> client().updateNode(PROJECT_NAME, contentUuid(), request));
+		long end = System.currentTimeMillis() + 60_000;
+
+		String range = "edited: {after: \"" + DateUtils.toISO8601(start) + "\", before: \"" + DateUtils.toISO8601(end) + "\"}";
+		JsonArray nodes = queryNodes("nodes(perPage: 1000, filter: {" + range + "}) { elements { uuid } }");
+		assertThat(uuids(nodes)).contains(contentUuid());
+
+		// Residual predicate
+		nodes = queryNodes("nodes(filter: {" + range + ", uuid: {regex: \"^" + contentUuid() + "$\"}}) { elements { uuid } }");
+		assertThat(uuids(nodes)).containsExactly(contentUuid());
+
+		// Range without edits
+		nodes = queryNodes("nodes(filter: {edited: {after: \"2000-01-01T00:00:00Z\", before: \"2000-12-31T00:00:00Z\"}}) { elements { uuid } }");
+		assertThat(nodes.size()).isEqualTo(0);
+	}
+
+	private Set<String> uuids(JsonArray nodes) {
+		Set<String> uuids = new HashSet<>();
+		nodes.forEach(node -> uuids.add(((JsonObject) node).getString("uuid")));
+		return uuids;
+	}
+
+	private JsonArray queryNodes(String field) {
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, "{ " + field + " }"));
+		JsonObject json = new JsonObject(response.toJson());
+		return json.getJsonObject("data").getJsonObject("nodes").getJsonArray("elements");
+	}
+
 	private void createNodeOfNonDefaultLanguage() {
 		NodeCreateRequest request = new NodeCreateRequest();
 		request.setSchemaName("folder");
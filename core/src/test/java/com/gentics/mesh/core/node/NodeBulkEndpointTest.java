@@ -0,0 +1,206 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_VERSION;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.TRACKING;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpsertRequest;
+import com.gentics.mesh.core.rest.node.bulk.NodeBulkAction;
+import com.gentics.mesh.core.rest.node.bulk.NodeBulkItem;
+import com.gentics.mesh.core.rest.node.bulk.NodeBulkItemResult;
+import com.gentics.mesh.core.rest.node.bulk.NodeBulkSummary;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.ParameterProvider;
+import com.gentics.mesh.parameter.impl.NodeBulkParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.rest.client.MeshBinaryResponse;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.vertx.core.json.JsonObject;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+@MeshTestSetting(elasticsearch = TRACKING, testSize = FULL, startServer = true)
+public class NodeBulkEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testBulkCreateAndPublish() throws IOException {
+		String parentNodeUuid = tx(() -> folder("2015").getUuid());
+		List<NodeBulkItem> items = new ArrayList<>();
+		List<String> uuids = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			String uuid = UUIDUtil.randomUUID();
+			uuids.add(uuid);
+			items.add(new NodeBulkItem().setAction(NodeBulkAction.create).setUuid(uuid).setNode(contentRequest(parentNodeUuid, "bulk" + i)));
+			items.add(new NodeBulkItem().setAction(NodeBulkAction.publish).setUuid(uuid));
+		}
+
+		List<String> lines = bulk(items, new NodeBulkParametersImpl().setBatchSize(3));
+		assertEquals("Each item and the summary should be returned.", items.size() + 1, lines.size());
+		for (int i = 0; i < items.size(); i++) {
+			NodeBulkItemResult result = JsonUtil.readValue(lines.get(i), NodeBulkItemResult.class);
+			assertEquals("The results should be returned in request order.", i + 1, result.getIndex());
+			assertEquals(items.get(i).getAction(), result.getAction());
+			assertEquals(i % 2 == 0 ? 201 : 200, result.getStatus());
+		}
+		NodeBulkSummary summary = JsonUtil.readValue(lines.get(lines.size() - 1), NodeBulkSummary.class);
+		assertEquals(items.size(), summary.getProcessed());
+		assertEquals(0, summary.getFailed());
+		assertEquals(4, summary.getBatches());
+
+		for (String uuid : uuids) {
+			NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new VersioningParametersImpl().published()));
+			assertEquals("1.0", response.getVersion());
+		}
+
+		// The events of the committed batches must have been dispatched
+		waitForSearchIdleEvent();
+		for (String uuid : uuids) {
+			assertTrue("The node {" + uuid + "} should have been stored in the search index.", trackingSearchProvider().getStoreEvents().keySet()
+				.stream().anyMatch(key -> key.contains(uuid)));
+		}
+	}
+
+	@Test
+	public void testBulkFailedItemsWithinBatch() throws IOException {
+		String parentNodeUuid = tx(() -> folder("2015").getUuid());
+		List<NodeBulkItem> items = new ArrayList<>();
+		List<String> createdUuids = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			if (i == 1 || i == 4) {
+				items.add(new NodeBulkItem().setAction(NodeBulkAction.update).setUuid(UUIDUtil.randomUUID()).setNode(contentRequest(parentNodeUuid,
+					"bulk-missing" + i)));
+			} else {
+				String uuid = UUIDUtil.randomUUID();
+				createdUuids.add(uuid);
+				items.add(new NodeBulkItem().setAction(NodeBulkAction.create).setUuid(uuid).setNode(contentRequest(parentNodeUuid, "bulk-isolated"
+					+ i)));
+			}
+		}
+
+		List<String> lines = bulk(items, new NodeBulkParametersImpl().setBatchSize(items.size()));
+		for (int i = 0; i < items.size(); i++) {
+			NodeBulkItemResult result = JsonUtil.readValue(lines.get(i), NodeBulkItemResult.class);
+			assertEquals(i + 1, result.getIndex());
+			assertEquals(i == 1 || i == 4 ? 404 : 201, result.getStatus());
+		}
+		NodeBulkSummary summary = JsonUtil.readValue(lines.get(lines.size() - 1), NodeBulkSummary.class);
+		assertEquals(2, summary.getFailed());
+		assertEquals(1, summary.getBatches());
+		for (String uuid : createdUuids) {
+			call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		}
+	}
+
+	@Test
+	public void testNdjsonContentTypeOnOtherEndpoint() throws IOException {
+		// Only the bulk endpoint streams the body. Other endpoints must still receive the body.
+		String json = new JsonObject().put("name", "ndjsonFamily").encode();
+		Response response = httpClient().newCall(new Request.Builder()
+			.addHeader("Authorization", "Bearer " + client().getAuthentication().getToken())
+			.url(String.format("http://localhost:%d/api/v%d/%s/tagFamilies", port(), CURRENT_API_VERSION, PROJECT_NAME))
+			.post(RequestBody.create(MediaType.parse(APPLICATION_NDJSON), json))
+			.build()).execute();
+		assertEquals(201, response.code());
+		assertEquals("ndjsonFamily", new JsonObject(response.body().string()).getString("name"));
+	}
+
+	@Test
+	public void testBulkFailedItem() throws IOException {
+		String parentNodeUuid = tx(() -> folder("2015").getUuid());
+		String uuid = UUIDUtil.randomUUID();
+		List<NodeBulkItem> items = new ArrayList<>();
+		items.add(new NodeBulkItem().setAction(NodeBulkAction.create).setUuid(uuid).setNode(contentRequest(parentNodeUuid, "bulk-ok")));
+		items.add(new NodeBulkItem().setAction(NodeBulkAction.update).setUuid(UUIDUtil.randomUUID()).setNode(contentRequest(parentNodeUuid,
+			"bulk-missing")));
+
+		List<String> lines = bulk(items, new NodeBulkParametersImpl());
+		NodeBulkItemResult created = JsonUtil.readValue(lines.get(0), NodeBulkItemResult.class);
+		assertEquals(201, created.getStatus());
+		NodeBulkItemResult failed = JsonUtil.readValue(lines.get(1), NodeBulkItemResult.class);
+		assertFalse(failed.isSuccess());
+		assertEquals(404, failed.getStatus());
+
+		NodeBulkSummary summary = JsonUtil.readValue(lines.get(2), NodeBulkSummary.class);
+		assertEquals(1, summary.getFailed());
+		// The failed item must not roll back the other items of the batch
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+	}
+
+	@Test
+	public void testBulkDeferReferences() throws IOException {
+		String parentNodeUuid = tx(() -> folder("2015").getUuid());
+		String folderUuid = UUIDUtil.randomUUID();
+		String childUuid = UUIDUtil.randomUUID();
+
+		NodeUpsertRequest folder = new NodeUpsertRequest();
+		folder.setSchemaName("folder");
+		folder.setLanguage("en");
+		folder.setParentNodeUuid(parentNodeUuid);
+		folder.getFields().put("slug", FieldUtil.createStringField("bulk-folder"));
+		folder.getFields().put("name", FieldUtil.createStringField("Bulk folder"));
+
+		// The child is listed before its parent
+		List<NodeBulkItem> items = new ArrayList<>();
+		items.add(new NodeBulkItem().setAction(NodeBulkAction.create).setUuid(childUuid).setNode(contentRequest(folderUuid, "bulk-child")));
+		items.add(new NodeBulkItem().setAction(NodeBulkAction.create).setUuid(folderUuid).setNode(folder));
+
+		List<String> lines = bulk(items, new NodeBulkParametersImpl().setBatchSize(1).setDeferReferences(true));
+		List<NodeBulkItemResult> results = lines.subList(0, 2).stream()
+			.map(line -> JsonUtil.readValue(line, NodeBulkItemResult.class))
+			.collect(Collectors.toList());
+		assertEquals(folderUuid, results.get(0).getUuid());
+		assertEquals(201, results.get(0).getStatus());
+		assertEquals(childUuid, results.get(1).getUuid());
+		assertEquals(201, results.get(1).getStatus());
+
+		NodeResponse child = call(() -> client().findNodeByUuid(PROJECT_NAME, childUuid));
+		assertEquals(folderUuid, child.getParentNode().getUuid());
+	}
+
+	private NodeUpsertRequest contentRequest(String parentNodeUuid, String slug) {
+		NodeUpsertRequest request = new NodeUpsertRequest();
+		request.setSchemaName("content");
+		request.setLanguage("en");
+		request.setParentNodeUuid(parentNodeUuid);
+		request.getFields().put("slug", FieldUtil.createStringField(slug));
+		request.getFields().put("title", FieldUtil.createStringField("Title " + slug));
+		request.getFields().put("teaser", FieldUtil.createStringField("Teaser " + slug));
+		return request;
+	}
+
+	private List<String> bulk(List<NodeBulkItem> items, ParameterProvider parameters) throws IOException {
+		String ndjson = items.stream()
+			.map(item -> JsonUtil.toJsonObject(item).encode())
+			.collect(Collectors.joining("\n"));
+		MeshBinaryResponse response = call(() -> client().bulkNodes(PROJECT_NAME, new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+			parameters));
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getStream(), StandardCharsets.UTF_8))) {
+			return reader.lines().filter(line -> !line.isEmpty()).collect(Collectors.toList());
+		}
+	}
+
+}
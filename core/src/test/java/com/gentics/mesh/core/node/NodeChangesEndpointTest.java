@@ -0,0 +1,138 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.endpoint.changes.NodeChangesHandler;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.changes.NodeChange;
+import com.gentics.mesh.core.rest.node.changes.NodeChangeAction;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.ParameterProvider;
+import com.gentics.mesh.parameter.impl.NodeChangesParametersImpl;
+import com.gentics.mesh.rest.client.MeshBinaryResponse;
+import com.gentics.mesh.rest.client.MeshResponse;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class NodeChangesEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testReadChanges() throws Exception {
+		// Changes of deleted nodes are only returned to admins
+		grantAdmin();
+		NodeResponse node = createNode();
+		String uuid = node.getUuid();
+		call(() -> client().publishNode(PROJECT_NAME, uuid));
+		call(() -> client().deleteNode(PROJECT_NAME, uuid));
+
+		List<NodeChange> changes = awaitChanges(0, uuid, 3);
+		assertEquals(Arrays.asList(NodeChangeAction.created, NodeChangeAction.published, NodeChangeAction.deleted), changes.stream()
+			.map(NodeChange::getAction)
+			.collect(Collectors.toList()));
+		for (int i = 1; i < changes.size(); i++) {
+			assertTrue("The sequence numbers must be increasing", changes.get(i).getSequence() > changes.get(i - 1).getSequence());
+		}
+
+		// Only the changes after the given sequence number should be returned
+		long since = changes.get(0).getSequence();
+		List<NodeChange> incremental = readChanges(new NodeChangesParametersImpl().setSince(since));
+		assertTrue(incremental.stream().allMatch(change -> change.getSequence() > since));
+		assertEquals(2, incremental.stream().filter(change -> change.getUuid().equals(uuid)).count());
+
+		List<NodeChange> limited = readChanges(new NodeChangesParametersImpl().setSince(0).setLimit(1));
+		assertEquals(1, limited.size());
+		assertEquals(1, limited.get(0).getSequence());
+	}
+
+	@Test
+	public void testChangesFilteredByPermissions() throws Exception {
+		String otherUuid = createNode().getUuid();
+		awaitChanges(0, otherUuid, 1);
+		NodeResponse node = createNode();
+		String uuid = node.getUuid();
+		call(() -> client().publishNode(PROJECT_NAME, uuid));
+		assertEquals(2, awaitChanges(0, uuid, 2).size());
+
+		// Users which may only read the published content only receive the publish changes
+		tx(() -> {
+			Node graphNode = boot().meshRoot().findNodeByUuid(uuid);
+			role().revokePermissions(graphNode, READ_PERM);
+			role().grantPermissions(graphNode, READ_PUBLISHED_PERM);
+		});
+		List<NodeChange> changes = readChanges(new NodeChangesParametersImpl()).stream()
+			.filter(change -> change.getUuid().equals(uuid))
+			.collect(Collectors.toList());
+		assertEquals(1, changes.size());
+		assertEquals(NodeChangeAction.published, changes.get(0).getAction());
+
+		// Nodes which can't be read are omitted
+		tx(() -> {
+			role().revokePermissions(boot().meshRoot().findNodeByUuid(uuid), READ_PUBLISHED_PERM);
+		});
+		assertTrue(readChanges(new NodeChangesParametersImpl()).stream().noneMatch(change -> change.getUuid().equals(uuid)));
+
+		// The limit applies to the returned changes
+		List<NodeChange> limited = readChanges(new NodeChangesParametersImpl().setLimit(1));
+		assertEquals(1, limited.size());
+		assertFalse(limited.get(0).getUuid().equals(uuid));
+	}
+
+	@Test
+	public void testSequenceHeaders() throws Exception {
+		grantAdmin();
+		String uuid = createNode().getUuid();
+		awaitChanges(0, uuid, 1);
+		MeshResponse<MeshBinaryResponse> response = client().findNodeChanges(PROJECT_NAME, new NodeChangesParametersImpl()).getResponse().blockingGet();
+		try {
+			assertEquals("1", response.getHeader(NodeChangesHandler.OLDEST_SEQUENCE_HEADER).orElse(null));
+			assertTrue(Long.parseLong(response.getHeader(NodeChangesHandler.LATEST_SEQUENCE_HEADER).orElse("0")) >= 1);
+		} finally {
+			response.getBody().close();
+		}
+	}
+
+	private List<NodeChange> awaitChanges(long since, String uuid, int expected) throws Exception {
+		// The changes are recorded asynchronously once the events have been dispatched
+		List<NodeChange> changes = null;
+		for (int i = 0; i < 50; i++) {
+			changes = readChanges(new NodeChangesParametersImpl().setSince(since)).stream()
+				.filter(change -> change.getUuid().equals(uuid))
+				.collect(Collectors.toList());
+			if (changes.size() >= expected) {
+				break;
+			}
+			Thread.sleep(100);
+		}
+		return changes;
+	}
+
+	private List<NodeChange> readChanges(ParameterProvider parameters) throws IOException {
+		MeshBinaryResponse response = call(() -> client().findNodeChanges(PROJECT_NAME, parameters));
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getStream(), StandardCharsets.UTF_8))) {
+			return reader.lines()
+				.filter(line -> !line.isEmpty())
+				.map(line -> JsonUtil.readValue(line, NodeChange.class))
+				.collect(Collectors.toList());
+		}
+	}
+
+}
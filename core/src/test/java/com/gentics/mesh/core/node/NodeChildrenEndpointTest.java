@@ -6,6 +6,7 @@ import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.test.util.TestUtils.size;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -13,6 +14,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,12 +24,14 @@ import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.page.PageCursor;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
@@ -154,6 +158,59 @@ public class NodeChildrenEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testReadNodeChildrenWithCursor() throws Exception {
+		Node node = folder("news");
+		Node nodeWithNoPerm = folder("2015");
+		String uuid = tx(() -> node.getUuid());
+		tx(tx -> {
+			role().revokePermissions(nodeWithNoPerm, READ_PERM);
+			tx.success();
+		});
+
+		NodeListResponse all = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new VersioningParametersImpl().draft()));
+		List<String> expected = all.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+
+		List<String> found = new ArrayList<>();
+		String cursor = null;
+		do {
+			PagingParametersImpl paging = new PagingParametersImpl(1, 1L);
+			paging.setTotalCount(false);
+			paging.setAfter(cursor);
+			NodeListResponse page = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, paging, new VersioningParametersImpl().draft()));
+			assertEquals(-1, page.getMetainfo().getTotalCount());
+			page.getData().forEach(child -> found.add(child.getUuid()));
+			cursor = page.getMetainfo().getNextCursor();
+		} while (cursor != null);
+
+		assertEquals(expected, found);
+		assertFalse("The child without permission must not be listed", found.contains(tx(() -> nodeWithNoPerm.getUuid())));
+	}
+
+	@Test
+	public void testReadNodeChildrenWithStaleCursor() throws Exception {
+		String uuid = tx(() -> folder("news").getUuid());
+		NodeListResponse firstPage = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl(1, 1L),
+			new VersioningParametersImpl().draft()));
+		String cursor = firstPage.getMetainfo().getNextCursor();
+		assertNotNull(cursor);
+
+		// The position of the next page can't be determined once the element of the cursor was deleted
+		call(() -> client().deleteNode(PROJECT_NAME, firstPage.getData().get(0).getUuid(), new DeleteParametersImpl().setRecursive(true)));
+		call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl(1, 1L).setAfter(cursor), new VersioningParametersImpl()
+			.draft()), BAD_REQUEST, "error_paging_cursor_invalid", cursor);
+	}
+
+	@Test
+	public void testReadNodeChildrenWithCursorOfOtherParent() throws Exception {
+		String uuid = tx(() -> folder("news").getUuid());
+		String cursor = tx(() -> PageCursor.of(content("concorde")));
+
+		// The cursor must reference a child of the node, since the position is determined by the uuid of the child
+		call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl(1, 1L).setAfter(cursor), new VersioningParametersImpl()
+			.draft()), BAD_REQUEST, "error_paging_cursor_invalid", cursor);
+	}
+
 	@Test
 	public void testReadNodeChildrenWithoutChildPermission() throws Exception {
 		Node node = folder("news");
@@ -9,6 +9,7 @@ import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.test.util.MeshAssert.assertElement;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -36,11 +37,15 @@ import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.impl.BranchMigrationContextImpl;
 import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.rest.branch.BranchCreateRequest;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.job.JobStatus;
+import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.FieldMapImpl;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
@@ -50,6 +55,7 @@ import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.project.ProjectReference;
 import com.gentics.mesh.core.rest.schema.SchemaReference;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.etc.config.ContentConfig;
 import com.gentics.mesh.parameter.VersioningParameters;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
@@ -605,6 +611,72 @@ public class NodeDeleteEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testDeleteJob() {
+		grantAdmin();
+		String folderUuid = tx(() -> folder("news").getUuid());
+		String parentUuid = tx(() -> folder("news").getParentNode(initialBranchUuid()).getUuid());
+		long parentVersion = tx(() -> folder("news").getParentNode(initialBranchUuid()).getETagVersion());
+		Set<String> uuids = new HashSet<>();
+		tx(() -> collectUuids(folder("news"), uuids));
+
+		// Use single node batches so that siblings are processed by concurrent batches which share the same parent
+		ContentConfig config = options().getContentOptions();
+		int batchSize = config.getBulkBatchSize();
+		int parallelism = config.getBulkParallelism();
+		config.setBulkBatchSize(1).setBulkParallelism(4);
+		try {
+			JobListResponse jobs = waitForJob(() -> {
+				call(() -> client().invokeNodeDeleteJob(PROJECT_NAME, folderUuid));
+			});
+			JobResponse job = jobs.getData().get(0);
+			assertEquals(JobType.nodedelete, job.getType());
+			assertEquals(String.valueOf(uuids.size()), job.getProperties().get("totalNodes"));
+			assertEquals(String.valueOf(uuids.size()), job.getProperties().get("processedNodes"));
+		} finally {
+			config.setBulkBatchSize(batchSize).setBulkParallelism(parallelism);
+		}
+
+		for (String uuid : uuids) {
+			call(() -> client().findNodeByUuid(PROJECT_NAME, uuid), NOT_FOUND, "object_not_found_for_uuid", uuid);
+		}
+		// The deferred etag version increment of the parent has been applied
+		long newParentVersion = tx(() -> boot().meshRoot().findNodeByUuid(parentUuid).getETagVersion());
+		assertThat(newParentVersion).isGreaterThan(parentVersion);
+	}
+
+	@Test
+	public void testCancelAndResumeDeleteJob() {
+		grantAdmin();
+		Set<String> uuids = new HashSet<>();
+		tx(() -> collectUuids(folder("news"), uuids));
+		String leafUuid = tx(() -> content("news_2015").getUuid());
+		assertTrue(uuids.contains(leafUuid));
+
+		String jobUuid = tx(() -> {
+			Job job = boot().jobRoot().enqueueNodeBulkOperation(user(), JobType.nodedelete, folder("news"), initialBranch());
+			job.requestCancel();
+			return job.getUuid();
+		});
+
+		// 1. The cancelled job must not touch the subtree
+		triggerAndWaitForJob(jobUuid, JobStatus.CANCELLED);
+		assertThatSubNodesExist(uuids, INITIAL_BRANCH_NAME);
+
+		// 2. Delete a part of the subtree to simulate a previous run which was interrupted
+		call(() -> client().deleteNode(PROJECT_NAME, leafUuid));
+
+		// 3. Reset the job so that it continues with the remaining nodes
+		call(() -> client().resetJob(jobUuid));
+		triggerAndWaitForJob(jobUuid, JobStatus.COMPLETED);
+		JobResponse job = call(() -> client().findJobByUuid(jobUuid));
+		assertEquals(String.valueOf(uuids.size() - 1), job.getProperties().get("totalNodes"));
+		assertEquals(String.valueOf(uuids.size() - 1), job.getProperties().get("processedNodes"));
+		for (String uuid : uuids) {
+			call(() -> client().findNodeByUuid(PROJECT_NAME, uuid), NOT_FOUND, "object_not_found_for_uuid", uuid);
+		}
+	}
+
 	private void assertThatSubNodesExist(Set<String> uuids, String branchName) {
 		for (String childUuid : uuids) {
 			System.out.println("Checking child: " + childUuid);
@@ -21,6 +21,7 @@ import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -140,6 +141,97 @@ public class NodeEndpointETagTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testReadOneAfterChildCreation() {
+		String uuid = tx(() -> folder("news").getUuid());
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 304);
+
+		// Create a new child - The children info of the node changes
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(uuid));
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.getFields().put("teaser", FieldUtil.createStringField("someTeaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("someSlug"));
+		NodeResponse createdNode = call(() -> client().createNode(PROJECT_NAME, request));
+		String newETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+
+		// Delete the child again
+		call(() -> client().deleteNode(PROJECT_NAME, createdNode.getUuid()));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), newETag, true, 200);
+	}
+
+	@Test
+	public void testETagVersionBumpedOncePerTransaction() {
+		String uuid = tx(() -> folder("news").getUuid());
+		long version = tx(() -> folder("news").getETagVersion());
+
+		tx(() -> {
+			Node node = folder("news");
+			node.bumpETagVersion();
+			node.bumpETagVersion();
+			// The pending increment is already visible within the transaction
+			assertEquals(version + 1, node.getETagVersion());
+		});
+		assertEquals(version + 1, (long) tx(() -> boot().meshRoot().findNodeByUuid(uuid).getETagVersion()));
+
+		// The increment is dropped together with the other changes of a failed transaction
+		try (Tx tx = tx()) {
+			folder("news").bumpETagVersion();
+			tx.failure();
+		}
+		assertEquals(version + 1, (long) tx(() -> folder("news").getETagVersion()));
+
+		// The pending increment is discarded when the graph is rolled back and used again
+		try (Tx tx = tx()) {
+			Node node = folder("news");
+			node.bumpETagVersion();
+			tx.rollback();
+			node = folder("news");
+			assertEquals(version + 1, node.getETagVersion());
+			node.bumpETagVersion();
+			assertEquals(version + 2, node.getETagVersion());
+			tx.success();
+		}
+		assertEquals(version + 2, (long) tx(() -> folder("news").getETagVersion()));
+	}
+
+	@Test
+	public void testReadOneAfterParentUpdate() {
+		String uuid = contentUuid();
+		String parentUuid = tx(() -> content().getParentNode(initialBranchUuid()).getUuid());
+		NodeParametersImpl params = new NodeParametersImpl().setResolveLinks(LinkType.SHORT);
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid, params));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid, params), etag, true, 304);
+
+		// Update the parent - The breadcrumb and the path of the node change
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put("slug", FieldUtil.createStringField("renamed"));
+		call(() -> client().updateNode(PROJECT_NAME, parentUuid, request));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid, params), etag, true, 200);
+	}
+
+	@Test
+	public void testReadOneAfterTagUpdate() {
+		String uuid = contentUuid();
+		String tagUuid = tx(() -> tag("red").getUuid());
+		String tagFamilyUuid = tx(() -> tagFamily("colors").getUuid());
+		call(() -> client().addTagToNode(PROJECT_NAME, uuid, tagUuid));
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 304);
+
+		// Rename the tag - The tag references of the node change
+		updateTag(PROJECT_NAME, tagFamilyUuid, tagUuid, "darkred");
+		String newETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+
+		// Remove the tag
+		call(() -> client().removeTagFromNode(PROJECT_NAME, uuid, tagUuid));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), newETag, true, 200);
+	}
+
 	@Test
 	public void testReadOne() {
 		Node node = content();
@@ -1,6 +1,8 @@
 package com.gentics.mesh.core.node;
 
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
 import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.INITIAL_BRANCH_NAME;
@@ -11,6 +13,7 @@ import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 
@@ -24,6 +27,7 @@ import com.gentics.mesh.core.rest.navigation.NavigationElement;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.node.field.StringField;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.parameter.LinkType;
@@ -128,6 +132,70 @@ public class NodeNavigationEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	/**
+	 * Test that changes of the children and the permissions are reflected by subsequent navigation requests.
+	 */
+	@Test
+	public void testReadChildrenAfterChanges() {
+		String uuid = tx(() -> project().getBaseNode().getUuid());
+		NavigationParametersImpl params = new NavigationParametersImpl().setMaxDepth(1);
+		assertThat(call(() -> client().loadNavigation(PROJECT_NAME, uuid, params, new VersioningParametersImpl().draft()))).isValid(4);
+
+		// Create a new folder
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNodeUuid(uuid);
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.getFields().put("name", FieldUtil.createStringField("New Folder"));
+		request.getFields().put("slug", FieldUtil.createStringField("new-folder"));
+		NodeResponse folder = call(() -> client().createNode(PROJECT_NAME, request));
+		assertThat(call(() -> client().loadNavigation(PROJECT_NAME, uuid, params, new VersioningParametersImpl().draft()))).isValid(5);
+
+		// Revoke the permission - The folder must be filtered
+		tx(() -> {
+			role().revokePermissions(project().getNodeRoot().findByUuid(folder.getUuid()), READ_PERM);
+		});
+		assertThat(call(() -> client().loadNavigation(PROJECT_NAME, uuid, params, new VersioningParametersImpl().draft()))).isValid(4);
+
+		// Delete the folder
+		call(() -> client().deleteNode(PROJECT_NAME, folder.getUuid()));
+		assertThat(call(() -> client().loadNavigation(PROJECT_NAME, uuid, params, new VersioningParametersImpl().draft()))).isValid(4);
+	}
+
+	/**
+	 * Test that the cached node responses of the navigation elements are combined with the current permissions of the user.
+	 */
+	@Test
+	public void testCachedNodeResponses() {
+		String uuid = tx(() -> project().getBaseNode().getUuid());
+		String newsUuid = tx(() -> folder("news").getUuid());
+		NavigationParametersImpl params = new NavigationParametersImpl().setMaxDepth(1);
+
+		NavigationResponse response = call(() -> client().loadNavigation(PROJECT_NAME, uuid, params, new VersioningParametersImpl().draft()));
+		assertTrue(response.getNode().getPermissions().getUpdate());
+		long folderCount = response.getNode().getChildrenInfo().get("folder").getCount();
+		assertTrue("The navigation responses should have been cached.", meshDagger().navigationCache().size() > 0);
+
+		// Revoke the permissions - The permissions and the children info must reflect the change
+		tx(() -> {
+			role().revokePermissions(project().getBaseNode(), UPDATE_PERM);
+			role().revokePermissions(project().getNodeRoot().findByUuid(newsUuid), READ_PERM);
+		});
+		response = call(() -> client().loadNavigation(PROJECT_NAME, uuid, params, new VersioningParametersImpl().draft()));
+		assertFalse(response.getNode().getPermissions().getUpdate());
+		assertEquals(folderCount - 1, response.getNode().getChildrenInfo().get("folder").getCount());
+
+		// Update a child - The updated content must be returned
+		String productsUuid = tx(() -> folder("products").getUuid());
+		NodeResponse products = call(() -> client().findNodeByUuid(PROJECT_NAME, productsUuid));
+		NodeUpdateRequest update = products.toRequest();
+		update.getFields().put("name", FieldUtil.createStringField("Updated products"));
+		call(() -> client().updateNode(PROJECT_NAME, productsUuid, update));
+		response = call(() -> client().loadNavigation(PROJECT_NAME, uuid, params, new VersioningParametersImpl().draft()));
+		NavigationElement productsElement = response.getChildren().stream().filter(e -> e.getUuid().equals(productsUuid)).findFirst().get();
+		assertEquals("Updated products", productsElement.getNode().getFields().getStringField("name").getString());
+	}
+
 	/**
 	 * Test reading a node with a maxDepth value of two.
 	 */
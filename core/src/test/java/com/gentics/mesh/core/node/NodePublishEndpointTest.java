@@ -19,6 +19,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Map;
 import java.util.Map.Entry;
 
 import org.junit.Before;
@@ -32,6 +33,8 @@ import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
@@ -594,6 +597,29 @@ public class NodePublishEndpointTest extends AbstractMeshTest {
 		assertPublishStatus("Sub node should still be offline.", contentUuid, false);
 	}
 
+	@Test
+	public void testPublishJob() {
+		String nodeUuid = db().tx(() -> folder("news").getUuid());
+		String contentUuid = db().tx(() -> content("news_2015").getUuid());
+
+		// 1. Take all nodes offline via a job
+		JobListResponse jobs = waitForJob(() -> {
+			call(() -> client().invokeNodeUnpublishJob(PROJECT_NAME, nodeUuid));
+		});
+		assertEquals(JobType.nodeunpublish, jobs.getData().get(0).getType());
+		assertPublishStatus("Node should be offline.", nodeUuid, false);
+		assertPublishStatus("Node should be offline.", contentUuid, false);
+
+		// 2. Publish all nodes again via a job
+		jobs = waitForJob(() -> {
+			call(() -> client().invokeNodePublishJob(PROJECT_NAME, nodeUuid));
+		});
+		Map<String, String> props = jobs.getData().get(0).getProperties();
+		assertEquals(props.get("totalNodes"), props.get("processedNodes"));
+		assertPublishStatus("Node should be online again.", nodeUuid, true);
+		assertPublishStatus("Node should be online again.", contentUuid, true);
+	}
+
 	private void assertPublishStatus(String message, String nodeUuid, boolean expectPublished) {
 		PublishStatusResponse initialStatus = call(() -> client().getNodePublishStatus(PROJECT_NAME, nodeUuid));
 		for (Entry<String, PublishStatusModel> entry : initialStatus.getAvailableLanguages().entrySet()) {
@@ -2,12 +2,17 @@ package com.gentics.mesh.core.project.maintenance;
 
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.core.rest.node.version.NodeVersionsResponse;
+import com.gentics.mesh.core.rest.project.VersionRetentionPolicy;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -30,4 +35,36 @@ public class ProjectVersionPurgeHandlerTest extends AbstractMeshTest {
 		ProjectVersionPurgeHandler handler = mesh().projectVersionPurgeHandler();
 		handler.purgeVersions(project, null).blockingAwait();
 	}
+
+	@Test
+	public void testRetentionPolicy() throws InterruptedException {
+		disableAutoPurge();
+		grantAdmin();
+		String projectUuid = projectUuid();
+
+		for (int i = 0; i < 10; i++) {
+			NodeUpdateRequest request = new NodeUpdateRequest();
+			request.setVersion("draft");
+			request.setLanguage("en");
+			request.getFields().put("slug", FieldUtil.createStringField("blub" + i));
+			call(() -> client().updateNode(projectName(), contentUuid(), request));
+		}
+		int before = call(() -> client().listNodeVersions(projectName(), contentUuid())).getVersions().get("en").size();
+
+		call(() -> client().updateProjectVersionRetention(projectUuid, new VersionRetentionPolicy().setKeepVersions(0)), BAD_REQUEST,
+			"project_version_retention_keep_versions_invalid", "0");
+		call(() -> client().updateProjectVersionRetention(projectUuid, new VersionRetentionPolicy().setMaxAge("bogus")), BAD_REQUEST,
+			"project_version_retention_max_age_invalid", "bogus");
+		call(() -> client().updateProjectVersionRetention(projectUuid, new VersionRetentionPolicy().setKeepVersions(3)));
+		VersionRetentionPolicy policy = call(() -> client().getProjectVersionRetention(projectUuid));
+		assertEquals(3, policy.getKeepVersions().intValue());
+
+		VersionPurgeResult result = mesh().projectVersionPurgeHandler().purgeVersions(project(), null, policy.getKeepVersions(), 0);
+		assertTrue("Versions should have been purged", result.getPurgedCount() > 0);
+
+		NodeVersionsResponse response = call(() -> client().listNodeVersions(projectName(), contentUuid()));
+		int after = response.getVersions().get("en").size();
+		assertEquals("The purged versions should have been reported", before - result.getPurgedCount(), after);
+		assertTrue("At least the kept versions should remain", after >= 3);
+	}
 }
@@ -4,12 +4,28 @@ import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import org.junit.Test;
 
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.context.impl.LocalActionContextImpl;
 import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.rest.navigation.NavigationElement;
+import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.PublishStatusResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.rest.MeshLocalClientImpl;
+import com.gentics.mesh.rest.client.MeshRestClient;
+import com.gentics.mesh.rest.client.impl.EmptyResponse;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
@@ -22,9 +38,106 @@ public class MeshLocalClientTest extends AbstractMeshTest {
 		MeshAuthUser user = db().tx(() -> {
 			return mesh().boot().meshRoot().getUserRoot().findMeshAuthUserByUsername(user().getUsername());
 		});
-		meshDagger().meshLocalClientImpl().setUser(user);
-		NodeResponse response = call(
-				() -> meshDagger().meshLocalClientImpl().findNodeByUuid(PROJECT_NAME, newsNodeUuid, new NodeParametersImpl().setLanguages("de")));
+		MeshLocalClientImpl client = meshDagger().meshLocalClientImpl();
+		client.setUser(user);
+		NodeResponse response = call(() -> client.findNodeByUuid(PROJECT_NAME, newsNodeUuid, new NodeParametersImpl().setLanguages("de")));
 		assertEquals("Neuigkeiten", response.getFields().getStringField("slug").getString());
 	}
+
+	@Test
+	public void testLocalAdminClient() {
+		String newsNodeUuid = db().tx(() -> folder("news").getUuid());
+		MeshRestClient client = meshDagger().pluginEnv().createLocalAdminClient();
+
+		UserResponse me = call(() -> client.me());
+		assertEquals("admin", me.getUsername());
+
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.setLanguage("en");
+		request.setParentNodeUuid(newsNodeUuid);
+		request.getFields().put("title", FieldUtil.createStringField("Local title"));
+		request.getFields().put("teaser", FieldUtil.createStringField("Local teaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("local.html"));
+		NodeResponse created = call(() -> client.createNode(PROJECT_NAME, request));
+		assertEquals("Local title", created.getFields().getStringField("title").getString());
+
+		PublishStatusResponse status = call(() -> client.publishNode(PROJECT_NAME, created.getUuid()));
+		assertNotNull(status.getAvailableLanguages().get("en"));
+		assertTrue(call(() -> client.getNodePublishStatus(PROJECT_NAME, created.getUuid())).getAvailableLanguages().get("en").isPublished());
+
+		EmptyResponse deleted = call(() -> client.deleteNode(PROJECT_NAME, created.getUuid()));
+		assertNotNull(deleted);
+	}
+
+	@Test
+	public void testModifyNavigation() {
+		String newsNodeUuid = db().tx(() -> folder("news").getUuid());
+		MeshRestClient client = meshDagger().pluginEnv().createLocalAdminClient();
+		NavigationResponse navigation = call(() -> client.loadNavigation(PROJECT_NAME, newsNodeUuid));
+		NodeResponse child = navigation.getChildren().get(0).getNode();
+		String displayName = child.getDisplayName();
+		child.getSchema().setName("modified");
+		child.getCreator().setFirstName("modified");
+
+		// The modification must not affect the cached navigation
+		NavigationResponse reloaded = call(() -> client.loadNavigation(PROJECT_NAME, newsNodeUuid));
+		NodeResponse reloadedChild = reloaded.getChildren().stream()
+			.map(NavigationElement::getNode)
+			.filter(node -> node.getUuid().equals(child.getUuid()))
+			.findFirst()
+			.get();
+		assertEquals(displayName, reloadedChild.getDisplayName());
+		assertNotEquals("modified", reloadedChild.getSchema().getName());
+		assertNotEquals("modified", reloadedChild.getCreator().getFirstName());
+	}
+
+	@Test
+	public void testUnsupportedRequest() {
+		MeshRestClient client = meshDagger().pluginEnv().createLocalAdminClient();
+		try {
+			client.webroot(PROJECT_NAME, "/News").blockingGet();
+			fail("The webroot request should fail");
+		} catch (UnsupportedOperationException e) {
+			// Expected
+		}
+	}
+
+	@Test
+	public void testPayloadIsPassedByReference() {
+		String newsNodeUuid = db().tx(() -> folder("news").getUuid());
+		NodeCreateRequest request = new NodeCreateRequest() {
+			@Override
+			public String toJson() {
+				throw new AssertionError("The local client must not serialize the request");
+			}
+		};
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.setLanguage("en");
+		request.setParentNodeUuid(newsNodeUuid);
+		request.getFields().put("title", FieldUtil.createStringField("Local title"));
+		request.getFields().put("teaser", FieldUtil.createStringField("Local teaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("reference.html"));
+
+		LocalActionContextImpl<NodeResponse> ac = new LocalActionContextImpl<>(null, NodeResponse.class);
+		ac.setPayloadObject(request);
+		assertSame("The payload object should be returned without being deserialized", request, ac.fromJson(NodeCreateRequest.class));
+
+		// The handler would fail if the request was serialized to a JSON body
+		MeshRestClient client = meshDagger().pluginEnv().createLocalAdminClient();
+		NodeResponse created = call(() -> client.createNode(PROJECT_NAME, request));
+		assertEquals("reference.html", created.getFields().getStringField("slug").getString());
+	}
+
+	@Test
+	public void testHealthChecks() {
+		MeshRestClient client = meshDagger().pluginEnv().createLocalAdminClient();
+		assertNotNull(call(() -> client.live()));
+		assertNotNull(call(() -> client.ready()));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testGetConfig() {
+		meshDagger().pluginEnv().createLocalAdminClient().getConfig();
+	}
 }
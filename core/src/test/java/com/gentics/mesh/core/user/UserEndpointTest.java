@@ -76,6 +76,7 @@ import com.gentics.mesh.parameter.impl.RolePermissionParametersImpl;
 import com.gentics.mesh.parameter.impl.UserParametersImpl;
 import com.gentics.mesh.rest.client.MeshRequest;
 import com.gentics.mesh.rest.client.MeshResponse;
+import com.gentics.mesh.rest.client.MeshRestClient;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.definition.BasicRestTestcases;
@@ -300,6 +301,27 @@ public class UserEndpointTest extends AbstractMeshTest implements BasicRestTestc
 		call(() -> client().findUserByUuid(uuid), UNAUTHORIZED, "error_not_authorized");
 	}
 
+	@Test
+	public void testTokenOfDeletedUser() {
+		UserCreateRequest request = new UserCreateRequest();
+		request.setUsername("token_user");
+		request.setPassword("test123456");
+		request.setGroupUuid(tx(() -> group().getUuid()));
+		UserResponse restUser = call(() -> client().createUser(request));
+
+		MeshRestClient userClient = MeshRestClient.create("localhost", port(), false);
+		userClient.setLogin("token_user", "test123456");
+		userClient.login().blockingGet();
+
+		// The second request will use the already verified token
+		assertEquals(restUser.getUuid(), call(() -> userClient.me()).getUuid());
+		assertEquals(restUser.getUuid(), call(() -> userClient.me()).getUuid());
+
+		call(() -> client().deleteUser(restUser.getUuid()));
+		disableAnonymousAccess();
+		call(() -> userClient.me(), UNAUTHORIZED, "error_not_authorized");
+	}
+
 	@Test
 	public void testIssueAPIKeyWithoutPerm() {
 		tx((tx) -> {
@@ -528,6 +550,50 @@ public class UserEndpointTest extends AbstractMeshTest implements BasicRestTestc
 
 	}
 
+	@Test
+	public void testReadMultipleWithCursor() {
+		UserListResponse all = call(() -> client().findUsers());
+		List<String> expected = all.getData().stream().map(UserResponse::getUuid).collect(Collectors.toList());
+
+		List<String> found = new ArrayList<>();
+		String cursor = null;
+		do {
+			PagingParametersImpl paging = new PagingParametersImpl(1, 1L);
+			paging.setTotalCount(false);
+			paging.setAfter(cursor);
+			UserListResponse page = call(() -> client().findUsers(paging));
+			assertEquals("The total count should not be determined", -1, page.getMetainfo().getTotalCount());
+			assertEquals(-1, page.getMetainfo().getPageCount());
+			page.getData().forEach(user -> found.add(user.getUuid()));
+			cursor = page.getMetainfo().getNextCursor();
+		} while (cursor != null);
+
+		assertEquals("Iterating via the cursor should return all users in the same order", expected, found);
+	}
+
+	@Test
+	public void testCursorOfDeletedUser() {
+		String uuidA = call(() -> client().createUser(new UserCreateRequest().setUsername("cursorA").setPassword("test1234"))).getUuid();
+		String uuidB = call(() -> client().createUser(new UserCreateRequest().setUsername("cursorB").setPassword("test1234"))).getUuid();
+		List<String> expected = call(() -> client().findUsers()).getData().stream().map(UserResponse::getUuid).collect(Collectors.toList());
+
+		// Load the page which ends with the first of both users. The other user ensures that there is a next page.
+		int index = Math.min(expected.indexOf(uuidA), expected.indexOf(uuidB));
+		String cursor = call(() -> client().findUsers(new PagingParametersImpl(1, (long) index + 1))).getMetainfo().getNextCursor();
+		assertNotNull(cursor);
+
+		// The cursor is used to seek within the index and thus still works after the user was deleted
+		call(() -> client().deleteUser(expected.get(index)));
+		UserListResponse nextPage = call(() -> client().findUsers(new PagingParametersImpl().setAfter(cursor)));
+		List<String> found = nextPage.getData().stream().map(UserResponse::getUuid).collect(Collectors.toList());
+		assertEquals("The page should start after the deleted user", expected.subList(index + 1, expected.size()), found);
+	}
+
+	@Test
+	public void testInvalidCursor() {
+		call(() -> client().findUsers(new PagingParametersImpl().setAfter("a!b")), BAD_REQUEST, "error_paging_cursor_invalid", "a!b");
+	}
+
 	@Test
 	public void testInvalidPageParameter() {
 		UserListResponse list = call(() -> client().findUsers(new PagingParametersImpl(1, 0L)));
@@ -2,10 +2,13 @@ package com.gentics.mesh.search;
 
 import static com.gentics.mesh.test.context.ElasticsearchTestMode.CONTAINER_ES6;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
@@ -47,6 +50,26 @@ public class ElasticSearchProviderTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testMappingHash() {
+		ElasticSearchProvider provider = getProvider();
+		JsonObject mappings = new JsonObject().put(SearchProvider.DEFAULT_TYPE, new JsonObject()
+			.put("properties", new JsonObject().put("name", new JsonObject().put("type", "keyword"))));
+		IndexInfo info = new IndexInfo("hashtest", new JsonObject(), mappings, "testSchema");
+		provider.createIndex(info).blockingAwait();
+
+		Map<String, String> hashes = provider.loadIndexMappingHashes().blockingGet();
+		assertEquals("The stored hash should match the hash of the index info", provider.createMappingHash(info), hashes.get("hashtest"));
+		assertFalse("The mappings of the index info must not be altered", mappings.getJsonObject(SearchProvider.DEFAULT_TYPE).containsKey("_meta"));
+
+		JsonObject changedMappings = mappings.copy();
+		changedMappings.getJsonObject(SearchProvider.DEFAULT_TYPE).getJsonObject("properties").put("other", new JsonObject().put("type", "text"));
+		IndexInfo changedInfo = new IndexInfo("hashtest", new JsonObject(), changedMappings, "testSchema");
+		assertNotEquals(provider.createMappingHash(changedInfo), hashes.get("hashtest"));
+
+		provider.deleteIndex("hashtest").blockingAwait();
+	}
+
 	@Test
 	public void testVersion() {
 		ElasticSearchProvider provider = getProvider();
@@ -1,5 +1,7 @@
 package com.gentics.mesh.search;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_VERSION;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
@@ -9,7 +11,14 @@ import static com.gentics.mesh.test.context.MeshTestHelper.getSimpleTermQuery;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -19,11 +28,19 @@ import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.parameter.impl.SearchParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.test.context.ElasticsearchTestMode;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+
 @RunWith(Parameterized.class)
 @MeshTestSetting(elasticsearch = CONTAINER_ES6, testSize = FULL, startServer = true)
 public class NodeSearchEndpointETest extends AbstractNodeSearchEndpointTest {
@@ -49,6 +66,92 @@ public class NodeSearchEndpointETest extends AbstractNodeSearchEndpointTest {
 
 	}
 
+	@Test
+	public void testPermissionCheckOnHydration() throws Exception {
+		recreateIndices();
+
+		// Revoke the permission without updating the index
+		tx((tx) -> {
+			role().revokePermissions(content("concorde"), READ_PERM);
+			tx.success();
+		});
+
+		NodeListResponse response = call(() -> client().searchNodes(PROJECT_NAME, getSimpleQuery("fields.content", "Concorde"),
+			new PagingParametersImpl().setPage(1).setPerPage(2L), new VersioningParametersImpl().draft()));
+		assertEquals("The node should be omitted since it is no longer readable.", 0, response.getData().size());
+		assertEquals(0, response.getMetainfo().getTotalCount());
+	}
+
+	@Test
+	public void testCursorPaging() throws Exception {
+		recreateIndices();
+
+		String query = getSimpleTermQuery("schema.name.raw", "content");
+		NodeListResponse all = call(() -> client().searchNodes(PROJECT_NAME, query, new PagingParametersImpl().setPerPage(1000L),
+			new SearchParametersImpl().setCursor(true), new VersioningParametersImpl().draft()));
+		assertTrue(all.getData().size() > 2);
+
+		List<String> found = new ArrayList<>();
+		String cursor = null;
+		do {
+			PagingParameters paging = new PagingParametersImpl().setPerPage(2L);
+			if (cursor != null) {
+				paging.setAfter(cursor);
+			}
+			NodeListResponse page = call(() -> client().searchNodes(PROJECT_NAME, query, paging, new SearchParametersImpl().setCursor(true),
+				new VersioningParametersImpl().draft()));
+			page.getData().forEach(node -> found.add(node.getUuid() + "-" + node.getLanguage()));
+			cursor = page.getMetainfo().getNextCursor();
+		} while (cursor != null);
+
+		List<String> expected = all.getData().stream().map(node -> node.getUuid() + "-" + node.getLanguage()).collect(Collectors.toList());
+		assertEquals("All documents should have been returned exactly once.", expected, found);
+	}
+
+	@Test
+	public void testNoCursorWithoutCursorPaging() throws Exception {
+		recreateIndices();
+
+		NodeListResponse page = call(() -> client().searchNodes(PROJECT_NAME, getSimpleTermQuery("schema.name.raw", "content"),
+			new PagingParametersImpl().setPerPage(2L), new VersioningParametersImpl().draft()));
+		assertEquals(2, page.getData().size());
+		assertNull("The cursor should only be returned if cursor paging was requested.", page.getMetainfo().getNextCursor());
+	}
+
+	@Test
+	public void testSourceOnly() throws Exception {
+		recreateIndices();
+
+		// Revoke the permission without updating the index
+		String concordeUuid = tx(() -> content("concorde").getUuid());
+		tx((tx) -> {
+			role().revokePermissions(content("concorde"), READ_PERM);
+			tx.success();
+		});
+
+		String query = getSimpleTermQuery("schema.name.raw", "content");
+		JsonObject response = new JsonObject(httpClient().newCall(new Request.Builder()
+			.addHeader("Authorization", "Bearer " + client().getAuthentication().getToken())
+			.url(String.format("http://localhost:%d/api/v%d/%s/search/nodes?sourceOnly=true&perPage=1000", port(), CURRENT_API_VERSION,
+				PROJECT_NAME))
+			.post(RequestBody.create(MediaType.parse("application/json"), query))
+			.build()).execute().body().string());
+		JsonArray documents = response.getJsonArray("data");
+		assertFalse(documents.isEmpty());
+		for (int i = 0; i < documents.size(); i++) {
+			JsonObject document = documents.getJsonObject(i);
+			assertNotEquals("The document of the unreadable node should be omitted.", concordeUuid, document.getString("uuid"));
+			assertFalse("Internal fields must not be returned.", document.containsKey("_roleUuids"));
+			assertFalse("Internal fields must not be returned.", document.containsKey("version"));
+		}
+	}
+
+	@Test
+	public void testInvalidCursor() {
+		call(() -> client().searchNodes(PROJECT_NAME, getSimpleTermQuery("schema.name.raw", "content"),
+			new PagingParametersImpl().setAfter("bogus")), BAD_REQUEST, "error_paging_cursor_invalid", "bogus");
+	}
+
 	@Test
 	public void testBogusQuery() {
 		call(() -> client().searchNodes(PROJECT_NAME, "bogus}J}son"), BAD_REQUEST, "search_query_not_parsable");
@@ -1,6 +1,7 @@
 package com.gentics.mesh.test.context;
 
 import java.net.ServerSocket;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -20,6 +21,10 @@ public enum MeshOptionChanger {
 		options.setInitialAdminPassword("debug99");
 	}), ES_STRICT_MODE(options -> {
 		options.getSearchOptions().setMappingMode(MappingMode.STRICT);
+	}), INCREMENTAL_ONLINE_BACKUP(options -> {
+		options.getStorageOptions().setOnlineBackup(true).setIncrementalBackup(true);
+	}), INDEXED_SLUG_FIELD(options -> {
+		options.getContentOptions().setIndexedFields(Arrays.asList("slug"));
 	}), RANDOM_ES_PORT(options -> {
 		try {
 			try (ServerSocket s = new ServerSocket(0)) {
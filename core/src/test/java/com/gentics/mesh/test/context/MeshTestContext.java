@@ -450,6 +450,9 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(folder);
 		}
 		meshDagger.permissionCache().clear(false);
+		meshDagger.navigationCache().clear();
+		meshDagger.resolvedLinkCache().clear();
+		meshDagger.authTokenCache().clear();
 	}
 
 	public TestDataProvider getData() {
@@ -641,6 +644,12 @@ public class MeshTestContext extends TestWatcher {
 
 		String plugindirPath = newFolder("plugins");
 		meshOptions.setPluginDirectory(plugindirPath);
+
+		// The change feed is not supported in a cluster
+		if (!meshOptions.getClusterOptions().isEnabled()) {
+			String changeFeedPath = newFolder("changes");
+			meshOptions.getContentOptions().setChangeFeedDirectory(changeFeedPath);
+		}
 	}
 
 	/**
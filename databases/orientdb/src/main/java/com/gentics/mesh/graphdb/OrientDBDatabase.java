@@ -11,6 +11,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -57,6 +59,7 @@ import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OSchemaException;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration.ROLES;
@@ -64,6 +67,7 @@ import com.orientechnologies.orient.server.distributed.OModifiableDistributedCon
 import com.orientechnologies.orient.server.hazelcast.OHazelcastPlugin;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.GraphAccessStats;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
 import com.syncleus.ferma.ext.orientdb3.OrientDBTx;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
@@ -75,6 +79,7 @@ import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientElement;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
+import com.tinkerpop.blueprints.impls.orient.OrientVertexType;
 import com.tinkerpop.blueprints.util.wrappers.wrapped.WrappedVertex;
 import com.tinkerpop.pipes.util.FastNoSuchElementException;
 
@@ -284,6 +289,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 	@Override
 	public Iterator<Vertex> getVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues) {
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		GraphAccessStats.indexLookup();
 		return orientBaseGraph.getVertices(classOfVertex.getSimpleName(), fieldNames, fieldValues).iterator();
 	}
 
@@ -305,6 +311,38 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return fermaGraph.frameExplicit(rawIt, classOfVertex);
 	}
 
+	@Override
+	public List<String> getVertexPartitions(Class<?> classOfVertex) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		OrientVertexType type = orientBaseGraph.getVertexType(classOfVertex.getSimpleName());
+		if (type == null) {
+			return Collections.emptyList();
+		}
+		List<String> partitions = new ArrayList<>();
+		for (int clusterId : type.getPolymorphicClusterIds()) {
+			partitions.add(orientBaseGraph.getRawGraph().getClusterNameById(clusterId));
+		}
+		return partitions;
+	}
+
+	@Override
+	public <T extends MeshVertex> List<? extends T> getVertexBatch(Class<T> classOfVertex, String partition, Object afterId, int limit) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		FramedGraph fermaGraph = Tx.get().getGraph();
+		// Paging via the record id is the recommended way to scan large clusters since it does not need to skip the previous records.
+		Iterable<Vertex> vertices;
+		if (afterId == null) {
+			vertices = orientBaseGraph.command(new OCommandSQL("SELECT FROM CLUSTER:" + partition + " LIMIT " + limit)).execute();
+		} else {
+			vertices = orientBaseGraph.command(new OCommandSQL("SELECT FROM CLUSTER:" + partition + " WHERE @rid > ? LIMIT " + limit)).execute(afterId);
+		}
+		List<T> batch = new ArrayList<>(limit);
+		for (Vertex vertex : vertices) {
+			batch.add(fermaGraph.frameElementExplicit(vertex, classOfVertex));
+		}
+		return batch;
+	}
+
 	/**
 	 * Unwrap the current thread local graph.
 	 *
@@ -328,6 +366,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 	public <T extends MeshElement> T findVertex(String fieldKey, Object fieldValue, Class<T> clazz) {
 		FramedGraph graph = Tx.getActive().getGraph();
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		GraphAccessStats.indexLookup();
 		Iterator<Vertex> it = orientBaseGraph.getVertices(clazz.getSimpleName(), new String[] { fieldKey }, new Object[] { fieldValue }).iterator();
 		if (it.hasNext()) {
 			return graph.frameNewElementExplicit(it.next(), clazz);
@@ -339,6 +378,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 	public <T extends EdgeFrame> T findEdge(String fieldKey, Object fieldValue, Class<T> clazz) {
 		FramedGraph graph = Tx.getActive().getGraph();
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		GraphAccessStats.indexLookup();
 		Iterator<Edge> it = orientBaseGraph.getEdges(fieldKey, fieldValue).iterator();
 		if (it.hasNext()) {
 			return graph.frameNewElementExplicit(it.next(), clazz);
@@ -485,6 +525,11 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return txProvider.backup(backupDirectory);
 	}
 
+	@Override
+	public String onlineBackupGraph(String backupDirectory, boolean incremental) throws IOException {
+		return txProvider.onlineBackup(backupDirectory, incremental);
+	}
+
 	@Override
 	public void restoreGraph(String backupFile) throws IOException {
 		txProvider.restore(backupFile);
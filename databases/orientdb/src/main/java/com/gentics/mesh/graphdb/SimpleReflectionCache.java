@@ -1,42 +1,180 @@
 package com.gentics.mesh.graphdb;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.commons.lang3.StringUtils;
 import org.reflections.Reflections;
 
 import com.gentics.madl.annotations.GraphElement;
 
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for the graph element classes and their type hierarchy. The classes are loaded from the registry which is generated at compile time by the
+ * madl annotation processor (see {@link GraphElement#REGISTRY_RESOURCE}). The classpath will be scanned if no registry could be found, if the registry
+ * contains invalid entries or if a type is requested which is not contained in the registry.
+ */
 public class SimpleReflectionCache extends Reflections {
 
+	private static final Logger log = LoggerFactory.getLogger(SimpleReflectionCache.class);
+
 	private final Map<String, Set<String>> hierarchy;
 	private final Map<Method, Map<Class<Annotation>, Annotation>> annotationCache = new HashMap<>();
-	private final Map<String, Class> classStringCache = new HashMap<>();
+	private final Map<String, Class> classStringCache = new ConcurrentHashMap<>();
+
+	private final String[] basePaths;
+
+	private volatile boolean scanned = false;
 
 	public SimpleReflectionCache() {
 		super();
-		this.hierarchy = new HashMap<>();
+		this.hierarchy = new ConcurrentHashMap<>();
+		this.basePaths = new String[0];
 	}
 
 	public SimpleReflectionCache(String... basePaths) {
-		this();
+		super();
+		this.hierarchy = new ConcurrentHashMap<>();
+		this.basePaths = basePaths;
+		long start = System.currentTimeMillis();
+		ClassLoader classLoader = SimpleReflectionCache.class.getClassLoader();
+		if (!loadRegistry(classLoader, basePaths)) {
+			scanClasspath();
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Loaded {" + classStringCache.size() + "} graph element types in {" + (System.currentTimeMillis() - start) + "} ms");
+		}
+	}
+
+	/**
+	 * Load the graph element classes and their hierarchy from the generated registry files. The registry is only accepted if all listed classes exist
+	 * and are graph elements. Otherwise it is considered stale (e.g. written by an incremental compilation) and will be ignored.
+	 * 
+	 * @param classLoader
+	 * @param basePaths
+	 * @return false if no valid registry could be found
+	 */
+	private boolean loadRegistry(ClassLoader classLoader, String... basePaths) {
+		boolean found = false;
+		try {
+			Enumeration<URL> resources = classLoader.getResources(GraphElement.REGISTRY_RESOURCE);
+			if (!resources.hasMoreElements()) {
+				log.warn("No graph element registry found at {" + GraphElement.REGISTRY_RESOURCE + "}. Falling back to classpath scanning.");
+			}
+			while (resources.hasMoreElements()) {
+				found = true;
+				URL url = resources.nextElement();
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+					String line;
+					while ((line = reader.readLine()) != null) {
+						line = line.trim();
+						if (line.isEmpty()) {
+							continue;
+						}
+						String className = StringUtils.substringBefore(line, "=");
+						if (!matchesBasePath(className, basePaths)) {
+							continue;
+						}
+						Class<?> clazz = Class.forName(className, false, classLoader);
+						if (!isGraphElement(clazz)) {
+							log.warn("The graph element registry {" + url + "} lists the class {" + className
+								+ "} which is not a graph element. Falling back to classpath scanning.");
+							clear();
+							return false;
+						}
+						String[] superTypes = StringUtils.split(StringUtils.substringAfter(line, "="), ',');
+						register(clazz, superTypes);
+					}
+				}
+			}
+		} catch (ClassNotFoundException e) {
+			log.warn("The graph element registry lists the class {" + e.getMessage() + "} which does not exist. Falling back to classpath scanning.");
+			clear();
+			return false;
+		} catch (IOException e) {
+			throw new RuntimeException("Could not load the graph element registry", e);
+		}
+		return found;
+	}
+
+	private static boolean isGraphElement(Class<?> clazz) {
+		for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+			if (current.isAnnotationPresent(GraphElement.class)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void clear() {
+		classStringCache.clear();
+		hierarchy.clear();
+	}
+
+	/**
+	 * Scan the classpath for graph element classes. This is only used when no valid registry was generated (e.g. when running from within an IDE which
+	 * does not apply the annotation processor) or when the registry is incomplete.
+	 */
+	private synchronized void scanClasspath() {
+		if (scanned) {
+			return;
+		}
 		for (String basePath : basePaths) {
 			Set<Class<?>> graphTypeClasses = new Reflections(basePath).getTypesAnnotatedWith(GraphElement.class);
 			for (Class<?> clazz : graphTypeClasses) {
-				classStringCache.put(clazz.getSimpleName(), clazz);
+				Set<String> superTypes = new HashSet<>();
+				Class<?> current = clazz.getSuperclass();
+				while (current != null && graphTypeClasses.contains(current)) {
+					superTypes.add(current.getSimpleName());
+					current = current.getSuperclass();
+				}
+				register(clazz, superTypes.toArray(new String[superTypes.size()]));
+			}
+		}
+		scanned = true;
+	}
+
+	private boolean matchesBasePath(String className, String... basePaths) {
+		for (String basePath : basePaths) {
+			if (className.startsWith(basePath + ".")) {
+				return true;
 			}
 		}
+		return false;
+	}
+
+	/**
+	 * Register the class and add it to the sub types of the given super types.
+	 * 
+	 * @param clazz
+	 * @param superTypes
+	 *            Simple names of the graph element super types
+	 */
+	private void register(Class<?> clazz, String... superTypes) {
+		String name = clazz.getSimpleName();
+		classStringCache.put(name, clazz);
+		hierarchy.computeIfAbsent(name, k -> ConcurrentHashMap.newKeySet()).add(name);
+		for (String superType : superTypes) {
+			hierarchy.computeIfAbsent(superType, k -> ConcurrentHashMap.newKeySet()).add(name);
+		}
 	}
 
 	public Set<? extends String> getSubTypeNames(final Class<?> type) {
-		Set<String> subtypes = this.hierarchy.get(type.getName());
-		if (subtypes == null)
-			subtypes = Collections.singleton(type.getName());
-		return Collections.unmodifiableSet(subtypes);
+		return getSubTypeNames(type.getSimpleName());
 	}
 
 	public Set<? extends String> getSubTypeNames(final String typeName) {
@@ -62,7 +200,17 @@ public class SimpleReflectionCache extends Reflections {
 	}
 
 	public Class<?> forName(final String className) {
-		return this.classStringCache.get(className);
+		if (className == null) {
+			return null;
+		}
+		Class<?> clazz = this.classStringCache.get(className);
+		if (clazz == null && !scanned && basePaths.length > 0) {
+			// The registry may be incomplete if it was written by an incremental compilation
+			log.warn("The graph element type {" + className + "} is not contained in the registry. Falling back to classpath scanning.");
+			scanClasspath();
+			clazz = this.classStringCache.get(className);
+		}
+		return clazz;
 	}
 
 }
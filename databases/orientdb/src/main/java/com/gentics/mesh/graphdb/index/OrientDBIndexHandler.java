@@ -2,10 +2,14 @@ package com.gentics.mesh.graphdb.index;
 
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toSubType;
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toType;
+import static com.gentics.mesh.util.StreamUtil.toStream;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Map.Entry;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -22,6 +26,8 @@ import com.gentics.mesh.madl.index.EdgeIndexDefinition;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
 import com.gentics.mesh.madl.index.VertexIndexDefinition;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexCursor;
@@ -32,10 +38,12 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.ElementFrame;
 import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.GraphAccessStats;
 import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Graph;
+import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientEdgeType;
 import com.tinkerpop.blueprints.impls.orient.OrientElementType;
@@ -198,6 +206,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		if (elementType != null) {
 			OIndex<?> index = elementType.getClassIndex(indexName);
 			if (index != null) {
+				GraphAccessStats.indexLookup();
 				Object recordId = index.get(key);
 				if (recordId != null) {
 					if (recordId.equals(element.getElement().getId())) {
@@ -233,6 +242,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		if (vertexType != null) {
 			OIndex<?> index = vertexType.getClassIndex(indexName);
 			if (index != null) {
+				GraphAccessStats.indexLookup();
 				Object recordId = index.get(key);
 				if (recordId != null) {
 					return (T) graph.getFramedVertexExplicit(classOfT, recordId);
@@ -262,6 +272,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		boolean includeIn = def.isIncludeIn();
 		boolean includeOut = def.isIncludeOut();
 		boolean includeInOut = def.isIncludeInOut();
+		boolean includeOutIn = def.isIncludeOutIn();
 		String[] extraFields = {};
 
 		OrientGraphNoTx noTx = db.get().getTxProvider().rawNoTx();
@@ -288,10 +299,10 @@ public class OrientDBIndexHandler implements IndexHandler {
 				}
 			}
 
-			if ((includeIn || includeInOut) && e.getProperty("in") == null) {
+			if ((includeIn || includeInOut || includeOutIn) && e.getProperty("in") == null) {
 				e.createProperty("in", OType.LINK);
 			}
-			if ((includeOut || includeInOut) && e.getProperty("out") == null) {
+			if ((includeOut || includeInOut || includeOutIn) && e.getProperty("out") == null) {
 				e.createProperty("out", OType.LINK);
 			}
 			for (String key : extraFields) {
@@ -306,6 +317,10 @@ public class OrientDBIndexHandler implements IndexHandler {
 			if (includeInOut && e.getClassIndex(name) == null) {
 				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE, new String[] { "in", "out" });
 			}
+			name = indexName + "_outin";
+			if (includeOutIn && e.getClassIndex(name) == null) {
+				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE, new String[] { "out", "in" });
+			}
 			name = indexName + "_out";
 			if (includeOut && e.getClassIndex(name) == null) {
 				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX, new String[] { "out" });
@@ -327,8 +342,8 @@ public class OrientDBIndexHandler implements IndexHandler {
 			name = name.toLowerCase();
 			if (fields != null && fields.size() != 0 && e.getClassIndex(name) == null) {
 				String[] fieldArray = fields.keySet().stream().toArray(String[]::new);
-				String indexType = unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString();
-				OIndex<?> idx = e.createIndex(name, indexType, null, new ODocument().fields("ignoreNullValues", true), fieldArray);
+				OIndex<?> idx = e.createIndex(name, indexType(unique, def.isOrdered()), null, new ODocument().fields("ignoreNullValues", true),
+					fieldArray);
 				if (idx == null) {
 					new RuntimeException("Index for {" + label + "/" + indexPostfix + "} was not created.");
 				}
@@ -377,8 +392,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 
 			if (fields != null && fields.size() != 0 && v.getClassIndex(indexName) == null) {
 				String[] fieldArray = fields.keySet().stream().toArray(String[]::new);
-				v.createIndex(indexName, unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString(),
-					null, new ODocument().fields("ignoreNullValues", true), fieldArray);
+				v.createIndex(indexName, indexType(unique, def.isOrdered()), null, new ODocument().fields("ignoreNullValues", true), fieldArray);
 			}
 		} finally {
 			noTx.shutdown();
@@ -386,6 +400,20 @@ public class OrientDBIndexHandler implements IndexHandler {
 
 	}
 
+	/**
+	 * Return the index type for the given flags. Hash indices are faster for key lookups but only SB-tree indices support range lookups.
+	 * 
+	 * @param unique
+	 * @param ordered
+	 * @return
+	 */
+	private String indexType(boolean unique, boolean ordered) {
+		if (ordered) {
+			return unique ? OClass.INDEX_TYPE.UNIQUE.toString() : OClass.INDEX_TYPE.NOTUNIQUE.toString();
+		}
+		return unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString();
+	}
+
 	@Override
 	public <T extends VertexFrame> T findByUuid(Class<? extends T> classOfT, String uuid) {
 		Class<?> foundImpl = persistenceClassMap.get(classOfT);
@@ -403,6 +431,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		if (vertexType != null) {
 			OIndex<?> index = vertexType.getClassIndex(type);
 			if (index != null) {
+				GraphAccessStats.indexLookup();
 				Object recordId = index.get(uuid);
 				if (recordId != null) {
 					return (T) graph.getFramedVertexExplicit(classOfT, recordId);
@@ -411,4 +440,101 @@ public class OrientDBIndexHandler implements IndexHandler {
 		}
 		return null;
 	}
+
+	@Override
+	public Stream<Vertex> edgeSeek(String edgeLabel, Object outId, Object afterInId) {
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		OrientEdgeType edgeType = orientBaseGraph.getEdgeType(edgeLabel);
+		if (edgeType == null) {
+			return null;
+		}
+		OIndex<?> index = edgeType.getClassIndex("e." + edgeLabel.toLowerCase() + "_outin");
+		if (index == null) {
+			return null;
+		}
+
+		GraphAccessStats.indexLookup();
+		// The partial key selects all edges of the outbound vertex
+		OCompositeKey outKey = new OCompositeKey(outId);
+		OIndexCursor cursor;
+		if (afterInId == null) {
+			cursor = index.iterateEntriesBetween(outKey, true, outKey, true, true);
+		} else {
+			ORID afterId = afterInId instanceof ORID ? (ORID) afterInId : new ORecordId(afterInId.toString());
+			cursor = index.iterateEntriesBetween(new OCompositeKey(outId, afterId), false, outKey, true, true);
+		}
+
+		// The inbound vertex id is part of the key. There is no need to load the edges.
+		Iterator<Vertex> it = new Iterator<Vertex>() {
+
+			private Entry<Object, OIdentifiable> next = cursor.nextEntry();
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public Vertex next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				Object inId = ((OCompositeKey) next.getKey()).getKeys().get(1);
+				next = cursor.nextEntry();
+				return orientBaseGraph.getVertex(inId);
+			}
+		};
+		return toStream(it);
+	}
+
+	@Override
+	public <T extends VertexFrame> Stream<T> rangeLookup(Class<T> classOfT, String indexPostfix, Object[] fromKeys, Object[] toKeys,
+		boolean descending) {
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		String type = classOfT.getSimpleName();
+		OrientVertexType vertexType = orientBaseGraph.getVertexType(type);
+		if (vertexType == null) {
+			return null;
+		}
+		OIndex<?> index = vertexType.getClassIndex(type + "_" + indexPostfix);
+		if (index == null) {
+			return null;
+		}
+
+		GraphAccessStats.indexLookup();
+		boolean composite = index.getDefinition().getParamCount() > 1;
+		Object from = toIndexKey(fromKeys, composite);
+		Object to = toIndexKey(toKeys, composite);
+		boolean ascending = !descending;
+		OIndexCursor cursor;
+		if (from != null && to != null) {
+			cursor = index.iterateEntriesBetween(from, true, to, true, ascending);
+		} else if (from != null) {
+			cursor = index.iterateEntriesMajor(from, true, ascending);
+		} else if (to != null) {
+			cursor = index.iterateEntriesMinor(to, true, ascending);
+		} else {
+			cursor = ascending ? index.cursor() : index.descCursor();
+		}
+
+		FramedGraph graph = Tx.get().getGraph();
+		return toStream(cursor).map(id -> graph.getFramedVertexExplicit(classOfT, id.getIdentity()));
+	}
+
+	/**
+	 * Convert the given keys into a key of the index. Partial keys of composed indices need to be wrapped as well in order to be used as prefix.
+	 * 
+	 * @param keys
+	 * @param composite
+	 * @return
+	 */
+	private Object toIndexKey(Object[] keys, boolean composite) {
+		if (keys == null || keys.length == 0) {
+			return null;
+		}
+		if (!composite) {
+			return keys[0];
+		}
+		return new OCompositeKey(keys);
+	}
 }
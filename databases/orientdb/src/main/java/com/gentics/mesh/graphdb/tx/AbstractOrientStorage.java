@@ -18,8 +18,12 @@ import java.util.Date;
 
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.util.RateLimitedOutputStream;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 
@@ -92,6 +96,7 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 			String backupFile = "backup_" + dateString + ".zip";
 			new File(backupDirectory).mkdirs();
 			String absolutePath = new File(backupDirectory, backupFile).getAbsolutePath();
+			// The backup blocks transactions and is thus not rate limited
 			try (OutputStream out = new FileOutputStream(absolutePath)) {
 				db.backup(out, null, null, listener, 1, 2048);
 			}
@@ -101,6 +106,48 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 		}
 	}
 
+	@Override
+	public String onlineBackup(String backupDirectory, boolean incremental) throws IOException {
+		boolean isMemoryMode = options.getStorageOptions().getDirectory() == null;
+		if (isMemoryMode) {
+			throw error(SERVICE_UNAVAILABLE, "backup_error_not_supported_in_memory_mode");
+		}
+		// Incremental backups must be written to the same directory since OrientDB tracks the last backed up position within the directory.
+		// Otherwise each backup will be written to a new directory and thus contain the full database.
+		File targetDirectory = incremental ? new File(backupDirectory, "incremental")
+			: new File(backupDirectory, "online_" + formatter.format(new Date()));
+		targetDirectory.mkdirs();
+		if (log.isDebugEnabled()) {
+			log.debug("Running online backup to directory {" + targetDirectory.getAbsolutePath() + "}.");
+		}
+		ODatabaseSession db = createSession();
+		try {
+			OStorage storage = ((ODatabaseDocumentInternal) db).getStorage();
+			long rateLimit = options.getStorageOptions().getBackupRateLimit();
+			if (!incremental && storage instanceof OAbstractPaginatedStorage) {
+				// Full online backups are streamed so that the written bytes can be rate limited
+				File backupFile = new File(targetDirectory, "backup_" + formatter.format(new Date()) + ".ibu");
+				try (OutputStream out = new RateLimitedOutputStream(new FileOutputStream(backupFile), rateLimit)) {
+					((OAbstractPaginatedStorage) storage).fullIncrementalBackup(out);
+				}
+				return backupFile.getAbsolutePath();
+			}
+			// OrientDB writes the incremental backup files itself and determines the changed pages via the files of the directory. The rate limit
+			// can't be applied to these files. Only the first incremental backup contains the full database.
+			if (rateLimit > 0 && log.isDebugEnabled()) {
+				log.debug("The backup rate limit is not applied to incremental backups.");
+			}
+			String fileName = db.incrementalBackup(targetDirectory.getAbsolutePath());
+			File backupFile = new File(fileName);
+			if (!backupFile.isAbsolute()) {
+				backupFile = new File(targetDirectory, fileName);
+			}
+			return backupFile.getAbsolutePath();
+		} finally {
+			db.close();
+		}
+	}
+
 	@Override
 	public void restore(String backupFile) throws IOException {
 		if (log.isDebugEnabled()) {
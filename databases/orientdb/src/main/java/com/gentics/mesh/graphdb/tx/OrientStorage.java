@@ -45,6 +45,17 @@ public interface OrientStorage extends GraphStorage {
 	 */
 	String backup(String backupDirectory) throws FileNotFoundException, IOException;
 
+	/**
+	 * Invoke the online backup process. The online backup does not block transactions.
+	 * 
+	 * @param backupDirectory
+	 * @param incremental
+	 *            Whether only the changes since the previous incremental backup should be written
+	 * @return Path of the written backup file
+	 * @throws IOException
+	 */
+	String onlineBackup(String backupDirectory, boolean incremental) throws IOException;
+
 	/**
 	 * Invoke the restore process.
 	 * 
@@ -0,0 +1,40 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import com.gentics.mesh.graphdb.SimpleReflectionCache;
+import com.gentics.mesh.graphdb.orientdb.graph.Employee;
+import com.gentics.mesh.graphdb.orientdb.graph.Group;
+import com.gentics.mesh.graphdb.orientdb.graph.HasJob;
+import com.gentics.mesh.graphdb.orientdb.graph.Person;
+
+public class SimpleReflectionCacheTest {
+
+	private static final String BASE_PATH = "com.gentics.mesh.graphdb.orientdb.graph";
+
+	@Test
+	public void testForName() {
+		SimpleReflectionCache cache = new SimpleReflectionCache(BASE_PATH);
+		assertEquals(Person.class, cache.forName("Person"));
+		assertEquals(Group.class, cache.forName("Group"));
+		assertEquals(HasJob.class, cache.forName("HasJob"));
+		assertEquals("Subclasses of annotated classes should also be registered", Employee.class, cache.forName("Employee"));
+		assertNull("Classes outside of the base path must not be registered", cache.forName("ChangeDummy"));
+	}
+
+	@Test
+	public void testSubTypeNames() {
+		SimpleReflectionCache cache = new SimpleReflectionCache(BASE_PATH);
+		assertEquals(new HashSet<>(Arrays.asList("Person", "Employee")), cache.getSubTypeNames(Person.class));
+		assertEquals(new HashSet<>(Arrays.asList("Employee")), cache.getSubTypeNames(Employee.class));
+		assertTrue(cache.getSubTypeNames("Unknown").contains("Unknown"));
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.gentics.mesh.graphdb.orientdb.graph;
+
+/**
+ * Graph element which inherits the {@code @GraphElement} annotation from its super class.
+ */
+public class Employee extends Person {
+
+	public void setCompany(String company) {
+		setProperty("company", company);
+	}
+
+	public String getCompany() {
+		return getProperty("company");
+	}
+
+}
@@ -1,6 +1,8 @@
 package com.gentics.mesh.search;
 
 import com.gentics.mesh.core.data.search.IndexHandler;
+import com.gentics.mesh.core.data.search.index.IndexInfo;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.search.index.group.GroupIndexHandler;
 import com.gentics.mesh.search.index.microschema.MicroschemaContainerIndexHandler;
@@ -12,10 +14,17 @@ import com.gentics.mesh.search.index.tag.TagIndexHandler;
 import com.gentics.mesh.search.index.tagfamily.TagFamilyIndexHandler;
 import com.gentics.mesh.search.index.user.UserIndexHandler;
 
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Central location for all search index handlers.
@@ -23,6 +32,14 @@ import java.util.List;
 @Singleton
 public class IndexHandlerRegistry {
 
+	private static final Logger log = LoggerFactory.getLogger(IndexHandlerRegistry.class);
+
+	@Inject
+	SearchProvider searchProvider;
+
+	@Inject
+	MeshOptions options;
+
 	@Inject
 	NodeIndexHandler nodeIndexHandler;
 
@@ -74,6 +91,65 @@ public class IndexHandlerRegistry {
 		);
 	}
 
+	/**
+	 * Create the indices of all registered handlers which do not yet exist. The existing indices and their mapping hashes are loaded once and the missing
+	 * indices are created concurrently. Existing indices will not be altered. A warning will be logged for existing indices which were created using a
+	 * different mapping.
+	 * 
+	 * @return
+	 */
+	public Completable init() {
+		return Completable.defer(() -> {
+			long start = System.currentTimeMillis();
+			return searchProvider.loadIndexMappingHashes().flatMapCompletable(existingIndices -> {
+				long loadDuration = System.currentTimeMillis() - start;
+
+				long collectStart = System.currentTimeMillis();
+				List<IndexInfo> missingIndices = new ArrayList<>();
+				List<String> changedIndices = new ArrayList<>();
+				int skipped = 0;
+				for (IndexHandler<?> handler : getHandlers()) {
+					for (IndexInfo info : handler.getIndices().values()) {
+						String indexName = info.getIndexName();
+						if (!existingIndices.containsKey(indexName)) {
+							missingIndices.add(info);
+							continue;
+						}
+						skipped++;
+						// Indices which were created by older versions have no hash
+						String hash = existingIndices.get(indexName);
+						if (hash != null && !hash.equals(searchProvider.createMappingHash(info))) {
+							changedIndices.add(indexName);
+						}
+					}
+				}
+				long collectDuration = System.currentTimeMillis() - collectStart;
+
+				if (!changedIndices.isEmpty()) {
+					log.warn("The mapping of {" + changedIndices.size()
+						+ "} existing indices differs from the current mapping. Clear and sync the search indices in order to apply the current mapping.");
+					if (log.isDebugEnabled()) {
+						for (String indexName : changedIndices) {
+							log.debug("Mapping of index {" + indexName + "} has changed");
+						}
+					}
+				}
+
+				int parallelism = options.getSearchOptions().getIndexCreationParallelism();
+				long createStart = System.currentTimeMillis();
+				final int skippedIndices = skipped;
+				return Flowable.fromIterable(missingIndices)
+					.flatMapCompletable(info -> searchProvider.createIndex(info), false, parallelism)
+					.doOnComplete(() -> {
+						long now = System.currentTimeMillis();
+						log.info("Initialized search indices in {" + (now - start) + "} ms. Created {" + missingIndices.size() + "} and skipped {"
+							+ skippedIndices + "} existing indices. Timings - loading existing indices: {" + loadDuration
+							+ "} ms, collecting index information: {" + collectDuration + "} ms, creating indices: {" + (now - createStart) + "} ms");
+					});
+			});
+		});
+	}
+
 	/**
 	 * Identify the handler and return the matching one.
 	 * 
@@ -11,7 +11,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -57,6 +59,11 @@ public class ElasticSearchProvider implements SearchProvider {
 
 	private final static int MAX_RETRY_ON_ERROR = 5;
 
+	/**
+	 * Key of the mapping meta property which stores the mapping hash of the index.
+	 */
+	public static final String MAPPING_HASH_KEY = "meshMappingHash";
+
 	private final MeshOptions options;
 
 	private final Lazy<Vertx> vertx;
@@ -241,6 +248,21 @@ public class ElasticSearchProvider implements SearchProvider {
 		});
 	}
 
+	@Override
+	public Single<Map<String, String>> loadIndexMappingHashes() {
+		return client.readIndex(installationPrefix() + "*").async().map(json -> {
+			Map<String, String> hashes = new HashMap<>();
+			for (String index : json.fieldNames()) {
+				if (!index.startsWith(installationPrefix())) {
+					continue;
+				}
+				JsonObject meta = getMappingMeta(json.getJsonObject(index).getJsonObject("mappings"));
+				hashes.put(removePrefix(index), meta == null ? null : meta.getString(MAPPING_HASH_KEY));
+			}
+			return hashes;
+		});
+	}
+
 	@Override
 	public Completable createIndex(IndexInfo info) {
 		String indexName = installationPrefix() + info.getIndexName();
@@ -250,7 +272,14 @@ public class ElasticSearchProvider implements SearchProvider {
 				log.debug("Creating ES Index {" + indexName + "}");
 			}
 
-			JsonObject json = createIndexSettings(info);
+			String hash = createMappingHash(info);
+			// Copy the settings since the mappings of the index info must not be altered
+			JsonObject json = createIndexSettings(info).copy();
+			// Store the hash along with the mapping so that unchanged indices can be detected without comparing the mappings
+			JsonObject meta = getMappingMeta(json.getJsonObject("mappings"));
+			if (meta != null) {
+				meta.put(MAPPING_HASH_KEY, hash);
+			}
 			Completable indexCreation = client.createIndex(indexName, json).async()
 				.doOnSuccess(response -> {
 					if (log.isDebugEnabled()) {
@@ -558,6 +587,31 @@ public class ElasticSearchProvider implements SearchProvider {
 		return client != null;
 	}
 
+	/**
+	 * Return the meta object of the given index mappings. The object will be created if it does not yet exist.
+	 * 
+	 * @param mappings
+	 * @return Meta object or null if no mappings were given
+	 */
+	private JsonObject getMappingMeta(JsonObject mappings) {
+		if (mappings == null) {
+			return null;
+		}
+		JsonObject typeMapping = mappings;
+		if (complianceMode == ComplianceMode.ES_6) {
+			typeMapping = mappings.getJsonObject(DEFAULT_TYPE);
+			if (typeMapping == null) {
+				return null;
+			}
+		}
+		JsonObject meta = typeMapping.getJsonObject("_meta");
+		if (meta == null) {
+			meta = new JsonObject();
+			typeMapping.put("_meta", meta);
+		}
+		return meta;
+	}
+
 	private String getType() {
 		switch (complianceMode) {
 		case ES_6:
@@ -1,5 +1,6 @@
 package com.gentics.mesh.search.index;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapError;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapToMeshError;
@@ -9,6 +10,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -28,6 +31,7 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.page.PageCursor;
 import com.gentics.mesh.core.data.page.impl.PageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.search.IndexHandler;
@@ -39,7 +43,9 @@ import com.gentics.mesh.error.InvalidArgumentException;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.json.MeshJsonException;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.search.DevNullSearchProvider;
@@ -48,10 +54,13 @@ import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.TrackingSearchProvider;
 import com.gentics.mesh.util.SearchWaitUtil;
 import com.gentics.mesh.util.Tuple;
+import com.google.common.collect.Lists;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.reactivex.Observable;
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -77,6 +86,11 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 
 	public static final long DEFAULT_SEARCH_PER_PAGE = 10;
 
+	/**
+	 * Fields of the stored documents which are only used internally and will not be returned for source only searches.
+	 */
+	private static final List<String> INTERNAL_SOURCE_FIELDS = Arrays.asList("_roleUuids", AbstractTransformer.VERSION_KEY);
+
 	/**
 	 * Create a new search handler.
 	 * 
@@ -163,7 +177,7 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			JsonObject queryOption = new JsonObject();
 			queryOption.put("index",
 				StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-			queryOption.put("search_type", "dfs_query_then_fetch");
+			queryOption.put("search_type", getSearchType());
 			log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
@@ -212,6 +226,8 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		}
 
 		RL listResponse = classOfRL.newInstance();
+		boolean sourceOnly = ac.getSearchParameters().isSourceOnly();
+		boolean cursor = ac.getSearchParameters().isCursor() || pagingInfo.getAfter() != null;
 
 		waitUtil.awaitSync(ac).andThen(Single.defer(() -> {
 			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
@@ -226,7 +242,20 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			JsonObject request = prepareSearchQuery(ac, searchQuery, filterLanguage);
 
 			// Add paging to query. Internally we start with page 0
-			applyPagingParams(request, pagingInfo);
+			if (pagingInfo.getAfter() != null) {
+				applyCursorPagingParams(request, pagingInfo);
+			} else {
+				applyPagingParams(request, pagingInfo);
+			}
+			// The tiebreaker is only needed to create the cursor for the next page
+			if (cursor) {
+				applyCursorSort(request);
+			}
+
+			// The graph is our source of truth. The indexed contents are only needed if those should be returned directly.
+			if (!sourceOnly) {
+				request.put("_source", false);
+			}
 
 			if (log.isDebugEnabled()) {
 				log.debug("Using parsed query {" + request.encodePrettily() + "}");
@@ -235,79 +264,188 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			JsonObject queryOption = new JsonObject();
 			queryOption.put("index",
 				StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-			queryOption.put("search_type", "dfs_query_then_fetch");
+			queryOption.put("search_type", getSearchType());
 			log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
 			return requestBuilder.async();
-		})).flatMapObservable(response -> {
+		})).flatMap(response -> {
 			JsonArray responses = response.getJsonArray("responses");
 			JsonObject firstResponse = responses.getJsonObject(0);
 
 			// Process the nested error
 			JsonObject errorInfo = firstResponse.getJsonObject("error");
 			if (errorInfo != null) {
-				return Observable.error(mapError(errorInfo));
+				return Single.<String>error(mapError(errorInfo));
 			}
 
 			JsonObject hitsInfo = firstResponse.getJsonObject("hits");
 			JsonArray hits = hitsInfo.getJsonArray("hits");
 
-			List<Tuple<T, String>> list = new ArrayList<>();
-			db.tx(() -> {
-				for (int i = 0; i < hits.size(); i++) {
-					JsonObject hit = hits.getJsonObject(i);
-					String id = hit.getString("_id");
-					int pos = id.indexOf("-");
-
-					String language = pos > 0 ? id.substring(pos + 1) : null;
-					String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-					// Locate the node
-					T element = elementLoader.apply(uuid);
-					if (element == null) {
-						log.warn("Object could not be found for uuid {" + uuid + "}. The element will be omitted.");
-						// Reduce the total count
-						long total = extractTotalCount(hitsInfo);
-						switch (complianceMode) {
-						case ES_6:
-							hitsInfo.put("total", total - 1);
-							break;
-						case ES_7:
-							hitsInfo.put("total", new JsonObject().put("value", total - 1));
-							break;
-						default:
-							throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
-						}
-					} else {
-						// TODO maybe it would be better to directly transform the element here.
-						list.add(Tuple.tuple(element, language));
-					}
-				}
-			});
+			List<Tuple<String, String>> hitIds = new ArrayList<>(hits.size());
+			for (int i = 0; i < hits.size(); i++) {
+				JsonObject hit = hits.getJsonObject(i);
+				String id = hit.getString("_id");
+				int pos = id.indexOf("-");
 
-			// Set meta information to the rest response
-			listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
+				String language = pos > 0 ? id.substring(pos + 1) : null;
+				String uuid = pos > 0 ? id.substring(0, pos) : id;
+				hitIds.add(Tuple.tuple(uuid, language));
+			}
 
-			return Observable.fromIterable(list);
+			// Return the indexed documents without transforming the elements from the graph
+			if (sourceOnly) {
+				return Single.fromCallable(() -> readableSources(ac, elementLoader, hits, hitIds)).map(documents -> {
+					reduceTotalCount(hitsInfo, hitIds.size() - documents.size());
+					PagingMetaInfo metaInfo = extractCursorMetaInfo(hitsInfo, pagingInfo, cursor);
+					return new JsonObject()
+						.put("data", documents)
+						.put("_metainfo", new JsonObject(JsonUtil.toJson(metaInfo)))
+						.encode();
+				});
+			}
+
+			return hydrate(ac, elementLoader, hitIds).map(models -> {
+				// Reduce the total count by the amount of omitted elements
+				reduceTotalCount(hitsInfo, hitIds.size() - models.size());
+
+				// Set meta information to the rest response
+				listResponse.setMetainfo(extractCursorMetaInfo(hitsInfo, pagingInfo, cursor));
+				listResponse.getData().addAll(models);
+				return listResponse.toJson();
+			});
 		}).onErrorResumeNext(error -> {
-			return Observable.error(mapToMeshError(error));
-		}).flatMapSingle(element -> {
-			// TODO add resume next to omit the item if it can't be transformed for some reason.
-			// This would be better than to just fail the whole request
-			// TODO maybe add extra permission filtering? This would not be very costly for smaller pages and ensure perm consistency?
-			// TODO it would be good to batch the transformation of the elements to save the overhead of creating transactions and use the L1 cache.
-			return db.tx(() -> Single.just(element.v1().transformToRestSync(ac, 0, element.v2())));
-		}).collect(() -> listResponse.getData(), (x, y) -> {
-			x.add(y);
-		}).subscribe(list -> {
-			ac.send(listResponse.toJson(), OK);
+			return Single.error(mapToMeshError(error));
+		}).subscribe(json -> {
+			ac.send(json, OK);
 		}, error -> {
 			log.error("Error while processing search response items", error);
 			ac.fail(error);
 		});
 	}
 
+	/**
+	 * Reduce the total count of the hits by the amount of omitted elements.
+	 * 
+	 * @param hitsInfo
+	 * @param omitted
+	 */
+	private void reduceTotalCount(JsonObject hitsInfo, int omitted) {
+		if (omitted <= 0) {
+			return;
+		}
+		long total = extractTotalCount(hitsInfo);
+		switch (complianceMode) {
+		case ES_6:
+			hitsInfo.put("total", total - omitted);
+			break;
+		case ES_7:
+			hitsInfo.put("total", new JsonObject().put("value", total - omitted));
+			break;
+		default:
+			throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
+		}
+	}
+
+	/**
+	 * Return the stored documents of the hits whose elements are readable by the user. The permissions within the index may be outdated and are thus
+	 * checked against the graph. Internal fields of the documents will be removed.
+	 * 
+	 * @param ac
+	 * @param elementLoader
+	 * @param hits
+	 *            Hits of the search response
+	 * @param hitIds
+	 *            Uuid and language of the hits
+	 * @return
+	 */
+	private JsonArray readableSources(InternalActionContext ac, Function<String, T> elementLoader, JsonArray hits, List<Tuple<String, String>> hitIds) {
+		return db.tx(() -> {
+			JsonArray documents = new JsonArray();
+			for (int i = 0; i < hitIds.size(); i++) {
+				String uuid = hitIds.get(i).v1();
+				T element = elementLoader.apply(uuid);
+				if (element == null || !canRead(ac, element)) {
+					log.warn("Object with uuid {" + uuid + "} could not be found or is not readable for the user. The document will be omitted.");
+					continue;
+				}
+				JsonObject source = hits.getJsonObject(i).getJsonObject("_source");
+				if (source != null) {
+					for (String field : INTERNAL_SOURCE_FIELDS) {
+						source.remove(field);
+					}
+				}
+				documents.add(source);
+			}
+			return documents;
+		});
+	}
+
+	/**
+	 * Load and transform the elements of the search hits. The hits are processed within a single read transaction. The page will be split into chunks
+	 * which are processed in parallel if a hydration parallelism greater than one has been configured. The order of the hits will be retained.
+	 * 
+	 * @param ac
+	 * @param elementLoader
+	 *            Loader which is used to load the elements by uuid
+	 * @param hits
+	 *            Uuid and language of the hits
+	 * @return Transformed elements. Elements which could not be found or which are not readable will be omitted
+	 */
+	protected Single<List<RM>> hydrate(InternalActionContext ac, Function<String, T> elementLoader, List<Tuple<String, String>> hits) {
+		int parallelism = Math.max(1, options.getSearchOptions().getHydrationParallelism());
+		if (parallelism == 1 || hits.size() <= 1) {
+			return Single.fromCallable(() -> hydrateChunk(ac, elementLoader, hits));
+		}
+		int chunkSize = (int) Math.ceil(hits.size() / (double) parallelism);
+		return Observable.fromIterable(Lists.partition(hits, chunkSize))
+			.concatMapEager(chunk -> Single.fromCallable(() -> hydrateChunk(ac, elementLoader, chunk))
+				.subscribeOn(Schedulers.io())
+				.toObservable())
+			.collect(() -> new ArrayList<RM>(hits.size()), List::addAll)
+			.map(list -> list);
+	}
+
+	/**
+	 * Load and transform the elements of the given hits within a single transaction.
+	 * 
+	 * @param ac
+	 * @param elementLoader
+	 * @param hits
+	 * @return
+	 */
+	private List<RM> hydrateChunk(InternalActionContext ac, Function<String, T> elementLoader, List<Tuple<String, String>> hits) {
+		return db.tx(() -> {
+			List<RM> models = new ArrayList<>(hits.size());
+			for (Tuple<String, String> hit : hits) {
+				String uuid = hit.v1();
+				T element = elementLoader.apply(uuid);
+				if (element == null) {
+					log.warn("Object could not be found for uuid {" + uuid + "}. The element will be omitted.");
+					continue;
+				}
+				// The permissions within the index may be outdated
+				if (!canRead(ac, element)) {
+					log.warn("Object with uuid {" + uuid + "} is not readable for the user. The element will be omitted.");
+					continue;
+				}
+				models.add(element.transformToRestSync(ac, 0, hit.v2()));
+			}
+			return models;
+		});
+	}
+
+	/**
+	 * Check whether the element of a search hit may be returned to the user.
+	 * 
+	 * @param ac
+	 * @param element
+	 * @return
+	 */
+	protected boolean canRead(InternalActionContext ac, T element) {
+		return ac.getUser().hasPermission(element, READ_PERM);
+	}
+
 	/**
 	 * Add the paging parameters to the request.
 	 * 
@@ -322,6 +460,96 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		request.put("size", perPage);
 	}
 
+	/**
+	 * Add the cursor paging parameters to the request. The cursor contains the sort values of the last hit of the previous page which will be passed
+	 * via <code>search_after</code>.
+	 * 
+	 * @param request
+	 * @param pagingInfo
+	 */
+	protected void applyCursorPagingParams(JsonObject request, PagingParameters pagingInfo) {
+		String after = pagingInfo.getAfter();
+		JsonArray searchAfter;
+		try {
+			searchAfter = new JsonArray(PageCursor.decode(after));
+		} catch (DecodeException e) {
+			throw error(BAD_REQUEST, "error_paging_cursor_invalid", after);
+		}
+		Long perPage = Optional.ofNullable(pagingInfo.getPerPage()).orElse(DEFAULT_SEARCH_PER_PAGE);
+		request.put("size", perPage);
+		request.put("search_after", searchAfter);
+	}
+
+	/**
+	 * Append the tiebreaker sort fields to the sort of the request. The tiebreaker makes the sort order unique so that the sort values of the last hit
+	 * can be used as a cursor. Requests without a sort will be sorted by score first.
+	 * 
+	 * @param request
+	 */
+	protected void applyCursorSort(JsonObject request) {
+		Object sort = request.getValue("sort");
+		JsonArray sortArray;
+		if (sort == null) {
+			sortArray = new JsonArray().add("_score");
+		} else if (sort instanceof JsonArray) {
+			sortArray = (JsonArray) sort;
+		} else {
+			sortArray = new JsonArray().add(sort);
+		}
+		for (String field : getCursorTiebreakerFields()) {
+			sortArray.add(new JsonObject().put(field, "asc"));
+		}
+		request.put("sort", sortArray);
+	}
+
+	/**
+	 * Return the fields which uniquely identify a document of the searched indices.
+	 * 
+	 * @return
+	 */
+	protected List<String> getCursorTiebreakerFields() {
+		return Collections.singletonList("uuid");
+	}
+
+	/**
+	 * Return the configured search type.
+	 * 
+	 * @return
+	 */
+	protected String getSearchType() {
+		return Optional.ofNullable(options.getSearchOptions().getSearchType()).orElse(ElasticSearchOptions.DEFAULT_SEARCH_TYPE);
+	}
+
+	/**
+	 * Extract the paging information and add the cursor for the next page. The total count and page count will not be determined when a cursor was
+	 * used.
+	 * 
+	 * @param info
+	 * @param pagingInfo
+	 * @param cursor
+	 *            Whether cursor paging was requested. The next cursor will only be added in this case.
+	 * @return
+	 */
+	protected PagingMetaInfo extractCursorMetaInfo(JsonObject info, PagingParameters pagingInfo, boolean cursor) {
+		PagingMetaInfo metaInfo = extractMetaInfo(info, pagingInfo);
+		if (pagingInfo.getAfter() != null) {
+			metaInfo.setTotalCount(-1);
+			metaInfo.setPageCount(-1);
+		}
+		if (!cursor) {
+			return metaInfo;
+		}
+		JsonArray hits = info.getJsonArray("hits");
+		Long perPage = Optional.ofNullable(pagingInfo.getPerPage()).orElse(DEFAULT_SEARCH_PER_PAGE);
+		if (!hits.isEmpty() && hits.size() >= perPage) {
+			JsonArray sortValues = hits.getJsonObject(hits.size() - 1).getJsonArray("sort");
+			if (sortValues != null) {
+				metaInfo.setNextCursor(PageCursor.encode(sortValues.encode()));
+			}
+		}
+		return metaInfo;
+	}
+
 	/**
 	 * Extract the total count and hit count from the info object and return the populated paging object. < *
 	 * 
@@ -381,7 +609,7 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 
 		JsonObject queryOption = new JsonObject();
 		queryOption.put("index", StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-		queryOption.put("search_type", "dfs_query_then_fetch");
+		queryOption.put("search_type", getSearchType());
 		log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 		// Prepare the request
@@ -23,7 +23,6 @@ import com.gentics.mesh.search.IndexHandlerRegistry;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
 
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
@@ -94,8 +93,7 @@ public class AdminIndexHandler {
 		db.asyncTx(() -> Single.just(ac.getUser().isAdmin())).flatMapCompletable(isAdmin -> {
 			if (isAdmin) {
 				return searchProvider.clear()
-					.andThen(Observable.fromIterable(registry.getHandlers())
-					.flatMapCompletable(handler -> handler.init()));
+					.andThen(registry.init());
 			} else {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
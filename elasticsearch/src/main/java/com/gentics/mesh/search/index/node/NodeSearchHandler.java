@@ -100,7 +100,7 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 
 		JsonObject queryOption = new JsonObject();
 		queryOption.put("index", StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-		queryOption.put("search_type", "dfs_query_then_fetch");
+		queryOption.put("search_type", getSearchType());
 		log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 		try {
@@ -181,4 +181,15 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 
 	}
 
+	@Override
+	protected List<String> getCursorTiebreakerFields() {
+		// The index contains one document per language of a node
+		return Arrays.asList("uuid", "language");
+	}
+
+	@Override
+	protected boolean canRead(InternalActionContext ac, Node element) {
+		return ac.getUser().canReadNode(ac, element);
+	}
+
 }
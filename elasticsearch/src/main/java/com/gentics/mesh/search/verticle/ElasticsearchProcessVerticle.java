@@ -8,11 +8,14 @@ import static com.gentics.mesh.search.verticle.eventhandler.RxUtil.retryWithDela
 import static com.gentics.mesh.search.verticle.eventhandler.Util.logElasticSearchError;
 
 import java.time.Duration;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -22,6 +25,7 @@ import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.event.MeshEventEnvelope;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.impl.ElasticsearchResponseErrorStreamable;
 import com.gentics.mesh.search.verticle.bulk.BulkOperator;
@@ -38,7 +42,6 @@ import io.reactivex.processors.PublishProcessor;
 import io.reactivex.subjects.BehaviorSubject;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Promise;
-import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -66,7 +69,7 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 
 	private FlowableProcessor<MessageEvent> requests = PublishProcessor.create();
 
-	private List<MessageConsumer<JsonObject>> vertxHandlers;
+	private List<MessageConsumer<?>> vertxHandlers;
 	private final AtomicBoolean stopped = new AtomicBoolean(false);
 	private final BehaviorSubject<Boolean> elasticsearchAvailable = BehaviorSubject.createDefault(true);
 	private final AtomicBoolean waitForSync = new AtomicBoolean(false);
@@ -97,21 +100,24 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		vertxHandlers = mainEventhandler.handledEvents()
 			.stream()
 			.map(event -> vertx.eventBus().<JsonObject>localConsumer(event.address, message -> {
-				if (!stopped.get() && !isDroppedEvent(message)) {
-					idleChecker.incrementAndGetTransformations();
-					// Only continue processing the event if elasticsearch is available.
-					elasticsearchAvailable.filter(available -> available)
-						.firstOrError()
-						.subscribe(ignore -> {
-							waitForSync.set(false);
-							log.trace(String.format("Received event message on address {%s}:\n%s", message.address(), message.body()));
-							requests.onNext(new MessageEvent(event, MeshEventModel.fromMessage(message)));
-						});
+				// Events of a dispatched batch will be handled via the envelope
+				if (!message.headers().contains(MeshEventEnvelope.BATCHED_HEADER)) {
+					handleEvent(event, () -> MeshEventModel.fromMessage(message));
 				}
 			}))
-			.map((Function<io.vertx.core.eventbus.MessageConsumer<JsonObject>, MessageConsumer<JsonObject>>) MessageConsumer::new)
+			.map((Function<io.vertx.core.eventbus.MessageConsumer<JsonObject>, MessageConsumer<?>>) MessageConsumer::new)
 			.collect(Collectors.toList());
 
+		Set<MeshEvent> handledEvents = EnumSet.copyOf(mainEventhandler.handledEvents());
+		vertxHandlers.add(new MessageConsumer<>(vertx.eventBus().<MeshEventEnvelope>localConsumer(MeshEventEnvelope.ADDRESS, message -> {
+			for (MeshEventModel model : message.body().getEvents()) {
+				MeshEvent event = model.getEvent();
+				if (handledEvents.contains(event)) {
+					handleEvent(event, () -> model);
+				}
+			}
+		})));
+
 		vertxHandlers.add(replyingEventHandler(IS_SEARCH_IDLE, Single.fromCallable(idleChecker::isIdle)));
 		vertxHandlers.add(replyingEventHandler(SEARCH_REFRESH_REQUEST, refresh().andThen(Single.just(true))));
 
@@ -125,15 +131,39 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	}
 
 	/**
-	 * Tests if an event in a message should be ignore for further processing.
+	 * Queue the given event for processing once Elasticsearch is available.
+	 *
+	 * @param event
+	 * @param model
+	 *            Supplier for the event model
+	 */
+	private void handleEvent(MeshEvent event, Supplier<MeshEventModel> model) {
+		if (!stopped.get() && !isDroppedEvent(event)) {
+			idleChecker.incrementAndGetTransformations();
+			// Only continue processing the event if elasticsearch is available.
+			elasticsearchAvailable.filter(available -> available)
+				.firstOrError()
+				.subscribe(ignore -> {
+					waitForSync.set(false);
+					MeshEventModel body = model.get();
+					if (log.isTraceEnabled()) {
+						log.trace(String.format("Received event on address {%s}:\n%s", event.address, body));
+					}
+					requests.onNext(new MessageEvent(event, body));
+				});
+		}
+	}
+
+	/**
+	 * Tests if an event should be ignore for further processing.
 	 * Events will be ignored when an index sync has been requested but not yet started.
 	 * Effectively this will ignore all events that occurred before the index sync request.
 	 *
-	 * @param message
+	 * @param event
 	 * @return
 	 */
-	private boolean isDroppedEvent(Message<JsonObject> message) {
-		return waitForSync.get() && !message.address().equals(INDEX_SYNC_REQUEST.address);
+	private boolean isDroppedEvent(MeshEvent event) {
+		return waitForSync.get() && event != INDEX_SYNC_REQUEST;
 	}
 
 	@Override
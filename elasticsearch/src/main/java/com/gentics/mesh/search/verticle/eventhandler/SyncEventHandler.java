@@ -109,13 +109,10 @@ public class SyncEventHandler implements EventHandler {
 	}
 
 	private Flowable<SearchRequest> syncIndices() {
-		return Flowable.fromIterable(registry.get().getHandlers())
-			.flatMap(handler ->
-				handler.init()
-					.doOnSubscribe(ignore -> log.debug("Init for {}", handler.getClass()))
-					.doOnComplete(() -> log.debug("Init for {} complete", handler.getClass()))
-				.andThen(handler.syncIndices()
-					.doOnSubscribe(ignore -> log.debug("Syncing for {}", handler.getClass()))
+		return registry.get().init()
+			.andThen(Flowable.defer(() -> Flowable.fromIterable(registry.get().getHandlers()))
+			.flatMap(handler -> handler.syncIndices()
+				.doOnSubscribe(ignore -> log.debug("Syncing for {}", handler.getClass()))
 			));
 	}
 
@@ -100,6 +100,7 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 			return null;
 		}
 
+		countRead(e);
 		final Class<? extends T> frameType = (kind == TVertex.class || kind == TEdge.class) ? kind : defaultResolver.resolve(e, kind);
 
 		final T frame = builder.create(e, frameType);
@@ -107,6 +108,19 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 		return frame;
 	}
 
+	/**
+	 * Count the read of the element in the {@link GraphAccessStats} of the current thread.
+	 *
+	 * @param e
+	 */
+	private void countRead(final Element e) {
+		if (e instanceof Edge) {
+			GraphAccessStats.edgeRead();
+		} else {
+			GraphAccessStats.vertexRead();
+		}
+	}
+
 	@Override
 	public <T> T frameNewElement(final Element e, final ClassInitializer<T> initializer) {
 		final T frame = frameElement(e, initializer.getInitializationType());
@@ -139,6 +153,7 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 			return null;
 		}
 
+		countRead(e);
 		final Class<? extends T> frameType = this.untypedResolver.resolve(e, kind);
 
 		final T frame = builder.create(e, frameType);
@@ -241,11 +256,13 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 
 	@Override
 	public <F> F getFramedVertexExplicit(Class<F> classOfF, Object id) {
+		GraphAccessStats.vertexRead();
 		return frameElementExplicitById(id, classOfF);
 	}
 
 	@Override
 	public <F> Iterable<? extends F> getFramedVertices(final String key, final Object value, final Class<F> kind) {
+		GraphAccessStats.indexLookup();
 		return new FramingVertexIterable<>(this, this.getVertices(key, value), kind);
 	}
 
@@ -256,6 +273,7 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 
 	@Override
 	public <F> Iterable<? extends F> getFramedVerticesExplicit(final String key, final Object value, final Class<F> kind) {
+		GraphAccessStats.indexLookup();
 		return new FramingVertexIterable<>(this, this.getVertices(key, value), kind, true);
 	}
 
@@ -266,11 +284,13 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 
 	@Override
 	public <F> Iterable<? extends F> getFramedEdges(final String key, final Object value, final Class<F> kind) {
+		GraphAccessStats.indexLookup();
 		return new FramingEdgeIterable<>(this, this.getEdges(key, value), kind);
 	}
 
 	@Override
 	public <F> Iterable<? extends F> getFramedEdgesExplicit(final String key, final Object value, final Class<F> kind) {
+		GraphAccessStats.indexLookup();
 		return new FramingEdgeIterable<>(this, this.getEdges(key, value), kind, true);
 	}
 
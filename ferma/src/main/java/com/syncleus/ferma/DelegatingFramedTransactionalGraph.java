@@ -15,12 +15,19 @@
  */
 package com.syncleus.ferma;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.tinkerpop.blueprints.TransactionalGraph;
 
 public class DelegatingFramedTransactionalGraph<G extends TransactionalGraph> extends DelegatingFramedGraph<G>
 	implements WrapperFramedTransactionalGraph<G> {
 
+	private final Map<String, Runnable> beforeCommitActions = new LinkedHashMap<>();
+
+	private final Map<String, Runnable> rollbackActions = new LinkedHashMap<>();
+
 	public DelegatingFramedTransactionalGraph(final G delegate, final TypeResolver defaultResolver) {
 		super(delegate, defaultResolver);
 	}
@@ -32,11 +39,56 @@ public class DelegatingFramedTransactionalGraph<G extends TransactionalGraph> ex
 
 	@Override
 	public void commit() {
+		runBeforeCommitActions();
 		((TransactionalGraph) this.getBaseGraph()).commit();
+		discardRollbackActions();
 	}
 
 	@Override
 	public void rollback() {
-		((TransactionalGraph) this.getBaseGraph()).rollback();
+		beforeCommitActions.clear();
+		try {
+			((TransactionalGraph) this.getBaseGraph()).rollback();
+		} finally {
+			runRollbackActions();
+		}
+	}
+
+	@Override
+	public void beforeCommit(String key, Runnable action) {
+		beforeCommitActions.putIfAbsent(key, action);
+	}
+
+	@Override
+	public void onRollback(String key, Runnable action) {
+		rollbackActions.putIfAbsent(key, action);
+	}
+
+	/**
+	 * Invoke and remove all actions that were registered via {@link #beforeCommit(String, Runnable)}. Actions may register further actions which will be
+	 * invoked as well.
+	 */
+	protected void runBeforeCommitActions() {
+		while (!beforeCommitActions.isEmpty()) {
+			String key = beforeCommitActions.keySet().iterator().next();
+			beforeCommitActions.remove(key).run();
+		}
+	}
+
+	/**
+	 * Discard the actions that were registered via {@link #onRollback(String, Runnable)}. This needs to be invoked once the commit succeeded.
+	 */
+	protected void discardRollbackActions() {
+		rollbackActions.clear();
+	}
+
+	/**
+	 * Invoke and remove all actions that were registered via {@link #onRollback(String, Runnable)}.
+	 */
+	protected void runRollbackActions() {
+		while (!rollbackActions.isEmpty()) {
+			String key = rollbackActions.keySet().iterator().next();
+			rollbackActions.remove(key).run();
+		}
 	}
 }
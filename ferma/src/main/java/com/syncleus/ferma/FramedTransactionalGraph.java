@@ -18,4 +18,22 @@ package com.syncleus.ferma;
 import com.tinkerpop.blueprints.TransactionalGraph;
 
 public interface FramedTransactionalGraph extends FramedGraph, TransactionalGraph {
+
+	/**
+	 * Register an action which will be invoked once right before the next commit of the graph. Only the first action which gets registered for a key
+	 * will be kept until the commit. Pending actions are discarded on rollback.
+	 *
+	 * @param key
+	 * @param action
+	 */
+	void beforeCommit(String key, Runnable action);
+
+	/**
+	 * Register an action which will be invoked once when the graph gets rolled back. Only the first action which gets registered for a key will be kept
+	 * until the rollback. Pending actions are discarded on commit.
+	 *
+	 * @param key
+	 * @param action
+	 */
+	void onRollback(String key, Runnable action);
 }
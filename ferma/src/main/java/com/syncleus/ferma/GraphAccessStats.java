@@ -0,0 +1,118 @@
+package com.syncleus.ferma;
+
+/**
+ * Counters for the graph operations which were executed on behalf of a single unit of work (e.g. a request). The counters will only be updated while
+ * the instance is bound to the current thread via {@link #bind(GraphAccessStats)}. Counting is thus free of synchronization. The counters must only be
+ * read once the work has been completed.
+ */
+public class GraphAccessStats {
+
+	private static final ThreadLocal<GraphAccessStats> CURRENT = new ThreadLocal<>();
+
+	private long verticesRead;
+
+	private long edgesRead;
+
+	private long indexLookups;
+
+	private long recordsCommitted;
+
+	/**
+	 * Bind the stats to the current thread. All graph operations of the thread will be counted in the given stats.
+	 *
+	 * @param stats
+	 *            Stats to bind or null to stop counting
+	 * @return Previously bound stats which should be restored once the work has been completed
+	 */
+	public static GraphAccessStats bind(GraphAccessStats stats) {
+		GraphAccessStats previous = CURRENT.get();
+		if (stats == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(stats);
+		}
+		return previous;
+	}
+
+	/**
+	 * Return the stats which are bound to the current thread.
+	 *
+	 * @return Bound stats or null
+	 */
+	public static GraphAccessStats current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Count a vertex which was loaded.
+	 */
+	public static void vertexRead() {
+		GraphAccessStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.verticesRead++;
+		}
+	}
+
+	/**
+	 * Count an edge which was loaded.
+	 */
+	public static void edgeRead() {
+		GraphAccessStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.edgesRead++;
+		}
+	}
+
+	/**
+	 * Count an index lookup.
+	 */
+	public static void indexLookup() {
+		GraphAccessStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.indexLookups++;
+		}
+	}
+
+	/**
+	 * Count the records which were written by a transaction commit.
+	 *
+	 * @param count
+	 */
+	public static void recordsCommitted(long count) {
+		GraphAccessStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.recordsCommitted += count;
+		}
+	}
+
+	public long getVerticesRead() {
+		return verticesRead;
+	}
+
+	public long getEdgesRead() {
+		return edgesRead;
+	}
+
+	public long getIndexLookups() {
+		return indexLookups;
+	}
+
+	public long getRecordsCommitted() {
+		return recordsCommitted;
+	}
+
+	/**
+	 * Return the total amount of graph elements which were read.
+	 *
+	 * @return
+	 */
+	public long getReads() {
+		return verticesRead + edgesRead;
+	}
+
+	@Override
+	public String toString() {
+		return "vertices: " + verticesRead + ", edges: " + edgesRead + ", index lookups: " + indexLookups + ", committed records: " + recordsCommitted;
+	}
+
+}
@@ -28,6 +28,7 @@ package com.syncleus.ferma.ext.orientdb;
 import com.syncleus.ferma.ClassInitializer;
 import com.syncleus.ferma.DefaultClassInitializer;
 import com.syncleus.ferma.DelegatingFramedTransactionalGraph;
+import com.syncleus.ferma.GraphAccessStats;
 import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.WrapperFramedTransactionalGraph;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
@@ -67,12 +68,12 @@ public class DelegatingFramedOrientGraph extends DelegatingFramedTransactionalGr
 
 	@Override
 	public void commit() {
+		runBeforeCommitActions();
+		if (GraphAccessStats.current() != null && getBaseGraph().getRawGraph().getTransaction() != null) {
+			GraphAccessStats.recordsCommitted(getBaseGraph().getRawGraph().getTransaction().getEntryCount());
+		}
 		getBaseGraph().commit();
-	}
-
-	@Override
-	public void rollback() {
-		getBaseGraph().rollback();
+		discardRollbackActions();
 	}
 
 }
@@ -0,0 +1,203 @@
+package com.gentics.madl.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor which generates the graph element type registry. All classes which are annotated with <code>@GraphElement</code> or which extend
+ * an annotated class will be added to the registry together with the simple names of their graph element super classes. The registry is read by the
+ * type resolver at startup so that no classpath scanning is needed.
+ * 
+ * The registry is written to {@value #REGISTRY_RESOURCE}. Each line has the format
+ * <code>fully.qualified.ClassName=SuperClassA,SuperClassB</code>.
+ * 
+ * Incremental compilations only pass the changed classes to the processor. The entries of the existing registry are thus merged with the collected
+ * ones. Entries of classes which were not compiled again are re-evaluated, so that deleted classes and classes which are no longer graph elements
+ * get removed.
+ */
+@SupportedAnnotationTypes("*")
+public class GraphElementProcessor extends AbstractProcessor {
+
+	public static final String REGISTRY_RESOURCE = "META-INF/madl/graph-elements";
+
+	private static final String GRAPH_ELEMENT_ANNOTATION = "com.gentics.madl.annotations.GraphElement";
+
+	private final Map<String, List<String>> registry = new TreeMap<>();
+
+	/**
+	 * Binary names of all classes which were processed within this compilation, regardless of whether they are graph elements.
+	 */
+	private final Set<String> processed = new HashSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			boolean existing = mergeExistingRegistry();
+			if (existing || !registry.isEmpty()) {
+				writeRegistry();
+			}
+			return false;
+		}
+		for (Element element : roundEnv.getRootElements()) {
+			collect(element);
+		}
+		// Never claim the annotations. Other processors (e.g. dagger) need to see them as well.
+		return false;
+	}
+
+	/**
+	 * Add the element and its nested classes to the registry if those are graph elements.
+	 * 
+	 * @param element
+	 */
+	private void collect(Element element) {
+		if (element.getKind() != ElementKind.CLASS) {
+			return;
+		}
+		TypeElement type = (TypeElement) element;
+		String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+		processed.add(name);
+		List<String> superTypes = graphElementSuperTypes(type);
+		if (superTypes != null) {
+			registry.put(name, superTypes);
+		}
+
+		for (Element enclosed : type.getEnclosedElements()) {
+			collect(enclosed);
+		}
+	}
+
+	/**
+	 * Determine the simple names of the graph element super classes of the type.
+	 * 
+	 * @param type
+	 * @return List of super class names or null if the type is not a graph element
+	 */
+	private List<String> graphElementSuperTypes(TypeElement type) {
+		// Determine the class hierarchy up to the topmost annotated class
+		List<TypeElement> chain = new ArrayList<>();
+		int annotatedIndex = -1;
+		TypeElement current = type;
+		while (current != null) {
+			chain.add(current);
+			if (isAnnotated(current)) {
+				annotatedIndex = chain.size() - 1;
+			}
+			current = superClassOf(current);
+		}
+
+		if (annotatedIndex == -1) {
+			return null;
+		}
+		List<String> superTypes = new ArrayList<>();
+		for (int i = 1; i <= annotatedIndex; i++) {
+			superTypes.add(chain.get(i).getSimpleName().toString());
+		}
+		return superTypes;
+	}
+
+	/**
+	 * Add the entries of the registry of a previous compilation for the classes which were not processed within this compilation. The classes are
+	 * looked up again and only kept if they still exist and are still graph elements.
+	 * 
+	 * @return true if a previous registry was found
+	 */
+	private boolean mergeExistingRegistry() {
+		List<String> lines;
+		try {
+			FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", REGISTRY_RESOURCE);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+				lines = reader.lines().collect(Collectors.toList());
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			// No registry of a previous compilation exists
+			return false;
+		}
+		Elements elements = processingEnv.getElementUtils();
+		for (String line : lines) {
+			int separator = line.indexOf('=');
+			if (separator <= 0) {
+				continue;
+			}
+			String name = line.substring(0, separator).trim();
+			if (processed.contains(name) || registry.containsKey(name)) {
+				continue;
+			}
+			TypeElement type = elements.getTypeElement(name.replace('$', '.'));
+			if (type == null) {
+				continue;
+			}
+			List<String> superTypes = graphElementSuperTypes(type);
+			if (superTypes != null) {
+				registry.put(name, superTypes);
+			}
+		}
+		return true;
+	}
+
+	private boolean isAnnotated(TypeElement type) {
+		for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+			TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+			if (GRAPH_ELEMENT_ANNOTATION.contentEquals(annotationType.getQualifiedName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private TypeElement superClassOf(TypeElement type) {
+		TypeMirror superClass = type.getSuperclass();
+		if (superClass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		return (TypeElement) ((DeclaredType) superClass).asElement();
+	}
+
+	private void writeRegistry() {
+		try {
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", REGISTRY_RESOURCE);
+			try (Writer writer = new java.io.OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+				for (Map.Entry<String, List<String>> entry : registry.entrySet()) {
+					writer.write(entry.getKey());
+					writer.write('=');
+					writer.write(String.join(",", entry.getValue()));
+					writer.write('\n');
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write the graph element registry: " + e.getMessage());
+		}
+	}
+
+}
@@ -21,10 +21,16 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Annotation which is used to identify classes which represent graph elements.
+ * Annotation which is used to identify classes which represent graph elements. The annotation processor of the madl-annotation-processor module
+ * generates a registry of all annotated classes and their subclasses at compile time. The registry is located at {@link #REGISTRY_RESOURCE}.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface GraphElement {
 
+	/**
+	 * Classpath location of the generated graph element registry.
+	 */
+	String REGISTRY_RESOURCE = "META-INF/madl/graph-elements";
+
 }
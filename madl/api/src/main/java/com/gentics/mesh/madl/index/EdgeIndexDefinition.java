@@ -37,4 +37,12 @@ public interface EdgeIndexDefinition extends ElementIndexDefinition {
 	 */
 	boolean isIncludeOut();
 
+	/**
+	 * Whether an ordered index on the out and in bound vertices should be created. The index allows to iterate over the edges of an out-bound vertex in a
+	 * stable order and to start the iteration after a given in-bound vertex.
+	 * 
+	 * @return
+	 */
+	boolean isIncludeOutIn();
+
 }
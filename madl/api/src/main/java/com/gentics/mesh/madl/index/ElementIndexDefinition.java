@@ -18,6 +18,13 @@ public interface ElementIndexDefinition {
 	 */
 	boolean isUnique();
 
+	/**
+	 * Whether the index keys should be kept in order. Ordered indices can be used for range lookups and sorting.
+	 * 
+	 * @return
+	 */
+	boolean isOrdered();
+
 	/**
 	 * Return the fields which are part of the index.
 	 * 
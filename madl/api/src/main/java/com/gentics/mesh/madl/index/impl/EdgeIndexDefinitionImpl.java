@@ -12,6 +12,8 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 
 	private boolean includeInOut = false;
 
+	private boolean includeOutIn = false;
+
 	private EdgeIndexDefinitionImpl() {
 	}
 
@@ -23,6 +25,8 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 
 		private boolean includeInOut = false;
 
+		private boolean includeOutIn = false;
+
 		public EdgeIndexDefinitonBuilder(String label) {
 			this.name = label;
 		}
@@ -32,10 +36,12 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 			def.name = name;
 			def.postfix = postfix;
 			def.unique = unique;
+			def.ordered = ordered;
 			def.fields = fields;
 			def.includeIn = includeIn;
 			def.includeOut = includeOut;
 			def.includeInOut = includeInOut;
+			def.includeOutIn = includeOutIn;
 			return def;
 		}
 
@@ -68,6 +74,16 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 			this.includeInOut = true;
 			return this;
 		}
+
+		/**
+		 * Whether to include an ordered index for out and in bound vertices. The index can be used to seek within the edges of an out-bound vertex.
+		 * 
+		 * @return Fluent API
+		 */
+		public EdgeIndexDefinitonBuilder withOutIn() {
+			this.includeOutIn = true;
+			return this;
+		}
 	}
 
 	@Override
@@ -85,4 +101,9 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 		return includeOut;
 	}
 
+	@Override
+	public boolean isIncludeOutIn() {
+		return includeOutIn;
+	}
+
 }
\ No newline at end of file
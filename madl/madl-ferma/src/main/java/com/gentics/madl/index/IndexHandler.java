@@ -1,6 +1,7 @@
 package com.gentics.madl.index;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.gentics.mesh.madl.field.FieldMap;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
@@ -8,6 +9,7 @@ import com.gentics.mesh.madl.index.impl.EdgeIndexDefinitionImpl.EdgeIndexDefinit
 import com.gentics.mesh.madl.index.impl.VertexIndexDefinitionImpl.VertexIndexDefinitionBuilder;
 import com.syncleus.ferma.ElementFrame;
 import com.syncleus.ferma.VertexFrame;
+import com.tinkerpop.blueprints.Vertex;
 
 public interface IndexHandler {
 
@@ -109,4 +111,41 @@ public interface IndexHandler {
 	 */
 	<T extends VertexFrame> T findByUuid(Class<? extends T> classOfT, String uuid);
 
+	/**
+	 * Iterate over the entries of the ordered vertex index within the given range of keys and return the found vertices in key order. The keys of
+	 * composed indices may be partial in order to select all entries which start with the given keys. Both bounds are inclusive. An omitted bound
+	 * leaves the range open.
+	 * 
+	 * @param classOfT
+	 *            Class of the vertex which owns the index
+	 * @param indexPostfix
+	 *            Postfix of the index
+	 * @param fromKeys
+	 *            Lower bound of the range or null
+	 * @param toKeys
+	 *            Upper bound of the range or null
+	 * @param descending
+	 *            Whether the entries should be returned in descending key order
+	 * @return Stream of the found vertices or null if the index does not exist
+	 */
+	<T extends VertexFrame> Stream<T> rangeLookup(Class<T> classOfT, String indexPostfix, Object[] fromKeys, Object[] toKeys, boolean descending);
+
+	/**
+	 * Iterate over the edges of the given outbound vertex by using the ordered out/in index of the edge label (see
+	 * {@link EdgeIndexDefinitonBuilder#withOutIn()}). The inbound vertices are returned in the order of their ids. The iteration can start after a given
+	 * inbound vertex id. The index is used to seek to that position, so the preceding entries are not loaded and the vertex does not need to exist
+	 * anymore.
+	 * 
+	 * @param edgeLabel
+	 *            Label of the edges
+	 * @param outId
+	 *            Id of the outbound vertex
+	 * @param afterInId
+	 *            Id of the inbound vertex after which the iteration should start or null to start with the first edge
+	 * @return Stream of inbound vertices or null if no out/in index exists for the label
+	 * @throws IllegalArgumentException
+	 *             if the given inbound vertex id is not a valid id
+	 */
+	Stream<Vertex> edgeSeek(String edgeLabel, Object outId, Object afterInId);
+
 }
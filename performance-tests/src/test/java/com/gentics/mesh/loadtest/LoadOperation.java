@@ -0,0 +1,20 @@
+package com.gentics.mesh.loadtest;
+
+import java.util.Random;
+
+/**
+ * A single request of the load test workload.
+ */
+@FunctionalInterface
+public interface LoadOperation {
+
+	/**
+	 * Execute the request. The request must be completed once the method returns.
+	 *
+	 * @param random
+	 *            Random of the executing thread which should be used to select the requested data
+	 * @throws Exception
+	 */
+	void execute(Random random) throws Exception;
+
+}
@@ -0,0 +1,58 @@
+package com.gentics.mesh.loadtest;
+
+import static com.gentics.mesh.test.TestSize.PROJECT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.gentics.mesh.loadtest.LoadTestRunner.OperationResult;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Load test which seeds a dataset and runs a mixed REST, GraphQL and webroot workload against the server. The report is written to
+ * <code>target/loadtest/report.json</code> and compared with the stored baseline. The test fails when requests failed or when a regression was
+ * found. See {@link LoadTestOptions} for the available settings. Use <code>-Dloadtest.updateBaseline=true</code> to store the report as the new
+ * baseline.
+ */
+@MeshTestSetting(testSize = PROJECT, startServer = true)
+public class LoadTest extends AbstractMeshTest {
+
+	private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+	@Test
+	public void testMixedWorkload() throws Exception {
+		LoadTestOptions options = new LoadTestOptions();
+		grantAdmin();
+		LoadTestDataset dataset = LoadTestDataset.seed(client(), options);
+
+		Map<String, OperationResult> results = new LoadTestRunner(options, LoadTestWorkload.create(client(), dataset)).run();
+		LoadTestReport report = LoadTestReport.create(options, dataset, results);
+		report.write(new File(options.getReportPath()));
+		log.info("Load test report:\n" + report.toJson().encodePrettily());
+
+		File baselineFile = new File(options.getBaselinePath());
+		if (options.isUpdateBaseline()) {
+			report.write(baselineFile);
+			log.info("Stored report as new baseline in {" + baselineFile.getAbsolutePath() + "}");
+		}
+		assertEquals("Requests of the load test failed", 0, report.getErrors());
+
+		LoadTestReport baseline = LoadTestReport.read(baselineFile);
+		if (baseline == null) {
+			log.warn("No baseline found in {" + baselineFile.getAbsolutePath() + "}. Skipping the regression check.");
+			return;
+		}
+		List<String> regressions = report.compare(baseline, options.getAllowedRegression());
+		assertTrue("Found regressions compared to the baseline:\n" + String.join("\n", regressions), regressions.isEmpty());
+	}
+
+}
@@ -0,0 +1,165 @@
+package com.gentics.mesh.loadtest;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
+import com.gentics.mesh.core.rest.project.ProjectResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
+import com.gentics.mesh.rest.client.MeshRestClient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * The dataset of the load test. The dataset is seeded via the REST API. Each project contains a tree of folders with content nodes and a folder
+ * with binary nodes. The generated data only depends on the options so that runs with the same options are comparable.
+ */
+public class LoadTestDataset {
+
+	private static final Logger log = LoggerFactory.getLogger(LoadTestDataset.class);
+
+	private final List<ProjectData> projects = new ArrayList<>();
+
+	/**
+	 * Seed the dataset.
+	 *
+	 * @param client
+	 *            Client which is used to create the data. The user needs admin permissions
+	 * @param options
+	 * @return Created dataset
+	 */
+	public static LoadTestDataset seed(MeshRestClient client, LoadTestOptions options) {
+		long start = System.currentTimeMillis();
+		LoadTestDataset dataset = new LoadTestDataset();
+		Random random = new Random(options.getSeed());
+		for (int p = 0; p < options.getProjects(); p++) {
+			ProjectData project = new ProjectData("loadtest" + p);
+			ProjectCreateRequest projectRequest = new ProjectCreateRequest();
+			projectRequest.setName(project.name);
+			projectRequest.setSchemaRef("folder");
+			ProjectResponse projectResponse = call(() -> client.createProject(projectRequest));
+			String rootUuid = projectResponse.getRootNode().getUuid();
+			for (SchemaResponse schema : call(() -> client.findSchemas()).getData()) {
+				if (schema.getName().equals("content") || schema.getName().equals("binary_content")) {
+					call(() -> client.assignSchemaToProject(project.name, schema.getUuid()));
+				}
+			}
+
+			for (int f = 0; f < options.getFoldersPerProject(); f++) {
+				String folderSlug = "folder-" + f;
+				NodeResponse folder = createNode(client, project.name, rootUuid, "folder", folderSlug, "Folder " + f);
+				project.nodeUuids.add(folder.getUuid());
+				project.paths.add("/" + folderSlug);
+				for (int n = 0; n < options.getNodesPerFolder(); n++) {
+					String slug = "content-" + n + ".html";
+					NodeResponse content = createNode(client, project.name, folder.getUuid(), "content", slug, "Content " + n);
+					project.nodeUuids.add(content.getUuid());
+					project.paths.add("/" + folderSlug + "/" + slug);
+				}
+			}
+
+			NodeResponse binaryFolder = createNode(client, project.name, rootUuid, "folder", "binaries", "Binaries");
+			for (int b = 0; b < options.getBinariesPerProject(); b++) {
+				NodeCreateRequest request = new NodeCreateRequest();
+				request.setLanguage("en");
+				request.setParentNodeUuid(binaryFolder.getUuid());
+				request.setSchema(new SchemaReferenceImpl().setName("binary_content"));
+				request.getFields().put("name", FieldUtil.createStringField("Binary " + b));
+				NodeResponse node = call(() -> client.createNode(project.name, request));
+				byte[] data = new byte[options.getBinarySize()];
+				random.nextBytes(data);
+				String fileName = "file-" + b + ".bin";
+				call(() -> client.updateNodeBinaryField(project.name, node.getUuid(), "en", node.getVersion(), "binary",
+					new ByteArrayInputStream(data), data.length, fileName, "application/octet-stream"));
+				project.binaryUuids.add(node.getUuid());
+			}
+			dataset.projects.add(project);
+		}
+		log.info("Seeded load test dataset in {" + (System.currentTimeMillis() - start) + "} ms. " + options);
+		return dataset;
+	}
+
+	private static NodeResponse createNode(MeshRestClient client, String projectName, String parentUuid, String schema, String slug, String title) {
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNodeUuid(parentUuid);
+		request.setSchema(new SchemaReferenceImpl().setName(schema));
+		request.getFields().put("slug", FieldUtil.createStringField(slug));
+		if (schema.equals("folder")) {
+			request.getFields().put("name", FieldUtil.createStringField(title));
+		} else {
+			request.getFields().put("title", FieldUtil.createStringField(title));
+			request.getFields().put("teaser", FieldUtil.createStringField("Teaser of " + title));
+			request.getFields().put("content", FieldUtil.createHtmlField("<p>Content of " + title + "</p>"));
+		}
+		return call(() -> client.createNode(projectName, request));
+	}
+
+	public List<ProjectData> getProjects() {
+		return projects;
+	}
+
+	/**
+	 * Return a description of the dataset for the report.
+	 *
+	 * @return
+	 */
+	public JsonObject toJson() {
+		int nodes = 0;
+		int binaries = 0;
+		for (ProjectData project : projects) {
+			nodes += project.nodeUuids.size();
+			binaries += project.binaryUuids.size();
+		}
+		return new JsonObject()
+			.put("projects", projects.size())
+			.put("nodes", nodes)
+			.put("binaries", binaries);
+	}
+
+	/**
+	 * Data of a single project of the dataset.
+	 */
+	public static class ProjectData {
+
+		private final String name;
+
+		private final List<String> nodeUuids = new ArrayList<>();
+
+		private final List<String> paths = new ArrayList<>();
+
+		private final List<String> binaryUuids = new ArrayList<>();
+
+		public ProjectData(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<String> getNodeUuids() {
+			return nodeUuids;
+		}
+
+		public List<String> getPaths() {
+			return paths;
+		}
+
+		public List<String> getBinaryUuids() {
+			return binaryUuids;
+		}
+
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.gentics.mesh.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Options of the load test. All options can be overridden via system properties (e.g. <code>-Dloadtest.threads=16</code>).
+ */
+public class LoadTestOptions {
+
+	public static final String PREFIX = "loadtest.";
+
+	public static final String DEFAULT_MIX = "rest.read=35,rest.list=10,graphql=20,webroot=30,binary=5";
+
+	private int projects = getInt("projects", 2);
+
+	private int foldersPerProject = getInt("foldersPerProject", 5);
+
+	private int nodesPerFolder = getInt("nodesPerFolder", 40);
+
+	private int binariesPerProject = getInt("binariesPerProject", 10);
+
+	private int binarySize = getInt("binarySize", 64 * 1024);
+
+	private int threads = getInt("threads", 8);
+
+	private int warmupSeconds = getInt("warmupSeconds", 10);
+
+	private int durationSeconds = getInt("durationSeconds", 60);
+
+	private long seed = Long.parseLong(System.getProperty(PREFIX + "seed", "42"));
+
+	private Map<String, Integer> mix = parseMix(System.getProperty(PREFIX + "mix", DEFAULT_MIX));
+
+	private String reportPath = System.getProperty(PREFIX + "report", "target/loadtest/report.json");
+
+	private String baselinePath = System.getProperty(PREFIX + "baseline", "src/test/resources/loadtest-baseline.json");
+
+	private boolean updateBaseline = Boolean.getBoolean(PREFIX + "updateBaseline");
+
+	private int allowedRegression = getInt("allowedRegression", 20);
+
+	private static int getInt(String key, int defaultValue) {
+		return Integer.parseInt(System.getProperty(PREFIX + key, String.valueOf(defaultValue)));
+	}
+
+	/**
+	 * Parse the workload mix. The mix is a comma separated list of operation names and weights (e.g. <code>rest.read=80,graphql=20</code>).
+	 *
+	 * @param value
+	 * @return
+	 */
+	static Map<String, Integer> parseMix(String value) {
+		Map<String, Integer> mix = new LinkedHashMap<>();
+		for (String entry : value.split(",")) {
+			String[] parts = entry.trim().split("=");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("Invalid mix entry {" + entry + "}. Expected <operation>=<weight>");
+			}
+			mix.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+		}
+		return mix;
+	}
+
+	public int getProjects() {
+		return projects;
+	}
+
+	public int getFoldersPerProject() {
+		return foldersPerProject;
+	}
+
+	public int getNodesPerFolder() {
+		return nodesPerFolder;
+	}
+
+	public int getBinariesPerProject() {
+		return binariesPerProject;
+	}
+
+	public int getBinarySize() {
+		return binarySize;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public int getWarmupSeconds() {
+		return warmupSeconds;
+	}
+
+	public int getDurationSeconds() {
+		return durationSeconds;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public Map<String, Integer> getMix() {
+		return mix;
+	}
+
+	public String getReportPath() {
+		return reportPath;
+	}
+
+	public String getBaselinePath() {
+		return baselinePath;
+	}
+
+	public boolean isUpdateBaseline() {
+		return updateBaseline;
+	}
+
+	/**
+	 * Return the allowed regression in percent before a metric is regarded as a regression.
+	 *
+	 * @return
+	 */
+	public int getAllowedRegression() {
+		return allowedRegression;
+	}
+
+	@Override
+	public String toString() {
+		return "projects: " + projects + ", folders: " + foldersPerProject + ", nodes: " + nodesPerFolder + ", binaries: " + binariesPerProject
+			+ ", threads: " + threads + ", duration: " + durationSeconds + "s, seed: " + seed + ", mix: " + mix;
+	}
+
+}
@@ -0,0 +1,156 @@
+package com.gentics.mesh.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+import org.apache.commons.io.FileUtils;
+
+import com.gentics.mesh.loadtest.LoadTestRunner.OperationResult;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Machine readable report of a load test run. The report contains the throughput and the latency percentiles (in milliseconds) of each operation
+ * and can be compared with the report of a previous run.
+ */
+public class LoadTestReport {
+
+	private static final String[] GATED_LATENCIES = { "p50", "p99" };
+
+	private final JsonObject json;
+
+	public LoadTestReport(JsonObject json) {
+		this.json = json;
+	}
+
+	/**
+	 * Create the report for the given results.
+	 *
+	 * @param options
+	 * @param dataset
+	 * @param results
+	 * @return
+	 */
+	public static LoadTestReport create(LoadTestOptions options, LoadTestDataset dataset, Map<String, OperationResult> results) {
+		JsonObject operations = new JsonObject();
+		Histogram total = new Histogram(3);
+		long totalErrors = 0;
+		for (Map.Entry<String, OperationResult> entry : new TreeMap<>(results).entrySet()) {
+			OperationResult result = entry.getValue();
+			operations.put(entry.getKey(), toJson(result.getHistogram(), result.getErrors(), options.getDurationSeconds()));
+			total.add(result.getHistogram());
+			totalErrors += result.getErrors();
+		}
+		JsonObject settings = new JsonObject()
+			.put("threads", options.getThreads())
+			.put("durationSeconds", options.getDurationSeconds())
+			.put("seed", options.getSeed())
+			.put("mix", new JsonObject(new TreeMap<String, Object>(options.getMix())));
+		return new LoadTestReport(new JsonObject()
+			.put("timestamp", System.currentTimeMillis())
+			.put("settings", settings)
+			.put("dataset", dataset.toJson())
+			.put("total", toJson(total, totalErrors, options.getDurationSeconds()))
+			.put("operations", operations));
+	}
+
+	private static JsonObject toJson(Histogram histogram, long errors, int durationSeconds) {
+		return new JsonObject()
+			.put("count", histogram.getTotalCount())
+			.put("errors", errors)
+			.put("throughput", round((double) histogram.getTotalCount() / durationSeconds))
+			.put("mean", round(histogram.getMean() / 1000))
+			.put("p50", millis(histogram, 50))
+			.put("p99", millis(histogram, 99))
+			.put("p999", millis(histogram, 99.9))
+			.put("max", round(histogram.getMaxValue() / 1000d));
+	}
+
+	private static double millis(Histogram histogram, double percentile) {
+		return round(histogram.getValueAtPercentile(percentile) / 1000d);
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 1000) / 1000d;
+	}
+
+	/**
+	 * Load the report from the given file.
+	 *
+	 * @param file
+	 * @return Loaded report or null if the file does not exist
+	 * @throws IOException
+	 */
+	public static LoadTestReport read(File file) throws IOException {
+		if (!file.exists()) {
+			return null;
+		}
+		return new LoadTestReport(new JsonObject(FileUtils.readFileToString(file, StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Write the report to the given file.
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public void write(File file) throws IOException {
+		FileUtils.writeStringToFile(file, json.encodePrettily(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Compare the report with the baseline. The throughput and the p50 and p99 latencies of each operation of the baseline are compared. The p999
+	 * latency is only reported since it is too noisy to be used as a gate.
+	 *
+	 * @param baseline
+	 * @param allowedRegression
+	 *            Allowed regression in percent
+	 * @return Descriptions of the found regressions
+	 */
+	public List<String> compare(LoadTestReport baseline, int allowedRegression) {
+		List<String> regressions = new ArrayList<>();
+		double factor = allowedRegression / 100d;
+		JsonObject baselineOperations = baseline.json.getJsonObject("operations");
+		JsonObject operations = json.getJsonObject("operations");
+		for (String name : baselineOperations.fieldNames()) {
+			JsonObject expected = baselineOperations.getJsonObject(name);
+			JsonObject actual = operations.getJsonObject(name);
+			if (actual == null) {
+				continue;
+			}
+			double expectedThroughput = expected.getDouble("throughput");
+			double actualThroughput = actual.getDouble("throughput");
+			if (actualThroughput < expectedThroughput * (1 - factor)) {
+				regressions.add(name + ": throughput dropped from {" + expectedThroughput + "} to {" + actualThroughput + "} req/s");
+			}
+			for (String key : GATED_LATENCIES) {
+				double expectedLatency = expected.getDouble(key);
+				double actualLatency = actual.getDouble(key);
+				if (actualLatency > expectedLatency * (1 + factor)) {
+					regressions.add(name + ": " + key + " latency increased from {" + expectedLatency + "} to {" + actualLatency + "} ms");
+				}
+			}
+		}
+		return regressions;
+	}
+
+	/**
+	 * Return the total amount of failed requests.
+	 *
+	 * @return
+	 */
+	public long getErrors() {
+		return json.getJsonObject("total").getLong("errors");
+	}
+
+	public JsonObject toJson() {
+		return json;
+	}
+
+}
@@ -0,0 +1,39 @@
+package com.gentics.mesh.loadtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class LoadTestReportTest {
+
+	@Test
+	public void testCompare() {
+		LoadTestReport baseline = report(100, 2, 10);
+		assertTrue("Changes within the allowed regression should be accepted", report(90, 2.3, 11.9).compare(baseline, 20).isEmpty());
+
+		List<String> regressions = report(70, 3, 10).compare(baseline, 20);
+		assertEquals(2, regressions.size());
+		assertTrue(regressions.get(0).contains("throughput"));
+		assertTrue(regressions.get(1).contains("p50"));
+	}
+
+	@Test
+	public void testParseMix() {
+		assertEquals(Integer.valueOf(80), LoadTestOptions.parseMix("rest.read=80, graphql = 20").get("rest.read"));
+		assertEquals(5, LoadTestOptions.parseMix(LoadTestOptions.DEFAULT_MIX).size());
+	}
+
+	private LoadTestReport report(double throughput, double p50, double p99) {
+		JsonObject operation = new JsonObject()
+			.put("throughput", throughput)
+			.put("p50", p50)
+			.put("p99", p99);
+		return new LoadTestReport(new JsonObject().put("operations", new JsonObject().put("rest.read", operation)));
+	}
+
+}
@@ -0,0 +1,142 @@
+package com.gentics.mesh.loadtest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Runner which executes the workload from multiple threads. Each thread picks the operations randomly according to the weights of the configured
+ * mix. The latencies are recorded in per thread histograms which get merged once the run has finished.
+ */
+public class LoadTestRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+	private static final int SIGNIFICANT_DIGITS = 3;
+
+	private final LoadTestOptions options;
+
+	private final String[] names;
+
+	private final LoadOperation[] operations;
+
+	private final int[] cumulativeWeights;
+
+	public LoadTestRunner(LoadTestOptions options, Map<String, LoadOperation> operations) {
+		this.options = options;
+		Map<String, Integer> mix = options.getMix();
+		this.names = new String[mix.size()];
+		this.operations = new LoadOperation[mix.size()];
+		this.cumulativeWeights = new int[mix.size()];
+		int i = 0;
+		int total = 0;
+		for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+			LoadOperation operation = operations.get(entry.getKey());
+			if (operation == null) {
+				throw new IllegalArgumentException("Unknown operation {" + entry.getKey() + "} in mix. Known operations: " + operations.keySet());
+			}
+			total += entry.getValue();
+			names[i] = entry.getKey();
+			this.operations[i] = operation;
+			cumulativeWeights[i] = total;
+			i++;
+		}
+		if (total <= 0) {
+			throw new IllegalArgumentException("The weights of the mix must be positive");
+		}
+	}
+
+	/**
+	 * Run the warmup phase and the measured phase.
+	 *
+	 * @return Result of the measured phase
+	 * @throws Exception
+	 */
+	public Map<String, OperationResult> run() throws Exception {
+		log.info("Warming up for {" + options.getWarmupSeconds() + "} seconds");
+		runPhase(options.getWarmupSeconds(), options.getSeed() - 1);
+		log.info("Running workload for {" + options.getDurationSeconds() + "} seconds");
+		return runPhase(options.getDurationSeconds(), options.getSeed());
+	}
+
+	private Map<String, OperationResult> runPhase(int seconds, long seed) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(options.getThreads());
+		try {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+			List<Future<Map<String, OperationResult>>> futures = new ArrayList<>();
+			for (int t = 0; t < options.getThreads(); t++) {
+				Random random = new Random(seed + t);
+				futures.add(executor.submit(() -> runThread(random, deadline)));
+			}
+			Map<String, OperationResult> results = new HashMap<>();
+			for (Future<Map<String, OperationResult>> future : futures) {
+				for (Map.Entry<String, OperationResult> entry : future.get().entrySet()) {
+					results.computeIfAbsent(entry.getKey(), k -> new OperationResult()).add(entry.getValue());
+				}
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private Map<String, OperationResult> runThread(Random random, long deadline) {
+		Map<String, OperationResult> results = new HashMap<>();
+		int totalWeight = cumulativeWeights[cumulativeWeights.length - 1];
+		while (System.nanoTime() < deadline) {
+			int value = random.nextInt(totalWeight);
+			int idx = 0;
+			while (cumulativeWeights[idx] <= value) {
+				idx++;
+			}
+			OperationResult result = results.computeIfAbsent(names[idx], k -> new OperationResult());
+			long start = System.nanoTime();
+			try {
+				operations[idx].execute(random);
+				result.histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+			} catch (Exception e) {
+				result.errors++;
+				if (log.isDebugEnabled()) {
+					log.debug("Operation {" + names[idx] + "} failed", e);
+				}
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Recorded latencies (in microseconds) and errors of a single operation.
+	 */
+	public static class OperationResult {
+
+		private final Histogram histogram = new Histogram(SIGNIFICANT_DIGITS);
+
+		private long errors;
+
+		void add(OperationResult other) {
+			histogram.add(other.histogram);
+			errors += other.errors;
+		}
+
+		public Histogram getHistogram() {
+			return histogram;
+		}
+
+		public long getErrors() {
+			return errors;
+		}
+
+	}
+
+}
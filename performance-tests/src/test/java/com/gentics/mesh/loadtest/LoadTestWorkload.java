@@ -0,0 +1,66 @@
+package com.gentics.mesh.loadtest;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.io.IOUtils;
+
+import com.gentics.mesh.loadtest.LoadTestDataset.ProjectData;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.rest.client.MeshBinaryResponse;
+import com.gentics.mesh.rest.client.MeshRestClient;
+
+/**
+ * The operations of the mixed load test workload. The operations request random elements of the dataset via the REST, GraphQL and webroot API.
+ */
+public final class LoadTestWorkload {
+
+	private static final String GRAPHQL_QUERY = "{ node(uuid: \"%s\") { uuid path displayName children(perPage: 10) { elements { uuid path } } } }";
+
+	private LoadTestWorkload() {
+	}
+
+	/**
+	 * Create the operations of the workload.
+	 *
+	 * @param client
+	 * @param dataset
+	 * @return Operations by name
+	 */
+	public static Map<String, LoadOperation> create(MeshRestClient client, LoadTestDataset dataset) {
+		List<ProjectData> projects = dataset.getProjects();
+		Map<String, LoadOperation> operations = new HashMap<>();
+		operations.put("rest.read", random -> {
+			ProjectData project = pick(random, projects);
+			client.findNodeByUuid(project.getName(), pick(random, project.getNodeUuids())).blockingAwait();
+		});
+		operations.put("rest.list", random -> {
+			ProjectData project = pick(random, projects);
+			client.findNodes(project.getName(), new PagingParametersImpl().setPage(random.nextInt(4) + 1).setPerPage(25L)).blockingAwait();
+		});
+		operations.put("graphql", random -> {
+			ProjectData project = pick(random, projects);
+			client.graphqlQuery(project.getName(), String.format(GRAPHQL_QUERY, pick(random, project.getNodeUuids()))).blockingAwait();
+		});
+		operations.put("webroot", random -> {
+			ProjectData project = pick(random, projects);
+			client.webroot(project.getName(), pick(random, project.getPaths())).blockingAwait();
+		});
+		operations.put("binary", random -> {
+			ProjectData project = pick(random, projects);
+			try (MeshBinaryResponse response = client.downloadBinaryField(project.getName(), pick(random, project.getBinaryUuids()), "en", "binary")
+				.blockingGet(); InputStream ins = response.getStream()) {
+				IOUtils.skip(ins, Long.MAX_VALUE);
+			}
+		});
+		return operations;
+	}
+
+	private static <T> T pick(Random random, List<T> elements) {
+		return elements.get(random.nextInt(elements.size()));
+	}
+
+}
@@ -149,7 +149,17 @@ public abstract class AbstractPlugin extends Plugin implements MeshPlugin {
 	}
 
 	protected void createAdminClient() {
-		adminClient = env.createAdminClient();
+		adminClient = useLocalAdminClient() ? env.createLocalAdminClient() : env.createAdminClient();
+	}
+
+	/**
+	 * Whether the admin client of the plugin should directly invoke the request handlers instead of sending HTTP requests. Override this method to
+	 * use the local client.
+	 * 
+	 * @return
+	 */
+	protected boolean useLocalAdminClient() {
+		return false;
 	}
 
 	@Override
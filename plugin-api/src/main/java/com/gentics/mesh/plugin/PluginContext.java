@@ -65,6 +65,16 @@ public class PluginContext implements RoutingContext {
 		return env.createClient(token);
 	}
 
+	/**
+	 * Return a mesh client which will directly invoke the request handlers using the authenticated user of the inbound request. In contrast to
+	 * {@link #client()} no HTTP requests are sent and the request and response models are not serialized.
+	 * 
+	 * @return
+	 */
+	public MeshRestClient localClient() {
+		return env.createLocalClient(rc.user());
+	}
+
 	/**
 	 * Extract the token value from the header.
 	 * 
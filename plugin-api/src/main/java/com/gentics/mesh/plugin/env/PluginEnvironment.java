@@ -5,6 +5,7 @@ import com.gentics.mesh.RestAPIVersion;
 import com.gentics.mesh.rest.client.MeshRestClient;
 
 import io.vertx.core.Vertx;
+import io.vertx.ext.auth.User;
 
 /**
  * Environment for a plugin is used to access data provided by mesh (e.g. adminToken).
@@ -50,6 +51,25 @@ public interface PluginEnvironment {
 	 */
 	MeshRestClient createAdminClient(RestAPIVersion version);
 
+	/**
+	 * Create a new admin client which invokes the request handlers directly within the Mesh instance instead of sending HTTP requests. Request and
+	 * response models are passed without being serialized. Requests which need an HTTP response (e.g. webroot, binary downloads, GraphQL) are not
+	 * supported by this client.
+	 *
+	 * @return A new local MeshRestClient instance which uses the admin user
+	 */
+	MeshRestClient createLocalAdminClient();
+
+	/**
+	 * Create a new client which invokes the request handlers directly within the Mesh instance using the given user.
+	 *
+	 * @param user
+	 *            Authenticated user of a plugin request (see {@link io.vertx.ext.web.RoutingContext#user()})
+	 * @return A new local MeshRestClient instance
+	 * @see #createLocalAdminClient()
+	 */
+	MeshRestClient createLocalClient(User user);
+
 	/**
 	 * Return the Mesh options.
 	 *
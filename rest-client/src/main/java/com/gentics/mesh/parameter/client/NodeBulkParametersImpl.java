@@ -0,0 +1,7 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.NodeBulkParameters;
+
+public class NodeBulkParametersImpl extends AbstractParameters implements NodeBulkParameters {
+
+}
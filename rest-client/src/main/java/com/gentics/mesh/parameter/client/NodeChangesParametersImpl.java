@@ -0,0 +1,7 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.NodeChangesParameters;
+
+public class NodeChangesParametersImpl extends AbstractParameters implements NodeChangesParameters {
+
+}
@@ -1,5 +1,6 @@
 package com.gentics.mesh.rest.client.impl;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_YAML_UTF8;
 import static com.gentics.mesh.rest.client.impl.HttpMethod.DELETE;
 import static com.gentics.mesh.rest.client.impl.HttpMethod.GET;
@@ -64,6 +65,7 @@ import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
 import com.gentics.mesh.core.rest.project.ProjectListResponse;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
 import com.gentics.mesh.core.rest.project.ProjectUpdateRequest;
+import com.gentics.mesh.core.rest.project.VersionRetentionPolicy;
 import com.gentics.mesh.core.rest.role.RoleCreateRequest;
 import com.gentics.mesh.core.rest.role.RoleListResponse;
 import com.gentics.mesh.core.rest.role.RolePermissionRequest;
@@ -207,6 +209,20 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 			NodeVersionsResponse.class);
 	}
 
+	@Override
+	public MeshRequest<MeshBinaryResponse> bulkNodes(String projectName, InputStream ndjson, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(ndjson, "ndjson must not be null");
+		return prepareRequest(POST, "/" + encodeSegment(projectName) + "/nodes/bulk" + getQuery(parameters), MeshBinaryResponse.class, ndjson, -1,
+			APPLICATION_NDJSON);
+	}
+
+	@Override
+	public MeshRequest<MeshBinaryResponse> findNodeChanges(String projectName, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		return prepareRequest(GET, "/" + encodeSegment(projectName) + "/changes" + getQuery(parameters), MeshBinaryResponse.class);
+	}
+
 	@Override
 	public MeshRequest<TagListResponse> findTags(String projectName, String tagFamilyUuid, ParameterProvider... parameters) {
 		Objects.requireNonNull(projectName, "projectName must not be null");
@@ -373,6 +389,19 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 		return prepareRequest(POST, "/projects/" + uuid + "/maintenance/purge" + getQuery(parameters), GenericMessageResponse.class);
 	}
 
+	@Override
+	public MeshRequest<VersionRetentionPolicy> getProjectVersionRetention(String uuid) {
+		Objects.requireNonNull(uuid, "uuid must not be null");
+		return prepareRequest(GET, "/projects/" + uuid + "/maintenance/retention", VersionRetentionPolicy.class);
+	}
+
+	@Override
+	public MeshRequest<VersionRetentionPolicy> updateProjectVersionRetention(String uuid, VersionRetentionPolicy policy) {
+		Objects.requireNonNull(uuid, "uuid must not be null");
+		Objects.requireNonNull(policy, "policy must not be null");
+		return prepareRequest(POST, "/projects/" + uuid + "/maintenance/retention", VersionRetentionPolicy.class, policy);
+	}
+
 	@Override
 	public MeshRequest<SchemaResponse> assignSchemaToProject(String projectName, String schemaUuid) {
 		Objects.requireNonNull(projectName, "projectName must not be null");
@@ -627,6 +656,30 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 			EmptyResponse.class);
 	}
 
+	@Override
+	public MeshRequest<JobResponse> invokeNodePublishJob(String projectName, String nodeUuid, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(nodeUuid, "nodeUuid must not be null");
+		return prepareRequest(POST, "/" + encodeSegment(projectName) + "/nodes/" + nodeUuid + "/publish/job" + getQuery(parameters),
+			JobResponse.class);
+	}
+
+	@Override
+	public MeshRequest<JobResponse> invokeNodeUnpublishJob(String projectName, String nodeUuid, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(nodeUuid, "nodeUuid must not be null");
+		return prepareRequest(POST, "/" + encodeSegment(projectName) + "/nodes/" + nodeUuid + "/unpublish/job" + getQuery(parameters),
+			JobResponse.class);
+	}
+
+	@Override
+	public MeshRequest<JobResponse> invokeNodeDeleteJob(String projectName, String nodeUuid, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(nodeUuid, "nodeUuid must not be null");
+		return prepareRequest(POST, "/" + encodeSegment(projectName) + "/nodes/" + nodeUuid + "/delete/job" + getQuery(parameters),
+			JobResponse.class);
+	}
+
 	@Override
 	public MeshRequest<PublishStatusModel> getNodeLanguagePublishStatus(String projectName, String nodeUuid, String languageTag,
 		ParameterProvider... parameters) {
@@ -1014,6 +1067,11 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 		return prepareRequest(POST, "/admin/graphdb/backup", GenericMessageResponse.class);
 	}
 
+	@Override
+	public MeshRequest<GenericMessageResponse> invokeBinaryGarbageCollection() {
+		return prepareRequest(POST, "/admin/binaries/gc", GenericMessageResponse.class);
+	}
+
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeExport() {
 		return prepareRequest(POST, "/admin/graphdb/export", GenericMessageResponse.class);
@@ -1039,6 +1097,16 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 		return prepareRequest(POST, "/admin/consistency/repair", ConsistencyCheckResponse.class);
 	}
 
+	@Override
+	public MeshRequest<JobResponse> invokeConsistencyCheckJob() {
+		return prepareRequest(POST, "/admin/consistency/check/job", JobResponse.class);
+	}
+
+	@Override
+	public MeshRequest<JobResponse> invokeConsistencyRepairJob() {
+		return prepareRequest(POST, "/admin/consistency/repair/job", JobResponse.class);
+	}
+
 	@Override
 	public MeshRequest<MeshStatusResponse> meshStatus() {
 		return prepareRequest(GET, "/admin/status", MeshStatusResponse.class);
@@ -1442,6 +1510,12 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 		return prepareRequest(POST, "/admin/jobs/" + uuid + "/process", JobResponse.class);
 	}
 
+	@Override
+	public MeshRequest<JobResponse> cancelJob(String uuid) {
+		Objects.requireNonNull(uuid, "uuid must not be null");
+		return prepareRequest(POST, "/admin/jobs/" + uuid + "/cancel", JobResponse.class);
+	}
+
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeJobProcessing() {
 		return prepareRequest(POST, "/admin/processJobs", GenericMessageResponse.class);
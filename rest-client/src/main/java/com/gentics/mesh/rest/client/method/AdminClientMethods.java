@@ -8,6 +8,7 @@ import com.gentics.mesh.core.rest.admin.cluster.coordinator.CoordinatorMasterRes
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.rest.client.MeshBinaryResponse;
 import com.gentics.mesh.rest.client.MeshRequest;
 import com.gentics.mesh.rest.monitoring.MonitoringRestClient;
@@ -58,6 +59,13 @@ public interface AdminClientMethods {
 	 */
 	MeshRequest<GenericMessageResponse> invokeBackup();
 
+	/**
+	 * Enqueue a binary garbage collection job which removes unreferenced binaries and stale temporary uploads.
+	 * 
+	 * @return
+	 */
+	MeshRequest<GenericMessageResponse> invokeBinaryGarbageCollection();
+
 	/**
 	 * Invoke a graph database export.
 	 * 
@@ -97,6 +105,20 @@ public interface AdminClientMethods {
 	 */
 	MeshRequest<ConsistencyCheckResponse> repairConsistency();
 
+	/**
+	 * Enqueue a job which runs the consistency check in the background.
+	 * 
+	 * @return
+	 */
+	MeshRequest<JobResponse> invokeConsistencyCheckJob();
+
+	/**
+	 * Enqueue a job which runs the consistency check and repair in the background.
+	 * 
+	 * @return
+	 */
+	MeshRequest<JobResponse> invokeConsistencyRepairJob();
+
 	/**
 	 * Gets zip file containing debug information.
 	 * @return
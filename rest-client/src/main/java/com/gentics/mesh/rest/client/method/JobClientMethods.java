@@ -53,6 +53,14 @@ public interface JobClientMethods {
 	 */
 	MeshRequest<JobResponse> processJob(String uuid);
 
+	/**
+	 * Cancel the job. Only consistency check jobs can be cancelled.
+	 *
+	 * @param uuid
+	 * @return
+	 */
+	MeshRequest<JobResponse> cancelJob(String uuid);
+
 	/**
 	 * Manually invoke the job processing.
 	 * 
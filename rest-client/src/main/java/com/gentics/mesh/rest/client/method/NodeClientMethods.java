@@ -1,5 +1,8 @@
 package com.gentics.mesh.rest.client.method;
 
+import java.io.InputStream;
+
+import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -11,6 +14,7 @@ import com.gentics.mesh.core.rest.node.version.NodeVersionsResponse;
 import com.gentics.mesh.core.rest.tag.TagListResponse;
 import com.gentics.mesh.core.rest.tag.TagListUpdateRequest;
 import com.gentics.mesh.parameter.ParameterProvider;
+import com.gentics.mesh.rest.client.MeshBinaryResponse;
 import com.gentics.mesh.rest.client.MeshRequest;
 import com.gentics.mesh.rest.client.impl.EmptyResponse;
 
@@ -291,6 +295,36 @@ public interface NodeClientMethods {
 	 */
 	MeshRequest<EmptyResponse> takeNodeLanguageOffline(String projectName, String nodeUuid, String languageTag, ParameterProvider... parameters);
 
+	/**
+	 * Enqueue a job which publishes the node and all its children in the background.
+	 *
+	 * @param projectName Name of the project
+	 * @param nodeUuid    Uuid of the root node
+	 * @param parameters
+	 * @return Mesh request which can be invoked
+	 */
+	MeshRequest<JobResponse> invokeNodePublishJob(String projectName, String nodeUuid, ParameterProvider... parameters);
+
+	/**
+	 * Enqueue a job which takes the node and all its children offline in the background.
+	 *
+	 * @param projectName Name of the project
+	 * @param nodeUuid    Uuid of the root node
+	 * @param parameters
+	 * @return Mesh request which can be invoked
+	 */
+	MeshRequest<JobResponse> invokeNodeUnpublishJob(String projectName, String nodeUuid, ParameterProvider... parameters);
+
+	/**
+	 * Enqueue a job which deletes the node and all its children from the branch in the background.
+	 *
+	 * @param projectName Name of the project
+	 * @param nodeUuid    Uuid of the root node
+	 * @param parameters
+	 * @return Mesh request which can be invoked
+	 */
+	MeshRequest<JobResponse> invokeNodeDeleteJob(String projectName, String nodeUuid, ParameterProvider... parameters);
+
 	/**
 	 * Load the version list of the node.
 	 * 
@@ -301,4 +335,25 @@ public interface NodeClientMethods {
 	 */
 	MeshRequest<NodeVersionsResponse> listNodeVersions(String projectName, String nodeUuid, ParameterProvider...parameters);
 
+	/**
+	 * Create, update, publish or delete nodes in bulk. The items are read from the given NDJSON stream. The response contains one result line per item
+	 * and the summary as last line.
+	 *
+	 * @param projectName Name of the project
+	 * @param ndjson      Stream which provides one bulk item per line
+	 * @param parameters
+	 * @return Mesh request which can be invoked
+	 */
+	MeshRequest<MeshBinaryResponse> bulkNodes(String projectName, InputStream ndjson, ParameterProvider... parameters);
+
+	/**
+	 * Load the node changes of the branch. The response contains one change per line. Use the since parameter of the
+	 * {@link com.gentics.mesh.parameter.NodeChangesParameters} to only load the changes after a known sequence number.
+	 *
+	 * @param projectName Name of the project
+	 * @param parameters
+	 * @return Mesh request which can be invoked
+	 */
+	MeshRequest<MeshBinaryResponse> findNodeChanges(String projectName, ParameterProvider... parameters);
+
 }
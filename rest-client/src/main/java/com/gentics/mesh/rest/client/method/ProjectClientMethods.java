@@ -5,6 +5,7 @@ import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
 import com.gentics.mesh.core.rest.project.ProjectListResponse;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
 import com.gentics.mesh.core.rest.project.ProjectUpdateRequest;
+import com.gentics.mesh.core.rest.project.VersionRetentionPolicy;
 import com.gentics.mesh.parameter.ParameterProvider;
 import com.gentics.mesh.rest.client.MeshRequest;
 import com.gentics.mesh.rest.client.impl.EmptyResponse;
@@ -100,4 +101,21 @@ public interface ProjectClientMethods {
 	 * @return
 	 */
 	MeshRequest<GenericMessageResponse> purgeProject(String uuid, ParameterProvider... parameters);
+
+	/**
+	 * Load the version retention policy of the project.
+	 * 
+	 * @param uuid
+	 * @return
+	 */
+	MeshRequest<VersionRetentionPolicy> getProjectVersionRetention(String uuid);
+
+	/**
+	 * Update the version retention policy of the project. The policy will be enforced periodically in the background.
+	 * 
+	 * @param uuid
+	 * @param policy
+	 * @return
+	 */
+	MeshRequest<VersionRetentionPolicy> updateProjectVersionRetention(String uuid, VersionRetentionPolicy policy);
 }
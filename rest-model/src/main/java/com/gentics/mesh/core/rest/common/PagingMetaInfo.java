@@ -17,13 +17,17 @@ public class PagingMetaInfo {
 	private Long perPage;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of the pages which can be found for the given per page count.")
+	@JsonPropertyDescription("Number of the pages which can be found for the given per page count. The value will be -1 if the count was not determined.")
 	private long pageCount;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of all elements which could be found.")
+	@JsonPropertyDescription("Number of all elements which could be found. The value will be -1 if the count was not determined.")
 	private long totalCount;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Cursor which can be used via the after parameter to load the next page. The cursor is only set if there is a next page.")
+	private String nextCursor;
+
 	public PagingMetaInfo() {
 	}
 
@@ -111,4 +115,24 @@ public class PagingMetaInfo {
 		return this;
 	}
 
+	/**
+	 * Return the cursor for the next page.
+	 * 
+	 * @return Cursor or null if there is no next page
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * Set the cursor for the next page.
+	 * 
+	 * @param nextCursor
+	 * @return Fluent API
+	 */
+	public PagingMetaInfo setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+		return this;
+	}
+
 }
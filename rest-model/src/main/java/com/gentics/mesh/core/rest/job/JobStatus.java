@@ -35,6 +35,11 @@ public enum JobStatus {
 	/**
 	 * Migration failed with an error
 	 */
-	FAILED;
+	FAILED,
+
+	/**
+	 * Job was cancelled before it was completed
+	 */
+	CANCELLED;
 
 }
@@ -7,6 +7,16 @@ public enum JobType {
 
 	branch,
 
-	versionpurge
+	versionpurge,
+
+	binarygc,
+
+	consistency,
+
+	nodepublish,
+
+	nodeunpublish,
+
+	nodedelete
 
 }
@@ -0,0 +1,28 @@
+package com.gentics.mesh.core.rest.node.bulk;
+
+/**
+ * Actions which can be executed via the node bulk endpoint.
+ */
+public enum NodeBulkAction {
+
+	/**
+	 * Create a node. The uuid of the item is optional.
+	 */
+	create,
+
+	/**
+	 * Update the node with the uuid of the item.
+	 */
+	update,
+
+	/**
+	 * Publish the node with the uuid of the item. Only the given language will be published if the item specifies a language.
+	 */
+	publish,
+
+	/**
+	 * Delete the node with the uuid of the item.
+	 */
+	delete;
+
+}
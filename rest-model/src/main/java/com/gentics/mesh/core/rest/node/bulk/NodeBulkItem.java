@@ -0,0 +1,68 @@
+package com.gentics.mesh.core.rest.node.bulk;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.rest.node.NodeUpsertRequest;
+
+/**
+ * POJO for a single line of a node bulk request. The bulk request body contains one item per line (NDJSON).
+ */
+public class NodeBulkItem implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Action which will be executed for the item.")
+	private NodeBulkAction action;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Uuid of the node. The uuid is optional when creating nodes.")
+	private String uuid;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Language which will be published. All languages will be published if omitted.")
+	private String language;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Create or update request for the node.")
+	private NodeUpsertRequest node;
+
+	public NodeBulkItem() {
+	}
+
+	public NodeBulkAction getAction() {
+		return action;
+	}
+
+	public NodeBulkItem setAction(NodeBulkAction action) {
+		this.action = action;
+		return this;
+	}
+
+	public String getUuid() {
+		return uuid;
+	}
+
+	public NodeBulkItem setUuid(String uuid) {
+		this.uuid = uuid;
+		return this;
+	}
+
+	public String getLanguage() {
+		return language;
+	}
+
+	public NodeBulkItem setLanguage(String language) {
+		this.language = language;
+		return this;
+	}
+
+	public NodeUpsertRequest getNode() {
+		return node;
+	}
+
+	public NodeBulkItem setNode(NodeUpsertRequest node) {
+		this.node = node;
+		return this;
+	}
+
+}
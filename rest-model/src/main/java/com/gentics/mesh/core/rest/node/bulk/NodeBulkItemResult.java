@@ -0,0 +1,89 @@
+package com.gentics.mesh.core.rest.node.bulk;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for the result of a single item of a node bulk request.
+ */
+public class NodeBulkItemResult implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Line number of the item within the request.")
+	private long index;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Action of the item.")
+	private NodeBulkAction action;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Uuid of the node.")
+	private String uuid;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("HTTP status code which corresponds to the result of the item.")
+	private int status;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Error message if the item could not be processed.")
+	private String message;
+
+	public NodeBulkItemResult() {
+	}
+
+	public long getIndex() {
+		return index;
+	}
+
+	public NodeBulkItemResult setIndex(long index) {
+		this.index = index;
+		return this;
+	}
+
+	public NodeBulkAction getAction() {
+		return action;
+	}
+
+	public NodeBulkItemResult setAction(NodeBulkAction action) {
+		this.action = action;
+		return this;
+	}
+
+	public String getUuid() {
+		return uuid;
+	}
+
+	public NodeBulkItemResult setUuid(String uuid) {
+		this.uuid = uuid;
+		return this;
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	public NodeBulkItemResult setStatus(int status) {
+		this.status = status;
+		return this;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public NodeBulkItemResult setMessage(String message) {
+		this.message = message;
+		return this;
+	}
+
+	/**
+	 * Check whether the item was processed successfully.
+	 * 
+	 * @return
+	 */
+	public boolean isSuccess() {
+		return status >= 200 && status < 300;
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.gentics.mesh.core.rest.node.bulk;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for the summary of a node bulk request. The summary is written as the last line of the response.
+ */
+public class NodeBulkSummary implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Total amount of items which were processed.")
+	private long processed;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of items which failed.")
+	private long failed;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of committed batches.")
+	private long batches;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Duration of the request in milliseconds.")
+	private long duration;
+
+	public NodeBulkSummary() {
+	}
+
+	public long getProcessed() {
+		return processed;
+	}
+
+	public NodeBulkSummary setProcessed(long processed) {
+		this.processed = processed;
+		return this;
+	}
+
+	public long getFailed() {
+		return failed;
+	}
+
+	public NodeBulkSummary setFailed(long failed) {
+		this.failed = failed;
+		return this;
+	}
+
+	public long getBatches() {
+		return batches;
+	}
+
+	public NodeBulkSummary setBatches(long batches) {
+		this.batches = batches;
+		return this;
+	}
+
+	public long getDuration() {
+		return duration;
+	}
+
+	public NodeBulkSummary setDuration(long duration) {
+		this.duration = duration;
+		return this;
+	}
+
+}
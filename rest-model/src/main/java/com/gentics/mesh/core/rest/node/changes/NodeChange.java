@@ -0,0 +1,67 @@
+package com.gentics.mesh.core.rest.node.changes;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for a single entry of the node change feed. Each entry is written as a separate line of the response.
+ */
+public class NodeChange implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Sequence number of the change. The sequence numbers of a branch are increasing monotonically. Use the sequence number of the last received change as the since parameter of the next request.")
+	private long sequence;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Action which was applied to the node.")
+	private NodeChangeAction action;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Uuid of the changed node.")
+	private String uuid;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("ISO8601 formatted date at which the change was recorded.")
+	private String timestamp;
+
+	public NodeChange() {
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	public NodeChange setSequence(long sequence) {
+		this.sequence = sequence;
+		return this;
+	}
+
+	public NodeChangeAction getAction() {
+		return action;
+	}
+
+	public NodeChange setAction(NodeChangeAction action) {
+		this.action = action;
+		return this;
+	}
+
+	public String getUuid() {
+		return uuid;
+	}
+
+	public NodeChange setUuid(String uuid) {
+		this.uuid = uuid;
+		return this;
+	}
+
+	public String getTimestamp() {
+		return timestamp;
+	}
+
+	public NodeChange setTimestamp(String timestamp) {
+		this.timestamp = timestamp;
+		return this;
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.gentics.mesh.core.rest.node.changes;
+
+/**
+ * Actions which are recorded in the node change feed of a project branch.
+ */
+public enum NodeChangeAction {
+
+	/**
+	 * A node or a new language of a node was created.
+	 */
+	created,
+
+	/**
+	 * A node was updated or moved, or one of its languages was deleted.
+	 */
+	updated,
+
+	/**
+	 * A node was deleted.
+	 */
+	deleted,
+
+	/**
+	 * A node or one of its languages was published.
+	 */
+	published,
+
+	/**
+	 * A node or one of its languages was taken offline.
+	 */
+	unpublished;
+
+}
@@ -0,0 +1,65 @@
+package com.gentics.mesh.core.rest.project;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for the version retention policy of a project. The policy is continuously enforced by a background worker which purges the versions that are
+ * no longer retained.
+ */
+public class VersionRetentionPolicy implements RestModel {
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of the latest versions of each content which will be kept. Draft and published versions are always kept.")
+	private Integer keepVersions;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum age of the versions as ISO-8601 duration (e.g. P30D). Only older versions will be purged.")
+	private String maxAge;
+
+	public VersionRetentionPolicy() {
+	}
+
+	/**
+	 * Return the amount of versions which will be kept.
+	 * 
+	 * @return Amount of versions or null if the amount is not limited
+	 */
+	public Integer getKeepVersions() {
+		return keepVersions;
+	}
+
+	/**
+	 * Set the amount of versions which will be kept.
+	 * 
+	 * @param keepVersions
+	 * @return Fluent API
+	 */
+	public VersionRetentionPolicy setKeepVersions(Integer keepVersions) {
+		this.keepVersions = keepVersions;
+		return this;
+	}
+
+	/**
+	 * Return the maximum age of the versions.
+	 * 
+	 * @return ISO-8601 duration or null if the age is not limited
+	 */
+	public String getMaxAge() {
+		return maxAge;
+	}
+
+	/**
+	 * Set the maximum age of the versions.
+	 * 
+	 * @param maxAge
+	 *            ISO-8601 duration
+	 * @return Fluent API
+	 */
+	public VersionRetentionPolicy setMaxAge(String maxAge) {
+		this.maxAge = maxAge;
+		return this;
+	}
+
+}
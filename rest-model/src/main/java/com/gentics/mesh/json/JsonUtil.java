@@ -4,6 +4,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.codehaus.jettison.json.JSONObject;
 
@@ -12,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -71,8 +73,12 @@ import io.vertx.core.logging.LoggerFactory;
 public final class JsonUtil {
 
 	protected static ObjectMapper defaultMapper;
+
 	protected static JsonSchemaGenerator schemaGen;
 
+	private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {
+	};
+
 	private static final Logger log = LoggerFactory.getLogger(JsonUtil.class);
 
 	static {
@@ -173,6 +179,25 @@ public final class JsonUtil {
 		}
 	}
 
+	/**
+	 * Transform the given object into a {@link JsonObject}. The object will be converted directly without creating and parsing an intermediate JSON
+	 * string.
+	 * 
+	 * @param obj
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static JsonObject toJsonObject(Object obj) throws GenericRestException {
+		try {
+			Map<String, Object> map = defaultMapper.convertValue(obj, MAP_TYPE);
+			return new JsonObject(map);
+		} catch (IllegalArgumentException e) {
+			// TODO i18n
+			String message = "Could not generate json from object";
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, message, e);
+		}
+	}
+
 	/**
 	 * Transform the given JSON content back into a POJO.
 	 * 
@@ -0,0 +1,51 @@
+package com.gentics.mesh.parameter;
+
+import org.apache.commons.lang.BooleanUtils;
+
+public interface NodeBulkParameters extends ParameterProvider {
+
+	public static final String BATCH_SIZE_PARAMETER_KEY = "batchSize";
+
+	public static final String DEFER_REFERENCES_PARAMETER_KEY = "deferReferences";
+
+	/**
+	 * Set the amount of items which will be committed within a single transaction.
+	 * 
+	 * @param batchSize
+	 * @return Fluent API
+	 */
+	default NodeBulkParameters setBatchSize(int batchSize) {
+		setParameter(BATCH_SIZE_PARAMETER_KEY, String.valueOf(batchSize));
+		return this;
+	}
+
+	/**
+	 * Return the amount of items which will be committed within a single transaction.
+	 * 
+	 * @return Batch size or null if the configured default should be used
+	 */
+	default Integer getBatchSize() {
+		String value = getParameter(BATCH_SIZE_PARAMETER_KEY);
+		return value == null ? null : Integer.valueOf(value);
+	}
+
+	/**
+	 * Set the flag which defers items that reference nodes which do not yet exist until the end of the request.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default NodeBulkParameters setDeferReferences(boolean flag) {
+		setParameter(DEFER_REFERENCES_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether items that reference nodes which do not yet exist should be deferred until the end of the request.
+	 * 
+	 * @return
+	 */
+	default boolean isDeferReferences() {
+		return BooleanUtils.toBooleanDefaultIfNull(Boolean.valueOf(getParameter(DEFER_REFERENCES_PARAMETER_KEY)), false);
+	}
+}
@@ -0,0 +1,52 @@
+package com.gentics.mesh.parameter;
+
+public interface NodeChangesParameters extends ParameterProvider {
+
+	public static final String SINCE_PARAMETER_KEY = "since";
+
+	public static final String LIMIT_PARAMETER_KEY = "limit";
+
+	public static final long DEFAULT_LIMIT = 10_000;
+
+	/**
+	 * Set the sequence number after which the changes should be returned.
+	 * 
+	 * @param since
+	 * @return Fluent API
+	 */
+	default NodeChangesParameters setSince(long since) {
+		setParameter(SINCE_PARAMETER_KEY, String.valueOf(since));
+		return this;
+	}
+
+	/**
+	 * Return the sequence number after which the changes should be returned. All changes will be returned if no sequence number was set.
+	 * 
+	 * @return
+	 */
+	default long getSince() {
+		String value = getParameter(SINCE_PARAMETER_KEY);
+		return value == null ? 0 : Long.parseLong(value);
+	}
+
+	/**
+	 * Set the maximum amount of changes which should be returned.
+	 * 
+	 * @param limit
+	 * @return Fluent API
+	 */
+	default NodeChangesParameters setLimit(long limit) {
+		setParameter(LIMIT_PARAMETER_KEY, String.valueOf(limit));
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of changes which should be returned.
+	 * 
+	 * @return
+	 */
+	default long getLimit() {
+		String value = getParameter(LIMIT_PARAMETER_KEY);
+		return value == null ? DEFAULT_LIMIT : Long.parseLong(value);
+	}
+}
@@ -1,5 +1,8 @@
 package com.gentics.mesh.parameter;
 
+import org.apache.commons.lang.BooleanUtils;
+import org.apache.commons.lang.StringUtils;
+
 import com.gentics.mesh.core.rest.SortOrder;
 import com.gentics.mesh.util.NumberUtils;
 
@@ -9,6 +12,8 @@ public interface PagingParameters extends ParameterProvider {
 	public static final String PER_PAGE_PARAMETER_KEY = "perPage";
 	public static final String SORT_BY_PARAMETER_KEY = "sortBy";
 	public static final String SORT_ORDER_PARAMETER_KEY = "order";
+	public static final String AFTER_PARAMETER_KEY = "after";
+	public static final String TOTAL_COUNT_PARAMETER_KEY = "totalCount";
 
 	public static final int DEFAULT_PAGE = 1;
 
@@ -56,6 +61,47 @@ public interface PagingParameters extends ParameterProvider {
 		return this;
 	}
 
+	/**
+	 * Return the cursor after which the page should start. The cursor is an opaque token which was returned by the previous page.
+	 * 
+	 * @return Cursor or null if the page number should be used instead
+	 */
+	default String getAfter() {
+		return StringUtils.trimToNull(getParameter(AFTER_PARAMETER_KEY));
+	}
+
+	/**
+	 * Set the cursor after which the page should start. The page number will be ignored when a cursor has been set.
+	 * 
+	 * @param after
+	 *            Cursor which was returned by the previous page
+	 * @return Fluent API
+	 */
+	default PagingParameters setAfter(String after) {
+		setParameter(AFTER_PARAMETER_KEY, after);
+		return this;
+	}
+
+	/**
+	 * Check whether the total element count and page count should be determined. Determining the total count requires all elements to be loaded.
+	 * 
+	 * @return
+	 */
+	default boolean isTotalCount() {
+		return BooleanUtils.toBooleanDefaultIfNull(BooleanUtils.toBooleanObject(getParameter(TOTAL_COUNT_PARAMETER_KEY)), true);
+	}
+
+	/**
+	 * Set the flag which controls whether the total element count and page count should be determined.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default PagingParameters setTotalCount(boolean flag) {
+		setParameter(TOTAL_COUNT_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
 	/**
 	 * Return the sort by parameter value.
 	 * 
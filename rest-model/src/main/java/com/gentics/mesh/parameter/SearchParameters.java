@@ -6,6 +6,10 @@ public interface SearchParameters extends ParameterProvider {
 
 	String WAIT_PARAMETER_KEY = "wait";
 
+	String SOURCE_ONLY_PARAMETER_KEY = "sourceOnly";
+
+	String CURSOR_PARAMETER_KEY = "cursor";
+
 	/**
 	 * Set the recursive flag. When enabled the deletion will also effect subelements.
 	 * 
@@ -34,4 +38,45 @@ public interface SearchParameters extends ParameterProvider {
 				}
 			});
 	}
+
+	/**
+	 * Set the source only flag. When enabled the stored search index documents will be returned instead of the elements which are loaded from the graph.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default SearchParameters setSourceOnly(boolean flag) {
+		setParameter(SOURCE_ONLY_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the source only flag is enabled.
+	 * 
+	 * @return
+	 */
+	default boolean isSourceOnly() {
+		return "true".equalsIgnoreCase(getParameter(SOURCE_ONLY_PARAMETER_KEY));
+	}
+
+	/**
+	 * Set the cursor flag. When enabled the search will be sorted by a unique tiebreaker and the paging info will contain the cursor for the next page.
+	 * Requests which already contain a cursor via the <code>after</code> parameter always use cursor paging.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default SearchParameters setCursor(boolean flag) {
+		setParameter(CURSOR_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the cursor flag is enabled.
+	 * 
+	 * @return
+	 */
+	default boolean isCursor() {
+		return "true".equalsIgnoreCase(getParameter(CURSOR_PARAMETER_KEY));
+	}
 }
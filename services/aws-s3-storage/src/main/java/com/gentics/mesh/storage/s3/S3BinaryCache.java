@@ -0,0 +1,188 @@
+package com.gentics.mesh.storage.s3;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Bounded local disk cache for binaries which were loaded from S3. The cache keeps track of the size of all cached files and evicts the least recently used
+ * entries once the configured maximum size has been exceeded.
+ */
+public class S3BinaryCache {
+
+	private static final Logger log = LoggerFactory.getLogger(S3BinaryCache.class);
+
+	private static final String FILE_SUFFIX = ".bin";
+
+	private static final String DOWNLOAD_SUFFIX = ".download";
+
+	private final File directory;
+
+	private final long maxSize;
+
+	/**
+	 * Map of cached binary uuids to the file sizes. The map is kept in access order so that the first entry is the eldest one.
+	 */
+	private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long currentSize = 0;
+
+	public S3BinaryCache(String directory, long maxSize) {
+		this.directory = new File(directory);
+		this.maxSize = maxSize;
+		if (isEnabled()) {
+			init();
+		}
+	}
+
+	/**
+	 * Prepare the cache directory and register all previously cached files. Leftovers of interrupted downloads will be removed.
+	 */
+	private void init() {
+		if (!directory.exists() && !directory.mkdirs()) {
+			throw new RuntimeException("Could not create cache directory {" + directory.getAbsolutePath() + "}");
+		}
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		// Register the files in the order of their last modification so that the eviction order is preserved across restarts
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		synchronized (this) {
+			for (File file : files) {
+				String name = file.getName();
+				if (name.endsWith(FILE_SUFFIX)) {
+					String uuid = name.substring(0, name.length() - FILE_SUFFIX.length());
+					entries.put(uuid, file.length());
+					currentSize += file.length();
+				} else if (name.endsWith(DOWNLOAD_SUFFIX)) {
+					file.delete();
+				}
+			}
+			evict();
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Registered {" + entries.size() + "} cached binaries with a total size of {" + currentSize + "} bytes");
+		}
+	}
+
+	/**
+	 * Check whether the cache is enabled.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Check whether a binary of the given size can be stored in the cache.
+	 *
+	 * @param size
+	 * @return
+	 */
+	public boolean accepts(long size) {
+		return isEnabled() && size <= maxSize;
+	}
+
+	/**
+	 * Return the path to the cached binary and mark the entry as recently used.
+	 *
+	 * @param uuid
+	 * @return Path or null if the binary is not cached
+	 */
+	public synchronized String get(String uuid) {
+		if (entries.get(uuid) == null) {
+			return null;
+		}
+		return getFile(uuid).getAbsolutePath();
+	}
+
+	/**
+	 * Return the path of the file to which the download of the binary should be written. Use {@link #commit(String, Path)} once the download has finished.
+	 *
+	 * @param uuid
+	 * @return
+	 */
+	public Path getDownloadPath(String uuid) {
+		return Paths.get(directory.getAbsolutePath(), uuid + "-" + System.nanoTime() + DOWNLOAD_SUFFIX);
+	}
+
+	/**
+	 * Move the downloaded file into place and register it in the cache. Eldest entries will be evicted when the cache exceeds its maximum size.
+	 *
+	 * @param uuid
+	 * @param download
+	 * @return Path to the cached binary
+	 * @throws IOException
+	 */
+	public String commit(String uuid, Path download) throws IOException {
+		File target = getFile(uuid);
+		Files.move(download, target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		long size = target.length();
+		synchronized (this) {
+			Long previous = entries.put(uuid, size);
+			if (previous != null) {
+				currentSize -= previous;
+			}
+			currentSize += size;
+			evict();
+		}
+		return target.getAbsolutePath();
+	}
+
+	/**
+	 * Remove the binary from the cache.
+	 *
+	 * @param uuid
+	 */
+	public synchronized void invalidate(String uuid) {
+		Long size = entries.remove(uuid);
+		if (size != null) {
+			currentSize -= size;
+			getFile(uuid).delete();
+		}
+	}
+
+	/**
+	 * Return the total size of all cached binaries.
+	 *
+	 * @return
+	 */
+	public synchronized long getCurrentSize() {
+		return currentSize;
+	}
+
+	/**
+	 * Remove the least recently used entries until the cache fits into the maximum size. Files which are currently being served will still be readable since
+	 * the open file handles remain valid after deletion.
+	 */
+	private void evict() {
+		Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+		while (currentSize > maxSize && it.hasNext()) {
+			Map.Entry<String, Long> eldest = it.next();
+			it.remove();
+			currentSize -= eldest.getValue();
+			if (log.isDebugEnabled()) {
+				log.debug("Evicting binary {" + eldest.getKey() + "} from the cache");
+			}
+			getFile(eldest.getKey()).delete();
+		}
+	}
+
+	private File getFile(String uuid) {
+		return new File(directory, uuid + FILE_SUFFIX);
+	}
+
+}
@@ -4,8 +4,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -16,6 +26,8 @@ import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
@@ -23,25 +35,46 @@ import io.vertx.core.logging.LoggerFactory;
 import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.core.file.FileSystem;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
-import software.amazon.awssdk.services.s3.model.CreateBucketResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * Binary storage which stores the binary data in an S3 compatible object store.
+ *
+ * Uploads are streamed to S3 using multipart uploads. Reads will populate a bounded local disk cache ({@link S3BinaryCache}) so that hot binaries can be
+ * served from the local filesystem via {@link #getLocalPath(String)}.
+ */
 @Singleton
 public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	private static final Logger log = LoggerFactory.getLogger(S3BinaryStorage.class);
 
+	private static final String TEMP_PREFIX = "temp/";
+
 	private S3AsyncClient client;
 
 	private S3StorageOptions options;
@@ -50,125 +83,99 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	private FileSystem fs;
 
+	private final S3BinaryCache cache;
+
+	/**
+	 * Currently running cache downloads. Used to prevent parallel downloads of the same binary.
+	 */
+	private final Map<String, Single<String>> pendingDownloads = new ConcurrentHashMap<>();
+
 	@Inject
 	public S3BinaryStorage(S3StorageOptions options, Vertx rxVertx) {
+		options.validate();
 		this.options = options;
 		this.rxVertx = rxVertx;
 		this.fs = rxVertx.fileSystem();
+		this.cache = new S3BinaryCache(options.getCacheDirectory(), options.getCacheMaxSize());
 		init();
 	}
 
 	private void init() {
-		AwsCredentials credentials = AwsBasicCredentials.create(options.getAccessId(), options.getAccessKey());
-		// ClientConfiguration clientConfiguration = new ClientConfiguration();
-		// clientConfiguration.setSignerOverride("AWSS3V4SignerType");
-
-		// ClientAsyncHttpConfiguration asyncHttpConfiguration = ClientAsyncHttpConfiguration.builder().build();
-		// S3AdvancedConfiguration advancedConfiguration = S3AdvancedConfiguration.builder().build();
-
-		// DefaultCredentialsProvider.create();
-		System.setProperty("aws.accessKeyId", options.getAccessId());
-		System.setProperty("aws.secretAccessKey", options.getAccessKey());
-
+		AwsBasicCredentials credentials = AwsBasicCredentials.create(options.getAccessId(), options.getAccessKey());
 		client = S3AsyncClient.builder()
-			// .advancedConfiguration(advancedConfiguration)
-			// .asyncHttpConfiguration(asyncHttpConfiguration)
 			.region(Region.of(options.getRegion()))
 			.endpointOverride(URI.create(options.getUrl()))
 			.credentialsProvider(StaticCredentialsProvider.create(credentials))
+			.serviceConfiguration(S3Configuration.builder()
+				.pathStyleAccessEnabled(options.isPathStyleAccess())
+				.build())
 			.build();
 
 		String bucketName = options.getBucketName();
-		// try {
-		// HeadBucketResponse response = client.headBucket(HeadBucketRequest.builder().bucket(bucketName).build()).get();
-		// } catch (InterruptedException | ExecutionException e) {
-		// TODO Auto-generated catch block
-		// e.printStackTrace();
-		// } catch (NoSuchKeyException e) {
 		try {
-			CreateBucketResponse response2 = client.createBucket(CreateBucketRequest.builder().bucket(bucketName).build()).get();
-		} catch (InterruptedException | ExecutionException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+			client.headBucket(HeadBucketRequest.builder().bucket(bucketName).build()).join();
+		} catch (CompletionException e) {
+			if (!isNotFound(e)) {
+				throw e;
+			}
+			log.info("Did not find bucket {" + bucketName + "}. Creating it...");
+			client.createBucket(CreateBucketRequest.builder().bucket(bucketName).build()).join();
 		}
-		// }
-
-		// s3Client = AmazonS3ClientBuilder
-		// .standard()
-		// .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(options.getUrl(), options.getRegion()))
-		// .withPathStyleAccessEnabled(true)
-		// .withClientConfiguration(clientConfiguration)
-		// .withCredentials(new AWSStaticCredentialsProvider(credentials))
-		// .build();
-		//
-		// String bucketName = options.getBucketName();
-		// if (!s3Client.doesBucketExist(bucketName)) {
-		// log.info("Did not find bucket {" + bucketName + "}. Creating it...");
-		// s3Client.createBucket(new CreateBucketRequest(bucketName));
-		// }
-
 	}
 
 	@Override
 	public boolean exists(BinaryGraphField field) {
-		String id = field.getBinary().getSHA512Sum();
-		// NoSuchKeyException
+		String uuid = field.getBinary().getUuid();
+		if (cache.get(uuid) != null) {
+			return true;
+		}
 		try {
-			HeadObjectResponse headResponse = client.headObject(HeadObjectRequest.builder()
-				.bucket(options.getBucketName())
-				.key(id)
-				.build()).get();
-		} catch (InterruptedException | ExecutionException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+			head(uuid).join();
+			return true;
+		} catch (CompletionException e) {
+			if (isNotFound(e)) {
+				return false;
+			}
+			throw e;
 		}
-		return false;
-
 	}
 
 	@Override
-	public Flowable<Buffer> read(String hashsum) {
-		return Flowable.generate(sub -> {
+	public Flowable<Buffer> read(String uuid) {
+		return Flowable.defer(() -> {
 			if (log.isDebugEnabled()) {
-				log.debug("Loading data for hash {" + hashsum + "}");
+				log.debug("Loading data for binary {" + uuid + "}");
 			}
-			// GetObjectRequest rangeObjectRequest = new GetObjectRequest(options.getBucketName(), hashsum);
-			GetObjectRequest request = GetObjectRequest.builder().bucket(options.getBucketName()).build();
-			client.getObject(request, new AsyncResponseTransformer<GetObjectResponse, String>() {
-
-				@Override
-				public CompletableFuture<String> prepare() {
-					// TODO Auto-generated method stub
-					return null;
-				}
-
-				@Override
-				public void onResponse(GetObjectResponse response) {
-					// TODO Auto-generated method stub
-
-				}
-
-				@Override
-				public void onStream(SdkPublisher<ByteBuffer> publisher) {
-					// TODO Auto-generated method stub
-
-				}
-
-				@Override
-				public void exceptionOccurred(Throwable error) {
-					// TODO Auto-generated method stub
-
+			if (!cache.isEnabled()) {
+				return readFromS3(uuid, null);
+			}
+			String cachedPath = cache.get(uuid);
+			if (cachedPath != null) {
+				return readFile(cachedPath);
+			}
+			return toSingle(() -> head(uuid)).flatMapPublisher(head -> {
+				if (cache.accepts(head.contentLength())) {
+					return loadIntoCache(uuid).flatMapPublisher(this::readFile);
 				}
+				// The binary is too large for the cache. Stream it directly.
+				return readFromS3(uuid, null);
 			});
+		});
+	}
 
-			// try (InputStream stream = objectPortion.getObjectContent()) {
-			//
-			// if (log.isDebugEnabled()) {
-			// log.debug("Printing bytes retrieved:");
-			// displayTextInputStream(stream);
-			// }
-			// }
-			// sub.onComplete();
+	/**
+	 * Read the range directly from S3 using a ranged GET unless the binary is already cached locally.
+	 */
+	@Override
+	public Flowable<Buffer> read(String uuid, long offset, long length) {
+		return Flowable.defer(() -> {
+			String cachedPath = cache.get(uuid);
+			if (cachedPath != null) {
+				return fs.rxOpen(cachedPath, new OpenOptions().setRead(true))
+					.toFlowable()
+					.flatMap(file -> RxUtil.toBufferFlow(file.setReadPos(offset).setReadLength(length)));
+			}
+			return readFromS3(uuid, "bytes=" + offset + "-" + (offset + length - 1));
 		});
 	}
 
@@ -182,73 +189,332 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 		});
 	}
 
+	/**
+	 * Stream the data to S3 using a multipart upload. The stream will be split into parts of the configured part size. Only a single part is buffered in
+	 * memory at any time.
+	 */
 	@Override
 	public Completable storeInTemp(Flowable<Buffer> stream, String temporaryId) {
-		return Completable.create(sub -> {
-			PutObjectRequest request = PutObjectRequest.builder()
-				.bucket(options.getBucketName())
-				.key(temporaryId)
-				.build();
-
-			/*
-			 * client.putObject(request, new AsyncRequestBody() {
-			 * 
-			 * @Override public void subscribe(Subscriber<? super ByteBuffer> s) { stream.map(Buffer::getByteBuf).map(ByteBuf::nioBuffer).subscribe(s); }
-			 * 
-			 * @Override public Optional<Long> contentLength() { // return Optional.from(10L); return null; } });
-			 */
-		});
-
-		// try {
-		// if (log.isDebugEnabled()) {
-		// log.debug("Uploading {" + hashsum + "} to S3.");
-		// }
-		// try (InputStream ins = RxUtil.toInputStream(stream, new io.vertx.reactivex.core.Vertx(vertx))) {
-		// ObjectMetadata metaData = new ObjectMetadata();
-		// metaData.setContentLength(90);
-		// s3Client.putObject(new PutObjectRequest(options.getBucketName(), hashsum, ins, metaData));
-		// sub.onComplete();
-		// }
-		// } catch (AmazonServiceException ase) {
-		// log.debug(
-		// "Caught an AmazonServiceException, which means your request made it to Amazon S3, but was rejected with an error response for some reason.");
-		// log.debug("Error Message: " + ase.getMessage());
-		// log.debug("HTTP Status Code: " + ase.getStatusCode());
-		// log.debug("AWS Error Code: " + ase.getErrorCode());
-		// log.debug("Error Type: " + ase.getErrorType());
-		// log.debug("Request ID: " + ase.getRequestId());
-		// sub.onError(ase);
-		// } catch (AmazonClientException ace) {
-		// log.debug("Caught an AmazonClientException, which " + "means the client encountered " + "an internal error while trying to "
-		// + "communicate with S3, " + "such as not being able to access the network.");
-		// log.debug("Error Message: " + ace.getMessage());
-		// sub.onError(ace);
-		// }
+		String key = getTemporaryKey(temporaryId);
+		String bucket = options.getBucketName();
+		return toSingle(() -> client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+			.bucket(bucket)
+			.key(key)
+			.build()))
+			.flatMapCompletable(upload -> {
+				String uploadId = upload.uploadId();
+				AtomicInteger partNumber = new AtomicInteger();
+				return toParts(stream, options.getPartSize())
+					.concatMapSingle(part -> {
+						int number = partNumber.incrementAndGet();
+						if (log.isDebugEnabled()) {
+							log.debug("Uploading part {" + number + "} of {" + key + "} with {" + part.length() + "} bytes");
+						}
+						return toSingle(() -> client.uploadPart(UploadPartRequest.builder()
+							.bucket(bucket)
+							.key(key)
+							.uploadId(uploadId)
+							.partNumber(number)
+							.contentLength((long) part.length())
+							.build(), AsyncRequestBody.fromBytes(part.getBytes())))
+							.map(response -> CompletedPart.builder()
+								.partNumber(number)
+								.eTag(response.eTag())
+								.build());
+					}, 1)
+					.toList()
+					.flatMapCompletable(parts -> {
+						if (parts.isEmpty()) {
+							// S3 does not accept multipart uploads without parts. Store the empty object directly.
+							return abortUpload(key, uploadId).andThen(toSingle(() -> client.putObject(PutObjectRequest.builder()
+								.bucket(bucket)
+								.key(key)
+								.build(), AsyncRequestBody.fromBytes(new byte[0]))).ignoreElement());
+						}
+						return toSingle(() -> client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+							.bucket(bucket)
+							.key(key)
+							.uploadId(uploadId)
+							.multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+							.build())).ignoreElement();
+					})
+					.onErrorResumeNext(e -> {
+						log.error("Error while uploading temporary binary {" + temporaryId + "}", e);
+						return abortUpload(key, uploadId).onErrorComplete().andThen(Completable.error(e));
+					});
+			});
 	}
 
 	@Override
 	public Completable delete(String uuid) {
-		return Completable.complete();
+		return Completable.defer(() -> {
+			cache.invalidate(uuid);
+			return deleteObject(uuid);
+		});
 	}
 
 	@Override
 	public Buffer readAllSync(String uuid) {
-		// TODO implement
-		return null;
+		if (cache.isEnabled()) {
+			String path = cachedPath(uuid).blockingGet();
+			if (path != null) {
+				return fs.getDelegate().readFileBlocking(path);
+			}
+		}
+		ResponseBytes<GetObjectResponse> bytes = client.getObject(GetObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(uuid)
+			.build(), AsyncResponseTransformer.toBytes()).join();
+		return Buffer.buffer(bytes.asByteArray());
 	}
 
 	@Override
 	public Completable moveInPlace(String uuid, String temporaryId) {
-		return Completable.complete();
+		String bucket = options.getBucketName();
+		String tempKey = getTemporaryKey(temporaryId);
+		return toSingle(() -> client.copyObject(CopyObjectRequest.builder()
+			.copySource(bucket + "/" + tempKey)
+			.bucket(bucket)
+			.key(uuid)
+			.build()))
+			.ignoreElement()
+			.andThen(deleteObject(tempKey))
+			.doOnComplete(() -> cache.invalidate(uuid))
+			.doOnError(e -> {
+				log.error("Error while moving temporary upload {" + tempKey + "} to {" + uuid + "}", e);
+			});
 	}
 
 	@Override
 	public Completable purgeTemporaryUpload(String temporaryId) {
-		return Completable.complete();
+		return deleteObject(getTemporaryKey(temporaryId));
+	}
+
+	@Override
+	public Single<Long> purgeStaleTemporaryUploads(long maxAge) {
+		Instant threshold = Instant.now().minusMillis(maxAge);
+		return listTemporaryObjects(null)
+			.filter(object -> object.lastModified().isBefore(threshold))
+			.concatMapSingle(object -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Deleting stale temporary upload {" + object.key() + "}");
+				}
+				return deleteObject(object.key()).toSingleDefault(object.size());
+			})
+			.reduce(0L, Long::sum);
+	}
+
+	/**
+	 * List all objects in the temporary upload area. The listing will be continued until all pages have been loaded.
+	 *
+	 * @param continuationToken
+	 * @return
+	 */
+	private Flowable<S3Object> listTemporaryObjects(String continuationToken) {
+		return toSingle(() -> client.listObjectsV2(ListObjectsV2Request.builder()
+			.bucket(options.getBucketName())
+			.prefix(TEMP_PREFIX)
+			.continuationToken(continuationToken)
+			.build()))
+			.flatMapPublisher(response -> {
+				Flowable<S3Object> page = Flowable.fromIterable(response.contents());
+				if (Boolean.TRUE.equals(response.isTruncated())) {
+					return page.concatWith(Flowable.defer(() -> listTemporaryObjects(response.nextContinuationToken())));
+				}
+				return page;
+			});
 	}
 
 	@Override
 	public InputStream openBlockingStream(String uuid) throws IOException {
-		return null;
+		if (cache.isEnabled()) {
+			String path = cachedPath(uuid).blockingGet();
+			if (path != null) {
+				return Files.newInputStream(Paths.get(path));
+			}
+		}
+		return client.getObject(GetObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(uuid)
+			.build(), AsyncResponseTransformer.toBytes()).join().asInputStream();
+	}
+
+	/**
+	 * Return the path to the locally cached copy of the binary. A cache miss will trigger a background download so that subsequent requests can be served
+	 * from the local filesystem.
+	 */
+	@Override
+	public String getLocalPath(String uuid) {
+		String path = cache.get(uuid);
+		if (path == null && cache.isEnabled()) {
+			cachedPath(uuid).subscribe(p -> {}, e -> log.warn("Could not load binary {" + uuid + "} into the cache", e));
+		}
+		return path;
+	}
+
+	/**
+	 * Return the path to the locally cached copy of the binary. Binaries which are not yet cached will be downloaded into the cache if they fit into it.
+	 *
+	 * @param uuid
+	 * @return Maybe which emits the path to the cached file or completes without a path if the binary is too large for the cache
+	 */
+	private Maybe<String> cachedPath(String uuid) {
+		return Maybe.defer(() -> {
+			String cachedPath = cache.get(uuid);
+			if (cachedPath != null) {
+				return Maybe.just(cachedPath);
+			}
+			return toSingle(() -> head(uuid))
+				.filter(head -> cache.accepts(head.contentLength()))
+				.flatMapSingleElement(head -> loadIntoCache(uuid));
+		});
+	}
+
+	/**
+	 * Download the binary into the local cache. Concurrent calls for the same binary will share the download.
+	 *
+	 * @param uuid
+	 * @return Single which emits the path to the cached file
+	 */
+	private Single<String> loadIntoCache(String uuid) {
+		return Single.defer(() -> {
+			String cachedPath = cache.get(uuid);
+			if (cachedPath != null) {
+				return Single.just(cachedPath);
+			}
+			return pendingDownloads.computeIfAbsent(uuid, key -> {
+				Path download = cache.getDownloadPath(uuid);
+				return toSingle(() -> client.getObject(GetObjectRequest.builder()
+					.bucket(options.getBucketName())
+					.key(uuid)
+					.build(), AsyncResponseTransformer.toFile(download)))
+					.map(response -> cache.commit(uuid, download))
+					.doOnError(e -> Files.deleteIfExists(download))
+					.doFinally(() -> pendingDownloads.remove(uuid))
+					.cache();
+			});
+		});
+	}
+
+	private Flowable<Buffer> readFile(String path) {
+		return fs.rxOpen(path, new OpenOptions().setRead(true))
+			.toFlowable()
+			.flatMap(RxUtil::toBufferFlow);
+	}
+
+	/**
+	 * Stream the object from S3.
+	 *
+	 * @param key
+	 * @param range
+	 *            Optional range header value
+	 * @return
+	 */
+	private Flowable<Buffer> readFromS3(String key, String range) {
+		GetObjectRequest request = GetObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.range(range)
+			.build();
+		return toSingle(() -> client.getObject(request, new FlowableResponseTransformer()))
+			.flatMapPublisher(flow -> flow);
+	}
+
+	private CompletableFuture<HeadObjectResponse> head(String key) {
+		return client.headObject(HeadObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.build());
+	}
+
+	private Completable deleteObject(String key) {
+		return toSingle(() -> client.deleteObject(DeleteObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.build())).ignoreElement();
+	}
+
+	private Completable abortUpload(String key, String uploadId) {
+		return toSingle(() -> client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.uploadId(uploadId)
+			.build())).ignoreElement();
+	}
+
+	private String getTemporaryKey(String temporaryId) {
+		return TEMP_PREFIX + temporaryId;
+	}
+
+	/**
+	 * Rebatch the stream into buffers of the given size. The last buffer may be smaller.
+	 *
+	 * @param stream
+	 * @param partSize
+	 * @return
+	 */
+	static Flowable<Buffer> toParts(Flowable<Buffer> stream, int partSize) {
+		return Flowable.defer(() -> {
+			Buffer[] pending = { Buffer.buffer() };
+			return stream.concatMap(buffer -> {
+				pending[0].appendBuffer(buffer);
+				if (pending[0].length() < partSize) {
+					return Flowable.<Buffer>empty();
+				}
+				List<Buffer> parts = new ArrayList<>();
+				while (pending[0].length() >= partSize) {
+					parts.add(pending[0].getBuffer(0, partSize));
+					pending[0] = pending[0].getBuffer(partSize, pending[0].length());
+				}
+				return Flowable.fromIterable(parts);
+			}).concatWith(Flowable.defer(() -> pending[0].length() > 0 ? Flowable.just(pending[0]) : Flowable.<Buffer>empty()));
+		});
+	}
+
+	private static boolean isNotFound(Throwable e) {
+		Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		return cause instanceof S3Exception && ((S3Exception) cause).statusCode() == 404;
+	}
+
+	private static <T> Single<T> toSingle(Supplier<CompletableFuture<T>> futureSupplier) {
+		return Single.create(sub -> futureSupplier.get().whenComplete((result, error) -> {
+			if (error != null) {
+				sub.onError(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+			} else {
+				sub.onSuccess(result);
+			}
+		}));
+	}
+
+	/**
+	 * Response transformer which exposes the body of the response as a {@link Flowable}.
+	 */
+	private static class FlowableResponseTransformer implements AsyncResponseTransformer<GetObjectResponse, Flowable<Buffer>> {
+
+		private CompletableFuture<Flowable<Buffer>> future;
+
+		@Override
+		public CompletableFuture<Flowable<Buffer>> prepare() {
+			future = new CompletableFuture<>();
+			return future;
+		}
+
+		@Override
+		public void onResponse(GetObjectResponse response) {
+		}
+
+		@Override
+		public void onStream(SdkPublisher<ByteBuffer> publisher) {
+			future.complete(Flowable.fromPublisher(publisher).map(byteBuffer -> {
+				byte[] bytes = new byte[byteBuffer.remaining()];
+				byteBuffer.get(bytes);
+				return Buffer.buffer(bytes);
+			}));
+		}
+
+		@Override
+		public void exceptionOccurred(Throwable error) {
+			future.completeExceptionally(error);
+		}
 	}
 }
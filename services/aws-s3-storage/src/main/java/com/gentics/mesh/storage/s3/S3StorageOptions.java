@@ -1,11 +1,23 @@
 package com.gentics.mesh.storage.s3;
 
+import java.io.File;
 import java.util.Objects;
 
 public class S3StorageOptions {
 
 	public static final String DEFAULT_BUCKET_NAME = "mesh";
 
+	/**
+	 * S3 requires every part of a multipart upload except the last one to be at least 5 MB.
+	 */
+	public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+	public static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024;
+
+	public static final String DEFAULT_CACHE_DIRECTORY = "data" + File.separator + "s3cache";
+
+	public static final long DEFAULT_CACHE_MAX_SIZE = 1024L * 1024 * 1024;
+
 	private String url;
 
 	private String accessId;
@@ -16,6 +28,14 @@ public class S3StorageOptions {
 
 	private String region;
 
+	private boolean pathStyleAccess = true;
+
+	private int partSize = DEFAULT_PART_SIZE;
+
+	private String cacheDirectory = DEFAULT_CACHE_DIRECTORY;
+
+	private long cacheMaxSize = DEFAULT_CACHE_MAX_SIZE;
+
 	public String getUrl() {
 		return url;
 	}
@@ -61,11 +81,77 @@ public class S3StorageOptions {
 		return this;
 	}
 
+	public boolean isPathStyleAccess() {
+		return pathStyleAccess;
+	}
+
+	/**
+	 * Set whether path style access (http://host/bucket/key) should be used. This is required for most S3 compatible stores (e.g. minio).
+	 * 
+	 * @param pathStyleAccess
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setPathStyleAccess(boolean pathStyleAccess) {
+		this.pathStyleAccess = pathStyleAccess;
+		return this;
+	}
+
+	public int getPartSize() {
+		return partSize;
+	}
+
+	/**
+	 * Set the size in bytes of the parts which are used for multipart uploads.
+	 * 
+	 * @param partSize
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setPartSize(int partSize) {
+		this.partSize = partSize;
+		return this;
+	}
+
+	public String getCacheDirectory() {
+		return cacheDirectory;
+	}
+
+	/**
+	 * Set the directory of the local read-through cache.
+	 * 
+	 * @param cacheDirectory
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setCacheDirectory(String cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+		return this;
+	}
+
+	public long getCacheMaxSize() {
+		return cacheMaxSize;
+	}
+
+	/**
+	 * Set the maximum size in bytes of the local read-through cache. A value of 0 disables the cache.
+	 * 
+	 * @param cacheMaxSize
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setCacheMaxSize(long cacheMaxSize) {
+		this.cacheMaxSize = cacheMaxSize;
+		return this;
+	}
+
 	public void validate() {
 		Objects.requireNonNull(url, "No S3 URL has been specified");
 		Objects.requireNonNull(accessId, "No accessId has been specified");
 		Objects.requireNonNull(accessKey, "No accessKey has been specified");
 		Objects.requireNonNull(region, "No region has been specified");
+		if (partSize < MIN_PART_SIZE) {
+			throw new IllegalArgumentException("The part size must be at least " + MIN_PART_SIZE + " bytes");
+		}
+		if (cacheMaxSize > 0) {
+			Objects.requireNonNull(cacheDirectory, "No cache directory has been specified");
+		}
 	}
 
 }
@@ -0,0 +1,75 @@
+package com.gentics.mesh.storage.s3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class S3BinaryCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testEviction() throws IOException {
+		S3BinaryCache cache = new S3BinaryCache(folder.getRoot().getAbsolutePath(), 25);
+		String pathA = add(cache, "a", 10);
+		add(cache, "b", 10);
+		// Access a so that b becomes the eldest entry
+		assertNotNull(cache.get("a"));
+		add(cache, "c", 10);
+
+		assertNull("The least recently used entry should have been evicted", cache.get("b"));
+		assertEquals(pathA, cache.get("a"));
+		assertNotNull(cache.get("c"));
+		assertEquals(20, cache.getCurrentSize());
+		assertFalse(new File(folder.getRoot(), "b.bin").exists());
+	}
+
+	@Test
+	public void testInvalidate() throws IOException {
+		S3BinaryCache cache = new S3BinaryCache(folder.getRoot().getAbsolutePath(), 100);
+		String path = add(cache, "a", 10);
+		cache.invalidate("a");
+		assertNull(cache.get("a"));
+		assertFalse(new File(path).exists());
+		assertEquals(0, cache.getCurrentSize());
+	}
+
+	@Test
+	public void testRestore() throws IOException {
+		S3BinaryCache cache = new S3BinaryCache(folder.getRoot().getAbsolutePath(), 100);
+		add(cache, "a", 10);
+		Files.write(cache.getDownloadPath("b"), new byte[5]);
+
+		S3BinaryCache restored = new S3BinaryCache(folder.getRoot().getAbsolutePath(), 100);
+		assertNotNull(restored.get("a"));
+		assertEquals("Interrupted downloads should have been removed", 10, restored.getCurrentSize());
+		assertEquals(1, folder.getRoot().list().length);
+	}
+
+	@Test
+	public void testAccepts() {
+		S3BinaryCache cache = new S3BinaryCache(folder.getRoot().getAbsolutePath(), 100);
+		assertTrue(cache.accepts(100));
+		assertFalse(cache.accepts(101));
+		assertFalse(new S3BinaryCache(folder.getRoot().getAbsolutePath(), 0).isEnabled());
+	}
+
+	private String add(S3BinaryCache cache, String uuid, int size) throws IOException {
+		Path download = cache.getDownloadPath(uuid);
+		Files.write(download, new byte[size]);
+		return cache.commit(uuid, download);
+	}
+
+}
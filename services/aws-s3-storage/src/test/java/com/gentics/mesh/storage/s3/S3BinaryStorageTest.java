@@ -1,23 +1,34 @@
 package com.gentics.mesh.storage.s3;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.ClassRule;
-import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.Wait;
 
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Flowable;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.reactivex.core.Vertx;
 
-@Ignore
 public class S3BinaryStorageTest {
 
 	public static final String VERSION = "RELEASE.2018-01-18T20-33-21Z";
@@ -35,29 +46,129 @@ public class S3BinaryStorageTest {
 		.withExposedPorts(9000)
 		.waitingFor(Wait.forHttp("/").forStatusCode(403));
 
+	@Rule
+	public TemporaryFolder cacheFolder = new TemporaryFolder();
+
 	private S3BinaryStorage storage;
 
 	@Before
-	public void setup() {
+	public void setup() throws IOException {
+		storage = new S3BinaryStorage(createOptions(), vertx);
+	}
+
+	private S3StorageOptions createOptions() {
 		S3StorageOptions options = new S3StorageOptions();
 		options.setAccessId(ACCESS_KEY);
 		options.setAccessKey(SECRET_KEY);
-		options.setRegion("US_EAST_1");
+		options.setRegion("us-east-1");
 		options.setBucketName(BUCKET_NAME);
 		options.setUrl("http://localhost:" + minio.getMappedPort(9000));
-		storage = new S3BinaryStorage(options, vertx);
+		options.setCacheDirectory(cacheFolder.getRoot().getAbsolutePath());
+		options.setPartSize(S3StorageOptions.MIN_PART_SIZE);
+		return options;
 	}
 
 	@Test
 	public void testStore() {
+		BinaryGraphField mockField = mockField("test");
+		assertFalse(storage.exists(mockField));
+		storage.store(Flowable.just(Buffer.buffer("test")), "test").blockingAwait();
+		assertTrue(storage.exists(mockField));
+		assertEquals("test", RxUtil.readEntireData(storage.read("test")).blockingGet().toString());
+	}
+
+	@Test
+	public void testMultipartUpload() {
+		byte[] data = randomData(S3StorageOptions.MIN_PART_SIZE * 2 + 1000);
+		// Split the data into small chunks to simulate an upload stream
+		Flowable<Buffer> stream = Flowable.range(0, data.length / 1000 + 1)
+			.map(i -> Buffer.buffer().appendBytes(data, i * 1000, Math.min(1000, data.length - i * 1000)));
+		storage.store(stream, "multipart").blockingAwait();
+		assertTrue(storage.exists(mockField("multipart")));
+		Buffer read = storage.readAllSync("multipart");
+		assertEquals(data.length, read.length());
+		assertTrue(Buffer.buffer(data).equals(read));
+	}
+
+	@Test
+	public void testEmptyUpload() {
+		storage.store(Flowable.empty(), "empty").blockingAwait();
+		assertTrue(storage.exists(mockField("empty")));
+		assertEquals(0, storage.readAllSync("empty").length());
+	}
+
+	@Test
+	public void testRangeRead() {
+		storage.store(Flowable.just(Buffer.buffer("0123456789")), "range").blockingAwait();
+		Buffer range = RxUtil.readEntireData(storage.read("range", 2, 5)).blockingGet();
+		assertEquals("23456", range.toString());
+	}
+
+	@Test
+	public void testReadThroughCache() throws IOException {
+		storage.store(Flowable.just(Buffer.buffer("cached")), "cached").blockingAwait();
+		// The first read will populate the cache
+		assertEquals("cached", RxUtil.readEntireData(storage.read("cached")).blockingGet().toString());
+		String localPath = storage.getLocalPath("cached");
+		assertNotNull("The binary should have been cached", localPath);
+		assertTrue(new File(localPath).exists());
+		try (InputStream ins = storage.openBlockingStream("cached")) {
+			assertEquals("cached", IOUtils.toString(ins, "UTF-8"));
+		}
+
+		storage.delete("cached").blockingAwait();
+		assertFalse(new File(localPath).exists());
+		assertFalse(storage.exists(mockField("cached")));
+	}
+
+	@Test
+	public void testBinaryLargerThanCache() throws IOException {
+		S3BinaryStorage storage = new S3BinaryStorage(createOptions().setCacheMaxSize(4), vertx);
+		storage.store(Flowable.just(Buffer.buffer("too large")), "large").blockingAwait();
+		// The binary is read directly from S3
+		assertEquals("too large", storage.readAllSync("large").toString());
+		try (InputStream ins = storage.openBlockingStream("large")) {
+			assertEquals("too large", IOUtils.toString(ins, "UTF-8"));
+		}
+		assertEquals("too large", RxUtil.readEntireData(storage.read("large")).blockingGet().toString());
+		assertNull("The binary should not have been cached", storage.getLocalPath("large"));
+	}
+
+	@Test
+	public void testToParts() {
+		Flowable<Buffer> stream = Flowable.range(0, 10).map(i -> Buffer.buffer(new byte[3]));
+		assertEquals(Integer.valueOf(30), S3BinaryStorage.toParts(stream, 4).map(Buffer::length).reduce(0, Integer::sum).blockingGet());
+		assertEquals(8L, (long) S3BinaryStorage.toParts(stream, 4).count().blockingGet());
+		assertEquals(0L, (long) S3BinaryStorage.toParts(Flowable.empty(), 4).count().blockingGet());
+	}
+
+	@Test
+	public void testPurgeTemporaryUpload() {
+		storage.storeInTemp(Flowable.just(Buffer.buffer("temp")), "tempId").blockingAwait();
+		storage.storeInTemp(Flowable.just(Buffer.buffer("kept")), "keptId").blockingAwait();
+		storage.purgeTemporaryUpload("tempId").blockingAwait();
+
+		// The purged upload can no longer be moved in place
+		assertNotNull(storage.moveInPlace("purged", "tempId").blockingGet());
+		assertFalse(storage.exists(mockField("purged")));
+
+		// Other temporary uploads are not affected
+		storage.moveInPlace("kept", "keptId").blockingAwait();
+		assertEquals("kept", storage.readAllSync("kept").toString());
+	}
+
+	private BinaryGraphField mockField(String uuid) {
 		BinaryGraphField mockField = Mockito.mock(BinaryGraphField.class);
 		Binary binary = Mockito.mock(Binary.class);
 		Mockito.when(mockField.getBinary()).thenReturn(binary);
-		Mockito.when(binary.getSHA512Sum()).thenReturn("test");
-//		assertFalse(storage.exists(mockField));
-		storage.store(Flowable.just(Buffer.buffer("test")), "test").blockingAwait();
-		assertTrue(storage.exists(mockField));
-		storage.read("test").ignoreElements().blockingAwait();
+		Mockito.when(binary.getUuid()).thenReturn(uuid);
+		return mockField;
+	}
+
+	private byte[] randomData(int size) {
+		byte[] data = new byte[size];
+		new Random(42).nextBytes(data);
+		return data;
 	}
 
 }
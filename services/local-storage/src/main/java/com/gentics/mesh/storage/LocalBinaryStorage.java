@@ -21,6 +21,7 @@ import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
+import io.reactivex.Single;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
@@ -74,6 +75,31 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 		});
 	}
 
+	@Override
+	public Single<Long> purgeStaleTemporaryUploads(long maxAge) {
+		return Single.fromCallable(() -> {
+			File tempFolder = new File(options.getDirectory(), "temp");
+			File[] files = tempFolder.listFiles();
+			if (files == null) {
+				return 0L;
+			}
+			long threshold = System.currentTimeMillis() - maxAge;
+			long reclaimed = 0;
+			for (File file : files) {
+				if (file.isFile() && file.lastModified() < threshold) {
+					long size = file.length();
+					if (log.isDebugEnabled()) {
+						log.debug("Deleting stale temporary upload {" + file.getAbsolutePath() + "}");
+					}
+					if (file.delete()) {
+						reclaimed += size;
+					}
+				}
+			}
+			return reclaimed;
+		});
+	}
+
 	/**
 	 * Store the upload in the local binary storage. This method will in fact only move the upload file to the tempdir location.
 	 * 
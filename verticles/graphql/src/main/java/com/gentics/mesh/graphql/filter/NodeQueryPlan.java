@@ -0,0 +1,251 @@
+package com.gentics.mesh.graphql.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.core.data.node.NodeIndexScan;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.core.rest.common.FieldTypes;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.util.DateUtils;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Plan for loading a filtered and sorted list of nodes. The plan selects the most selective graph index scan which can be derived from the top level
+ * predicates of the node filter. Predicates which are answered exactly by the scan are removed from the filter, all other predicates remain in the
+ * residual filter which is applied in memory.
+ */
+public class NodeQueryPlan {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeQueryPlan.class);
+
+	private final NodeIndexScan scan;
+
+	private final Map<String, ?> residualFilter;
+
+	private final Comparator<NodeContent> comparator;
+
+	private NodeQueryPlan(NodeIndexScan scan, Map<String, ?> residualFilter, Comparator<NodeContent> comparator) {
+		this.scan = scan;
+		this.residualFilter = residualFilter;
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Create the plan for the given node filter and sort order.
+	 *
+	 * @param gc
+	 * @param filter
+	 *            Node filter argument or null
+	 * @param sortBy
+	 *            Sort property or null
+	 * @param descending
+	 * @param indexedFields
+	 *            Names of the string fields which have an index
+	 * @return
+	 */
+	public static NodeQueryPlan create(GraphQLContext gc, Map<String, ?> filter, NodeSortField sortBy, boolean descending,
+		Collection<String> indexedFields) {
+		Map<String, Object> residual = filter == null ? new LinkedHashMap<>() : new LinkedHashMap<>(filter);
+		NodeIndexScan scan = selectScan(gc, residual, sortBy, descending, indexedFields);
+
+		Comparator<NodeContent> comparator = null;
+		if (sortBy != null && !isOrderedBy(scan, sortBy, descending)) {
+			comparator = sortBy.comparator(descending);
+		}
+
+		NodeQueryPlan plan = new NodeQueryPlan(scan, residual.isEmpty() ? null : residual, comparator);
+		if (log.isDebugEnabled()) {
+			log.debug("Node query plan for filter {" + filter + "} sorted by {" + sortBy + (descending ? " desc" : "") + "}: " + plan);
+		}
+		return plan;
+	}
+
+	private static NodeIndexScan selectScan(GraphQLContext gc, Map<String, Object> residual, NodeSortField sortBy, boolean descending,
+		Collection<String> indexedFields) {
+		// 1. Node uuids
+		Map<String, ?> uuidFilter = asMap(residual.get("uuid"));
+		List<String> uuids = stringValues(uuidFilter);
+		if (uuids != null) {
+			residual.remove("uuid");
+			return NodeIndexScan.uuids(uuids);
+		}
+
+		// 2. Indexed string fields
+		Map<String, ?> schemaFilter = asMap(residual.get("schema"));
+		String schemaName = null;
+		if (schemaFilter != null && schemaFilter.size() == 1 && schemaFilter.get("is") instanceof String) {
+			schemaName = (String) schemaFilter.get("is");
+		}
+		NodeIndexScan fieldScan = fieldScan(gc, schemaName, asMap(residual.get("fields")), indexedFields);
+		if (fieldScan != null) {
+			// The schema predicate remains in the residual filter since the field index contains the values of all schemas
+			return fieldScan;
+		}
+
+		// 3. Schema
+		if (schemaName != null) {
+			residual.remove("schema");
+			return NodeIndexScan.schema(schemaName);
+		}
+
+		// 4. Creation and edit timestamp ranges
+		Long[] created = dateRange(asMap(residual.get("created")));
+		if (created != null) {
+			return NodeIndexScan.created(created[0], created[1], sortBy == NodeSortField.CREATED && descending);
+		}
+		// The edit timestamp index contains the contents of all projects. Only bounded ranges are selective enough to be scanned.
+		Long[] edited = dateRange(asMap(residual.get("edited")));
+		if (edited != null && edited[0] != null && edited[1] != null) {
+			return NodeIndexScan.edited(edited[0], edited[1]);
+		}
+
+		// 5. Ordered scans which return the nodes in the requested order
+		if (sortBy == NodeSortField.UUID) {
+			return NodeIndexScan.uuidOrder(descending);
+		}
+		if (sortBy == NodeSortField.CREATED) {
+			return NodeIndexScan.created(null, null, descending);
+		}
+		return NodeIndexScan.project();
+	}
+
+	/**
+	 * Create a scan for an equality predicate on an indexed string field. The field filter of a schema accepts all nodes of other schemas. The scan
+	 * can thus only be used when the filter also restricts the nodes to the schema of the field filter.
+	 */
+	private static NodeIndexScan fieldScan(GraphQLContext gc, String schemaName, Map<String, ?> fieldsFilter, Collection<String> indexedFields) {
+		if (schemaName == null || fieldsFilter == null || indexedFields == null || indexedFields.isEmpty()) {
+			return null;
+		}
+		Map<String, ?> schemaFields = asMap(fieldsFilter.get(schemaName));
+		if (schemaFields == null) {
+			return null;
+		}
+		SchemaContainer schema = gc.getProject().getSchemaContainerRoot().findByName(schemaName);
+		if (schema == null) {
+			return null;
+		}
+		for (Map.Entry<String, ?> entry : schemaFields.entrySet()) {
+			String fieldKey = entry.getKey();
+			if (!indexedFields.contains(fieldKey)) {
+				continue;
+			}
+			FieldSchema fieldSchema = schema.getLatestVersion().getSchema().getField(fieldKey);
+			if (fieldSchema == null || !FieldTypes.STRING.toString().equals(fieldSchema.getType())) {
+				continue;
+			}
+			List<String> values = stringValues(asMap(entry.getValue()));
+			if (values != null) {
+				return NodeIndexScan.stringField(fieldKey, values);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the values of a string filter which only contains an equals or oneOf predicate.
+	 */
+	private static List<String> stringValues(Map<String, ?> stringFilter) {
+		if (stringFilter == null || stringFilter.size() != 1) {
+			return null;
+		}
+		Object equals = stringFilter.get("equals");
+		if (equals instanceof String) {
+			return Arrays.asList((String) equals);
+		}
+		Object oneOf = stringFilter.get("oneOf");
+		if (oneOf instanceof Collection) {
+			List<String> values = new ArrayList<>();
+			for (Object value : (Collection<?>) oneOf) {
+				if (!(value instanceof String)) {
+					return null;
+				}
+				values.add((String) value);
+			}
+			return values;
+		}
+		return null;
+	}
+
+	/**
+	 * Return the inclusive bounds of a date filter or null if the filter does not restrict the range.
+	 */
+	private static Long[] dateRange(Map<String, ?> dateFilter) {
+		if (dateFilter == null) {
+			return null;
+		}
+		Long equals = parseDate(dateFilter.get("equals"));
+		if (equals != null) {
+			return new Long[] { equals, equals };
+		}
+		Long from = parseDate(dateFilter.get("after"));
+		Long to = parseDate(dateFilter.get("before"));
+		if (from == null && to == null) {
+			return null;
+		}
+		return new Long[] { from, to };
+	}
+
+	private static Long parseDate(Object value) {
+		return value instanceof String ? DateUtils.fromISO8601((String) value) : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, ?> asMap(Object value) {
+		return value instanceof Map ? (Map<String, ?>) value : null;
+	}
+
+	private static boolean isOrderedBy(NodeIndexScan scan, NodeSortField sortBy, boolean descending) {
+		switch (scan.getType()) {
+		case UUID_ORDER:
+			return sortBy == NodeSortField.UUID && scan.isDescending() == descending;
+		case CREATED:
+			return sortBy == NodeSortField.CREATED && scan.isDescending() == descending;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Return the index scan which is used to load the candidate nodes.
+	 *
+	 * @return
+	 */
+	public NodeIndexScan getScan() {
+		return scan;
+	}
+
+	/**
+	 * Return the part of the filter which needs to be applied in memory or null if the scan already answers the whole filter.
+	 *
+	 * @return
+	 */
+	public Map<String, ?> getResidualFilter() {
+		return residualFilter;
+	}
+
+	/**
+	 * Return the comparator which needs to be applied in memory or null if the scan already returns the nodes in the requested order.
+	 *
+	 * @return
+	 */
+	public Comparator<NodeContent> getComparator() {
+		return comparator;
+	}
+
+	@Override
+	public String toString() {
+		return "scan " + scan + ", residual filter " + (residualFilter == null ? "none" : residualFilter.keySet()) + ", "
+			+ (comparator == null ? "sorted by scan" : "sorted in memory");
+	}
+}
@@ -0,0 +1,43 @@
+package com.gentics.mesh.graphql.filter;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+import com.gentics.mesh.core.data.node.NodeContent;
+
+/**
+ * Properties by which the nodes of a project can be sorted.
+ */
+public enum NodeSortField {
+
+	UUID("Sort by the node uuid", content -> content.getNode().getUuid()),
+
+	CREATED("Sort by the node creation timestamp", content -> content.getNode().getCreationTimestamp()),
+
+	EDITED("Sort by the edit timestamp of the loaded content", content -> content.getContainer().getLastEditedTimestamp());
+
+	private final String description;
+
+	private final Function<NodeContent, ? extends Comparable<?>> extractor;
+
+	private NodeSortField(String description, Function<NodeContent, ? extends Comparable<?>> extractor) {
+		this.description = description;
+		this.extractor = extractor;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * Return a comparator which sorts contents by the property. Contents without a value will be sorted last.
+	 *
+	 * @param descending
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public Comparator<NodeContent> comparator(boolean descending) {
+		Comparator<Comparable> order = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+		return Comparator.comparing(content -> (Comparable) extractor.apply(content), Comparator.nullsLast(order));
+	}
+}
@@ -30,12 +30,15 @@ import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.rest.SortOrder;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.PermissionException;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.filter.NodeFilter;
+import com.gentics.mesh.graphql.filter.NodeQueryPlan;
+import com.gentics.mesh.graphql.filter.NodeSortField;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -54,6 +57,10 @@ public abstract class AbstractTypeProvider {
 
 	public static final String LINK_TYPE_NAME = "LinkType";
 
+	public static final String NODE_SORT_FIELD_TYPE_NAME = "NodeSortField";
+
+	public static final String SORT_ORDER_TYPE_NAME = "SortOrder";
+
 	private final MeshOptions options;
 
 	public AbstractTypeProvider(MeshOptions options) {
@@ -82,6 +89,9 @@ public abstract class AbstractTypeProvider {
 
 		// #perPage
 		arguments.add(newArgument().name("perPage").description("Max count of elements per page").type(GraphQLLong).build());
+
+		// #after
+		arguments.add(newArgument().name("after").description("Cursor of the element after which the page should start. The page argument will be ignored when a cursor is set.").type(GraphQLString).build());
 		return arguments;
 	}
 
@@ -238,6 +248,43 @@ public abstract class AbstractTypeProvider {
 		return linkTypeEnum;
 	}
 
+	/**
+	 * Return the enum type which lists the properties by which nodes can be sorted.
+	 * 
+	 * @return
+	 */
+	public GraphQLEnumType createNodeSortFieldEnumType() {
+		GraphQLEnumType.Builder builder = newEnum().name(NODE_SORT_FIELD_TYPE_NAME).description("Properties by which nodes can be sorted");
+		for (NodeSortField field : NodeSortField.values()) {
+			builder.value(field.name(), field, field.getDescription());
+		}
+		return builder.build();
+	}
+
+	public GraphQLEnumType createSortOrderEnumType() {
+		return newEnum().name(SORT_ORDER_TYPE_NAME).description("Sort order")
+			.value(SortOrder.ASCENDING.name(), SortOrder.ASCENDING, "Sort in ascending order")
+			.value(SortOrder.DESCENDING.name(), SortOrder.DESCENDING, "Sort in descending order").build();
+	}
+
+	/**
+	 * Return a new set of node sort arguments.
+	 * 
+	 * @return
+	 */
+	public List<GraphQLArgument> createNodeSortArgs() {
+		List<GraphQLArgument> arguments = new ArrayList<>();
+
+		// #sortBy
+		arguments.add(newArgument().name("sortBy").type(new GraphQLTypeReference(NODE_SORT_FIELD_TYPE_NAME)).description(
+			"Property by which the nodes should be sorted. The nodes are returned in an unspecified order when no property is set.").build());
+
+		// #sortOrder
+		arguments.add(newArgument().name("sortOrder").type(new GraphQLTypeReference(SORT_ORDER_TYPE_NAME)).defaultValue(SortOrder.ASCENDING)
+			.description("Sort order which is applied when the sortBy argument is set.").build());
+		return arguments;
+	}
+
 	public GraphQLArgument createLinkTypeArg() {
 
 		return newArgument().name("linkType").type(new GraphQLTypeReference(LINK_TYPE_NAME)).defaultValue(LinkType.OFF).description(
@@ -473,6 +520,10 @@ public abstract class AbstractTypeProvider {
 		if (perPage != null) {
 			parameters.setPerPage(perPage);
 		}
+		String after = env.getArgument("after");
+		if (after != null) {
+			parameters.setAfter(after);
+		}
 		parameters.validate();
 		return parameters;
 	}
@@ -490,13 +541,25 @@ public abstract class AbstractTypeProvider {
 
 		List<String> languageTags = getLanguageArgument(env);
 
-		Stream<NodeContent> contents = nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM)
+		Map<String, ?> filterArgument = env.getArgument("filter");
+		NodeSortField sortBy = env.getArgument("sortBy");
+		SortOrder sortOrder = env.getArgument("sortOrder");
+		NodeQueryPlan plan = NodeQueryPlan.create(gc, filterArgument, sortBy, sortOrder == SortOrder.DESCENDING,
+			options.getContentOptions().getIndexedFields());
+
+		Stream<NodeContent> contents = nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM, plan.getScan())
 			// Now lets try to load the containers for those found nodes - apply the language fallback
 			.map(node -> new NodeContent(node, node.findVersion(gc, languageTags), languageTags))
 			// Filter nodes without a container
 			.filter(content -> content.getContainer() != null);
 
-		return applyNodeFilter(env, contents);
+		if (plan.getResidualFilter() != null) {
+			contents = contents.filter(NodeFilter.filter(gc).createPredicate(plan.getResidualFilter()));
+		}
+		if (plan.getComparator() != null) {
+			contents = contents.sorted(plan.getComparator());
+		}
+		return new DynamicStreamPageImpl<>(contents, getPagingInfo(env));
 	}
 
 	protected DynamicStreamPageImpl<NodeContent> applyNodeFilter(DataFetchingEnvironment env, Stream<? extends NodeContent> stream) {
@@ -29,6 +29,7 @@ import static com.gentics.mesh.graphql.type.UserTypeProvider.USER_PAGE_TYPE_NAME
 import static com.gentics.mesh.graphql.type.UserTypeProvider.USER_TYPE_NAME;
 import static graphql.Scalars.GraphQLBoolean;
 import static graphql.Scalars.GraphQLLong;
+import static graphql.Scalars.GraphQLString;
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 import static graphql.schema.GraphQLObjectType.newObject;
 
@@ -379,6 +380,7 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 			.argument(createUuidsArg("Node uuids"))
 			.argument(createLanguageTagArg(true))
 			.argument(NodeFilter.filter(context).createFilterArgument())
+			.argument(createNodeSortArgs())
 			.type(new GraphQLTypeReference(NODE_PAGE_TYPE_NAME))
 			.dataFetcher((env) -> {
 				String query = env.getArgument("query");
@@ -526,6 +528,12 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 				return page.hasNextPage();
 			}));
 
+		type.field(newFieldDefinition().name("nextCursor").description("Return the cursor which can be used via the after argument to load the next page.")
+			.type(GraphQLString).dataFetcher(env -> {
+				Page<?> page = env.getSource();
+				return page.getNextCursor();
+			}));
+
 		type.field(newFieldDefinition().name("hasPreviousPage").description("Check whether the current page has a previous page.")
 			.type(GraphQLBoolean).dataFetcher(env -> {
 				Page<?> page = env.getSource();
@@ -593,6 +601,8 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 		additionalTypes.add(fieldDefProvider.createBinaryFieldType());
 
 		additionalTypes.add(createLinkEnumType());
+		additionalTypes.add(createNodeSortFieldEnumType());
+		additionalTypes.add(createSortOrderEnumType());
 
 		Versioned.doSince(2, context, () -> {
 			additionalTypes.addAll(nodeTypeProvider.generateSchemaFieldTypes(context).forVersion(context));
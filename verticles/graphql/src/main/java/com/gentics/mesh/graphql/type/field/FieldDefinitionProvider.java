@@ -202,7 +202,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					LinkType type = getLinkType(env);
 					String content = htmlField.getHTML();
 					return linkReplacer.replace(gc, gc.getBranch()
-						.getUuid(), null, content, type, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
+						.getUuid(), null, content, htmlField.getLinkTokens(), type, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
 				}
 				return null;
 			}).build();
@@ -218,7 +218,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					LinkType type = getLinkType(env);
 					String content = field.getString();
 					return linkReplacer.replace(gc, gc.getBranch()
-						.getUuid(), null, content, type, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
+						.getUuid(), null, content, field.getLinkTokens(), type, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
 				}
 				return null;
 			}).build();